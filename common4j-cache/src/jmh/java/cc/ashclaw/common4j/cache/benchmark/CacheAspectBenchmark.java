@@ -0,0 +1,153 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2026 AshClaw.
+
+package cc.ashclaw.common4j.cache.benchmark;
+
+import cc.ashclaw.common4j.cache.annotation.Cacheable;
+import cc.ashclaw.common4j.cache.aspect.CacheAspect;
+import cc.ashclaw.common4j.cache.config.CacheProperties;
+import cc.ashclaw.common4j.cache.core.CacheManager;
+import cc.ashclaw.common4j.cache.impl.caffeine.CaffeineCacheManager;
+import cc.ashclaw.common4j.cache.support.CacheKeyGenerator;
+import cc.ashclaw.common4j.cache.support.ExpressionEvaluator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the {@code @Cacheable} interception and of cache key generation.
+ * <p>
+ * {@code @Cacheable} 拦截与缓存键生成的基准测试。
+ * <p>
+ * Caching goes to a local cache only, so the difference between {@code directCall} and
+ * {@code cacheableHit} is the cost of the proxy, the aspect and key generation.
+ * <p>
+ * 缓存只使用本地缓存，因此 {@code directCall} 与 {@code cacheableHit} 之间的差异即为代理、切面和键生成的开销。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheAspectBenchmark {
+
+    private static final int KEY_COUNT = 1_000;
+
+    private AnnotationConfigApplicationContext context;
+    private UserService proxied;
+    private UserService direct;
+    private CacheKeyGenerator keyGenerator;
+    private Method method;
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchMethodException {
+        context = new AnnotationConfigApplicationContext(BenchmarkConfiguration.class);
+        proxied = context.getBean(UserService.class);
+        direct = new UserService();
+        keyGenerator = context.getBean(CacheKeyGenerator.class);
+        method = UserService.class.getMethod("find", long.class);
+        for (int i = 0; i < KEY_COUNT; i++) {
+            proxied.find(i);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String directCall() {
+        return direct.find(ThreadLocalRandom.current().nextInt(KEY_COUNT));
+    }
+
+    @Benchmark
+    public String cacheableHit() {
+        return proxied.find(ThreadLocalRandom.current().nextInt(KEY_COUNT));
+    }
+
+    @Benchmark
+    public Object spelKey() {
+        return keyGenerator.generateKeyBySpEL("'user:' + #p0", direct, method,
+            (long) ThreadLocalRandom.current().nextInt(KEY_COUNT));
+    }
+
+    @Benchmark
+    public Object defaultKey() {
+        return keyGenerator.generate(direct, method, (long) ThreadLocalRandom.current().nextInt(KEY_COUNT));
+    }
+
+    /**
+     * Service whose method is cached by the aspect.
+     * <p>
+     * 方法由切面缓存的服务。
+     */
+    public static class UserService {
+
+        @Cacheable(cacheNames = "users", key = "'user:' + #p0")
+        public String find(long id) {
+            return "user-" + id;
+        }
+    }
+
+    /**
+     * Minimal context running the cache aspect over a local cache.
+     * <p>
+     * 在本地缓存上运行缓存切面的最小上下文。
+     */
+    @Configuration
+    @EnableAspectJAutoProxy
+    public static class BenchmarkConfiguration {
+
+        @Bean
+        public CacheProperties cacheProperties() {
+            return new CacheProperties();
+        }
+
+        @Bean
+        public CacheManager cacheManager(CacheProperties cacheProperties) {
+            return new CaffeineCacheManager(cacheProperties);
+        }
+
+        @Bean
+        public CacheKeyGenerator cacheKeyGenerator() {
+            return new CacheKeyGenerator();
+        }
+
+        @Bean
+        public ExpressionEvaluator expressionEvaluator() {
+            return new ExpressionEvaluator();
+        }
+
+        @Bean
+        public CacheAspect cacheAspect() {
+            return new CacheAspect();
+        }
+
+        @Bean
+        public UserService userService() {
+            return new UserService();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2026 AshClaw.
+
+package cc.ashclaw.common4j.cache.benchmark;
+
+import cc.ashclaw.common4j.cache.config.CacheProperties;
+import cc.ashclaw.common4j.cache.core.Cache;
+import cc.ashclaw.common4j.cache.impl.caffeine.CaffeineCacheManager;
+import cc.ashclaw.common4j.cache.impl.memory.InMemoryCacheManager;
+import cc.ashclaw.common4j.cache.impl.multilevel.MultiLevelCacheManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the basic operations of every cache tier.
+ * <p>
+ * 各缓存层基本操作的基准测试。
+ * <p>
+ * The in-memory stand-in takes the place of the Redisson cache, so the distributed and
+ * multi-level results include serialization but no network; set {@code latencyMicros}
+ * to add a simulated round trip.
+ * <p>
+ * 进程内替身代替Redisson缓存，因此分布式和多级缓存的结果包含序列化开销但不含网络开销；
+ * 设置 {@code latencyMicros} 可附加模拟的往返延迟。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class CacheTierBenchmark {
+
+    private static final int KEY_COUNT = 10_000;
+    private static final int BATCH_SIZE = 16;
+
+    @Param({"LOCAL", "DISTRIBUTED", "MULTI_LEVEL"})
+    public String tier;
+
+    @Param({"0"})
+    public long latencyMicros;
+
+    private Cache cache;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CacheProperties properties = new CacheProperties();
+        CaffeineCacheManager local = new CaffeineCacheManager(properties);
+        InMemoryCacheManager remote = new InMemoryCacheManager(properties);
+        cache = switch (tier) {
+            case "LOCAL" -> local.getCache("users");
+            case "DISTRIBUTED" -> remote.getCache("users");
+            case "MULTI_LEVEL" -> new MultiLevelCacheManager(local, remote, properties).getCache("users");
+            default -> throw new IllegalArgumentException("未知的缓存层: " + tier);
+        };
+        for (int i = 0; i < KEY_COUNT; i++) {
+            cache.put(key(i), new User(i, "user-" + i));
+        }
+        // 预热数据写入完成后再附加延迟
+        remote.setLatency(Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(latencyMicros)));
+    }
+
+    @Benchmark
+    public User getHit() {
+        return cache.get(key(ThreadLocalRandom.current().nextInt(KEY_COUNT)), User.class);
+    }
+
+    @Benchmark
+    public User getMiss() {
+        return cache.get("missing:" + ThreadLocalRandom.current().nextInt(KEY_COUNT), User.class);
+    }
+
+    @Benchmark
+    public void put() {
+        int id = ThreadLocalRandom.current().nextInt(KEY_COUNT);
+        cache.put(key(id), new User(id, "user-" + id));
+    }
+
+    @Benchmark
+    public Map<Object, User> multiGet() {
+        int start = ThreadLocalRandom.current().nextInt(KEY_COUNT - BATCH_SIZE);
+        List<Object> keys = new ArrayList<>(BATCH_SIZE);
+        for (int i = start; i < start + BATCH_SIZE; i++) {
+            keys.add(key(i));
+        }
+        return cache.multiGet(keys, User.class);
+    }
+
+    private static String key(int id) {
+        return "user:" + id;
+    }
+
+    /**
+     * Cached value of a typical size.
+     * <p>
+     * 典型大小的缓存值。
+     */
+    public record User(long id, String name) {
+    }
+}
@@ -0,0 +1,87 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2026 AshClaw.
+
+package cc.ashclaw.common4j.cache.benchmark;
+
+import cc.ashclaw.common4j.cache.config.CacheProperties;
+import cc.ashclaw.common4j.cache.core.Cache;
+import cc.ashclaw.common4j.cache.impl.memory.InMemoryCacheManager;
+import cc.ashclaw.common4j.cache.protection.CacheAvalancheProtection;
+import cc.ashclaw.common4j.cache.protection.CachePenetrationProtection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the avalanche and penetration protections over the distributed stand-in.
+ * <p>
+ * 基于分布式缓存替身的雪崩保护和穿透保护基准测试。
+ * <p>
+ * The breakdown protection takes a Redisson lock on every miss and needs a Redis server,
+ * so it is not covered here.
+ * <p>
+ * 击穿保护在每次未命中时获取Redisson锁，需要Redis服务器，因此不在此覆盖。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProtectionBenchmark {
+
+    private static final int KEY_COUNT = 10_000;
+
+    private Cache cache;
+    private CacheAvalancheProtection avalanche;
+    private CachePenetrationProtection penetration;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CacheProperties properties = new CacheProperties();
+        cache = new InMemoryCacheManager(properties).getCache("users");
+        avalanche = new CacheAvalancheProtection(cache, properties);
+        penetration = new CachePenetrationProtection(cache, properties);
+        for (int i = 0; i < KEY_COUNT; i++) {
+            cache.put("user:" + i, "user-" + i);
+            penetration.putNullValue("missing:" + i);
+        }
+    }
+
+    @Benchmark
+    public void plainPut() {
+        int id = ThreadLocalRandom.current().nextInt(KEY_COUNT);
+        cache.put("user:" + id, "user-" + id, 30, TimeUnit.MINUTES);
+    }
+
+    @Benchmark
+    public void avalanchePut() {
+        int id = ThreadLocalRandom.current().nextInt(KEY_COUNT);
+        avalanche.putWithProtection("user:" + id, "user-" + id, 30, TimeUnit.MINUTES);
+    }
+
+    @Benchmark
+    public String penetrationHit() {
+        return penetration.getWithProtection("user:" + ThreadLocalRandom.current().nextInt(KEY_COUNT), String.class);
+    }
+
+    @Benchmark
+    public String penetrationNullMarker() {
+        return penetration.getWithProtection("missing:" + ThreadLocalRandom.current().nextInt(KEY_COUNT),
+            String.class);
+    }
+}
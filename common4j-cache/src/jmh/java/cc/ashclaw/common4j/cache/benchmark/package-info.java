@@ -0,0 +1,16 @@
+/**
+ * Package containing JMH benchmarks of the cache module.
+ * <p>
+ * 包含缓存模块JMH基准测试的包。
+ * <p>
+ * The benchmarks run against local caches and the in-process distributed cache stand-in,
+ * so they need no Redis server. Run them with
+ * {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="<regex> <jmh options>"}.
+ * <p>
+ * 基准测试基于本地缓存和进程内分布式缓存替身运行，无需Redis服务器。运行方式为
+ * {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="<正则> <JMH选项>"}。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+package cc.ashclaw.common4j.cache.benchmark;
@@ -0,0 +1,120 @@
+package cc.ashclaw.common4j.cache.annotation;
+
+import cc.ashclaw.common4j.cache.enums.BulkheadPolicy;
+
+import java.lang.annotation.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Annotation for limiting the number of concurrent calls of a method.
+ * <p>
+ * 限制方法并发调用数的注解。
+ * <p>
+ * Each node admits calls through a local semaphore. When a cluster-wide ceiling is
+ * set, the node also holds a Redis permit per call, taken from a small local reserve
+ * so that Redis is only consulted when the reserve runs out.
+ * <p>
+ * 每个节点通过本地信号量放行调用。设置集群级上限时，节点还会为每个调用持有一个Redis许可，
+ * 许可取自本地的小额预留，因此只有预留耗尽时才访问Redis。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+public @interface Bulkhead {
+
+    /**
+     * The name of the bulkhead, defaults to the method name.
+     * <p>
+     * 舱壁名称，默认为方法名。
+     *
+     * @return the bulkhead name
+     *         <p>
+     *         舱壁名称
+     */
+    String value() default "";
+
+    /**
+     * The maximum number of concurrent calls on this node.
+     * <p>
+     * 本节点的最大并发调用数。
+     *
+     * @return the local concurrency limit
+     *         <p>
+     *         本地并发上限
+     */
+    int maxConcurrent();
+
+    /**
+     * The maximum number of concurrent calls across the cluster, 0 for no cluster-wide ceiling.
+     * <p>
+     * 集群范围内的最大并发调用数，0表示不设集群级上限。
+     *
+     * @return the cluster concurrency limit
+     *         <p>
+     *         集群并发上限
+     */
+    int clusterMaxConcurrent() default 0;
+
+    /**
+     * The policy applied when no permit is free.
+     * <p>
+     * 没有空闲许可时采用的策略。
+     * <p>
+     * Default is to reject the call.
+     * <p>
+     * 默认拒绝调用。
+     *
+     * @return the bulkhead policy
+     *         <p>
+     *         舱壁策略
+     */
+    BulkheadPolicy policy() default BulkheadPolicy.REJECT;
+
+    /**
+     * The maximum time to wait for a permit, used by the WAIT and FALLBACK policies.
+     * <p>
+     * 等待许可的最长时间，用于WAIT和FALLBACK策略。
+     *
+     * @return the wait time
+     *         <p>
+     *         等待时间
+     */
+    long waitTime() default 0;
+
+    /**
+     * The time unit of the wait time.
+     * <p>
+     * 等待时间的时间单位。
+     *
+     * @return the time unit
+     *         <p>
+     *         时间单位
+     */
+    TimeUnit timeUnit() default TimeUnit.MILLISECONDS;
+
+    /**
+     * The name of the fallback method in the same class, taking the same parameters.
+     * <p>
+     * 同一类中的降级方法名称，参数与原方法相同。
+     *
+     * @return the fallback method name
+     *         <p>
+     *         降级方法名称
+     */
+    String fallbackMethod() default "";
+
+    /**
+     * The error message to use when the call is rejected.
+     * <p>
+     * 调用被拒绝时使用的错误消息。
+     *
+     * @return the error message
+     *         <p>
+     *         错误消息
+     */
+    String errorMessage() default "系统繁忙，请稍后重试";
+}
@@ -0,0 +1,107 @@
+package cc.ashclaw.common4j.cache.annotation;
+
+import cc.ashclaw.common4j.cache.enums.LockType;
+
+import java.lang.annotation.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Annotation for locking several keys at once using Redis.
+ * <p>
+ * 使用Redis同时锁定多个键的注解。
+ * <p>
+ * The key expression yields a collection or an array; each element becomes one lock key.
+ * The keys are sorted and deduplicated and acquired together as one Redisson
+ * {@code MultiLock}, replacing nested {@link CacheLock} calls that take one round trip
+ * per key and may deadlock when two callers lock the same keys in a different order.
+ * <p>
+ * 键表达式的结果为集合或数组，每个元素对应一个锁键。键会被排序、去重，并作为一个Redisson
+ * {@code MultiLock} 一起获取，用于替代嵌套的 {@link CacheLock} 调用：嵌套调用每个键需要一次往返，
+ * 并且在两个调用方以不同顺序锁定相同键时可能死锁。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+public @interface CacheMultiLock {
+
+    /**
+     * The name prefix of the locks.
+     * <p>
+     * 锁的名称前缀。
+     *
+     * @return the lock name
+     *         <p>
+     *         锁名称
+     */
+    String value() default "";
+
+    /**
+     * The SpEL expression yielding the lock keys as a collection or an array.
+     * <p>
+     * 以集合或数组形式返回锁键的SpEL表达式。
+     *
+     * @return the SpEL expression for the lock keys
+     *         <p>
+     *         锁键的SpEL表达式
+     */
+    String keys();
+
+    /**
+     * The type of lock to use for every key.
+     * <p>
+     * 每个键使用的锁类型。
+     *
+     * @return the lock type
+     *         <p>
+     *         锁类型
+     */
+    LockType type() default LockType.REENTRANT;
+
+    /**
+     * The maximum time to wait for all the locks.
+     * <p>
+     * 获取全部锁的最大等待时间。
+     *
+     * @return the wait time
+     *         <p>
+     *         等待时间
+     */
+    long waitTime() default 30;
+
+    /**
+     * The lease time of the locks.
+     * <p>
+     * 锁的持有时间。
+     *
+     * @return the lease time
+     *         <p>
+     *         持有时间
+     */
+    long leaseTime() default 30;
+
+    /**
+     * The time unit for the wait time and the lease time.
+     * <p>
+     * 等待时间和持有时间的时间单位。
+     *
+     * @return the time unit
+     *         <p>
+     *         时间单位
+     */
+    TimeUnit timeUnit() default TimeUnit.SECONDS;
+
+    /**
+     * The error message to use when lock acquisition fails.
+     * <p>
+     * 获取锁失败时使用的错误消息。
+     *
+     * @return the error message
+     *         <p>
+     *         错误消息
+     */
+    String errorMessage() default "获取分布式锁失败";
+}
@@ -205,6 +205,13 @@ public @interface Cacheable {
      * from overwhelming the underlying data source.
      * <p>
      * 缓存穿透保护可防止对不存在数据的查询压垮底层数据源。
+     * <p>
+     * A {@code null} result is cached as {@link cc.ashclaw.common4j.cache.support.NullValue}
+     * for {@code penetrationExpireTime}, and later calls return {@code null} without
+     * invoking the method.
+     * <p>
+     * {@code null} 结果以 {@link cc.ashclaw.common4j.cache.support.NullValue} 缓存
+     * {@code penetrationExpireTime} 时长，之后的调用直接返回 {@code null} 而不执行方法。
      *
      * @return {@code true} if penetration protection is enabled, {@code false} otherwise
      * <p>
@@ -0,0 +1,114 @@
+package cc.ashclaw.common4j.cache.annotation;
+
+import cc.ashclaw.common4j.cache.enums.RateLimitAlgorithm;
+
+import java.lang.annotation.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Annotation for cluster-wide rate limiting using Redis.
+ * <p>
+ * 使用Redis进行集群级限流的注解。
+ * <p>
+ * Permits are leased from Redis in blocks into a local bucket, so most calls are
+ * admitted or rejected without a round trip.
+ * <p>
+ * 许可从Redis批量租用到本地令牌桶，因此大多数调用无需往返即可放行或拒绝。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+public @interface RateLimit {
+    
+    /**
+     * The name of the rate limit, defaults to the method name.
+     * <p>
+     * 限流名称，默认为方法名。
+     *
+     * @return the rate limit name
+     *         <p>
+     *         限流名称
+     */
+    String value() default "";
+    
+    /**
+     * The SpEL expression for a per-key limit, e.g. {@code #p0.userId}; empty limits all calls together.
+     * <p>
+     * 按键限流的SpEL表达式，例如 {@code #p0.userId}；为空时所有调用共享一个限制。
+     *
+     * @return the SpEL expression for the rate limit key
+     *         <p>
+     *         限流键的SpEL表达式
+     */
+    String key() default "";
+    
+    /**
+     * The number of permits per interval.
+     * <p>
+     * 每个时间间隔内的许可数。
+     *
+     * @return the rate
+     *         <p>
+     *         速率
+     */
+    long rate();
+    
+    /**
+     * The length of the interval.
+     * <p>
+     * 时间间隔的长度。
+     *
+     * @return the interval
+     *         <p>
+     *         时间间隔
+     */
+    long interval() default 1;
+    
+    /**
+     * The time unit of the interval.
+     * <p>
+     * 时间间隔的时间单位。
+     *
+     * @return the time unit
+     *         <p>
+     *         时间单位
+     */
+    TimeUnit timeUnit() default TimeUnit.SECONDS;
+    
+    /**
+     * The rate limiting algorithm.
+     * <p>
+     * 限流算法。
+     *
+     * @return the algorithm
+     *         <p>
+     *         限流算法
+     */
+    RateLimitAlgorithm algorithm() default RateLimitAlgorithm.TOKEN_BUCKET;
+    
+    /**
+     * The number of permits taken by one call.
+     * <p>
+     * 每次调用消耗的许可数。
+     *
+     * @return the permits per call
+     *         <p>
+     *         每次调用的许可数
+     */
+    long permits() default 1;
+    
+    /**
+     * The error message to use when the limit is exceeded.
+     * <p>
+     * 超出限制时使用的错误消息。
+     *
+     * @return the error message
+     *         <p>
+     *         错误消息
+     */
+    String errorMessage() default "请求过于频繁";
+}
@@ -8,14 +8,20 @@
  * - {@code @CacheEvict}: Triggers cache eviction operations
  * - {@code @CachePut}: Updates cache entries
  * - {@code @CacheLock}: Provides distributed locking capabilities
+ * - {@code @CacheMultiLock}: Locks several keys at once in a fixed order
  * - {@code @CachePreheat}: Preloads cache data
+ * - {@code @RateLimit}: Limits the call rate across the cluster
+ * - {@code @Bulkhead}: Limits the number of concurrent calls
  * <p>
  * 此包提供用于缓存操作的注解，包括：
  * - {@code @Cacheable}：将方法标记为可缓存
  * - {@code @CacheEvict}：触发缓存清除操作
  * - {@code @CachePut}：更新缓存条目
  * - {@code @CacheLock}：提供分布式锁定功能
+ * - {@code @CacheMultiLock}：按固定顺序同时锁定多个键
  * - {@code @CachePreheat}：预加载缓存数据
+ * - {@code @RateLimit}：在集群范围内限制调用速率
+ * - {@code @Bulkhead}：限制并发调用数
  *
  * @author b1itz7
  * @since 1.1.0
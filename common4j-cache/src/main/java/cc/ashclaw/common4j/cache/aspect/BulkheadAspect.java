@@ -0,0 +1,148 @@
+package cc.ashclaw.common4j.cache.aspect;
+
+import cc.ashclaw.common4j.cache.annotation.Bulkhead;
+import cc.ashclaw.common4j.cache.bulkhead.BulkheadPool;
+import cc.ashclaw.common4j.cache.bulkhead.BulkheadRegistry;
+import cc.ashclaw.common4j.cache.enums.BulkheadPolicy;
+import cc.ashclaw.common4j.cache.exception.BulkheadFullException;
+import cc.ashclaw.common4j.cache.exception.CacheException;
+import cc.ashclaw.common4j.cache.metrics.CacheMetrics;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Aspect for limiting concurrent calls using the {@code @Bulkhead} annotation.
+ * <p>
+ * 处理使用 {@code @Bulkhead} 注解的并发限制的切面类。
+ * <p>
+ * This aspect holds a permit of the bulkhead pool for the duration of the call and
+ * applies the policy of the annotation when no permit is free.
+ * <p>
+ * 此切面在调用期间持有舱壁许可池的一个许可，没有空闲许可时执行注解配置的策略。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+@Aspect
+@Component
+public class BulkheadAspect {
+
+    /**
+     * The registry of the bulkhead pools.
+     * <p>
+     * 舱壁许可池的注册表。
+     */
+    @Autowired
+    private BulkheadRegistry bulkheadRegistry;
+
+    /**
+     * The optional metrics registry counting rejected calls.
+     * <p>
+     * 可选的指标注册表，用于统计被拒绝的调用。
+     */
+    @Autowired(required = false)
+    private CacheMetrics cacheMetrics;
+
+    /**
+     * The resolved fallback methods, keyed by the annotated method.
+     * <p>
+     * 已解析的降级方法，以被注解的方法为键。
+     */
+    private final Map<Method, Method> fallbackMethods = new ConcurrentHashMap<>();
+
+    /**
+     * Handles the {@code @Bulkhead} annotation by holding a permit around the method call.
+     * <p>
+     * 通过在方法调用期间持有许可来处理 {@code @Bulkhead} 注解。
+     *
+     * @param joinPoint the proceeding join point representing the intercepted method
+     *                  <p>
+     *                  表示被拦截方法的连接点
+     * @param bulkhead the {@code @Bulkhead} annotation instance
+     *                 <p>
+     *                 {@code @Bulkhead} 注解实例
+     * @return the result of the method invocation or of the fallback method
+     *         <p>
+     *         方法调用或降级方法的结果
+     * @throws Throwable if the call is rejected or the method throws
+     *                   <p>
+     *                   如果调用被拒绝或方法抛出异常
+     */
+    @Around("@annotation(bulkhead)")
+    public Object aroundBulkhead(ProceedingJoinPoint joinPoint, Bulkhead bulkhead) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        String name = bulkhead.value().isEmpty() ? method.getName() : bulkhead.value();
+        BulkheadPool pool = bulkheadRegistry.getPool(name, bulkhead.maxConcurrent(), bulkhead.clusterMaxConcurrent());
+
+        long waitMillis = bulkhead.policy() == BulkheadPolicy.REJECT ? 0 : bulkhead.timeUnit().toMillis(bulkhead.waitTime());
+        BulkheadPool.Permit permit;
+        try {
+            permit = pool.tryAcquire(waitMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BulkheadFullException("等待舱壁许可时被中断", e);
+        }
+
+        if (permit == null) {
+            if (cacheMetrics != null) {
+                cacheMetrics.increment("bulkhead.rejected", "bulkhead", name);
+            }
+            if (bulkhead.policy() == BulkheadPolicy.FALLBACK) {
+                return invokeFallback(joinPoint, method, bulkhead);
+            }
+            throw new BulkheadFullException(bulkhead.errorMessage());
+        }
+
+        try {
+            return joinPoint.proceed();
+        } finally {
+            pool.release(permit);
+        }
+    }
+
+    /**
+     * Invokes the fallback method of the annotation with the arguments of the call.
+     * <p>
+     * 使用调用参数执行注解指定的降级方法。
+     */
+    private Object invokeFallback(ProceedingJoinPoint joinPoint, Method method, Bulkhead bulkhead) throws Throwable {
+        Object target = joinPoint.getTarget();
+        Method fallback = fallbackMethods.computeIfAbsent(method,
+            m -> findFallback(target.getClass(), bulkhead.fallbackMethod(), m));
+        try {
+            return fallback.invoke(target, joinPoint.getArgs());
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    /**
+     * Finds the fallback method taking the same parameters as the annotated method.
+     * <p>
+     * 查找与被注解方法参数相同的降级方法。
+     */
+    private Method findFallback(Class<?> targetClass, String fallbackName, Method method) {
+        if (fallbackName.isEmpty()) {
+            throw new CacheException("FALLBACK策略必须指定降级方法: " + method.getName());
+        }
+        for (Class<?> type = targetClass; type != null; type = type.getSuperclass()) {
+            try {
+                Method fallback = type.getDeclaredMethod(fallbackName, method.getParameterTypes());
+                fallback.setAccessible(true);
+                return fallback;
+            } catch (NoSuchMethodException e) {
+                // 继续在父类中查找
+            }
+        }
+        throw new CacheException("未找到降级方法: " + fallbackName);
+    }
+}
@@ -6,10 +6,15 @@ import cc.ashclaw.common4j.cache.annotation.CachePut;
 import cc.ashclaw.common4j.cache.config.CacheProperties;
 import cc.ashclaw.common4j.cache.core.Cache;
 import cc.ashclaw.common4j.cache.core.CacheManager;
+import cc.ashclaw.common4j.cache.enums.CacheOperation;
 import cc.ashclaw.common4j.cache.enums.CacheType;
 import cc.ashclaw.common4j.cache.protection.CacheAvalancheProtection;
+import cc.ashclaw.common4j.cache.protection.CachePenetrationProtection;
 import cc.ashclaw.common4j.cache.support.CacheKeyGenerator;
 import cc.ashclaw.common4j.cache.support.ExpressionEvaluator;
+import cc.ashclaw.common4j.cache.support.NullValue;
+import cc.ashclaw.common4j.cache.support.RequestScopedCache;
+import cc.ashclaw.common4j.cache.trace.CacheTraceRecorder;
 
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -18,8 +23,12 @@ import org.aspectj.lang.reflect.MethodSignature;
 import org.redisson.api.RedissonClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
 
 import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -82,6 +91,21 @@ public class CacheAspect {
     @Autowired(required = false)
     private RedissonClient redissonClient;
     
+    /**
+     * The optional recorder of cache access events.
+     * <p>
+     * 可选的缓存访问事件记录器。
+     */
+    @Autowired(required = false)
+    private CacheTraceRecorder traceRecorder;
+    
+    /**
+     * The generic return types of the cached methods, read as the type of their cached values.
+     * <p>
+     * 被缓存方法的泛型返回类型，用作其缓存值的读取类型。
+     */
+    private final Map<Method, Type> returnTypes = new ConcurrentHashMap<>();
+    
     /**
      * Handles the {@code @Cacheable} annotation by intercepting method calls
      * and implementing cache retrieval logic.
@@ -115,14 +139,24 @@ public class CacheAspect {
         
         // 生成缓存键
         Object key = generateCacheKey(cacheable, method, args, target);
+        String cacheName = cacheable.cacheNames()[0];
+        
+        // 优先查询请求作用域内的L0缓存
+        Object result = RequestScopedCache.get(cacheName, key);
+        if (result != null) {
+            return NullValue.unwrap(result);
+        }
         
         // 获取缓存
-        Cache cache = getCache(cacheable.cacheNames()[0], cacheable.cacheType());
+        Cache cache = getCache(cacheName, cacheable.cacheType());
         
-        // 尝试从缓存获取
-        Object result = cache.get(key, Object.class);
+        // 尝试从缓存获取，按方法的返回类型直接反序列化
+        result = cache.get(key, returnType(method));
+        trace(cacheName, key, CacheOperation.GET, result != null);
         if (result != null) {
-            return result;
+            // 空值标记表示已知不存在，直接返回null而不执行原方法
+            RequestScopedCache.put(cacheName, key, result);
+            return NullValue.unwrap(result);
         }
         
         // 缓存未命中，执行原方法
@@ -145,6 +179,13 @@ public class CacheAspect {
             } else {
                 cache.put(key, result, expireTime, timeUnit);
             }
+            trace(cacheName, key, CacheOperation.PUT, false);
+            RequestScopedCache.put(cacheName, key, result);
+        } else if (cacheable.penetrationProtection() && cacheProperties.isProtectionEnabled()) {
+            // 缓存空值标记，防止对不存在数据的重复查询
+            new CachePenetrationProtection(cache, cacheProperties).putNullValue(key);
+            trace(cacheName, key, CacheOperation.PUT, false);
+            RequestScopedCache.put(cacheName, key, NullValue.INSTANCE);
         }
         
         return result;
@@ -244,6 +285,8 @@ public class CacheAspect {
             TimeUnit timeUnit = cachePut.timeUnit();
             
             cache.put(key, result, expireTime, timeUnit);
+            trace(cachePut.cacheNames()[0], key, CacheOperation.PUT, false);
+            RequestScopedCache.put(cachePut.cacheNames()[0], key, result);
         }
         
         return result;
@@ -272,11 +315,7 @@ public class CacheAspect {
      */
     private Object generateCacheKey(cc.ashclaw.common4j.cache.annotation.Cacheable cacheable, 
                                    Method method, Object[] args, Object target) {
-        if (cacheable.key().isEmpty()) {
-            return cacheKeyGenerator.generate(target, method, args);
-        } else {
-            return cacheKeyGenerator.generateKeyBySpEL(cacheable.key(), target, method, args);
-        }
+        return cacheKeyGenerator.generateCacheKey(cacheable.key(), target, method, args);
     }
     
     /**
@@ -301,11 +340,7 @@ public class CacheAspect {
      *         生成的缓存键
      */
     private Object generateCacheKey(CacheEvict cacheEvict, Method method, Object[] args, Object target) {
-        if (cacheEvict.key().isEmpty()) {
-            return cacheKeyGenerator.generate(target, method, args);
-        } else {
-            return cacheKeyGenerator.generateKeyBySpEL(cacheEvict.key(), target, method, args);
-        }
+        return cacheKeyGenerator.generateCacheKey(cacheEvict.key(), target, method, args);
     }
     
     /**
@@ -330,11 +365,7 @@ public class CacheAspect {
      *         生成的缓存键
      */
     private Object generateCacheKey(CachePut cachePut, Method method, Object[] args, Object target) {
-        if (cachePut.key().isEmpty()) {
-            return cacheKeyGenerator.generate(target, method, args);
-        } else {
-            return cacheKeyGenerator.generateKeyBySpEL(cachePut.key(), target, method, args);
-        }
+        return cacheKeyGenerator.generateCacheKey(cachePut.key(), target, method, args);
     }
     
     /**
@@ -356,6 +387,25 @@ public class CacheAspect {
         return cacheManager.getCache(cacheName);
     }
     
+    /**
+     * Gets the type the cached values of a method are read as, resolving it once per method.
+     * <p>
+     * 获取方法缓存值的读取类型，每个方法只解析一次。
+     *
+     * @param method the intercepted method
+     *               <p>
+     *               被拦截的方法
+     * @return the generic return type, with primitives replaced by their wrappers
+     *         <p>
+     *         泛型返回类型，基本类型替换为其包装类型
+     */
+    private Type returnType(Method method) {
+        return returnTypes.computeIfAbsent(method, m -> {
+            Type type = m.getGenericReturnType();
+            return type instanceof Class<?> clazz ? ClassUtils.resolvePrimitiveIfNecessary(clazz) : type;
+        });
+    }
+    
     /**
      * Evicts cache entries based on the {@code @CacheEvict} annotation configuration.
      * <p>
@@ -380,10 +430,38 @@ public class CacheAspect {
             
             if (cacheEvict.allEntries()) {
                 cache.clear();
+                trace(cacheName, null, CacheOperation.CLEAR, false);
+                RequestScopedCache.clear(cacheName);
             } else {
                 Object key = generateCacheKey(cacheEvict, method, args, target);
                 cache.evict(key);
+                trace(cacheName, key, CacheOperation.EVICT, false);
+                RequestScopedCache.evict(cacheName, key);
             }
         }
     }
+    
+    /**
+     * Records a cache access event if tracing is enabled.
+     * <p>
+     * 如果启用了访问跟踪，则记录缓存访问事件。
+     *
+     * @param cacheName the cache name
+     *                  <p>
+     *                  缓存名称
+     * @param key the cache key
+     *            <p>
+     *            缓存键
+     * @param operation the cache operation
+     *                  <p>
+     *                  缓存操作
+     * @param hit whether a read found a value
+     *            <p>
+     *            读取操作是否命中
+     */
+    private void trace(String cacheName, Object key, CacheOperation operation, boolean hit) {
+        if (traceRecorder != null) {
+            traceRecorder.record(cacheName, key, operation, hit);
+        }
+    }
 }
\ No newline at end of file
@@ -1,8 +1,11 @@
 package cc.ashclaw.common4j.cache.aspect;
 
 import cc.ashclaw.common4j.cache.annotation.CacheLock;
+import cc.ashclaw.common4j.cache.annotation.CacheMultiLock;
+import cc.ashclaw.common4j.cache.config.CacheProperties;
 import cc.ashclaw.common4j.cache.exception.CacheLockException;
 import cc.ashclaw.common4j.cache.impl.redisson.RedissonLock;
+import cc.ashclaw.common4j.cache.metrics.CacheMetrics;
 import cc.ashclaw.common4j.cache.support.CacheKeyGenerator;
 import cc.ashclaw.common4j.cache.support.ExpressionEvaluator;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -13,7 +16,11 @@ import org.redisson.api.RedissonClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.lang.reflect.Array;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Aspect for handling distributed locking using the {@code @CacheLock} annotation.
@@ -56,6 +63,22 @@ public class CacheLockAspect {
     @Autowired
     private ExpressionEvaluator expressionEvaluator;
     
+    /**
+     * The optional metrics registry recording lock wait and hold times.
+     * <p>
+     * 可选的指标注册表，用于记录锁的等待时间和持有时间。
+     */
+    @Autowired(required = false)
+    private CacheMetrics cacheMetrics;
+    
+    /**
+     * The cache properties holding the lock contention threshold.
+     * <p>
+     * 包含锁争用阈值的缓存属性。
+     */
+    @Autowired
+    private CacheProperties cacheProperties;
+    
     /**
      * Handles the {@code @CacheLock} annotation by intercepting method calls
      * and implementing distributed locking logic.
@@ -87,6 +110,7 @@ public class CacheLockAspect {
         
         // 创建分布式锁
         RedissonLock lock = new RedissonLock(redissonClient, lockKey, cacheLock.type());
+        instrument(lock, cacheLock.value(), method);
         
         Object result;
         
@@ -114,6 +138,98 @@ public class CacheLockAspect {
         return result;
     }
     
+    /**
+     * Handles the {@code @CacheMultiLock} annotation by acquiring all the lock keys
+     * as one multi-lock around the method call.
+     * <p>
+     * 通过在方法调用前后将所有锁键作为一个联锁获取来处理 {@code @CacheMultiLock} 注解。
+     *
+     * @param joinPoint the proceeding join point representing the intercepted method
+     *                  <p>
+     *                  表示被拦截方法的连接点
+     * @param cacheMultiLock the {@code @CacheMultiLock} annotation instance
+     *                       <p>
+     *                       {@code @CacheMultiLock} 注解实例
+     * @return the result of the method invocation
+     *         <p>
+     *         方法调用的结果
+     * @throws Throwable if an error occurs during method execution or lock acquisition
+     *                   <p>
+     *                   如果在方法执行或锁获取期间发生错误
+     */
+    @Around("@annotation(cacheMultiLock)")
+    public Object aroundCacheMultiLock(ProceedingJoinPoint joinPoint, CacheMultiLock cacheMultiLock) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        Method method = signature.getMethod();
+        
+        List<String> lockKeys = generateLockKeys(cacheMultiLock, method, joinPoint.getArgs(), joinPoint.getTarget());
+        if (lockKeys.isEmpty()) {
+            // 没有需要锁定的键时直接执行
+            return joinPoint.proceed();
+        }
+        
+        RedissonLock lock = new RedissonLock(redissonClient, lockKeys, cacheMultiLock.type());
+        instrument(lock, cacheMultiLock.value(), method);
+        try {
+            boolean locked = lock.tryLock(cacheMultiLock.waitTime(), cacheMultiLock.leaseTime(), cacheMultiLock.timeUnit());
+            if (!locked) {
+                throw new CacheLockException(cacheMultiLock.errorMessage());
+            }
+            
+            try {
+                return joinPoint.proceed();
+            } finally {
+                lock.unlock();
+            }
+        } catch (Exception e) {
+            if (e instanceof CacheLockException) {
+                throw e;
+            }
+            throw new CacheLockException("执行分布式锁操作失败", e);
+        }
+    }
+    
+    /**
+     * Generates the lock keys for the {@code @CacheMultiLock} annotation.
+     * <p>
+     * 为 {@code @CacheMultiLock} 注解生成锁键。
+     */
+    private List<String> generateLockKeys(CacheMultiLock cacheMultiLock, Method method, Object[] args, Object target) {
+        String baseKey = cacheMultiLock.value().isEmpty() ? method.getName() : cacheMultiLock.value();
+        Object value = cacheKeyGenerator.generateKeyBySpEL(cacheMultiLock.keys(), target, method, args);
+        
+        List<Object> elements = new ArrayList<>();
+        if (value instanceof Collection) {
+            elements.addAll((Collection<?>) value);
+        } else if (value != null && value.getClass().isArray()) {
+            for (int i = 0; i < Array.getLength(value); i++) {
+                elements.add(Array.get(value, i));
+            }
+        } else if (value != null) {
+            elements.add(value);
+        }
+        
+        List<String> lockKeys = new ArrayList<>(elements.size());
+        for (Object element : elements) {
+            if (element != null) {
+                lockKeys.add(baseKey + ":" + element);
+            }
+        }
+        return lockKeys;
+    }
+    
+    /**
+     * Enables the metrics of a lock, tagged with the lock name of the annotation.
+     * <p>
+     * 启用锁的指标，以注解的锁名称作为标签。
+     */
+    private void instrument(RedissonLock lock, String name, Method method) {
+        if (cacheMetrics != null) {
+            lock.instrument(cacheMetrics, name.isEmpty() ? method.getName() : name,
+                cacheProperties.getLockContendedThreshold());
+        }
+    }
+    
     /**
      * Generates a lock key for the {@code @CacheLock} annotation.
      * <p>
@@ -4,8 +4,13 @@ import cc.ashclaw.common4j.cache.annotation.CachePreheat;
 import cc.ashclaw.common4j.cache.config.CacheProperties;
 import cc.ashclaw.common4j.cache.core.Cache;
 import cc.ashclaw.common4j.cache.core.CacheManager;
+import cc.ashclaw.common4j.cache.core.MultiLevelCache;
+import cc.ashclaw.common4j.cache.enums.CacheType;
+import cc.ashclaw.common4j.cache.exception.CachePreheatException;
+import cc.ashclaw.common4j.cache.preheat.PreheatCoordinator;
 import cc.ashclaw.common4j.cache.support.CacheKeyGenerator;
 import cc.ashclaw.common4j.cache.support.ExpressionEvaluator;
+import cc.ashclaw.common4j.cache.support.NullValue;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
@@ -14,8 +19,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.ApplicationListener;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
 
 import java.lang.reflect.Method;
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -30,6 +37,14 @@ import java.util.concurrent.TimeUnit;
  * automatically execute during application startup to preload cache data.
  * <p>
  * 此切面为缓存预热操作提供AOP支持，在应用程序启动期间自动执行以预加载缓存数据。
+ * <p>
+ * With a {@link PreheatCoordinator} available and a shared cache tier, each task is run
+ * by one node of the cluster only; the other nodes fill their local tier from the
+ * distributed tier, so the load on the data source during a rollout does not grow with
+ * the number of replicas.
+ * <p>
+ * 存在 {@link PreheatCoordinator} 且缓存有共享层时，每个任务只由集群中的一个节点执行，
+ * 其他节点从分布式缓存填充本地缓存，因此发布期间数据源的负载不随副本数量增长。
  *
  * @author b1itz7
  * @since 1.1.0
@@ -70,6 +85,14 @@ public class CachePreheatAspect implements ApplicationListener<ApplicationReadyE
     @Autowired
     private CacheProperties cacheProperties;
     
+    /**
+     * The optional coordinator letting one node of the cluster run each preheat task.
+     * <p>
+     * 可选的协调器，使集群中每个预热任务只由一个节点执行。
+     */
+    @Autowired(required = false)
+    private PreheatCoordinator preheatCoordinator;
+    
     /**
      * The list of preheat tasks to be executed during application startup.
      * <p>
@@ -189,25 +212,92 @@ public class CachePreheatAspect implements ApplicationListener<ApplicationReadyE
                 }
             }
             
-            // 执行预热方法
-            Object result = task.joinPoint.proceed();
+            // 生成缓存键
+            Object key = generateCacheKey(task.cachePreheat, method, args, target);
             
-            if (result != null) {
-                // 生成缓存键
-                Object key = generateCacheKey(task.cachePreheat, method, args, target);
-                
-                // 写入缓存
-                for (String cacheName : task.cachePreheat.cacheNames()) {
-                    Cache cache = cacheManager.getCache(cacheName);
-                    
-                    long expireTime = task.cachePreheat.expire();
-                    TimeUnit timeUnit = task.cachePreheat.timeUnit();
-                    
-                    cache.put(key, result, expireTime, timeUnit);
+            // 本地缓存不在节点间共享，每个节点自行加载
+            if (preheatCoordinator == null || cacheManager.getCacheType() == CacheType.LOCAL) {
+                loadAndPut(task, key);
+                return;
+            }
+            
+            // 集群中只有一个节点从数据源加载，其余节点从分布式缓存填充本地缓存
+            String taskName = String.join(",", task.cachePreheat.cacheNames()) + ":" + key;
+            boolean loaded = preheatCoordinator.runOnce(taskName, () -> {
+                try {
+                    loadAndPut(task, key);
+                } catch (Throwable e) {
+                    throw new CachePreheatException("执行缓存预热任务失败", e);
                 }
+            });
+            if (!loaded) {
+                fillLocalCaches(task, key);
             }
+        } catch (CachePreheatException e) {
+            throw e;
         } catch (Throwable e) {
-            throw new RuntimeException("执行缓存预热任务失败", e);
+            throw new CachePreheatException("执行缓存预热任务失败", e);
+        }
+    }
+    
+    /**
+     * Runs the preheat method and writes its result to the caches.
+     * <p>
+     * 执行预热方法并将结果写入缓存。
+     *
+     * @param task the preheat task
+     *             <p>
+     *             预热任务
+     * @param key the cache key
+     *            <p>
+     *            缓存键
+     * @throws Throwable if the preheat method fails
+     *                   <p>
+     *                   如果预热方法执行失败
+     */
+    private void loadAndPut(PreheatTask task, Object key) throws Throwable {
+        // 执行预热方法
+        Object result = task.joinPoint.proceed();
+        
+        if (result != null) {
+            // 写入缓存
+            for (String cacheName : task.cachePreheat.cacheNames()) {
+                Cache cache = cacheManager.getCache(cacheName);
+                
+                long expireTime = task.cachePreheat.expire();
+                TimeUnit timeUnit = task.cachePreheat.timeUnit();
+                
+                cache.put(key, result, expireTime, timeUnit);
+            }
+        }
+    }
+    
+    /**
+     * Fills the local tier of multi-level caches with the value another node preheated.
+     * <p>
+     * 使用其他节点预热的值填充多级缓存的本地缓存。
+     *
+     * @param task the preheat task
+     *             <p>
+     *             预热任务
+     * @param key the cache key
+     *            <p>
+     *            缓存键
+     */
+    private void fillLocalCaches(PreheatTask task, Object key) {
+        Type type = task.method.getGenericReturnType();
+        if (type instanceof Class<?> clazz) {
+            type = ClassUtils.resolvePrimitiveIfNecessary(clazz);
+        }
+        
+        for (String cacheName : task.cachePreheat.cacheNames()) {
+            if (cacheManager.getCache(cacheName) instanceof MultiLevelCache multiLevelCache) {
+                Object value = multiLevelCache.getDistributedCache().get(key, type);
+                if (value != null && !NullValue.isNull(value)) {
+                    multiLevelCache.getLocalCache().put(key, value,
+                        cacheProperties.getMultiLevel().getLocalExpireTime().toSeconds(), TimeUnit.SECONDS);
+                }
+            }
         }
     }
     
@@ -233,11 +323,7 @@ public class CachePreheatAspect implements ApplicationListener<ApplicationReadyE
      *         生成的缓存键
      */
     private Object generateCacheKey(CachePreheat cachePreheat, Method method, Object[] args, Object target) {
-        if (cachePreheat.key().isEmpty()) {
-            return cacheKeyGenerator.generate(target, method, args);
-        } else {
-            return cacheKeyGenerator.generateKeyBySpEL(cachePreheat.key(), target, method, args);
-        }
+        return cacheKeyGenerator.generateCacheKey(cachePreheat.key(), target, method, args);
     }
     
     /**
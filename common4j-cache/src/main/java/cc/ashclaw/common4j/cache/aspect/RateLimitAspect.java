@@ -0,0 +1,100 @@
+package cc.ashclaw.common4j.cache.aspect;
+
+import cc.ashclaw.common4j.cache.annotation.RateLimit;
+import cc.ashclaw.common4j.cache.exception.RateLimitException;
+import cc.ashclaw.common4j.cache.metrics.CacheMetrics;
+import cc.ashclaw.common4j.cache.ratelimit.LeasedRateLimiter;
+import cc.ashclaw.common4j.cache.ratelimit.RateLimitRule;
+import cc.ashclaw.common4j.cache.support.CacheKeyGenerator;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+
+/**
+ * Aspect for handling rate limiting using the {@code @RateLimit} annotation.
+ * <p>
+ * 处理使用 {@code @RateLimit} 注解的限流的切面类。
+ * <p>
+ * This aspect takes the permits of a call from the {@link LeasedRateLimiter} and
+ * rejects the call with a {@link RateLimitException} when the limit is exceeded.
+ * <p>
+ * 此切面从 {@link LeasedRateLimiter} 获取调用所需的许可，超出限制时以 {@link RateLimitException} 拒绝调用。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+@Aspect
+@Component
+public class RateLimitAspect {
+    
+    /**
+     * The rate limiter serving permits from locally leased blocks.
+     * <p>
+     * 从本地租用的许可块中提供许可的限流器。
+     */
+    @Autowired
+    private LeasedRateLimiter rateLimiter;
+    
+    /**
+     * The cache key generator for evaluating rate limit keys.
+     * <p>
+     * 用于计算限流键的缓存键生成器。
+     */
+    @Autowired
+    private CacheKeyGenerator cacheKeyGenerator;
+    
+    /**
+     * The optional metrics registry counting rejected calls.
+     * <p>
+     * 可选的指标注册表，用于统计被拒绝的调用。
+     */
+    @Autowired(required = false)
+    private CacheMetrics cacheMetrics;
+    
+    /**
+     * Handles the {@code @RateLimit} annotation by taking permits before the method call.
+     * <p>
+     * 通过在方法调用前获取许可来处理 {@code @RateLimit} 注解。
+     *
+     * @param joinPoint the proceeding join point representing the intercepted method
+     *                  <p>
+     *                  表示被拦截方法的连接点
+     * @param rateLimit the {@code @RateLimit} annotation instance
+     *                  <p>
+     *                  {@code @RateLimit} 注解实例
+     * @return the result of the method invocation
+     *         <p>
+     *         方法调用的结果
+     * @throws Throwable if the limit is exceeded or the method throws
+     *                   <p>
+     *                   如果超出限制或方法抛出异常
+     */
+    @Around("@annotation(rateLimit)")
+    public Object aroundRateLimit(ProceedingJoinPoint joinPoint, RateLimit rateLimit) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        String name = rateLimit.value().isEmpty() ? method.getName() : rateLimit.value();
+        
+        String key = name;
+        if (!rateLimit.key().isEmpty()) {
+            Object suffix = cacheKeyGenerator.generateKeyBySpEL(rateLimit.key(), joinPoint.getTarget(), method,
+                joinPoint.getArgs());
+            key = name + ":" + suffix;
+        }
+        
+        RateLimitRule rule = new RateLimitRule(rateLimit.rate(),
+            Duration.ofMillis(rateLimit.timeUnit().toMillis(rateLimit.interval())), rateLimit.algorithm());
+        if (!rateLimiter.tryAcquire(key, rule, rateLimit.permits())) {
+            if (cacheMetrics != null) {
+                cacheMetrics.increment("ratelimit.rejected", "limit", name);
+            }
+            throw new RateLimitException(rateLimit.errorMessage());
+        }
+        return joinPoint.proceed();
+    }
+}
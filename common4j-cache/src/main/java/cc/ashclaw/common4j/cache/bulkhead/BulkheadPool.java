@@ -0,0 +1,282 @@
+package cc.ashclaw.common4j.cache.bulkhead;
+
+import org.redisson.api.RPermitExpirableSemaphore;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Permit pool of one bulkhead, with a local semaphore and an optional cluster-wide ceiling.
+ * <p>
+ * 单个舱壁的许可池，包含本地信号量和可选的集群级上限。
+ * <p>
+ * Every call takes a permit of the local {@link Semaphore}. When a cluster semaphore is
+ * set, every call also holds one of its permits. Permits given back by finished calls
+ * are kept in a local reserve and handed to the next calls without a round trip, so
+ * Redis is only consulted when the calls of this node outgrow the permits it already
+ * holds. The reserve holds at most {@code reserveSize} permits and never more than the
+ * calls still running on this node, so a node whose load drops returns its permits to
+ * Redis instead of hoarding them. The Redis permits expire after {@code leaseMillis},
+ * which returns the permits of a crashed node; a permit entering the reserve has its
+ * lease renewed in the background, so a reused permit starts with a full lease.
+ * <p>
+ * 每个调用占用本地 {@link Semaphore} 的一个许可。设置集群信号量时，每个调用还持有一个集群许可。
+ * 已完成调用归还的许可保存在本地预留中，下一个调用无需往返即可取用，因此只有当本节点的调用超出其已持有的许可时才访问Redis。
+ * 预留最多保存 {@code reserveSize} 个许可，且不超过本节点仍在执行的调用数，因此负载下降的节点会把许可归还给Redis，而不是囤积。
+ * Redis许可在 {@code leaseMillis} 后过期，从而归还崩溃节点的许可；进入预留的许可会在后台续租，因此复用的许可拥有完整的租期。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class BulkheadPool {
+
+    private final String name;
+    private final int maxConcurrent;
+    private final Semaphore local;
+    private final RPermitExpirableSemaphore cluster;
+    private final int reserveSize;
+    private final long leaseMillis;
+    private final Deque<Permit> reserve = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger reserved = new AtomicInteger();
+
+    /**
+     * Constructs a new BulkheadPool limited to this node.
+     * <p>
+     * 构造一个仅限本节点的新BulkheadPool。
+     *
+     * @param name the bulkhead name
+     *             <p>
+     *             舱壁名称
+     * @param maxConcurrent the maximum number of concurrent calls on this node
+     *                      <p>
+     *                      本节点的最大并发调用数
+     */
+    public BulkheadPool(String name, int maxConcurrent) {
+        this(name, maxConcurrent, null, 0, 0);
+    }
+
+    /**
+     * Constructs a new BulkheadPool with a cluster-wide ceiling.
+     * <p>
+     * 构造一个具有集群级上限的新BulkheadPool。
+     *
+     * @param name the bulkhead name
+     *             <p>
+     *             舱壁名称
+     * @param maxConcurrent the maximum number of concurrent calls on this node
+     *                      <p>
+     *                      本节点的最大并发调用数
+     * @param cluster the cluster semaphore, {@code null} for no cluster-wide ceiling
+     *                <p>
+     *                集群信号量，{@code null} 表示不设集群级上限
+     * @param reserveSize the maximum number of idle cluster permits kept by this node
+     *                    <p>
+     *                    本节点保留的空闲集群许可的最大数量
+     * @param leaseMillis the expiry of the cluster permits, in milliseconds
+     *                    <p>
+     *                    集群许可的过期时间（毫秒）
+     */
+    public BulkheadPool(String name, int maxConcurrent, RPermitExpirableSemaphore cluster, int reserveSize,
+                        long leaseMillis) {
+        if (maxConcurrent <= 0) {
+            throw new IllegalArgumentException("Max concurrent calls must be positive");
+        }
+        if (cluster != null && leaseMillis <= 0) {
+            throw new IllegalArgumentException("Lease time must be positive");
+        }
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.local = new Semaphore(maxConcurrent);
+        this.cluster = cluster;
+        this.reserveSize = reserveSize;
+        this.leaseMillis = leaseMillis;
+    }
+
+    /**
+     * Takes a permit, waiting up to the specified time.
+     * <p>
+     * 获取一个许可，最多等待指定的时间。
+     *
+     * @param waitMillis the maximum time to wait in milliseconds, 0 for no waiting
+     *                   <p>
+     *                   最长等待时间（毫秒），0表示不等待
+     * @return the permit, or {@code null} if no permit became free in time
+     *         <p>
+     *         许可，如果未能及时获得则返回 {@code null}
+     * @throws InterruptedException if the thread is interrupted while waiting
+     *                              <p>
+     *                              如果线程在等待时被中断
+     */
+    public Permit tryAcquire(long waitMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + waitMillis;
+        boolean acquired = waitMillis > 0
+            ? local.tryAcquire(waitMillis, TimeUnit.MILLISECONDS) : local.tryAcquire();
+        if (!acquired) {
+            return null;
+        }
+        if (cluster == null) {
+            return Permit.LOCAL;
+        }
+
+        try {
+            Permit permit = takeReserved();
+            if (permit == null) {
+                // 预留已耗尽，向Redis申请新的集群许可
+                long remaining = Math.max(0, deadline - System.currentTimeMillis());
+                String id = cluster.tryAcquire(remaining, leaseMillis, TimeUnit.MILLISECONDS);
+                if (id != null) {
+                    permit = new Permit(id, System.currentTimeMillis() + leaseMillis);
+                }
+            }
+            if (permit == null) {
+                local.release();
+            }
+            return permit;
+        } catch (InterruptedException | RuntimeException e) {
+            local.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Gives back a permit taken by {@link #tryAcquire(long)}.
+     * <p>
+     * 归还通过 {@link #tryAcquire(long)} 获取的许可。
+     *
+     * @param permit the permit
+     *               <p>
+     *               许可
+     */
+    public void release(Permit permit) {
+        try {
+            if (permit.id != null) {
+                // 预留不超过本节点仍在执行的调用数（不含当前调用）
+                int limit = Math.min(reserveSize, getInUse() - 1);
+                boolean reusable = isReusable(permit);
+                if (reusable && reserved.incrementAndGet() <= limit) {
+                    renew(permit);
+                    return;
+                }
+                if (reusable) {
+                    reserved.decrementAndGet();
+                }
+                cluster.tryRelease(permit.id);
+                trimReserved(limit);
+            }
+        } finally {
+            local.release();
+        }
+    }
+
+    /**
+     * Gives back every cluster permit kept in the reserve.
+     * <p>
+     * 归还预留中的所有集群许可。
+     */
+    public void releaseReserved() {
+        Permit permit;
+        while ((permit = reserve.pollFirst()) != null) {
+            reserved.decrementAndGet();
+            cluster.tryRelease(permit.id);
+        }
+    }
+
+    /**
+     * Gets the bulkhead name.
+     * <p>
+     * 获取舱壁名称。
+     *
+     * @return the bulkhead name
+     *         <p>
+     *         舱壁名称
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the number of permits in use on this node.
+     * <p>
+     * 获取本节点正在使用的许可数。
+     *
+     * @return the permits in use
+     *         <p>
+     *         正在使用的许可数
+     */
+    public int getInUse() {
+        return maxConcurrent - local.availablePermits();
+    }
+
+    /**
+     * Gets the number of idle cluster permits kept by this node.
+     * <p>
+     * 获取本节点保留的空闲集群许可数。
+     *
+     * @return the reserved permits
+     *         <p>
+     *         预留的许可数
+     */
+    public int getReserved() {
+        return Math.max(0, reserved.get());
+    }
+
+    private void renew(Permit permit) {
+        long renewedAt = System.currentTimeMillis();
+        cluster.updateLeaseTimeAsync(permit.id, leaseMillis, TimeUnit.MILLISECONDS)
+            .whenComplete((renewed, e) -> {
+                if (e == null && Boolean.TRUE.equals(renewed)) {
+                    reserve.offerFirst(new Permit(permit.id, renewedAt + leaseMillis));
+                } else {
+                    // 许可已过期或续租失败，不再保留
+                    reserved.decrementAndGet();
+                }
+            });
+    }
+
+    private void trimReserved(int limit) {
+        Permit permit;
+        while (reserved.get() > limit && (permit = reserve.pollLast()) != null) {
+            reserved.decrementAndGet();
+            cluster.tryRelease(permit.id);
+        }
+    }
+
+    private Permit takeReserved() {
+        Permit permit;
+        while ((permit = reserve.pollFirst()) != null) {
+            reserved.decrementAndGet();
+            if (isReusable(permit)) {
+                return permit;
+            }
+            // 临近过期的许可不再复用，交还给Redis
+            cluster.tryRelease(permit.id);
+        }
+        return null;
+    }
+
+    private boolean isReusable(Permit permit) {
+        // 至少保留一半的租期，避免调用执行期间许可过期
+        return permit.expiresAt - System.currentTimeMillis() > leaseMillis / 2;
+    }
+
+    /**
+     * Permit held by one call.
+     * <p>
+     * 单个调用持有的许可。
+     */
+    public static final class Permit {
+
+        private static final Permit LOCAL = new Permit(null, Long.MAX_VALUE);
+
+        private final String id;
+        private final long expiresAt;
+
+        private Permit(String id, long expiresAt) {
+            this.id = id;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
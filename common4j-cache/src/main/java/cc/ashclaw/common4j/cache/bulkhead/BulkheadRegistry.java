@@ -0,0 +1,119 @@
+package cc.ashclaw.common4j.cache.bulkhead;
+
+import cc.ashclaw.common4j.cache.metrics.CacheMetrics;
+import org.redisson.api.RPermitExpirableSemaphore;
+import org.redisson.api.RedissonClient;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the bulkhead pools of this node, keyed by bulkhead name.
+ * <p>
+ * 本节点舱壁许可池的注册表，以舱壁名称为键。
+ * <p>
+ * A pool is created on first use with the limits of the first caller. Its permits in
+ * use and its reserved cluster permits are exported as the gauges
+ * {@code bulkhead.in.use} and {@code bulkhead.reserved}, tagged with the bulkhead name.
+ * <p>
+ * 许可池在首次使用时按首个调用方的限制创建。其正在使用的许可数和预留的集群许可数
+ * 以舱壁名称为标签导出为 {@code bulkhead.in.use} 和 {@code bulkhead.reserved} 指标。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class BulkheadRegistry implements AutoCloseable {
+
+    private final RedissonClient redissonClient;
+    private final CacheMetrics cacheMetrics;
+    private final String keyPrefix;
+    private final int reserveSize;
+    private final long leaseMillis;
+    private final Map<String, BulkheadPool> pools = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new BulkheadRegistry.
+     * <p>
+     * 构造一个新的BulkheadRegistry。
+     *
+     * @param redissonClient the Redisson client, {@code null} if cluster-wide ceilings are not available
+     *                       <p>
+     *                       Redisson客户端，{@code null} 表示不支持集群级上限
+     * @param cacheMetrics the metrics registry, may be {@code null}
+     *                     <p>
+     *                     指标注册表，可以为 {@code null}
+     * @param keyPrefix the prefix of the Redis keys of the cluster semaphores
+     *                  <p>
+     *                  集群信号量的Redis键前缀
+     * @param reserveSize the maximum number of idle cluster permits kept per bulkhead
+     *                    <p>
+     *                    每个舱壁保留的空闲集群许可的最大数量
+     * @param leaseMillis the expiry of the cluster permits, in milliseconds
+     *                    <p>
+     *                    集群许可的过期时间（毫秒）
+     */
+    public BulkheadRegistry(RedissonClient redissonClient, CacheMetrics cacheMetrics, String keyPrefix,
+                            int reserveSize, long leaseMillis) {
+        this.redissonClient = redissonClient;
+        this.cacheMetrics = cacheMetrics;
+        this.keyPrefix = keyPrefix;
+        this.reserveSize = reserveSize;
+        this.leaseMillis = leaseMillis;
+    }
+
+    /**
+     * Gets the pool of a bulkhead, creating it on first use.
+     * <p>
+     * 获取舱壁的许可池，首次使用时创建。
+     *
+     * @param name the bulkhead name
+     *             <p>
+     *             舱壁名称
+     * @param maxConcurrent the maximum number of concurrent calls on this node
+     *                      <p>
+     *                      本节点的最大并发调用数
+     * @param clusterMaxConcurrent the maximum number of concurrent calls across the cluster,
+     *                             0 for no cluster-wide ceiling
+     *                             <p>
+     *                             集群范围内的最大并发调用数，0表示不设集群级上限
+     * @return the bulkhead pool
+     *         <p>
+     *         舱壁许可池
+     */
+    public BulkheadPool getPool(String name, int maxConcurrent, int clusterMaxConcurrent) {
+        return pools.computeIfAbsent(name, k -> createPool(name, maxConcurrent, clusterMaxConcurrent));
+    }
+
+    /**
+     * Gives back the reserved cluster permits of every pool.
+     * <p>
+     * 归还所有许可池预留的集群许可。
+     */
+    @Override
+    public void close() {
+        for (BulkheadPool pool : pools.values()) {
+            pool.releaseReserved();
+        }
+    }
+
+    private BulkheadPool createPool(String name, int maxConcurrent, int clusterMaxConcurrent) {
+        BulkheadPool pool;
+        if (clusterMaxConcurrent > 0) {
+            if (redissonClient == null) {
+                throw new IllegalStateException("Cluster-wide bulkhead " + name + " requires a RedissonClient");
+            }
+            RPermitExpirableSemaphore semaphore = redissonClient.getPermitExpirableSemaphore(keyPrefix + name);
+            // 仅在信号量不存在时设置许可总数，已有的集群状态不会被覆盖
+            semaphore.trySetPermits(clusterMaxConcurrent);
+            pool = new BulkheadPool(name, maxConcurrent, semaphore, reserveSize, leaseMillis);
+        } else {
+            pool = new BulkheadPool(name, maxConcurrent);
+        }
+
+        if (cacheMetrics != null) {
+            cacheMetrics.gauge("bulkhead.in.use", pool::getInUse, "bulkhead", name);
+            cacheMetrics.gauge("bulkhead.reserved", pool::getReserved, "bulkhead", name);
+        }
+        return pool;
+    }
+}
@@ -0,0 +1,16 @@
+/**
+ * Package containing bulkhead support.
+ * <p>
+ * 包含舱壁支持的包。
+ * <p>
+ * This package provides the {@code BulkheadPool}, which limits concurrent calls with a
+ * local semaphore and optionally a cluster-wide Redis semaphore, and the
+ * {@code BulkheadRegistry} holding the pools of this node.
+ * <p>
+ * 此包提供 {@code BulkheadPool}，它通过本地信号量以及可选的集群级Redis信号量限制并发调用，
+ * 同时提供保存本节点许可池的 {@code BulkheadRegistry}。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+package cc.ashclaw.common4j.cache.bulkhead;
@@ -2,26 +2,53 @@ package cc.ashclaw.common4j.cache.config;
 
 import cc.ashclaw.common4j.cache.core.Cache;
 import cc.ashclaw.common4j.cache.core.CacheManager;
-import cc.ashclaw.common4j.cache.enums.CacheType;
+import cc.ashclaw.common4j.cache.core.MultiLevelCache;
+import cc.ashclaw.common4j.cache.event.CacheEventListener;
+import cc.ashclaw.common4j.cache.event.CacheEventPublisher;
+import cc.ashclaw.common4j.cache.impl.caffeine.CacheBudgetManager;
 import cc.ashclaw.common4j.cache.impl.caffeine.CaffeineCacheManager;
-import cc.ashclaw.common4j.cache.impl.multilevel.MultiLevelCacheImpl;
+import cc.ashclaw.common4j.cache.impl.multilevel.MultiLevelCacheManager;
 import cc.ashclaw.common4j.cache.impl.redisson.RedissonCacheManager;
+import cc.ashclaw.common4j.cache.impl.sharded.ShardedCacheManager;
+import cc.ashclaw.common4j.cache.metrics.CacheMetrics;
+import cc.ashclaw.common4j.cache.bulkhead.BulkheadRegistry;
+import cc.ashclaw.common4j.cache.counter.CounterStore;
+import cc.ashclaw.common4j.cache.counter.DistributedCounter;
+import cc.ashclaw.common4j.cache.counter.InMemoryCounterStore;
+import cc.ashclaw.common4j.cache.counter.RedissonCounterStore;
+import cc.ashclaw.common4j.cache.preheat.PreheatCoordinator;
+import cc.ashclaw.common4j.cache.preheat.RedissonPreheatCoordinator;
+import cc.ashclaw.common4j.cache.ratelimit.InMemoryRateLimitStore;
+import cc.ashclaw.common4j.cache.ratelimit.LeasedRateLimiter;
+import cc.ashclaw.common4j.cache.ratelimit.RateLimitStore;
+import cc.ashclaw.common4j.cache.ratelimit.RedissonRateLimitStore;
+import cc.ashclaw.common4j.cache.resilience.ResilientCacheManager;
 import cc.ashclaw.common4j.cache.support.CacheKeyGenerator;
 import cc.ashclaw.common4j.cache.support.CacheSerializer;
 import cc.ashclaw.common4j.cache.support.ExpressionEvaluator;
+import cc.ashclaw.common4j.cache.tenant.TenantCacheManager;
+import cc.ashclaw.common4j.cache.tenant.TenantContext;
+import cc.ashclaw.common4j.cache.tenant.TenantResolver;
+import cc.ashclaw.common4j.cache.trace.CacheTraceRecorder;
+import cc.ashclaw.common4j.cache.workerid.FileWorkerIdStore;
+import cc.ashclaw.common4j.cache.workerid.RedissonWorkerIdStore;
+import cc.ashclaw.common4j.cache.workerid.WorkerIdLease;
+import cc.ashclaw.common4j.cache.workerid.WorkerIdStore;
 import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationListener;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.Set;
+import java.nio.file.Path;
 
 /**
  * Spring Boot auto-configuration class for cache components.
@@ -47,15 +74,33 @@ public class CacheAutoConfiguration {
      * Creates a cache key generator bean if one is not already defined.
      * <p>
      * 如果尚未定义缓存键生成器，则创建一个缓存键生成器bean。
+     * <p>
+     * With tenant partitioning enabled, the tenant is resolved from the configured
+     * expression, or else from the {@link TenantResolver} bean, defaulting to {@link TenantContext}.
+     * <p>
+     * 启用租户划分时，租户由配置的表达式解析，未配置表达式时由 {@link TenantResolver} bean 提供，默认读取 {@link TenantContext}。
      *
+     * @param cacheProperties the cache properties configuration
+     *                        <p>
+     *                        缓存属性配置
+     * @param tenantResolver the optional tenant resolver
+     *                       <p>
+     *                       可选的租户解析器
      * @return the cache key generator instance
      *         <p>
      *         缓存键生成器实例
      */
     @Bean
     @ConditionalOnMissingBean
-    public CacheKeyGenerator cacheKeyGenerator() {
-        return new CacheKeyGenerator();
+    public CacheKeyGenerator cacheKeyGenerator(CacheProperties cacheProperties,
+                                               ObjectProvider<TenantResolver> tenantResolver) {
+        CacheKeyGenerator cacheKeyGenerator = new CacheKeyGenerator();
+        CacheProperties.TenantProperties tenant = cacheProperties.getTenant();
+        if (tenant.isEnabled()) {
+            cacheKeyGenerator.setTenantExpression(tenant.getExpression());
+            cacheKeyGenerator.setTenantResolver(tenantResolver.getIfAvailable(() -> TenantContext::current));
+        }
+        return cacheKeyGenerator;
     }
     
     /**
@@ -88,6 +133,294 @@ public class CacheAutoConfiguration {
         return new ExpressionEvaluator();
     }
     
+    /**
+     * Creates a cache metrics registry bean if one is not already defined.
+     * <p>
+     * 如果尚未定义缓存指标注册表，则创建一个缓存指标注册表bean。
+     *
+     * @return the cache metrics registry instance
+     *         <p>
+     *         缓存指标注册表实例
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public CacheMetrics cacheMetrics() {
+        return new CacheMetrics();
+    }
+    
+    /**
+     * Creates the adaptive memory budget for the Caffeine caches if it is enabled.
+     * <p>
+     * 如果启用了自适应内存预算，则为Caffeine缓存创建该预算bean。
+     *
+     * @param caffeineCacheManager the Caffeine cache manager instance
+     *                             <p>
+     *                             Caffeine缓存管理器实例
+     * @param cacheProperties the cache properties configuration
+     *                        <p>
+     *                        缓存属性配置
+     * @param cacheMetrics the cache metrics registry
+     *                     <p>
+     *                     缓存指标注册表
+     * @return the started budget manager instance
+     *         <p>
+     *         已启动的预算管理器实例
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "common4j.cache.caffeine.budget.enabled", havingValue = "true")
+    @ConditionalOnMissingBean
+    public CacheBudgetManager cacheBudgetManager(@Qualifier("caffeineCacheManager") CacheManager caffeineCacheManager,
+                                                 CacheProperties cacheProperties,
+                                                 CacheMetrics cacheMetrics) {
+        CacheBudgetManager budgetManager = new CacheBudgetManager(caffeineCacheManager, cacheProperties, cacheMetrics);
+        budgetManager.start();
+        return budgetManager;
+    }
+    
+    /**
+     * Creates the cache event publisher if events are enabled, registering all listener beans.
+     * <p>
+     * 如果启用了缓存事件，则创建缓存事件发布器，并注册所有监听器bean。
+     *
+     * @param cacheProperties the cache properties configuration
+     *                        <p>
+     *                        缓存属性配置
+     * @param cacheMetrics the cache metrics registry
+     *                     <p>
+     *                     缓存指标注册表
+     * @param listeners the cache event listener beans
+     *                  <p>
+     *                  缓存事件监听器bean
+     * @return the started event publisher instance
+     *         <p>
+     *         已启动的事件发布器实例
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "common4j.cache.events.enabled", havingValue = "true")
+    @ConditionalOnMissingBean
+    public CacheEventPublisher cacheEventPublisher(CacheProperties cacheProperties,
+                                                   CacheMetrics cacheMetrics,
+                                                   ObjectProvider<CacheEventListener> listeners) {
+        CacheProperties.EventProperties events = cacheProperties.getEvents();
+        CacheEventPublisher publisher =
+                new CacheEventPublisher(events.getQueueCapacity(), events.getBatchSize(), cacheMetrics);
+        listeners.orderedStream().forEach(publisher::addListener);
+        publisher.start();
+        return publisher;
+    }
+    
+    /**
+     * Creates the cache access trace recorder if tracing is enabled.
+     * <p>
+     * 如果启用了访问跟踪，则创建缓存访问跟踪记录器bean。
+     *
+     * @param cacheProperties the cache properties configuration
+     *                        <p>
+     *                        缓存属性配置
+     * @return the trace recorder instance
+     *         <p>
+     *         跟踪记录器实例
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "common4j.cache.trace.enabled", havingValue = "true")
+    @ConditionalOnMissingBean
+    public CacheTraceRecorder cacheTraceRecorder(CacheProperties cacheProperties) {
+        CacheProperties.TraceProperties trace = cacheProperties.getTrace();
+        return new CacheTraceRecorder(Path.of(trace.getFile()), trace.getCapacity(), trace.getSampleRate());
+    }
+    
+    /**
+     * Creates the Redis-backed rate limit store if Redisson client is available.
+     * <p>
+     * 如果Redisson客户端可用，则创建基于Redis的限流存储bean。
+     *
+     * @param redissonClient the Redisson client instance
+     *                       <p>
+     *                       Redisson客户端实例
+     * @param cacheProperties the cache properties configuration
+     *                        <p>
+     *                        缓存属性配置
+     * @return the rate limit store instance
+     *         <p>
+     *         限流存储实例
+     */
+    @Bean
+    @ConditionalOnBean(RedissonClient.class)
+    @ConditionalOnMissingBean
+    public RateLimitStore rateLimitStore(RedissonClient redissonClient, CacheProperties cacheProperties) {
+        return new RedissonRateLimitStore(redissonClient, cacheProperties.getRateLimit().getKeyPrefix());
+    }
+    
+    /**
+     * Creates the rate limiter leasing permits in blocks from the rate limit store.
+     * <p>
+     * 创建从限流存储批量租用许可的限流器bean。
+     * <p>
+     * Without Redis the permits are kept in process, which limits each node separately.
+     * <p>
+     * 没有Redis时许可保存在进程内，此时每个节点分别限流。
+     *
+     * @param rateLimitStore the optional rate limit store
+     *                       <p>
+     *                       可选的限流存储
+     * @param cacheProperties the cache properties configuration
+     *                        <p>
+     *                        缓存属性配置
+     * @return the rate limiter instance
+     *         <p>
+     *         限流器实例
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    public LeasedRateLimiter leasedRateLimiter(ObjectProvider<RateLimitStore> rateLimitStore,
+                                               CacheProperties cacheProperties) {
+        CacheProperties.RateLimitProperties rateLimit = cacheProperties.getRateLimit();
+        return new LeasedRateLimiter(rateLimitStore.getIfAvailable(InMemoryRateLimitStore::new),
+            rateLimit.getLeaseSize(), rateLimit.getLeaseTime().toMillis());
+    }
+    
+    /**
+     * Creates the Redis-backed counter store if Redisson client is available.
+     * <p>
+     * 如果Redisson客户端可用，则创建基于Redis的计数器存储bean。
+     *
+     * @param redissonClient the Redisson client instance
+     *                       <p>
+     *                       Redisson客户端实例
+     * @param cacheProperties the cache properties configuration
+     *                        <p>
+     *                        缓存属性配置
+     * @return the counter store instance
+     *         <p>
+     *         计数器存储实例
+     */
+    @Bean
+    @ConditionalOnBean(RedissonClient.class)
+    @ConditionalOnMissingBean
+    public CounterStore counterStore(RedissonClient redissonClient, CacheProperties cacheProperties) {
+        return new RedissonCounterStore(redissonClient, cacheProperties.getCounter().getKeyPrefix());
+    }
+    
+    /**
+     * Creates the coordinator letting one node of the cluster run each preheat task.
+     * <p>
+     * 创建使集群中每个预热任务只由一个节点执行的协调器bean。
+     *
+     * @param redissonClient the Redisson client instance
+     *                       <p>
+     *                       Redisson客户端实例
+     * @param cacheProperties the cache properties configuration
+     *                        <p>
+     *                        缓存属性配置
+     * @return the preheat coordinator instance
+     *         <p>
+     *         预热协调器实例
+     */
+    @Bean
+    @ConditionalOnBean(RedissonClient.class)
+    @ConditionalOnProperty(name = "common4j.cache.preheat.coordinated", havingValue = "true", matchIfMissing = true)
+    @ConditionalOnMissingBean
+    public PreheatCoordinator preheatCoordinator(RedissonClient redissonClient, CacheProperties cacheProperties) {
+        CacheProperties.PreheatProperties preheat = cacheProperties.getPreheat();
+        return new RedissonPreheatCoordinator(redissonClient, preheat.getKeyPrefix(),
+            preheat.getWaitTime(), preheat.getFreshness());
+    }
+    
+    /**
+     * Creates the distributed counter flushing local deltas to the counter store.
+     * <p>
+     * 创建将本地增量刷新到计数器存储的分布式计数器bean。
+     * <p>
+     * Without Redis the totals are kept in process, which counts each node separately.
+     * <p>
+     * 没有Redis时总值保存在进程内，此时每个节点分别计数。
+     *
+     * @param counterStore the optional counter store
+     *                     <p>
+     *                     可选的计数器存储
+     * @param cacheProperties the cache properties configuration
+     *                        <p>
+     *                        缓存属性配置
+     * @return the distributed counter instance
+     *         <p>
+     *         分布式计数器实例
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    public DistributedCounter distributedCounter(ObjectProvider<CounterStore> counterStore,
+                                                 CacheProperties cacheProperties) {
+        CacheProperties.CounterProperties counter = cacheProperties.getCounter();
+        return new DistributedCounter(counterStore.getIfAvailable(InMemoryCounterStore::new),
+            counter.getFlushInterval().toMillis(), counter.isFlushOnShutdown());
+    }
+    
+    /**
+     * Creates the lease on the Snowflake worker ID of this node.
+     * <p>
+     * 创建本节点Snowflake工作节点ID的租约bean。
+     * <p>
+     * Without Redis the worker IDs are leased through file locks, which only separates
+     * the nodes sharing the directory.
+     * <p>
+     * 没有Redis时通过文件锁租用工作节点ID，此时只有共享该目录的节点互不重复。
+     *
+     * @param redissonClient the optional Redisson client
+     *                       <p>
+     *                       可选的Redisson客户端
+     * @param cacheProperties the cache properties configuration
+     *                        <p>
+     *                        缓存属性配置
+     * @return the worker ID lease instance
+     *         <p>
+     *         工作节点ID租约实例
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "common4j.cache.worker-id.enabled", havingValue = "true")
+    @ConditionalOnMissingBean
+    public WorkerIdLease workerIdLease(ObjectProvider<RedissonClient> redissonClient,
+                                       CacheProperties cacheProperties) {
+        CacheProperties.WorkerIdProperties workerId = cacheProperties.getWorkerId();
+        RedissonClient client = redissonClient.getIfAvailable();
+        WorkerIdStore store = client != null
+            ? new RedissonWorkerIdStore(client, workerId.getKeyPrefix())
+            : new FileWorkerIdStore(Path.of(workerId.getDirectory()));
+        WorkerIdLease lease = new WorkerIdLease(store, workerId.getLeaseTime());
+        lease.start();
+        return lease;
+    }
+    
+    /**
+     * Creates the registry of the bulkhead pools.
+     * <p>
+     * 创建舱壁许可池注册表bean。
+     * <p>
+     * Cluster-wide ceilings require a Redisson client; local limits work without one.
+     * <p>
+     * 集群级上限需要Redisson客户端；本地限制无需Redisson客户端。
+     *
+     * @param redissonClient the optional Redisson client
+     *                       <p>
+     *                       可选的Redisson客户端
+     * @param cacheMetrics the optional metrics registry
+     *                     <p>
+     *                     可选的指标注册表
+     * @param cacheProperties the cache properties configuration
+     *                        <p>
+     *                        缓存属性配置
+     * @return the bulkhead registry instance
+     *         <p>
+     *         舱壁注册表实例
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    public BulkheadRegistry bulkheadRegistry(ObjectProvider<RedissonClient> redissonClient,
+                                             ObjectProvider<CacheMetrics> cacheMetrics,
+                                             CacheProperties cacheProperties) {
+        CacheProperties.BulkheadProperties bulkhead = cacheProperties.getBulkhead();
+        return new BulkheadRegistry(redissonClient.getIfAvailable(), cacheMetrics.getIfAvailable(),
+            bulkhead.getKeyPrefix(), bulkhead.getReserveSize(), bulkhead.getLeaseTime().toMillis());
+    }
+    
     /**
      * Creates a Redisson cache manager bean if Redisson client is available
      * and no redisson cache manager is already defined.
@@ -100,15 +433,87 @@ public class CacheAutoConfiguration {
      * @param cacheProperties the cache properties configuration
      *                        <p>
      *                        缓存属性配置
+     * @param eventPublisher the optional cache event publisher
+     *                       <p>
+     *                       可选的缓存事件发布器
      * @return the Redisson cache manager instance
      *         <p>
      *         Redisson缓存管理器实例
      */
-    @Bean
+    @Bean(destroyMethod = "close")
     @ConditionalOnBean(RedissonClient.class)
     @ConditionalOnMissingBean(name = "redissonCacheManager")
-    public CacheManager redissonCacheManager(RedissonClient redissonClient, CacheProperties cacheProperties) {
-        return new RedissonCacheManager(redissonClient, cacheProperties);
+    public CacheManager redissonCacheManager(RedissonClient redissonClient, CacheProperties cacheProperties,
+                                             ObjectProvider<CacheEventPublisher> eventPublisher) {
+        RedissonCacheManager cacheManager = new RedissonCacheManager(redissonClient, cacheProperties);
+        eventPublisher.ifAvailable(cacheManager::setEventPublisher);
+        return cacheManager;
+    }
+    
+    /**
+     * Creates a sharded cache manager bean spreading keys over the configured Redis servers.
+     * <p>
+     * 创建将键分散到已配置Redis服务器上的分片缓存管理器bean。
+     * <p>
+     * When present, it replaces the Redisson cache manager as the distributed tier of the
+     * multi-level cache manager.
+     * <p>
+     * 存在时，它将取代Redisson缓存管理器作为多级缓存管理器的分布式缓存层。
+     *
+     * @param cacheProperties the cache properties configuration
+     *                        <p>
+     *                        缓存属性配置
+     * @param cacheMetrics the cache metrics registry
+     *                     <p>
+     *                     缓存指标注册表
+     * @return the sharded cache manager instance
+     *         <p>
+     *         分片缓存管理器实例
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "common4j.cache.sharding.enabled", havingValue = "true")
+    @ConditionalOnMissingBean
+    public ShardedCacheManager shardedCacheManager(CacheProperties cacheProperties, CacheMetrics cacheMetrics) {
+        return ShardedCacheManager.create(cacheProperties, cacheMetrics);
+    }
+    
+    /**
+     * Creates the cache manager bounding the latency of the distributed tier if resilience is enabled.
+     * <p>
+     * 如果启用了弹性机制，则创建限制分布式缓存层延迟的缓存管理器bean。
+     * <p>
+     * It wraps the sharded cache manager when present, otherwise the Redisson cache manager,
+     * and replaces it as the distributed tier of the multi-level cache manager.
+     * <p>
+     * 它包装存在的分片缓存管理器，否则包装Redisson缓存管理器，并取代其作为多级缓存管理器的分布式缓存层。
+     *
+     * @param redissonCacheManager the Redisson cache manager instance
+     *                             <p>
+     *                             Redisson缓存管理器实例
+     * @param shardedCacheManager the optional sharded cache manager
+     *                            <p>
+     *                            可选的分片缓存管理器
+     * @param cacheProperties the cache properties configuration
+     *                        <p>
+     *                        缓存属性配置
+     * @param cacheMetrics the cache metrics registry
+     *                     <p>
+     *                     缓存指标注册表
+     * @return the resilient cache manager instance
+     *         <p>
+     *         弹性缓存管理器实例
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnBean(RedissonClient.class)
+    @ConditionalOnProperty(name = "common4j.cache.resilience.enabled", havingValue = "true")
+    @ConditionalOnMissingBean
+    public ResilientCacheManager resilientCacheManager(
+            @Qualifier("redissonCacheManager") CacheManager redissonCacheManager,
+            ObjectProvider<ShardedCacheManager> shardedCacheManager,
+            CacheProperties cacheProperties,
+            CacheMetrics cacheMetrics) {
+        ShardedCacheManager sharded = shardedCacheManager.getIfAvailable();
+        return new ResilientCacheManager(sharded != null ? sharded : redissonCacheManager, cacheProperties, cacheMetrics);
     }
     
     /**
@@ -120,6 +525,9 @@ public class CacheAutoConfiguration {
      * @param cacheProperties the cache properties configuration
      *                        <p>
      *                        缓存属性配置
+     * @param eventPublisher the optional cache event publisher
+     *                       <p>
+     *                       可选的缓存事件发布器
      * @return the Caffeine cache manager instance
      *         <p>
      *         Caffeine缓存管理器实例
@@ -127,8 +535,11 @@ public class CacheAutoConfiguration {
     @Bean
     @ConditionalOnClass(name = "com.github.benmanes.caffeine.cache.Caffeine")
     @ConditionalOnMissingBean(name = "caffeineCacheManager")
-    public CacheManager caffeineCacheManager(CacheProperties cacheProperties) {
-        return new CaffeineCacheManager(cacheProperties);
+    public CacheManager caffeineCacheManager(CacheProperties cacheProperties,
+                                             ObjectProvider<CacheEventPublisher> eventPublisher) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(cacheProperties);
+        eventPublisher.ifAvailable(cacheManager::setEventPublisher);
+        return cacheManager;
     }
     
     /**
@@ -146,6 +557,18 @@ public class CacheAutoConfiguration {
      * @param cacheProperties the cache properties configuration
      *                        <p>
      *                        缓存属性配置
+     * @param cacheMetrics the cache metrics registry
+     *                     <p>
+     *                     缓存指标注册表
+     * @param shardedCacheManager the optional sharded cache manager used as the distributed tier
+     *                            <p>
+     *                            用作分布式缓存层的可选分片缓存管理器
+     * @param resilientCacheManager the optional resilient cache manager used as the distributed tier
+     *                              <p>
+     *                              用作分布式缓存层的可选弹性缓存管理器
+     * @param eventPublisher the optional cache event publisher
+     *                       <p>
+     *                       可选的缓存事件发布器
      * @return the multi-level cache manager instance
      *         <p>
      *         多级缓存管理器实例
@@ -158,45 +581,63 @@ public class CacheAutoConfiguration {
     public CacheManager multiLevelCacheManager(
             CacheManager redissonCacheManager,
             CacheManager caffeineCacheManager,
+            CacheProperties cacheProperties,
+            CacheMetrics cacheMetrics,
+            ObjectProvider<ShardedCacheManager> shardedCacheManager,
+            ObjectProvider<ResilientCacheManager> resilientCacheManager,
+            ObjectProvider<CacheEventPublisher> eventPublisher) {
+        // 启用弹性机制时，分布式缓存层的调用受延迟预算和熔断器保护；启用分片时，分布式缓存层由各Redis服务器上的分片组成
+        CacheManager distributedCacheManager = resilientCacheManager.getIfAvailable();
+        if (distributedCacheManager == null) {
+            ShardedCacheManager sharded = shardedCacheManager.getIfAvailable();
+            distributedCacheManager = sharded != null ? sharded : redissonCacheManager;
+        }
+        // 启用租户划分时，每个租户在两级缓存中的条目数都受配额限制
+        CacheManager localCacheManager = caffeineCacheManager;
+        if (cacheProperties.getTenant().isEnabled()) {
+            localCacheManager = TenantCacheManager.local(caffeineCacheManager, cacheProperties, cacheMetrics);
+            distributedCacheManager = TenantCacheManager.distributed(distributedCacheManager, cacheProperties, cacheMetrics);
+        }
+        MultiLevelCacheManager cacheManager =
+                new MultiLevelCacheManager(localCacheManager, distributedCacheManager, cacheProperties);
+        cacheManager.setMetrics(cacheMetrics);
+        eventPublisher.ifAvailable(cacheManager::setEventPublisher);
+        return cacheManager;
+    }
+    
+    /**
+     * Creates a listener warming up the configured multi-level caches once the application is ready.
+     * <p>
+     * 创建在应用就绪后预热已配置多级缓存的监听器。
+     * <p>
+     * The warm-up runs in the background, so the application starts serving requests
+     * while the local caches are being filled.
+     * <p>
+     * 预热在后台执行，应用在填充本地缓存的同时即可开始处理请求。
+     *
+     * @param multiLevelCacheManager the multi-level cache manager instance
+     *                               <p>
+     *                               多级缓存管理器实例
+     * @param cacheProperties the cache properties configuration
+     *                        <p>
+     *                        缓存属性配置
+     * @return the warm-up listener
+     *         <p>
+     *         预热监听器
+     */
+    @Bean
+    @ConditionalOnBean(name = "multiLevelCacheManager")
+    @ConditionalOnProperty(name = "common4j.cache.multi-level.warm-up-on-startup", havingValue = "true")
+    public ApplicationListener<ApplicationReadyEvent> cacheWarmUpListener(
+            @Qualifier("multiLevelCacheManager") CacheManager multiLevelCacheManager,
             CacheProperties cacheProperties) {
-        return new CacheManager() {
-            @Override
-            public Cache getCache(String name) {
-                return new MultiLevelCacheImpl(
-                        caffeineCacheManager.getCache(name),
-                        redissonCacheManager.getCache(name),
-                        cacheProperties
-                );
-            }
-            
-            @Override
-            public CacheType getCacheType() {
-                return CacheType.MULTI_LEVEL;
-            }
-            
-            @Override
-            public Collection<String> getCacheNames() {
-                // 合并两个缓存管理器的缓存名称
-                Set<String> cacheNames = new HashSet<>();
-                cacheNames.addAll(caffeineCacheManager.getCacheNames());
-                cacheNames.addAll(redissonCacheManager.getCacheNames());
-                return cacheNames;
-            }
-            
-            @Override
-            public Cache createCache(String name) {
-                return new MultiLevelCacheImpl(
-                        caffeineCacheManager.createCache(name),
-                        redissonCacheManager.createCache(name),
-                        cacheProperties
-                );
-            }
-            
-            @Override
-            public void destroyCache(String name) {
-                caffeineCacheManager.destroyCache(name);
-                redissonCacheManager.destroyCache(name);
+        return event -> {
+            for (String name : cacheProperties.getMultiLevel().getWarmUpCaches()) {
+                Cache cache = multiLevelCacheManager.getCache(name);
+                if (cache instanceof MultiLevelCache) {
+                    ((MultiLevelCache) cache).syncFromDistributed();
+                }
             }
         };
     }
-}
\ No newline at end of file
+}
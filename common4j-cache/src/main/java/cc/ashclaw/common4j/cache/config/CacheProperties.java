@@ -1,11 +1,18 @@
 package cc.ashclaw.common4j.cache.config;
 
 import cc.ashclaw.common4j.cache.enums.CacheType;
+import cc.ashclaw.common4j.cache.enums.DegradedWritePolicy;
+import cc.ashclaw.common4j.cache.enums.RedisReadMode;
+import cc.ashclaw.common4j.cache.enums.RedisStorageMode;
+import cc.ashclaw.common4j.cache.enums.RedisTopology;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -74,6 +81,13 @@ public class CacheProperties {
      */
     private int avalancheRandomRange = 10;
     
+    /**
+     * The minimum wait for a distributed lock that counts its keys as contended.
+     * <p>
+     * 分布式锁的等待时间不低于此值时，将其键计为争用。
+     */
+    private Duration lockContendedThreshold = Duration.ofMillis(20);
+    
     /**
      * Configuration properties for Redisson distributed caching.
      * <p>
@@ -95,6 +109,76 @@ public class CacheProperties {
      */
     private MultiLevelProperties multiLevel = new MultiLevelProperties();
     
+    /**
+     * Configuration properties for cache access tracing.
+     * <p>
+     * 缓存访问跟踪的配置属性。
+     */
+    private TraceProperties trace = new TraceProperties();
+    
+    /**
+     * Configuration properties for the resilience layer of the distributed tier.
+     * <p>
+     * 分布式缓存层弹性机制的配置属性。
+     */
+    private ResilienceProperties resilience = new ResilienceProperties();
+    
+    /**
+     * Configuration properties for the cache event pipeline.
+     * <p>
+     * 缓存事件管道的配置属性。
+     */
+    private EventProperties events = new EventProperties();
+    
+    /**
+     * Configuration properties for distributed rate limiting.
+     * <p>
+     * 分布式限流的配置属性。
+     */
+    private RateLimitProperties rateLimit = new RateLimitProperties();
+    
+    /**
+     * Distributed counter configuration.
+     * <p>
+     * 分布式计数器配置。
+     */
+    private CounterProperties counter = new CounterProperties();
+    
+    /**
+     * Bulkhead configuration.
+     * <p>
+     * 舱壁配置。
+     */
+    private BulkheadProperties bulkhead = new BulkheadProperties();
+    
+    /**
+     * Client-side sharding configuration.
+     * <p>
+     * 客户端分片配置。
+     */
+    private ShardingProperties sharding = new ShardingProperties();
+    
+    /**
+     * Cluster-coordinated preheat configuration.
+     * <p>
+     * 集群协调预热配置。
+     */
+    private PreheatProperties preheat = new PreheatProperties();
+    
+    /**
+     * Tenant partitioning configuration.
+     * <p>
+     * 租户划分配置。
+     */
+    private TenantProperties tenant = new TenantProperties();
+    
+    /**
+     * Snowflake worker ID leasing configuration.
+     * <p>
+     * Snowflake工作节点ID租约配置。
+     */
+    private WorkerIdProperties workerId = new WorkerIdProperties();
+    
     /**
      * Cache-specific configuration items.
      * <p>
@@ -159,6 +243,14 @@ public class CacheProperties {
         this.avalancheRandomRange = avalancheRandomRange;
     }
 
+    public Duration getLockContendedThreshold() {
+        return lockContendedThreshold;
+    }
+
+    public void setLockContendedThreshold(Duration lockContendedThreshold) {
+        this.lockContendedThreshold = lockContendedThreshold;
+    }
+
     public RedissonProperties getRedisson() {
         return redisson;
     }
@@ -183,6 +275,86 @@ public class CacheProperties {
         this.multiLevel = multiLevel;
     }
 
+    public TraceProperties getTrace() {
+        return trace;
+    }
+
+    public void setTrace(TraceProperties trace) {
+        this.trace = trace;
+    }
+
+    public ResilienceProperties getResilience() {
+        return resilience;
+    }
+
+    public void setResilience(ResilienceProperties resilience) {
+        this.resilience = resilience;
+    }
+
+    public EventProperties getEvents() {
+        return events;
+    }
+
+    public void setEvents(EventProperties events) {
+        this.events = events;
+    }
+
+    public RateLimitProperties getRateLimit() {
+        return rateLimit;
+    }
+
+    public void setRateLimit(RateLimitProperties rateLimit) {
+        this.rateLimit = rateLimit;
+    }
+
+    public CounterProperties getCounter() {
+        return counter;
+    }
+
+    public void setCounter(CounterProperties counter) {
+        this.counter = counter;
+    }
+
+    public BulkheadProperties getBulkhead() {
+        return bulkhead;
+    }
+
+    public void setBulkhead(BulkheadProperties bulkhead) {
+        this.bulkhead = bulkhead;
+    }
+
+    public ShardingProperties getSharding() {
+        return sharding;
+    }
+
+    public void setSharding(ShardingProperties sharding) {
+        this.sharding = sharding;
+    }
+
+    public PreheatProperties getPreheat() {
+        return preheat;
+    }
+
+    public void setPreheat(PreheatProperties preheat) {
+        this.preheat = preheat;
+    }
+
+    public TenantProperties getTenant() {
+        return tenant;
+    }
+
+    public void setTenant(TenantProperties tenant) {
+        this.tenant = tenant;
+    }
+
+    public WorkerIdProperties getWorkerId() {
+        return workerId;
+    }
+
+    public void setWorkerId(WorkerIdProperties workerId) {
+        this.workerId = workerId;
+    }
+
     public Map<String, CacheConfig> getConfigs() {
         return configs;
     }
@@ -199,12 +371,90 @@ public class CacheProperties {
     public static class RedissonProperties {
         
         /**
-         * The Redis server address.
+         * The Redis deployment to connect to.
          * <p>
-         * Redis服务器地址。
+         * 要连接的Redis部署方式。
+         */
+        private RedisTopology topology = RedisTopology.SINGLE;
+        
+        /**
+         * The Redis server address; the master address for {@code MASTER_REPLICA}.
+         * <p>
+         * Redis服务器地址；{@code MASTER_REPLICA} 时为主节点地址。
          */
         private String address = "redis://localhost:6379";
         
+        /**
+         * The replica, sentinel or cluster seed addresses, depending on the topology.
+         * <p>
+         * 副本节点、哨兵或集群种子节点地址，取决于拓扑。
+         */
+        private List<String> nodeAddresses = new ArrayList<>();
+        
+        /**
+         * The master name monitored by the sentinels.
+         * <p>
+         * 哨兵监控的主节点名称。
+         */
+        private String masterName;
+        
+        /**
+         * The nodes reads go to when the topology has replicas.
+         * <p>
+         * 拓扑包含副本节点时读取所使用的节点。
+         */
+        private RedisReadMode readMode = RedisReadMode.MASTER;
+        
+        /**
+         * How long a key written by this node is read from the master before replica reads
+         * resume, or zero to read from the replicas right away.
+         * <p>
+         * 本节点写入的键在恢复从副本读取之前从主节点读取的时长，为0时立即从副本读取。
+         */
+        private Duration maxStaleness = Duration.ofSeconds(1);
+        
+        /**
+         * The maximum number of connections to the master, or to the single server.
+         * <p>
+         * 到主节点或单个服务器的最大连接数。
+         */
+        private int connectionPoolSize = 64;
+        
+        /**
+         * The minimum number of idle connections to the master, or to the single server.
+         * <p>
+         * 到主节点或单个服务器的最小空闲连接数。
+         */
+        private int connectionMinimumIdleSize = 24;
+        
+        /**
+         * The maximum number of connections to each replica.
+         * <p>
+         * 到每个副本节点的最大连接数。
+         */
+        private int replicaConnectionPoolSize = 64;
+        
+        /**
+         * The minimum number of idle connections to each replica.
+         * <p>
+         * 到每个副本节点的最小空闲连接数。
+         */
+        private int replicaConnectionMinimumIdleSize = 24;
+        
+        /**
+         * The number of threads running listeners and callbacks, or zero for the number of cores times two.
+         * <p>
+         * 执行监听器和回调的线程数，为0时使用CPU核数的两倍。
+         */
+        private int threads = 16;
+        
+        /**
+         * The number of Netty event loop threads, or zero for the number of cores times two.
+         * <p>
+         * Netty事件循环线程数，为0时使用CPU核数的两倍。
+         */
+        private int nettyThreads = 32;
+        
         /**
          * The password for Redis authentication.
          * <p>
@@ -232,8 +482,30 @@ public class CacheProperties {
          * Redis操作的命令超时时间。
          */
         private Duration commandTimeout = Duration.ofSeconds(5);
+        
+        /**
+         * How distributed caches lay out their entries in Redis.
+         * <p>
+         * 分布式缓存在Redis中存放条目的方式。
+         */
+        private RedisStorageMode storageMode = RedisStorageMode.MAP;
+        
+        /**
+         * The prefix of the Redis keys written in {@code BUCKET} storage mode.
+         * <p>
+         * {@code BUCKET} 存储方式下写入的Redis键的前缀。
+         */
+        private String keyPrefix = "common4j:cache:";
 
         // Getter and Setter methods
+        public RedisTopology getTopology() {
+            return topology;
+        }
+
+        public void setTopology(RedisTopology topology) {
+            this.topology = topology;
+        }
+
         public String getAddress() {
             return address;
         }
@@ -274,6 +546,102 @@ public class CacheProperties {
             this.commandTimeout = commandTimeout;
         }
 
+        public RedisStorageMode getStorageMode() {
+            return storageMode;
+        }
+
+        public void setStorageMode(RedisStorageMode storageMode) {
+            this.storageMode = storageMode;
+        }
+
+        public String getKeyPrefix() {
+            return keyPrefix;
+        }
+
+        public void setKeyPrefix(String keyPrefix) {
+            this.keyPrefix = keyPrefix;
+        }
+
+        public List<String> getNodeAddresses() {
+            return nodeAddresses;
+        }
+
+        public void setNodeAddresses(List<String> nodeAddresses) {
+            this.nodeAddresses = nodeAddresses;
+        }
+
+        public String getMasterName() {
+            return masterName;
+        }
+
+        public void setMasterName(String masterName) {
+            this.masterName = masterName;
+        }
+
+        public RedisReadMode getReadMode() {
+            return readMode;
+        }
+
+        public void setReadMode(RedisReadMode readMode) {
+            this.readMode = readMode;
+        }
+
+        public Duration getMaxStaleness() {
+            return maxStaleness;
+        }
+
+        public void setMaxStaleness(Duration maxStaleness) {
+            this.maxStaleness = maxStaleness;
+        }
+
+        public int getConnectionPoolSize() {
+            return connectionPoolSize;
+        }
+
+        public void setConnectionPoolSize(int connectionPoolSize) {
+            this.connectionPoolSize = connectionPoolSize;
+        }
+
+        public int getConnectionMinimumIdleSize() {
+            return connectionMinimumIdleSize;
+        }
+
+        public void setConnectionMinimumIdleSize(int connectionMinimumIdleSize) {
+            this.connectionMinimumIdleSize = connectionMinimumIdleSize;
+        }
+
+        public int getReplicaConnectionPoolSize() {
+            return replicaConnectionPoolSize;
+        }
+
+        public void setReplicaConnectionPoolSize(int replicaConnectionPoolSize) {
+            this.replicaConnectionPoolSize = replicaConnectionPoolSize;
+        }
+
+        public int getReplicaConnectionMinimumIdleSize() {
+            return replicaConnectionMinimumIdleSize;
+        }
+
+        public void setReplicaConnectionMinimumIdleSize(int replicaConnectionMinimumIdleSize) {
+            this.replicaConnectionMinimumIdleSize = replicaConnectionMinimumIdleSize;
+        }
+
+        public int getThreads() {
+            return threads;
+        }
+
+        public void setThreads(int threads) {
+            this.threads = threads;
+        }
+
+        public int getNettyThreads() {
+            return nettyThreads;
+        }
+
+        public void setNettyThreads(int nettyThreads) {
+            this.nettyThreads = nettyThreads;
+        }
+
     }
     
     /**
@@ -317,7 +685,21 @@ public class CacheProperties {
          * 是否启用统计收集。
          */
         private boolean statsEnabled = false;
-        
+
+        /**
+         * The maximum number of null value markers kept per local cache, apart from the regular entries.
+         * <p>
+         * 每个本地缓存保存的空值标记的最大数量，与普通条目分开计算。
+         */
+        private long negativeMaximumSize = 10000;
+
+        /**
+         * Configuration properties for the global local cache memory budget.
+         * <p>
+         * 全局本地缓存内存预算的配置属性。
+         */
+        private BudgetProperties budget = new BudgetProperties();
+
         // Getter and Setter methods
         public int getInitialCapacity() {
             return initialCapacity;
@@ -358,44 +740,69 @@ public class CacheProperties {
         public void setStatsEnabled(boolean statsEnabled) {
             this.statsEnabled = statsEnabled;
         }
-        
+
+        public long getNegativeMaximumSize() {
+            return negativeMaximumSize;
+        }
+
+        public void setNegativeMaximumSize(long negativeMaximumSize) {
+            this.negativeMaximumSize = negativeMaximumSize;
+        }
+
+        public BudgetProperties getBudget() {
+            return budget;
+        }
+
+        public void setBudget(BudgetProperties budget) {
+            this.budget = budget;
+        }
+
     }
-    
+
     /**
-     * Configuration properties for multi-level caching.
+     * Configuration properties for the global local cache memory budget.
      * <p>
-     * 多级缓存的配置属性。
+     * 全局本地缓存内存预算的配置属性。
      */
-    public static class MultiLevelProperties {
-        
+    public static class BudgetProperties {
+
         /**
-         * Whether multi-level caching is enabled.
+         * Whether the adaptive budget is enabled.
          * <p>
-         * 是否启用多级缓存。
+         * 是否启用自适应预算。
          */
-        private boolean enabled = true;
-        
+        private boolean enabled = false;
+
         /**
-         * The expiration time for local cache entries.
+         * The total maximum size (or weight, when a weigher is used) shared by all local caches.
+         * A value of 0 means {@code maximumSize} multiplied by the number of caches.
          * <p>
-         * 本地缓存条目的过期时间。
+         * 所有本地缓存共享的总最大容量（使用权重器时为总权重）。
+         * 值为0表示 {@code maximumSize} 乘以缓存数量。
          */
-        private Duration localExpireTime = Duration.ofMinutes(10);
-        
+        private long totalMaximum = 0;
+
         /**
-         * Whether cache synchronization is enabled.
+         * The minimum maximum size kept for every cache.
          * <p>
-         * 是否启用缓存同步。
+         * 每个缓存保留的最小容量上限。
          */
-        private boolean syncEnabled = true;
-        
+        private long minimumPerCache = 100;
+
         /**
-         * The delay time for cache synchronization.
+         * The interval between two rebalancing rounds.
          * <p>
-         * 缓存同步的延迟时间。
+         * 两轮再平衡之间的间隔。
          */
-        private Duration syncDelay = Duration.ofSeconds(1);
-        
+        private Duration rebalanceInterval = Duration.ofMinutes(1);
+
+        /**
+         * The fraction (0-1) of the distance to the target size applied in one round.
+         * <p>
+         * 每轮向目标容量移动的距离比例（0-1）。
+         */
+        private double smoothingFactor = 0.5;
+
         // Getter and Setter methods
         public boolean isEnabled() {
             return enabled;
@@ -405,30 +812,1028 @@ public class CacheProperties {
             this.enabled = enabled;
         }
 
-        public Duration getLocalExpireTime() {
-            return localExpireTime;
+        public long getTotalMaximum() {
+            return totalMaximum;
         }
 
-        public void setLocalExpireTime(Duration localExpireTime) {
-            this.localExpireTime = localExpireTime;
+        public void setTotalMaximum(long totalMaximum) {
+            this.totalMaximum = totalMaximum;
         }
 
-        public boolean isSyncEnabled() {
-            return syncEnabled;
+        public long getMinimumPerCache() {
+            return minimumPerCache;
         }
 
-        public void setSyncEnabled(boolean syncEnabled) {
-            this.syncEnabled = syncEnabled;
+        public void setMinimumPerCache(long minimumPerCache) {
+            this.minimumPerCache = minimumPerCache;
         }
 
-        public Duration getSyncDelay() {
-            return syncDelay;
+        public Duration getRebalanceInterval() {
+            return rebalanceInterval;
         }
 
-        public void setSyncDelay(Duration syncDelay) {
-            this.syncDelay = syncDelay;
+        public void setRebalanceInterval(Duration rebalanceInterval) {
+            this.rebalanceInterval = rebalanceInterval;
         }
-    }
+
+        public double getSmoothingFactor() {
+            return smoothingFactor;
+        }
+
+        public void setSmoothingFactor(double smoothingFactor) {
+            this.smoothingFactor = smoothingFactor;
+        }
+    }
+    
+    /**
+     * Configuration properties for cache access tracing.
+     * <p>
+     * 缓存访问跟踪的配置属性。
+     */
+    public static class TraceProperties {
+
+        /**
+         * Whether access events are recorded to the trace file.
+         * <p>
+         * 是否将访问事件记录到跟踪文件。
+         */
+        private boolean enabled = false;
+
+        /**
+         * The trace file path.
+         * <p>
+         * 跟踪文件路径。
+         */
+        private String file = System.getProperty("java.io.tmpdir") + "/common4j-cache.trace";
+
+        /**
+         * The number of events kept in the ring file.
+         * <p>
+         * 环形文件中保留的事件数。
+         */
+        private int capacity = 1 << 20;
+
+        /**
+         * The key sample rate as a power of two; 1 records every key.
+         * <p>
+         * 键的采样率，必须为2的幂；1表示记录所有键。
+         */
+        private int sampleRate = 1;
+
+        // Getter and Setter methods
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getFile() {
+            return file;
+        }
+
+        public void setFile(String file) {
+            this.file = file;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        public int getSampleRate() {
+            return sampleRate;
+        }
+
+        public void setSampleRate(int sampleRate) {
+            this.sampleRate = sampleRate;
+        }
+    }
+    
+    /**
+     * Configuration properties for the resilience layer of the distributed tier.
+     * <p>
+     * 分布式缓存层弹性机制的配置属性。
+     */
+    public static class ResilienceProperties {
+
+        /**
+         * Whether calls to the distributed tier are protected by a latency budget and a circuit breaker.
+         * <p>
+         * 是否使用延迟预算和熔断器保护对分布式缓存层的调用。
+         */
+        private boolean enabled = false;
+
+        /**
+         * The maximum time a request waits for the distributed tier before falling back.
+         * <p>
+         * 请求在降级前等待分布式缓存层的最长时间。
+         */
+        private Duration latencyBudget = Duration.ofMillis(50);
+
+        /**
+         * The number of recent calls whose outcomes are evaluated.
+         * <p>
+         * 参与评估的最近调用次数。
+         */
+        private int windowSize = 100;
+
+        /**
+         * The minimum number of recorded calls before the breaker may open.
+         * <p>
+         * 熔断器可以打开前需要记录的最少调用次数。
+         */
+        private int minimumCalls = 20;
+
+        /**
+         * The failure rate (percentage) at which the breaker opens; timeouts count as failures.
+         * <p>
+         * 熔断器打开的失败率阈值（百分比），超时计为失败。
+         */
+        private float failureRateThreshold = 50;
+
+        /**
+         * The duration above which a successful call counts as slow.
+         * <p>
+         * 成功调用被视为慢调用的耗时阈值。
+         */
+        private Duration slowCallThreshold = Duration.ofMillis(30);
+
+        /**
+         * The slow call rate (percentage) at which the breaker opens.
+         * <p>
+         * 熔断器打开的慢调用率阈值（百分比）。
+         */
+        private float slowCallRateThreshold = 80;
+
+        /**
+         * How long the breaker stays open before probing the distributed tier.
+         * <p>
+         * 熔断器在探测分布式缓存层之前保持打开的时长。
+         */
+        private Duration openDuration = Duration.ofSeconds(10);
+
+        /**
+         * The number of successful probe calls that close the breaker.
+         * <p>
+         * 关闭熔断器所需的成功探测调用次数。
+         */
+        private int halfOpenProbes = 5;
+
+        /**
+         * How long recently read or written values are kept to be served while degraded.
+         * <p>
+         * 最近读写的值保留多久，用于降级期间返回。
+         */
+        private Duration staleRetention = Duration.ofMinutes(10);
+
+        /**
+         * The maximum number of values kept per cache to be served while degraded.
+         * <p>
+         * 每个缓存为降级期间保留的最大值数量。
+         */
+        private long staleMaximumSize = 10000;
+
+        /**
+         * What happens to writes and evictions while degraded.
+         * <p>
+         * 降级期间写入和清除操作的处理方式。
+         */
+        private DegradedWritePolicy writePolicy = DegradedWritePolicy.QUEUE;
+
+        /**
+         * The maximum number of writes queued per cache while degraded.
+         * <p>
+         * 降级期间每个缓存排队的最大写入数量。
+         */
+        private int writeQueueCapacity = 1000;
+
+        // Getter and Setter methods
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getLatencyBudget() {
+            return latencyBudget;
+        }
+
+        public void setLatencyBudget(Duration latencyBudget) {
+            this.latencyBudget = latencyBudget;
+        }
+
+        public int getWindowSize() {
+            return windowSize;
+        }
+
+        public void setWindowSize(int windowSize) {
+            this.windowSize = windowSize;
+        }
+
+        public int getMinimumCalls() {
+            return minimumCalls;
+        }
+
+        public void setMinimumCalls(int minimumCalls) {
+            this.minimumCalls = minimumCalls;
+        }
+
+        public float getFailureRateThreshold() {
+            return failureRateThreshold;
+        }
+
+        public void setFailureRateThreshold(float failureRateThreshold) {
+            this.failureRateThreshold = failureRateThreshold;
+        }
+
+        public Duration getSlowCallThreshold() {
+            return slowCallThreshold;
+        }
+
+        public void setSlowCallThreshold(Duration slowCallThreshold) {
+            this.slowCallThreshold = slowCallThreshold;
+        }
+
+        public float getSlowCallRateThreshold() {
+            return slowCallRateThreshold;
+        }
+
+        public void setSlowCallRateThreshold(float slowCallRateThreshold) {
+            this.slowCallRateThreshold = slowCallRateThreshold;
+        }
+
+        public Duration getOpenDuration() {
+            return openDuration;
+        }
+
+        public void setOpenDuration(Duration openDuration) {
+            this.openDuration = openDuration;
+        }
+
+        public int getHalfOpenProbes() {
+            return halfOpenProbes;
+        }
+
+        public void setHalfOpenProbes(int halfOpenProbes) {
+            this.halfOpenProbes = halfOpenProbes;
+        }
+
+        public Duration getStaleRetention() {
+            return staleRetention;
+        }
+
+        public void setStaleRetention(Duration staleRetention) {
+            this.staleRetention = staleRetention;
+        }
+
+        public long getStaleMaximumSize() {
+            return staleMaximumSize;
+        }
+
+        public void setStaleMaximumSize(long staleMaximumSize) {
+            this.staleMaximumSize = staleMaximumSize;
+        }
+
+        public DegradedWritePolicy getWritePolicy() {
+            return writePolicy;
+        }
+
+        public void setWritePolicy(DegradedWritePolicy writePolicy) {
+            this.writePolicy = writePolicy;
+        }
+
+        public int getWriteQueueCapacity() {
+            return writeQueueCapacity;
+        }
+
+        public void setWriteQueueCapacity(int writeQueueCapacity) {
+            this.writeQueueCapacity = writeQueueCapacity;
+        }
+    }
+    
+    /**
+     * Configuration properties for the cache event pipeline.
+     * <p>
+     * 缓存事件管道的配置属性。
+     */
+    public static class EventProperties {
+
+        /**
+         * Whether cache events are published to {@code CacheEventListener} beans.
+         * <p>
+         * 是否将缓存事件发布给 {@code CacheEventListener} bean。
+         */
+        private boolean enabled = false;
+
+        /**
+         * The maximum number of undelivered events; further events are dropped.
+         * <p>
+         * 未投递事件的最大数量，超出后新事件被丢弃。
+         */
+        private int queueCapacity = 10000;
+
+        /**
+         * The maximum number of events delivered to a listener at once.
+         * <p>
+         * 一次投递给监听器的最大事件数。
+         */
+        private int batchSize = 256;
+
+        // Getter and Setter methods
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+    }
+    
+    /**
+     * Configuration properties for distributed rate limiting.
+     * <p>
+     * 分布式限流的配置属性。
+     */
+    public static class RateLimitProperties {
+
+        /**
+         * The number of permits a node leases from Redis at once, at most a tenth of the rate.
+         * <p>
+         * 节点一次从Redis租用的许可数，不超过速率的十分之一。
+         */
+        private long leaseSize = 50;
+
+        /**
+         * The time after which unused leased permits are given back.
+         * <p>
+         * 未使用的租用许可被归还前的时间。
+         */
+        private Duration leaseTime = Duration.ofSeconds(1);
+
+        /**
+         * The prefix of the Redis keys holding the permits.
+         * <p>
+         * 保存许可的Redis键前缀。
+         */
+        private String keyPrefix = "common4j:rate-limit:";
+
+        // Getter and Setter methods
+        public long getLeaseSize() {
+            return leaseSize;
+        }
+
+        public void setLeaseSize(long leaseSize) {
+            this.leaseSize = leaseSize;
+        }
+
+        public Duration getLeaseTime() {
+            return leaseTime;
+        }
+
+        public void setLeaseTime(Duration leaseTime) {
+            this.leaseTime = leaseTime;
+        }
+
+        public String getKeyPrefix() {
+            return keyPrefix;
+        }
+
+        public void setKeyPrefix(String keyPrefix) {
+            this.keyPrefix = keyPrefix;
+        }
+    }
+    
+    /**
+     * Configuration properties for distributed counters.
+     * <p>
+     * 分布式计数器的配置属性。
+     */
+    public static class CounterProperties {
+
+        /**
+         * The interval at which local deltas are flushed to Redis.
+         * <p>
+         * 本地增量刷新到Redis的间隔。
+         */
+        private Duration flushInterval = Duration.ofSeconds(1);
+
+        /**
+         * Whether the remaining deltas are flushed on shutdown.
+         * <p>
+         * 关闭时是否刷新剩余的增量。
+         */
+        private boolean flushOnShutdown = true;
+
+        /**
+         * The prefix of the Redis keys holding the counters, also used as their hash tag so that
+         * every flush stays atomic under a cluster topology.
+         * <p>
+         * 保存计数器的Redis键前缀，同时用作其哈希标签，使集群拓扑下每次刷新保持原子性。
+         */
+        private String keyPrefix = "common4j:counter:";
+
+        // Getter and Setter methods
+        public Duration getFlushInterval() {
+            return flushInterval;
+        }
+
+        public void setFlushInterval(Duration flushInterval) {
+            this.flushInterval = flushInterval;
+        }
+
+        public boolean isFlushOnShutdown() {
+            return flushOnShutdown;
+        }
+
+        public void setFlushOnShutdown(boolean flushOnShutdown) {
+            this.flushOnShutdown = flushOnShutdown;
+        }
+
+        public String getKeyPrefix() {
+            return keyPrefix;
+        }
+
+        public void setKeyPrefix(String keyPrefix) {
+            this.keyPrefix = keyPrefix;
+        }
+    }
+    
+    
+    /**
+     * Configuration properties for bulkheads.
+     * <p>
+     * 舱壁的配置属性。
+     */
+    public static class BulkheadProperties {
+
+        /**
+         * The maximum number of idle cluster permits a node keeps per bulkhead.
+         * <p>
+         * 节点为每个舱壁保留的空闲集群许可的最大数量。
+         */
+        private int reserveSize = 4;
+
+        /**
+         * The expiry of the cluster permits, which returns the permits of a crashed node.
+         * <p>
+         * 集群许可的过期时间，用于归还崩溃节点持有的许可。
+         */
+        private Duration leaseTime = Duration.ofSeconds(30);
+
+        /**
+         * The prefix of the Redis keys of the cluster semaphores.
+         * <p>
+         * 集群信号量的Redis键前缀。
+         */
+        private String keyPrefix = "common4j:bulkhead:";
+
+        // Getter and Setter methods
+        public int getReserveSize() {
+            return reserveSize;
+        }
+
+        public void setReserveSize(int reserveSize) {
+            this.reserveSize = reserveSize;
+        }
+
+        public Duration getLeaseTime() {
+            return leaseTime;
+        }
+
+        public void setLeaseTime(Duration leaseTime) {
+            this.leaseTime = leaseTime;
+        }
+
+        public String getKeyPrefix() {
+            return keyPrefix;
+        }
+
+        public void setKeyPrefix(String keyPrefix) {
+            this.keyPrefix = keyPrefix;
+        }
+    }
+    
+    
+    /**
+     * Configuration properties for client-side sharding over independent Redis servers.
+     * <p>
+     * 基于多个独立Redis服务器的客户端分片配置属性。
+     */
+    public static class ShardingProperties {
+
+        /**
+         * Whether the distributed tier is sharded over {@code nodes}.
+         * <p>
+         * 分布式缓存层是否在 {@code nodes} 上分片。
+         */
+        private boolean enabled = false;
+
+        /**
+         * The addresses of the Redis servers, one shard each.
+         * <p>
+         * Redis服务器地址，每个地址一个分片。
+         */
+        private List<String> nodes = new ArrayList<>();
+
+        /**
+         * The number of points each shard takes on the hash ring.
+         * <p>
+         * 每个分片在哈希环上占用的虚拟节点数。
+         */
+        private int virtualNodes = 160;
+
+        // Getter and Setter methods
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public List<String> getNodes() {
+            return nodes;
+        }
+
+        public void setNodes(List<String> nodes) {
+            this.nodes = nodes;
+        }
+
+        public int getVirtualNodes() {
+            return virtualNodes;
+        }
+
+        public void setVirtualNodes(int virtualNodes) {
+            this.virtualNodes = virtualNodes;
+        }
+    }
+    
+    
+    /**
+     * Configuration properties for cluster-coordinated cache preheating.
+     * <p>
+     * 集群协调缓存预热的配置属性。
+     */
+    public static class PreheatProperties {
+
+        /**
+         * Whether only one node of the cluster runs each preheat task when Redis is available.
+         * <p>
+         * Redis可用时是否每个预热任务只由集群中的一个节点执行。
+         */
+        private boolean coordinated = true;
+
+        /**
+         * How long a node waits for the node running a task before skipping it.
+         * <p>
+         * 节点等待正在执行任务的节点的最长时间，超时后跳过该任务。
+         */
+        private Duration waitTime = Duration.ofMinutes(5);
+
+        /**
+         * How long a completed task is not run again by other nodes.
+         * <p>
+         * 已完成的任务在多长时间内不会被其他节点再次执行。
+         */
+        private Duration freshness = Duration.ofMinutes(10);
+
+        /**
+         * The prefix of the Redis keys of the preheat leases.
+         * <p>
+         * 预热租约的Redis键前缀。
+         */
+        private String keyPrefix = "common4j:preheat:";
+
+        // Getter and Setter methods
+        public boolean isCoordinated() {
+            return coordinated;
+        }
+
+        public void setCoordinated(boolean coordinated) {
+            this.coordinated = coordinated;
+        }
+
+        public Duration getWaitTime() {
+            return waitTime;
+        }
+
+        public void setWaitTime(Duration waitTime) {
+            this.waitTime = waitTime;
+        }
+
+        public Duration getFreshness() {
+            return freshness;
+        }
+
+        public void setFreshness(Duration freshness) {
+            this.freshness = freshness;
+        }
+
+        public String getKeyPrefix() {
+            return keyPrefix;
+        }
+
+        public void setKeyPrefix(String keyPrefix) {
+            this.keyPrefix = keyPrefix;
+        }
+    }
+    
+    
+    /**
+     * Configuration properties for tenant partitioning.
+     * <p>
+     * 租户划分的配置属性。
+     */
+    public static class TenantProperties {
+
+        /**
+         * Whether cache keys are partitioned by tenant and tenant quotas are enforced.
+         * <p>
+         * 是否按租户划分缓存键并执行租户配额。
+         */
+        private boolean enabled = false;
+
+        /**
+         * The SpEL expression resolving the tenant from the method invocation; when empty
+         * the tenant is taken from the {@code TenantResolver}.
+         * <p>
+         * 从方法调用中解析租户的SpEL表达式；为空时从 {@code TenantResolver} 获取租户。
+         */
+        private String expression = "";
+
+        /**
+         * The default maximum number of local entries of a tenant in each cache.
+         * <p>
+         * 租户在每个缓存中本地条目的默认最大数量。
+         */
+        private long localQuota = 1000;
+
+        /**
+         * The default maximum number of distributed keys a tenant writes through a node in each cache.
+         * <p>
+         * 租户通过单个节点在每个缓存中写入的分布式键的默认最大数量。
+         */
+        private long distributedQuota = 100_000;
+
+        /**
+         * The quotas of specific tenants, keyed by tenant ID.
+         * <p>
+         * 特定租户的配额，以租户ID为键。
+         */
+        private Map<String, TenantQuota> quotas = new HashMap<>();
+
+        // Getter and Setter methods
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getExpression() {
+            return expression;
+        }
+
+        public void setExpression(String expression) {
+            this.expression = expression;
+        }
+
+        public long getLocalQuota() {
+            return localQuota;
+        }
+
+        public void setLocalQuota(long localQuota) {
+            this.localQuota = localQuota;
+        }
+
+        public long getDistributedQuota() {
+            return distributedQuota;
+        }
+
+        public void setDistributedQuota(long distributedQuota) {
+            this.distributedQuota = distributedQuota;
+        }
+
+        public Map<String, TenantQuota> getQuotas() {
+            return quotas;
+        }
+
+        public void setQuotas(Map<String, TenantQuota> quotas) {
+            this.quotas = quotas;
+        }
+    }
+    
+    
+    /**
+     * Quotas of a specific tenant; unset values fall back to the defaults.
+     * <p>
+     * 特定租户的配额；未设置的值使用默认配额。
+     */
+    public static class TenantQuota {
+
+        /**
+         * The maximum number of local entries of the tenant in each cache.
+         * <p>
+         * 租户在每个缓存中本地条目的最大数量。
+         */
+        private Long local;
+
+        /**
+         * The maximum number of distributed keys the tenant writes through a node in each cache.
+         * <p>
+         * 租户通过单个节点在每个缓存中写入的分布式键的最大数量。
+         */
+        private Long distributed;
+
+        // Getter and Setter methods
+        public Long getLocal() {
+            return local;
+        }
+
+        public void setLocal(Long local) {
+            this.local = local;
+        }
+
+        public Long getDistributed() {
+            return distributed;
+        }
+
+        public void setDistributed(Long distributed) {
+            this.distributed = distributed;
+        }
+    }
+    
+    
+    /**
+     * Configuration properties for Snowflake worker ID leasing.
+     * <p>
+     * Snowflake工作节点ID租约的配置属性。
+     */
+    public static class WorkerIdProperties {
+
+        /**
+         * Whether a worker ID is leased for this node.
+         * <p>
+         * 是否为本节点租用工作节点ID。
+         */
+        private boolean enabled = false;
+
+        /**
+         * How long a worker ID is held without renewal; it is renewed every third of this time.
+         * <p>
+         * 未续约时工作节点ID的持有时长；每隔三分之一该时长续约一次。
+         */
+        private Duration leaseTime = Duration.ofSeconds(30);
+
+        /**
+         * The prefix of the Redis keys holding the leased worker IDs.
+         * <p>
+         * 保存已租用工作节点ID的Redis键前缀。
+         */
+        private String keyPrefix = "common4j:worker-id:";
+
+        /**
+         * The directory of the lock files used when Redis is not available.
+         * <p>
+         * Redis不可用时使用的锁文件目录。
+         */
+        private String directory = Path.of(System.getProperty("java.io.tmpdir"), "common4j-worker-id").toString();
+
+        // Getter and Setter methods
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getLeaseTime() {
+            return leaseTime;
+        }
+
+        public void setLeaseTime(Duration leaseTime) {
+            this.leaseTime = leaseTime;
+        }
+
+        public String getKeyPrefix() {
+            return keyPrefix;
+        }
+
+        public void setKeyPrefix(String keyPrefix) {
+            this.keyPrefix = keyPrefix;
+        }
+
+        public String getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+    }
+    
+    
+    /**
+     * Configuration properties for multi-level caching.
+     * <p>
+     * 多级缓存的配置属性。
+     */
+    public static class MultiLevelProperties {
+        
+        /**
+         * Whether multi-level caching is enabled.
+         * <p>
+         * 是否启用多级缓存。
+         */
+        private boolean enabled = true;
+        
+        /**
+         * The expiration time for local cache entries.
+         * <p>
+         * 本地缓存条目的过期时间。
+         */
+        private Duration localExpireTime = Duration.ofMinutes(10);
+        
+        /**
+         * Whether cache synchronization is enabled.
+         * <p>
+         * 是否启用缓存同步。
+         */
+        private boolean syncEnabled = true;
+        
+        /**
+         * The delay time for cache synchronization.
+         * <p>
+         * 缓存同步的延迟时间。
+         */
+        private Duration syncDelay = Duration.ofSeconds(1);
+        
+        /**
+         * The number of keys fetched from the distributed cache per round trip during warm-up.
+         * <p>
+         * 预热时每次往返从分布式缓存获取的键数量。
+         */
+        private int warmUpBatchSize = 500;
+        
+        /**
+         * The maximum number of entries loaded by a warm-up, most recently written first; 0 loads
+         * every entry. A positive value makes the Redisson caches keep an index of their latest
+         * written keys, at the cost of one asynchronous pipelined write per cache write.
+         * <p>
+         * 预热加载的最大条目数，优先加载最近写入的条目；0表示加载全部条目。
+         * 大于0时Redisson缓存会维护最近写入键的索引，每次缓存写入额外产生一次异步流水线写入。
+         */
+        private int warmUpLimit = 0;
+        
+        /**
+         * Whether the caches in {@link #warmUpCaches} are warmed up once the application is ready.
+         * <p>
+         * 应用就绪后是否预热 {@link #warmUpCaches} 中的缓存。
+         */
+        private boolean warmUpOnStartup = false;
+        
+        /**
+         * The names of the caches warmed up at startup.
+         * <p>
+         * 启动时预热的缓存名称。
+         */
+        private List<String> warmUpCaches = new ArrayList<>();
+        
+        /**
+         * Whether distributed hits are promoted to the local tier only once accessed often enough.
+         * <p>
+         * 分布式缓存命中是否只在访问足够频繁时才提升到本地缓存。
+         */
+        private boolean promotionAdmission = false;
+        
+        /**
+         * The number of promotion attempts after which the admission frequencies age.
+         * <p>
+         * 准入频率衰减前的提升尝试次数。
+         */
+        private int admissionWindow = 100_000;
+        
+        /**
+         * The number of accesses in a window a key needs to be promoted.
+         * <p>
+         * 键在一个窗口内被提升所需的访问次数。
+         */
+        private int admissionMinFrequency = 2;
+        
+        // Getter and Setter methods
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getLocalExpireTime() {
+            return localExpireTime;
+        }
+
+        public void setLocalExpireTime(Duration localExpireTime) {
+            this.localExpireTime = localExpireTime;
+        }
+
+        public boolean isSyncEnabled() {
+            return syncEnabled;
+        }
+
+        public void setSyncEnabled(boolean syncEnabled) {
+            this.syncEnabled = syncEnabled;
+        }
+
+        public Duration getSyncDelay() {
+            return syncDelay;
+        }
+
+        public void setSyncDelay(Duration syncDelay) {
+            this.syncDelay = syncDelay;
+        }
+
+        public int getWarmUpBatchSize() {
+            return warmUpBatchSize;
+        }
+
+        public void setWarmUpBatchSize(int warmUpBatchSize) {
+            this.warmUpBatchSize = warmUpBatchSize;
+        }
+
+        public int getWarmUpLimit() {
+            return warmUpLimit;
+        }
+
+        public void setWarmUpLimit(int warmUpLimit) {
+            this.warmUpLimit = warmUpLimit;
+        }
+
+        public boolean isWarmUpOnStartup() {
+            return warmUpOnStartup;
+        }
+
+        public void setWarmUpOnStartup(boolean warmUpOnStartup) {
+            this.warmUpOnStartup = warmUpOnStartup;
+        }
+
+        public List<String> getWarmUpCaches() {
+            return warmUpCaches;
+        }
+
+        public void setWarmUpCaches(List<String> warmUpCaches) {
+            this.warmUpCaches = warmUpCaches;
+        }
+
+        public boolean isPromotionAdmission() {
+            return promotionAdmission;
+        }
+
+        public void setPromotionAdmission(boolean promotionAdmission) {
+            this.promotionAdmission = promotionAdmission;
+        }
+
+        public int getAdmissionWindow() {
+            return admissionWindow;
+        }
+
+        public void setAdmissionWindow(int admissionWindow) {
+            this.admissionWindow = admissionWindow;
+        }
+
+        public int getAdmissionMinFrequency() {
+            return admissionMinFrequency;
+        }
+
+        public void setAdmissionMinFrequency(int admissionMinFrequency) {
+            this.admissionMinFrequency = admissionMinFrequency;
+        }
+    }
     
     /**
      * Configuration for specific cache instances.
@@ -458,6 +1863,56 @@ public class CacheProperties {
          */
         private Boolean protectionEnabled;
         
+        /**
+         * The idle time after which an entry of this specific cache expires.
+         * Every read resets the idle time, giving sliding expiration.
+         * <p>
+         * 此特定缓存条目的空闲过期时间。每次读取都会重置空闲时间，从而实现滑动过期。
+         */
+        private Duration expireAfterAccess;
+        
+        /**
+         * The latency budget for distributed tier calls of this specific cache.
+         * <p>
+         * 此特定缓存调用分布式缓存层的延迟预算。
+         */
+        private Duration latencyBudget;
+        
+        /**
+         * The value type of this specific cache, used to deserialize entries loaded by warm-up.
+         * <p>
+         * 此特定缓存的值类型，用于反序列化预热加载的条目。
+         */
+        private Class<?> valueType;
+        
+        /**
+         * How this specific cache lays out its entries in Redis.
+         * <p>
+         * 此特定缓存在Redis中存放条目的方式。
+         */
+        private RedisStorageMode storageMode;
+        
+        /**
+         * The nodes this specific cache reads from.
+         * <p>
+         * 此特定缓存读取所使用的节点。
+         */
+        private RedisReadMode readMode;
+        
+        /**
+         * The read-your-writes window of this specific cache for replica reads.
+         * <p>
+         * 此特定缓存从副本读取时的读己所写时间窗口。
+         */
+        private Duration maxStaleness;
+        
+        /**
+         * Whether promotions of this specific cache go through the admission filter.
+         * <p>
+         * 此特定缓存的提升是否经过准入过滤器。
+         */
+        private Boolean promotionAdmission;
+        
         // Getter and Setter methods
         public CacheType getType() {
             return type;
@@ -482,6 +1937,62 @@ public class CacheProperties {
         public void setProtectionEnabled(Boolean protectionEnabled) {
             this.protectionEnabled = protectionEnabled;
         }
+
+        public Duration getExpireAfterAccess() {
+            return expireAfterAccess;
+        }
+
+        public void setExpireAfterAccess(Duration expireAfterAccess) {
+            this.expireAfterAccess = expireAfterAccess;
+        }
+
+        public Duration getLatencyBudget() {
+            return latencyBudget;
+        }
+
+        public void setLatencyBudget(Duration latencyBudget) {
+            this.latencyBudget = latencyBudget;
+        }
+
+        public Class<?> getValueType() {
+            return valueType;
+        }
+
+        public void setValueType(Class<?> valueType) {
+            this.valueType = valueType;
+        }
+
+        public RedisStorageMode getStorageMode() {
+            return storageMode;
+        }
+
+        public void setStorageMode(RedisStorageMode storageMode) {
+            this.storageMode = storageMode;
+        }
+
+        public RedisReadMode getReadMode() {
+            return readMode;
+        }
+
+        public void setReadMode(RedisReadMode readMode) {
+            this.readMode = readMode;
+        }
+
+        public Duration getMaxStaleness() {
+            return maxStaleness;
+        }
+
+        public void setMaxStaleness(Duration maxStaleness) {
+            this.maxStaleness = maxStaleness;
+        }
+
+        public Boolean getPromotionAdmission() {
+            return promotionAdmission;
+        }
+
+        public void setPromotionAdmission(Boolean promotionAdmission) {
+            this.promotionAdmission = promotionAdmission;
+        }
     }
 
 }
\ No newline at end of file
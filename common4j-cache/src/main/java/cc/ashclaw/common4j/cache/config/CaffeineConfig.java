@@ -1,13 +1,12 @@
 package cc.ashclaw.common4j.cache.config;
 
+import cc.ashclaw.common4j.cache.impl.caffeine.CaffeineCacheManager;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.concurrent.TimeUnit;
-
 /**
  * Configuration class for Caffeine cache builder.
  * <p>
@@ -40,24 +39,6 @@ public class CaffeineConfig {
      */
     @Bean
     public Caffeine<Object, Object> caffeineBuilder(CacheProperties cacheProperties) {
-        CacheProperties.CaffeineProperties caffeineProps = cacheProperties.getCaffeine();
-        
-        Caffeine<Object, Object> builder = Caffeine.newBuilder()
-                .initialCapacity(caffeineProps.getInitialCapacity())
-                .maximumSize(caffeineProps.getMaximumSize());
-        
-        if (caffeineProps.getExpireAfterWrite() != null) {
-            builder.expireAfterWrite(caffeineProps.getExpireAfterWrite().toMillis(), TimeUnit.MILLISECONDS);
-        }
-        
-        if (caffeineProps.getExpireAfterAccess() != null) {
-            builder.expireAfterAccess(caffeineProps.getExpireAfterAccess().toMillis(), TimeUnit.MILLISECONDS);
-        }
-        
-        if (caffeineProps.isStatsEnabled()) {
-            builder.recordStats();
-        }
-        
-        return builder;
+        return CaffeineCacheManager.newBuilder(cacheProperties);
     }
 }
\ No newline at end of file
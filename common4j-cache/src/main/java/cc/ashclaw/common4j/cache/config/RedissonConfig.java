@@ -1,9 +1,8 @@
 package cc.ashclaw.common4j.cache.config;
 
+import cc.ashclaw.common4j.cache.impl.redisson.RedissonCacheManager;
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
-import org.redisson.config.Config;
-import org.redisson.config.SingleServerConfig;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -19,6 +18,11 @@ import org.springframework.context.annotation.Configuration;
  * configured with properties from the cache configuration.
  * <p>
  * 此配置类提供一个Redisson客户端bean，使用缓存配置中的属性进行配置。
+ * <p>
+ * The client connects to a single server, a master with replicas, a sentinel-managed
+ * master or a cluster, as set by {@code topology}.
+ * <p>
+ * 客户端根据 {@code topology} 连接单个服务器、带副本的主节点、由哨兵管理的主节点或集群。
  *
  * @author b1itz7
  * @since 1.1.0
@@ -43,20 +47,6 @@ public class RedissonConfig {
     @Bean
     @ConditionalOnMissingBean(RedissonClient.class)
     public RedissonClient redissonClient(CacheProperties cacheProperties) {
-        Config config = new Config();
-        
-        CacheProperties.RedissonProperties redissonProps = cacheProperties.getRedisson();
-        
-        SingleServerConfig singleServerConfig = config.useSingleServer()
-                .setAddress(redissonProps.getAddress())
-                .setDatabase(redissonProps.getDatabase())
-                .setConnectTimeout((int) redissonProps.getConnectionTimeout().toMillis())
-                .setTimeout((int) redissonProps.getCommandTimeout().toMillis());
-        
-        if (redissonProps.getPassword() != null && !redissonProps.getPassword().isEmpty()) {
-            singleServerConfig.setPassword(redissonProps.getPassword());
-        }
-        
-        return Redisson.create(config);
+        return Redisson.create(RedissonCacheManager.newConfig(cacheProperties, cacheProperties.getRedisson().getReadMode()));
     }
 }
\ No newline at end of file
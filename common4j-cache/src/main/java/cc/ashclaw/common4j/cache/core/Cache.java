@@ -1,9 +1,22 @@
 package cc.ashclaw.common4j.cache.core;
 
+import cc.ashclaw.common4j.cache.support.InFlightLoader;
+import cc.ashclaw.common4j.cache.support.NullValue;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Gatherers;
+import java.util.stream.Stream;
 
 /**
  * Cache interface definition for common cache operations.
@@ -63,6 +76,41 @@ public interface Cache {
      */
     <T> T get(Object key, Class<T> type);
     
+    /**
+     * Gets the value for the specified key as a possibly generic type, keeping the null marker.
+     * <p>
+     * 以可能为泛型的类型获取指定键的值，并保留空值标记。
+     * <p>
+     * Serialized values are read straight into the given type, such as the generic return
+     * type of a cached method, instead of into maps. A key known not to exist yields
+     * {@link cc.ashclaw.common4j.cache.support.NullValue#INSTANCE}, so callers can tell it
+     * apart from a miss.
+     * <p>
+     * 序列化的值直接读取为给定类型（例如被缓存方法的泛型返回类型），而不是映射。
+     * 已知不存在的键返回 {@link cc.ashclaw.common4j.cache.support.NullValue#INSTANCE}，调用方可据此与未命中相区分。
+     * <p>
+     * The default implementation reads the value as the raw class of the type, so type
+     * arguments are lost and a key known not to exist reads as a miss.
+     * <p>
+     * 默认实现按类型的原始类读取值，因此类型参数会丢失，已知不存在的键被视为未命中。
+     *
+     * @param key the key whose associated value is to be returned
+     *            <p>
+     *            要返回其关联值的键
+     * @param type the type of the value to be returned
+     *             <p>
+     *             要返回的值的类型
+     * @return the value, the null marker, or {@code null} if the cache contains no mapping for the key
+     *         <p>
+     *         值、空值标记，如果缓存不包含该键的映射则返回 {@code null}
+     */
+    default Object get(Object key, Type type) {
+        Class<?> rawType = type instanceof ParameterizedType parameterized
+            ? (Class<?>) parameterized.getRawType()
+            : type instanceof Class<?> clazz ? clazz : Object.class;
+        return get(key, rawType);
+    }
+    
     /**
      * Gets the value from the cache for the specified key, loading it via
      * the {@code valueLoader} if no value is present.
@@ -84,6 +132,111 @@ public interface Cache {
      */
     <T> T get(Object key, Callable<T> valueLoader);
     
+    /**
+     * Gets the value for the specified key and resets its time to live in a single operation.
+     * <p>
+     * 在一次操作中获取指定键的值并重置其存活时间。
+     * <p>
+     * This is the building block of sliding expiration: implementations backed by a
+     * remote store perform the read and the expiration update in one round trip.
+     * <p>
+     * 这是滑动过期的基础操作：基于远程存储的实现在一次网络往返中完成读取和过期时间更新。
+     * <p>
+     * The default implementation reads the value and then updates its expiration.
+     * <p>
+     * 默认实现先读取值，再更新其过期时间。
+     *
+     * @param key the key whose associated value is to be returned
+     *            <p>
+     *            要返回其关联值的键
+     * @param type the type of the value to be returned
+     *             <p>
+     *             要返回的值的类型
+     * @param timeout the new time to live measured from now
+     *                <p>
+     *                从现在开始计算的新存活时间
+     * @param unit the time unit of the timeout
+     *             <p>
+     *             超时时间单位
+     * @param <T> the type of the value
+     *            <p>
+     *            值的类型
+     * @return the value to which the specified key is mapped, or {@code null}
+     *         if the cache contains no mapping for the key
+     *         <p>
+     *         指定键映射的值，如果缓存不包含该键的映射，则返回 {@code null}
+     */
+    default <T> T getAndTouch(Object key, Class<T> type, long timeout, TimeUnit unit) {
+        T value = get(key, type);
+        if (value != null) {
+            expire(key, timeout, unit);
+        }
+        return value;
+    }
+    
+    /**
+     * Gets the values for the specified keys, loading all misses with one bulk call.
+     * <p>
+     * 获取指定键的值，所有未命中的键通过一次批量调用加载。
+     * <p>
+     * Present values are read with {@link #multiGet(Collection, Class)} as the given type
+     * and loaded values are written back with {@link #multiPut(Map)}. Keys cached as
+     * {@link NullValue} are neither loaded nor returned. Concurrent callers asking for
+     * overlapping keys share the loads already in flight, so each missing key is loaded once.
+     * <p>
+     * 已存在的值通过 {@link #multiGet(Collection, Class)} 按给定类型读取，加载到的值通过
+     * {@link #multiPut(Map)} 写回。缓存为 {@link NullValue} 的键既不加载也不返回。
+     * 请求重叠键的并发调用方共享进行中的加载，每个缺失的键只加载一次。
+     *
+     * @param keys the keys whose values are to be returned
+     *             <p>
+     *             要返回其值的键
+     * @param type the type of the values
+     *             <p>
+     *             值的类型
+     * @param bulkLoader the function loading the values of the missing keys
+     *                   <p>
+     *                   加载缺失键的值的函数
+     * @param <K> the type of the keys
+     *            <p>
+     *            键的类型
+     * @param <V> the type of the values
+     *            <p>
+     *            值的类型
+     * @return a map of the keys to their values; keys without a value are absent
+     *         <p>
+     *         键到值的映射，没有值的键不包含在结果中
+     */
+    default <K, V> Map<K, V> getAll(Collection<K> keys, Class<V> type, Function<Set<K>, Map<K, V>> bulkLoader) {
+        Map<Object, V> cached = multiGet(keys, type);
+
+        Map<K, V> result = new HashMap<>();
+        Set<K> missing = new LinkedHashSet<>();
+        for (K key : keys) {
+            if (!cached.containsKey(key)) {
+                missing.add(key);
+                continue;
+            }
+            // 已知不存在的键不参与加载，也不出现在结果中
+            V value = cached.get(key);
+            if (value != null && !NullValue.isNull(value)) {
+                result.put(key, value);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            result.putAll(InFlightLoader.of(this).load(missing, toLoad -> {
+                Map<K, V> loaded = bulkLoader.apply(toLoad);
+                if (loaded != null && !loaded.isEmpty()) {
+                    multiPut(loaded);
+                }
+                return loaded;
+            }));
+        }
+
+        return result;
+    }
+    
     /**
      * Associates the specified value with the specified key in the cache.
      * <p>
@@ -164,6 +317,52 @@ public interface Cache {
      */
     boolean putIfAbsent(Object key, Object value, long timeout, TimeUnit unit);
     
+    /**
+     * Atomically replaces the value of a key with the result of the remapping function.
+     * <p>
+     * 使用重映射函数的结果原子地替换键的值。
+     * <p>
+     * The current value is the version: the new value is only written if the entry still
+     * holds the value the function was applied to, otherwise the function is applied again
+     * to the fresh value. Concurrent read-modify-write updates of the same key are therefore
+     * never lost, without holding a distributed lock. The function may run more than once
+     * and must be free of side effects. A {@code null} result evicts the entry; a new entry
+     * gets the default expiration, an updated entry keeps its remaining one.
+     * <p>
+     * 当前值即版本：只有当条目仍为函数所基于的值时才写入新值，否则基于最新值重新执行函数。
+     * 因此同一键的并发读-改-写更新不会丢失，且无需持有分布式锁。函数可能执行多次，不能有副作用。
+     * 函数返回 {@code null} 时移除条目；新建的条目使用默认过期时间，更新的条目保留其剩余过期时间。
+     * <p>
+     * There is no generic way to compare and set, so the default implementation throws
+     * {@link UnsupportedOperationException}.
+     * <p>
+     * 不存在通用的比较并交换方式，因此默认实现抛出 {@link UnsupportedOperationException}。
+     *
+     * @param key the key whose value is updated
+     *            <p>
+     *            要更新值的键
+     * @param type the type of the value
+     *             <p>
+     *             值的类型
+     * @param remappingFunction the function computing the new value from the current one,
+     *                          which is {@code null} if the key is absent
+     *                          <p>
+     *                          根据当前值计算新值的函数，键不存在时当前值为 {@code null}
+     * @param <T> the type of the value
+     *            <p>
+     *            值的类型
+     * @return the new value, or {@code null} if the entry was evicted
+     *         <p>
+     *         新值；如果条目被移除则返回 {@code null}
+     * @throws cc.ashclaw.common4j.cache.exception.CacheException if the update kept conflicting
+     *                                                             with concurrent writes
+     *                                                             <p>
+     *                                                             如果更新持续与并发写入冲突
+     */
+    default <T> T compute(Object key, Class<T> type, UnaryOperator<T> remappingFunction) {
+        throw new UnsupportedOperationException("缓存不支持原子更新: " + getName());
+    }
+    
     /**
      * Evicts the mapping for a key from the cache if it is present.
      * <p>
@@ -197,6 +396,13 @@ public interface Cache {
      * Gets multiple values from the cache for the specified keys.
      * <p>
      * 从缓存中获取指定键的多个值。
+     * <p>
+     * Keys cached as {@link cc.ashclaw.common4j.cache.support.NullValue} are present in
+     * the result with a {@code null} value, or with the marker when {@code type} is
+     * {@code Object.class}, so that they can be told apart from misses.
+     * <p>
+     * 缓存为 {@link cc.ashclaw.common4j.cache.support.NullValue} 的键在结果中以 {@code null} 值出现，
+     * 当 {@code type} 为 {@code Object.class} 时则以标记出现，以便与未命中区分。
      *
      * @param keys the keys whose associated values are to be returned
      *             <p>
@@ -320,4 +526,102 @@ public interface Cache {
      *         缓存中键值映射的数量
      */
     long size();
-}
\ No newline at end of file
+    
+    /**
+     * Gets the most recently written keys, most recent first.
+     * <p>
+     * 获取最近写入的键，最近写入的排在前面。
+     * <p>
+     * A cache that does not track the write order returns an empty list, and callers fall
+     * back to {@link #keys(String, int)}, which has no order. The default implementation
+     * tracks nothing.
+     * <p>
+     * 不跟踪写入顺序的缓存返回空列表，调用方此时退回无顺序的 {@link #keys(String, int)}。
+     * 默认实现不跟踪写入顺序。
+     *
+     * @param limit the maximum number of keys
+     *              <p>
+     *              最大键数量
+     * @return the most recently written keys, or an empty list if the write order is not tracked
+     *         <p>
+     *         最近写入的键，不跟踪写入顺序时返回空列表
+     */
+    default List<Object> recentKeys(int limit) {
+        return List.of();
+    }
+    
+    /**
+     * Streams the keys of the cache, fetching them lazily in pages.
+     * <p>
+     * 以流的形式分页懒加载缓存的键。
+     * <p>
+     * Only one page is held in memory at a time and the next page is fetched when the
+     * stream consumer asks for it, so memory use does not grow with the size of the cache.
+     * Iteration is weakly consistent: entries written or removed while the stream is
+     * consumed may or may not be seen, and keys cached as
+     * {@link cc.ashclaw.common4j.cache.support.NullValue} may be included.
+     * <p>
+     * 内存中每次只保留一页，消费方请求时才获取下一页，因此内存占用不随缓存大小增长。
+     * 遍历是弱一致的：消费期间写入或删除的条目可能可见也可能不可见，
+     * 缓存为 {@link cc.ashclaw.common4j.cache.support.NullValue} 的键可能包含在内。
+     * <p>
+     * There is no generic way to enumerate the keys, so the default implementation throws
+     * {@link UnsupportedOperationException}.
+     * <p>
+     * 不存在通用的键遍历方式，因此默认实现抛出 {@link UnsupportedOperationException}。
+     *
+     * @param pattern the glob pattern the keys must match, or {@code null} for every key;
+     *                see {@link cc.ashclaw.common4j.cache.support.KeyPattern}
+     *                <p>
+     *                键须匹配的通配符模式，为 {@code null} 时返回所有键，
+     *                参见 {@link cc.ashclaw.common4j.cache.support.KeyPattern}
+     * @param batchSize the number of keys fetched per page
+     *                  <p>
+     *                  每页获取的键数量
+     * @return a lazily populated stream of keys
+     *         <p>
+     *         懒加载的键流
+     */
+    default Stream<Object> keys(String pattern, int batchSize) {
+        throw new UnsupportedOperationException("缓存不支持遍历键: " + getName());
+    }
+    
+    /**
+     * Streams the entries of the cache, fetching them lazily in pages.
+     * <p>
+     * 以流的形式分页懒加载缓存的条目。
+     * <p>
+     * Paging and consistency are the same as for {@link #keys(String, int)}. Keys cached
+     * as {@link cc.ashclaw.common4j.cache.support.NullValue} are skipped.
+     * <p>
+     * 分页和一致性与 {@link #keys(String, int)} 相同。缓存为
+     * {@link cc.ashclaw.common4j.cache.support.NullValue} 的键会被跳过。
+     * <p>
+     * The default implementation reads each page of {@link #keys(String, int)} with
+     * {@link #multiGet(Collection, Class)}.
+     * <p>
+     * 默认实现通过 {@link #multiGet(Collection, Class)} 读取 {@link #keys(String, int)} 的每一页。
+     *
+     * @param pattern the glob pattern the keys must match, or {@code null} for every key
+     *                <p>
+     *                键须匹配的通配符模式，为 {@code null} 时返回所有条目
+     * @param batchSize the number of entries fetched per page
+     *                  <p>
+     *                  每页获取的条目数量
+     * @param type the type of the values
+     *             <p>
+     *             值的类型
+     * @param <T> the type of the values
+     *            <p>
+     *            值的类型
+     * @return a lazily populated stream of entries
+     *         <p>
+     *         懒加载的条目流
+     */
+    default <T> Stream<Map.Entry<Object, T>> entries(String pattern, int batchSize, Class<T> type) {
+        return keys(pattern, batchSize)
+            .gather(Gatherers.windowFixed(batchSize))
+            .flatMap(page -> multiGet(page, type).entrySet().stream())
+            .filter(entry -> entry.getValue() != null && !NullValue.isNull(entry.getValue()));
+    }
+}
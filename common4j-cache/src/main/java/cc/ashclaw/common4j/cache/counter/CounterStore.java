@@ -0,0 +1,75 @@
+package cc.ashclaw.common4j.cache.counter;
+
+import java.util.Map;
+
+/**
+ * Shared store holding the totals of distributed counters.
+ * <p>
+ * 保存分布式计数器总值的共享存储。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public interface CounterStore {
+
+    /**
+     * Adds a batch of deltas in one round trip, atomically with recording its id.
+     * <p>
+     * 在一次往返中累加一批增量，并原子地记录其标识。
+     * <p>
+     * Either all deltas are applied and the id is recorded, or nothing is, so that a batch
+     * whose outcome is unknown can be checked with {@link #contains(String)} before it is sent again.
+     * <p>
+     * 要么全部增量生效并记录标识，要么都不生效，因此结果未知的批次可以在重新发送前通过 {@link #contains(String)} 检查。
+     *
+     * @param batchId the unique id of the batch
+     *                <p>
+     *                批次的唯一标识
+     * @param deltas the deltas keyed by counter name
+     *               <p>
+     *               以计数器名称为键的增量
+     */
+    void add(String batchId, Map<String, Long> deltas);
+
+    /**
+     * Checks whether a batch has been applied.
+     * <p>
+     * 检查批次是否已生效。
+     *
+     * @param batchId the id of the batch
+     *                <p>
+     *                批次的标识
+     * @return {@code true} if the batch has been applied
+     *         <p>
+     *         批次已生效时返回 {@code true}
+     */
+    boolean contains(String batchId);
+
+    /**
+     * Gets the total of a counter.
+     * <p>
+     * 获取计数器的总值。
+     *
+     * @param key the counter name
+     *            <p>
+     *            计数器名称
+     * @return the total, 0 if the counter does not exist
+     *         <p>
+     *         总值，计数器不存在时为0
+     */
+    long get(String key);
+
+    /**
+     * Sets the total of a counter.
+     * <p>
+     * 设置计数器的总值。
+     *
+     * @param key the counter name
+     *            <p>
+     *            计数器名称
+     * @param value the new total
+     *              <p>
+     *              新的总值
+     */
+    void set(String key, long value);
+}
@@ -0,0 +1,264 @@
+package cc.ashclaw.common4j.cache.counter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Counters aggregated locally in striped cells and flushed to a shared store in batches.
+ * <p>
+ * 在本地分段单元中聚合、并批量刷新到共享存储的计数器。
+ * <p>
+ * An increment only touches a {@link LongAdder} cell of the current node, so it never
+ * waits for Redis and scales with the number of threads. The accumulated deltas of all
+ * counters are sent to the {@link CounterStore} in one batch per flush. Reads on this
+ * node add the deltas not flushed yet to the stored total, so a node always sees its own
+ * increments; increments of other nodes become visible after their next flush.
+ * <p>
+ * Every flush is sent with a unique batch id. If the store call fails, the batch may
+ * still have been applied, so it is not merged back into the local deltas; the next
+ * flush asks the store whether the batch id was applied and sends it again only if not.
+ * Counters without deltas are dropped from the local map at a flush.
+ * <p>
+ * 每次累加只修改当前节点的 {@link LongAdder} 单元，不等待Redis，并随线程数扩展。
+ * 每次刷新将所有计数器累积的增量作为一批发送到 {@link CounterStore}。
+ * 本节点读取时会把尚未刷新的增量加到存储的总值上，因此节点总能看到自己的累加；其他节点的累加在其下次刷新后可见。
+ * <p>
+ * 每次刷新使用唯一的批次标识发送。存储调用失败时批次仍可能已生效，因此不会合并回本地增量；
+ * 下次刷新时先向存储确认该批次是否已生效，仅在未生效时重新发送。没有增量的计数器在刷新时从本地映射中移除。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class DistributedCounter implements AutoCloseable {
+
+    private final CounterStore store;
+    private final boolean flushOnClose;
+    private final Map<String, LongAdder> pending = new ConcurrentHashMap<>();
+    private Map<String, LongAdder> idle = new HashMap<>();
+    private volatile Batch unconfirmed;
+    private final ReadWriteLock flushLock = new ReentrantReadWriteLock();
+    private final ScheduledExecutorService flusher;
+
+    /**
+     * Constructs a new DistributedCounter flushed only on demand.
+     * <p>
+     * 构造一个仅在调用时刷新的新DistributedCounter。
+     *
+     * @param store the shared counter store
+     *              <p>
+     *              共享计数器存储
+     */
+    public DistributedCounter(CounterStore store) {
+        this.store = store;
+        this.flushOnClose = true;
+        this.flusher = null;
+    }
+
+    /**
+     * Constructs a new DistributedCounter flushing in the background.
+     * <p>
+     * 构造一个在后台定期刷新的新DistributedCounter。
+     *
+     * @param store the shared counter store
+     *              <p>
+     *              共享计数器存储
+     * @param flushMillis the flush interval in milliseconds
+     *                    <p>
+     *                    刷新间隔（毫秒）
+     * @param flushOnClose whether the remaining deltas are flushed when the counter is closed
+     *                     <p>
+     *                     关闭时是否刷新剩余的增量
+     */
+    public DistributedCounter(CounterStore store, long flushMillis, boolean flushOnClose) {
+        if (flushMillis <= 0) {
+            throw new IllegalArgumentException("Flush interval must be positive");
+        }
+        this.store = store;
+        this.flushOnClose = flushOnClose;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "common4j-counter-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flusher.scheduleWithFixedDelay(this::flushQuietly, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Increments a counter by one.
+     * <p>
+     * 将计数器加一。
+     *
+     * @param key the counter name
+     *            <p>
+     *            计数器名称
+     */
+    public void increment(String key) {
+        add(key, 1);
+    }
+
+    /**
+     * Adds a delta to a counter.
+     * <p>
+     * 为计数器累加增量。
+     *
+     * @param key the counter name
+     *            <p>
+     *            计数器名称
+     * @param delta the delta, may be negative
+     *              <p>
+     *              增量，可以为负数
+     */
+    public void add(String key, long delta) {
+        LongAdder cell = pending.get(key);
+        if (cell == null) {
+            cell = pending.computeIfAbsent(key, k -> new LongAdder());
+        }
+        cell.add(delta);
+    }
+
+    /**
+     * Gets the total of a counter including the deltas of this node not flushed yet.
+     * <p>
+     * 获取计数器的总值，包含本节点尚未刷新的增量。
+     *
+     * @param key the counter name
+     *            <p>
+     *            计数器名称
+     * @return the total
+     *         <p>
+     *         总值
+     */
+    public long get(String key) {
+        // 读锁保证增量要么仍在本地、要么已计入存储，不会被重复或遗漏计算
+        flushLock.readLock().lock();
+        try {
+            return store.get(key) + getUnflushed(key);
+        } finally {
+            flushLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the deltas of this node not flushed yet.
+     * <p>
+     * 获取本节点尚未刷新的增量。
+     *
+     * @param key the counter name
+     *            <p>
+     *            计数器名称
+     * @return the unflushed delta
+     *         <p>
+     *         未刷新的增量
+     */
+    public long getUnflushed(String key) {
+        LongAdder cell = pending.get(key);
+        long unflushed = cell == null ? 0L : cell.sum();
+        Batch batch = unconfirmed;
+        return batch == null ? unflushed : unflushed + batch.deltas().getOrDefault(key, 0L);
+    }
+
+    /**
+     * Sends the accumulated deltas of every counter to the store in one batch.
+     * <p>
+     * 将所有计数器累积的增量作为一批发送到存储。
+     * <p>
+     * If the store fails, the batch is kept locally and sent again with the next flush
+     * unless the store reports that it was applied after all.
+     * <p>
+     * 如果存储失败，批次保留在本地，并在下次刷新时重新发送，除非存储确认其实际已生效。
+     *
+     * @return the number of counters flushed
+     *         <p>
+     *         刷新的计数器数量
+     */
+    public int flush() {
+        flushLock.writeLock().lock();
+        try {
+            Batch batch = unconfirmed;
+            if (batch != null) {
+                // 结果未知的批次可能已生效，确认未生效后才重新发送
+                if (!store.contains(batch.id())) {
+                    store.add(batch.id(), batch.deltas());
+                }
+                unconfirmed = null;
+            }
+
+            Map<String, Long> deltas = new HashMap<>();
+            // 上次刷新移除的单元可能仍收到了移除前取得引用的线程的累加
+            idle.forEach((key, cell) -> collect(deltas, key, cell.sumThenReset()));
+            idle = new HashMap<>();
+            for (Map.Entry<String, LongAdder> entry : pending.entrySet()) {
+                long delta = entry.getValue().sumThenReset();
+                if (delta != 0) {
+                    collect(deltas, entry.getKey(), delta);
+                } else if (pending.remove(entry.getKey(), entry.getValue())) {
+                    idle.put(entry.getKey(), entry.getValue());
+                }
+            }
+            if (deltas.isEmpty()) {
+                return 0;
+            }
+
+            batch = new Batch(UUID.randomUUID().toString(), deltas);
+            try {
+                store.add(batch.id(), batch.deltas());
+            } catch (RuntimeException e) {
+                unconfirmed = batch;
+                throw e;
+            }
+            return deltas.size();
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Stops the background flushing and, if enabled, flushes the remaining deltas.
+     * <p>
+     * 停止后台刷新，并在启用时刷新剩余的增量。
+     */
+    @Override
+    public void close() {
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (flushOnClose) {
+            flush();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            // 增量已保留在本地，下次刷新时重试；异常不能抛出，否则定时任务会被取消
+        }
+    }
+
+    private static void collect(Map<String, Long> deltas, String key, long delta) {
+        if (delta != 0) {
+            deltas.merge(key, delta, Long::sum);
+        }
+    }
+
+    /**
+     * Deltas sent to the store under one batch id.
+     * <p>
+     * 以同一批次标识发送到存储的增量。
+     */
+    private record Batch(String id, Map<String, Long> deltas) {
+    }
+}
@@ -0,0 +1,44 @@
+package cc.ashclaw.common4j.cache.counter;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process counter store, used when no Redis is available and in tests.
+ * <p>
+ * 进程内的计数器存储，在没有Redis时以及测试中使用。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class InMemoryCounterStore implements CounterStore {
+
+    private final Map<String, AtomicLong> totals = new ConcurrentHashMap<>();
+    private final Set<String> batches = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public synchronized void add(String batchId, Map<String, Long> deltas) {
+        for (Map.Entry<String, Long> entry : deltas.entrySet()) {
+            totals.computeIfAbsent(entry.getKey(), key -> new AtomicLong()).addAndGet(entry.getValue());
+        }
+        batches.add(batchId);
+    }
+
+    @Override
+    public boolean contains(String batchId) {
+        return batches.contains(batchId);
+    }
+
+    @Override
+    public long get(String key) {
+        AtomicLong total = totals.get(key);
+        return total == null ? 0L : total.get();
+    }
+
+    @Override
+    public void set(String key, long value) {
+        totals.computeIfAbsent(key, k -> new AtomicLong()).set(value);
+    }
+}
@@ -0,0 +1,99 @@
+package cc.ashclaw.common4j.cache.counter;
+
+import org.redisson.api.BatchOptions;
+import org.redisson.api.RBatch;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Counter store keeping each counter in a Redis {@code RAtomicLong}.
+ * <p>
+ * 将每个计数器保存在Redis {@code RAtomicLong} 中的计数器存储。
+ * <p>
+ * A batch of deltas is sent as one atomic {@code RBatch} ({@code MULTI}/{@code EXEC}), so a flush
+ * costs a single round trip however many counters changed. The batch also writes a marker key
+ * for its id, which tells afterwards whether a batch that timed out was applied.
+ * <p>
+ * 一批增量通过一个原子的 {@code RBatch}（{@code MULTI}/{@code EXEC}）发送，因此无论多少计数器发生变化，
+ * 一次刷新只需一次往返。该批次同时写入以其标识命名的标记键，事后可据此判断超时的批次是否已生效。
+ * <p>
+ * {@code MULTI}/{@code EXEC} is only atomic within one cluster slot, so the key prefix is
+ * used as a hash tag: the counters and the batch markers of a store all live in the same
+ * slot. Under a cluster topology they are therefore served by a single master, which the
+ * locally aggregated flushes keep lightly loaded. A prefix that already contains a hash tag
+ * is used as is.
+ * <p>
+ * {@code MULTI}/{@code EXEC} 仅在同一集群槽位内是原子的，因此键前缀被用作哈希标签：
+ * 同一存储的计数器和批次标记都位于同一槽位。集群拓扑下它们因此由同一个主节点承载，
+ * 而本地聚合后的刷新使该节点的负载保持较低。已包含哈希标签的前缀按原样使用。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class RedissonCounterStore implements CounterStore {
+
+    /**
+     * How long the marker of an applied batch is kept.
+     * <p>
+     * 已生效批次的标记保留时间。
+     */
+    private static final Duration BATCH_MARKER_TTL = Duration.ofDays(1);
+
+    private final RedissonClient redissonClient;
+    private final String keyPrefix;
+
+    /**
+     * Constructs a new RedissonCounterStore.
+     * <p>
+     * 构造一个新的RedissonCounterStore。
+     *
+     * @param redissonClient the Redisson client instance
+     *                       <p>
+     *                       Redisson客户端实例
+     * @param keyPrefix the prefix of the Redis keys, used as their hash tag
+     *                  <p>
+     *                  Redis键的前缀，同时用作其哈希标签
+     */
+    public RedissonCounterStore(RedissonClient redissonClient, String keyPrefix) {
+        this.redissonClient = redissonClient;
+        // 计数器与批次标记共用一个哈希标签，集群模式下原子批次才不会跨槽位
+        this.keyPrefix = keyPrefix.contains("{") ? keyPrefix : "{" + keyPrefix + "}";
+    }
+
+    @Override
+    public void add(String batchId, Map<String, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        RBatch batch = redissonClient.createBatch(BatchOptions.defaults()
+            .executionMode(BatchOptions.ExecutionMode.IN_MEMORY_ATOMIC)
+            .retryAttempts(0));
+        for (Map.Entry<String, Long> entry : deltas.entrySet()) {
+            batch.getAtomicLong(keyPrefix + entry.getKey()).addAndGetAsync(entry.getValue());
+        }
+        batch.<String>getBucket(markerKey(batchId), StringCodec.INSTANCE).setAsync("1", BATCH_MARKER_TTL);
+        batch.execute();
+    }
+
+    @Override
+    public boolean contains(String batchId) {
+        return redissonClient.getBucket(markerKey(batchId), StringCodec.INSTANCE).isExists();
+    }
+
+    @Override
+    public long get(String key) {
+        return redissonClient.getAtomicLong(keyPrefix + key).get();
+    }
+
+    @Override
+    public void set(String key, long value) {
+        redissonClient.getAtomicLong(keyPrefix + key).set(value);
+    }
+
+    private String markerKey(String batchId) {
+        return keyPrefix + "batch:" + batchId;
+    }
+}
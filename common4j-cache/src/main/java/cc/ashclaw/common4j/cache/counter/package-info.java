@@ -0,0 +1,16 @@
+/**
+ * Package containing distributed counter support.
+ * <p>
+ * 包含分布式计数器支持的包。
+ * <p>
+ * This package provides the {@code DistributedCounter}, which accumulates increments in
+ * striped local cells and flushes the deltas in batches to a shared {@code CounterStore},
+ * together with a Redis store based on pipelined batches and an in-process store.
+ * <p>
+ * 此包提供 {@code DistributedCounter}，它在本地分段单元中累积增量，并批量刷新到共享的 {@code CounterStore}，
+ * 同时提供基于管道批处理的Redis存储和进程内存储。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+package cc.ashclaw.common4j.cache.counter;
@@ -0,0 +1,38 @@
+package cc.ashclaw.common4j.cache.enums;
+
+/**
+ * Enumeration of the policies applied when a bulkhead is full.
+ * <p>
+ * 舱壁已满时采用的策略枚举。
+ * <p>
+ * This enum defines whether a call that finds no free permit is rejected, waits
+ * for a permit, or is served by a fallback method.
+ * <p>
+ * 此枚举定义没有空闲许可的调用是被拒绝、等待许可，还是由降级方法处理。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public enum BulkheadPolicy {
+    
+    /**
+     * Rejects the call immediately.
+     * <p>
+     * 立即拒绝调用。
+     */
+    REJECT,
+    
+    /**
+     * Waits for a permit up to the wait time, then rejects the call.
+     * <p>
+     * 在等待时间内等待许可，超时后拒绝调用。
+     */
+    WAIT,
+    
+    /**
+     * Waits for a permit up to the wait time, then invokes the fallback method.
+     * <p>
+     * 在等待时间内等待许可，超时后调用降级方法。
+     */
+    FALLBACK
+}
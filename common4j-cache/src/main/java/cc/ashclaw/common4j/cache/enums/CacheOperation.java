@@ -41,5 +41,19 @@ public enum CacheOperation {
      * <p>
      * 清空操作，用于移除所有缓存条目。
      */
-    CLEAR
+    CLEAR,
+    
+    /**
+     * Expire operation for entries removed because their time to live elapsed.
+     * <p>
+     * 过期操作，表示条目因存活时间到期而被移除。
+     */
+    EXPIRE,
+    
+    /**
+     * Promote operation for entries copied from the distributed tier into the local tier.
+     * <p>
+     * 提升操作，表示条目从分布式缓存复制到本地缓存。
+     */
+    PROMOTE
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package cc.ashclaw.common4j.cache.enums;
+
+/**
+ * Enumeration of write policies applied while the distributed tier is degraded.
+ * <p>
+ * 分布式缓存层降级期间的写入策略枚举。
+ * <p>
+ * This enum defines what happens to writes and evictions that cannot reach the
+ * distributed cache because its circuit breaker is open.
+ * <p>
+ * 此枚举定义了熔断器打开、无法到达分布式缓存时写入和清除操作的处理方式。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public enum DegradedWritePolicy {
+    
+    /**
+     * Writes are kept in a bounded queue and replayed once the breaker closes.
+     * <p>
+     * 写入保存在有界队列中，熔断器关闭后重放。
+     */
+    QUEUE,
+    
+    /**
+     * Writes are dropped; the distributed tier catches up through expiration.
+     * <p>
+     * 丢弃写入，分布式缓存通过过期逐步恢复一致。
+     */
+    DROP
+}
@@ -0,0 +1,30 @@
+package cc.ashclaw.common4j.cache.enums;
+
+/**
+ * Enumeration of rate limiting algorithms.
+ * <p>
+ * 限流算法枚举。
+ * <p>
+ * This enum defines how the permits of a rate limit are replenished.
+ * <p>
+ * 此枚举定义限流许可的补充方式。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public enum RateLimitAlgorithm {
+    
+    /**
+     * Token bucket refilled continuously at the configured rate, allowing bursts up to the rate.
+     * <p>
+     * 按配置速率连续补充的令牌桶，允许不超过速率的突发流量。
+     */
+    TOKEN_BUCKET,
+    
+    /**
+     * Sliding window counter weighting the previous window by its remaining overlap.
+     * <p>
+     * 滑动窗口计数器，按剩余重叠比例对上一个窗口的计数加权。
+     */
+    SLIDING_WINDOW
+}
@@ -0,0 +1,38 @@
+package cc.ashclaw.common4j.cache.enums;
+
+/**
+ * Enumeration of the Redis nodes a cache reads from.
+ * <p>
+ * 缓存读取所使用的Redis节点枚举。
+ * <p>
+ * This enum defines how reads are spread when the topology has replicas; writes always
+ * go to the master. It has no effect on a single server.
+ * <p>
+ * 此枚举定义了拓扑包含副本节点时读取的分布方式；写入始终发往主节点。对单个服务器不起作用。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public enum RedisReadMode {
+    
+    /**
+     * Reads go to the master only.
+     * <p>
+     * 只从主节点读取。
+     */
+    MASTER,
+    
+    /**
+     * Reads go to the replicas only.
+     * <p>
+     * 只从副本节点读取。
+     */
+    REPLICA,
+    
+    /**
+     * Reads are balanced over the master and the replicas.
+     * <p>
+     * 读取在主节点和副本节点之间均衡分配。
+     */
+    MASTER_REPLICA
+}
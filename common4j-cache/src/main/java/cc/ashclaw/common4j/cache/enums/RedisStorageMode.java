@@ -0,0 +1,33 @@
+package cc.ashclaw.common4j.cache.enums;
+
+/**
+ * Enumeration of the ways a distributed cache lays out its entries in Redis.
+ * <p>
+ * 分布式缓存在Redis中存放条目的方式枚举。
+ * <p>
+ * This enum defines whether a cache name maps to one Redis hash or every entry
+ * becomes a Redis key of its own.
+ * <p>
+ * 此枚举定义了一个缓存名称对应一个Redis哈希，还是每个条目各自成为一个Redis键。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public enum RedisStorageMode {
+    
+    /**
+     * All entries of a cache live in one {@code RMapCache}; per-entry TTL is enforced by
+     * the Redisson eviction task.
+     * <p>
+     * 缓存的所有条目存放在一个 {@code RMapCache} 中，条目过期由Redisson清理任务执行。
+     */
+    MAP,
+    
+    /**
+     * Every entry is a Redis string key under the cache-name prefix with a native TTL,
+     * so entries spread over the cluster slots and expire on the server.
+     * <p>
+     * 每个条目都是缓存名称前缀下带原生TTL的Redis字符串键，条目分散在集群各槽位并由服务端过期。
+     */
+    BUCKET
+}
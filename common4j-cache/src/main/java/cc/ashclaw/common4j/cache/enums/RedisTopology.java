@@ -0,0 +1,44 @@
+package cc.ashclaw.common4j.cache.enums;
+
+/**
+ * Enumeration of the Redis deployments the Redisson client can connect to.
+ * <p>
+ * Redisson客户端可连接的Redis部署方式枚举。
+ * <p>
+ * This enum defines which Redisson server configuration is built from the cache properties.
+ * <p>
+ * 此枚举定义了根据缓存属性构建哪种Redisson服务端配置。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public enum RedisTopology {
+    
+    /**
+     * A single Redis server at {@code address}.
+     * <p>
+     * 位于 {@code address} 的单个Redis服务器。
+     */
+    SINGLE,
+    
+    /**
+     * A master at {@code address} with the replicas listed in {@code nodeAddresses}.
+     * <p>
+     * 位于 {@code address} 的主节点，以及 {@code nodeAddresses} 中列出的副本节点。
+     */
+    MASTER_REPLICA,
+    
+    /**
+     * A master discovered through the sentinels listed in {@code nodeAddresses}.
+     * <p>
+     * 通过 {@code nodeAddresses} 中列出的哨兵发现的主节点。
+     */
+    SENTINEL,
+    
+    /**
+     * A Redis Cluster discovered from the seed nodes listed in {@code nodeAddresses}.
+     * <p>
+     * 从 {@code nodeAddresses} 中列出的种子节点发现的Redis集群。
+     */
+    CLUSTER
+}
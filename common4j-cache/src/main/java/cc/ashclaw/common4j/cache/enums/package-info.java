@@ -4,9 +4,10 @@
  * 包含缓存相关枚举定义的包。
  * <p>
  * This package provides enumerations for cache operations, cache types,
- * and lock types used throughout the cache module.
+ * lock types, rate limiting algorithms, bulkhead policies and Redis storage, topology and read modes
+ * used throughout the cache module.
  * <p>
- * 此包为缓存操作、缓存类型和整个缓存模块中使用的锁类型提供枚举定义。
+ * 此包为缓存操作、缓存类型以及整个缓存模块中使用的锁类型、限流算法、舱壁策略以及Redis存储方式、拓扑和读取方式提供枚举定义。
  *
  * @author b1itz7
  * @since 1.1.0
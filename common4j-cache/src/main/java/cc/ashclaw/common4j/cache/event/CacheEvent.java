@@ -0,0 +1,72 @@
+package cc.ashclaw.common4j.cache.event;
+
+import cc.ashclaw.common4j.cache.enums.CacheOperation;
+import cc.ashclaw.common4j.cache.enums.CacheType;
+
+/**
+ * Immutable event describing a change observed on a cache.
+ * <p>
+ * 描述在缓存上观察到的变更的不可变事件。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public final class CacheEvent {
+    
+    private final String cacheName;
+    private final CacheOperation operation;
+    private final Object key;
+    private final CacheType tier;
+    private final long timestamp;
+    
+    /**
+     * Constructs a new CacheEvent stamped with the current time.
+     * <p>
+     * 构造一个以当前时间为时间戳的新CacheEvent。
+     *
+     * @param cacheName the cache name
+     *                  <p>
+     *                  缓存名称
+     * @param operation the observed operation
+     *                  <p>
+     *                  观察到的操作
+     * @param key the affected key, or {@code null} for cache-wide operations
+     *            <p>
+     *            受影响的键，缓存级操作时为 {@code null}
+     * @param tier the tier on which the change happened
+     *             <p>
+     *             发生变更的缓存层
+     */
+    public CacheEvent(String cacheName, CacheOperation operation, Object key, CacheType tier) {
+        this.cacheName = cacheName;
+        this.operation = operation;
+        this.key = key;
+        this.tier = tier;
+        this.timestamp = System.currentTimeMillis();
+    }
+    
+    public String getCacheName() {
+        return cacheName;
+    }
+    
+    public CacheOperation getOperation() {
+        return operation;
+    }
+    
+    public Object getKey() {
+        return key;
+    }
+    
+    public CacheType getTier() {
+        return tier;
+    }
+    
+    public long getTimestamp() {
+        return timestamp;
+    }
+    
+    @Override
+    public String toString() {
+        return "CacheEvent{" + cacheName + ", " + operation + ", " + key + ", " + tier + ", " + timestamp + "}";
+    }
+}
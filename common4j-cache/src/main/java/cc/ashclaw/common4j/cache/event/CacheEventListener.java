@@ -0,0 +1,33 @@
+package cc.ashclaw.common4j.cache.event;
+
+import java.util.List;
+
+/**
+ * Listener receiving cache events in batches.
+ * <p>
+ * 批量接收缓存事件的监听器。
+ * <p>
+ * Listeners are invoked on the dispatcher thread of {@link CacheEventPublisher},
+ * never on the thread that changed the cache. A listener that is slow delays only
+ * the delivery of later events; once the queue is full new events are dropped.
+ * <p>
+ * 监听器在 {@link CacheEventPublisher} 的分发线程上调用，而不是在修改缓存的线程上调用。
+ * 较慢的监听器只会延迟后续事件的投递；队列满后新事件会被丢弃。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+@FunctionalInterface
+public interface CacheEventListener {
+    
+    /**
+     * Handles a batch of events in the order they were published.
+     * <p>
+     * 按发布顺序处理一批事件。
+     *
+     * @param events the events, never empty
+     *               <p>
+     *               事件列表，不会为空
+     */
+    void onEvents(List<CacheEvent> events);
+}
@@ -0,0 +1,194 @@
+package cc.ashclaw.common4j.cache.event;
+
+import cc.ashclaw.common4j.cache.enums.CacheOperation;
+import cc.ashclaw.common4j.cache.enums.CacheType;
+import cc.ashclaw.common4j.cache.metrics.CacheMetrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous publisher delivering cache events to listeners in batches.
+ * <p>
+ * 将缓存事件批量异步投递给监听器的发布器。
+ * <p>
+ * Publishing only offers the event to a bounded queue, so the thread changing the
+ * cache never waits for listeners. A single daemon thread drains the queue and hands
+ * up to {@code batchSize} events at a time to every listener. Events that do not fit
+ * into the queue are dropped and counted as {@code cache.events.dropped}.
+ * <p>
+ * 发布操作只是将事件放入有界队列，修改缓存的线程不会等待监听器。单个守护线程从队列中取出事件，
+ * 每次最多将 {@code batchSize} 个事件交给每个监听器。放不进队列的事件会被丢弃，并计入 {@code cache.events.dropped}。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class CacheEventPublisher implements AutoCloseable {
+    
+    private final BlockingQueue<CacheEvent> queue;
+    private final int batchSize;
+    private final CacheMetrics metrics;
+    private final List<CacheEventListener> listeners = new CopyOnWriteArrayList<>();
+    private Thread dispatcher;
+    private volatile boolean running;
+    
+    /**
+     * Constructs a new CacheEventPublisher.
+     * <p>
+     * 构造一个新的CacheEventPublisher。
+     *
+     * @param queueCapacity the maximum number of undelivered events
+     *                      <p>
+     *                      未投递事件的最大数量
+     * @param batchSize the maximum number of events per listener call
+     *                  <p>
+     *                  每次调用监听器的最大事件数
+     * @param metrics the metrics registry
+     *                <p>
+     *                指标注册表
+     */
+    public CacheEventPublisher(int queueCapacity, int batchSize, CacheMetrics metrics) {
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.batchSize = Math.max(1, batchSize);
+        this.metrics = metrics;
+        metrics.gauge("cache.events.pending", queue::size);
+    }
+    
+    /**
+     * Registers a listener.
+     * <p>
+     * 注册监听器。
+     *
+     * @param listener the listener to add
+     *                 <p>
+     *                 要添加的监听器
+     */
+    public void addListener(CacheEventListener listener) {
+        listeners.add(listener);
+    }
+    
+    /**
+     * Unregisters a listener.
+     * <p>
+     * 注销监听器。
+     *
+     * @param listener the listener to remove
+     *                 <p>
+     *                 要移除的监听器
+     */
+    public void removeListener(CacheEventListener listener) {
+        listeners.remove(listener);
+    }
+    
+    /**
+     * Checks whether any listener is registered, so that callers can skip building events.
+     * <p>
+     * 检查是否注册了监听器，调用方可据此跳过事件的构建。
+     *
+     * @return {@code true} if at least one listener is registered
+     *         <p>
+     *         如果至少注册了一个监听器则返回 {@code true}
+     */
+    public boolean hasListeners() {
+        return !listeners.isEmpty();
+    }
+    
+    /**
+     * Publishes an event without blocking.
+     * <p>
+     * 非阻塞地发布事件。
+     *
+     * @param cacheName the cache name
+     *                  <p>
+     *                  缓存名称
+     * @param operation the observed operation
+     *                  <p>
+     *                  观察到的操作
+     * @param key the affected key, or {@code null} for cache-wide operations
+     *            <p>
+     *            受影响的键，缓存级操作时为 {@code null}
+     * @param tier the tier on which the change happened
+     *             <p>
+     *             发生变更的缓存层
+     */
+    public void publish(String cacheName, CacheOperation operation, Object key, CacheType tier) {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        if (!queue.offer(new CacheEvent(cacheName, operation, key, tier))) {
+            metrics.increment("cache.events.dropped");
+        }
+    }
+    
+    /**
+     * Starts the dispatcher thread.
+     * <p>
+     * 启动分发线程。
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        dispatcher = Thread.ofPlatform().daemon().name("common4j-cache-events").start(this::dispatch);
+    }
+    
+    /**
+     * Stops the dispatcher after delivering the events already queued.
+     * <p>
+     * 投递完已排队的事件后停止分发线程。
+     */
+    @Override
+    public synchronized void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        dispatcher.interrupt();
+        try {
+            dispatcher.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private void dispatch() {
+        List<CacheEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                CacheEvent first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                deliver(batch);
+            } catch (InterruptedException e) {
+                break;
+            }
+        }
+        
+        // 关闭时投递剩余事件
+        while (queue.drainTo(batch, batchSize) > 0) {
+            deliver(batch);
+        }
+    }
+    
+    private void deliver(List<CacheEvent> batch) {
+        List<CacheEvent> events = List.copyOf(batch);
+        batch.clear();
+        for (CacheEventListener listener : listeners) {
+            try {
+                listener.onEvents(events);
+            } catch (RuntimeException e) {
+                // 单个监听器失败不影响其他监听器
+                metrics.increment("cache.events.failures");
+            }
+        }
+        metrics.counter("cache.events.delivered").add(events.size());
+    }
+}
@@ -0,0 +1,16 @@
+/**
+ * Package containing the cache event pipeline.
+ * <p>
+ * 包含缓存事件管道的包。
+ * <p>
+ * This package provides cache events, batch listeners and an asynchronous
+ * publisher fed by the Caffeine removal listener, Redisson map cache entry
+ * listeners and multi-level tier promotions.
+ * <p>
+ * 此包提供缓存事件、批量监听器和异步发布器，事件来源包括Caffeine移除监听器、
+ * Redisson映射缓存条目监听器以及多级缓存的层级提升。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+package cc.ashclaw.common4j.cache.event;
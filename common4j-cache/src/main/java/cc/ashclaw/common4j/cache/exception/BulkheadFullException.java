@@ -0,0 +1,69 @@
+package cc.ashclaw.common4j.cache.exception;
+
+/**
+ * Exception class for full bulkheads.
+ * <p>
+ * 舱壁已满异常类。
+ * <p>
+ * This exception is thrown when a call finds no free permit in its bulkhead
+ * within the wait time.
+ * <p>
+ * 当调用在等待时间内未能在其舱壁中获得空闲许可时抛出此异常。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class BulkheadFullException extends CacheException {
+    
+    /**
+     * Constructs a new BulkheadFullException with the specified detail message.
+     * <p>
+     * 使用指定的详细消息构造一个新的 BulkheadFullException。
+     *
+     * @param message the detail message. The detail message is saved for
+     *                later retrieval by the {@link #getMessage()} method.
+     *                <p>
+     *                详细消息。该消息将被保存，以便稍后通过 {@link #getMessage()} 方法检索。
+     */
+    public BulkheadFullException(String message) {
+        super(message);
+    }
+    
+    /**
+     * Constructs a new BulkheadFullException with the specified detail message and cause.
+     * <p>
+     * 使用指定的详细消息和原因构造一个新的 BulkheadFullException。
+     *
+     * @param message the detail message. The detail message is saved for
+     *                later retrieval by the {@link #getMessage()} method.
+     *                <p>
+     *                详细消息。该消息将被保存，以便稍后通过 {@link #getMessage()} 方法检索。
+     * @param cause the cause (which is saved for later retrieval by the
+     *              {@link #getCause()} method). (A {@code null} value is
+     *              permitted, and indicates that the cause is nonexistent or
+     *              unknown.)
+     *              <p>
+     *              原因（将被保存，以便稍后通过 {@link #getCause()} 方法检索）。
+     *              （允许 {@code null} 值，表示原因不存在或未知。）
+     */
+    public BulkheadFullException(String message, Throwable cause) {
+        super(message, cause);
+    }
+    
+    /**
+     * Constructs a new BulkheadFullException with the specified cause.
+     * <p>
+     * 使用指定的原因构造一个新的 BulkheadFullException。
+     *
+     * @param cause the cause (which is saved for later retrieval by the
+     *              {@link #getCause()} method). (A {@code null} value is
+     *              permitted, and indicates that the cause is nonexistent or
+     *              unknown.)
+     *              <p>
+     *              原因（将被保存，以便稍后通过 {@link #getCause()} 方法检索）。
+     *              （允许 {@code null} 值，表示原因不存在或未知。）
+     */
+    public BulkheadFullException(Throwable cause) {
+        super(cause);
+    }
+}
\ No newline at end of file
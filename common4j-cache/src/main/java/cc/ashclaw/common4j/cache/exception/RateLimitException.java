@@ -0,0 +1,69 @@
+package cc.ashclaw.common4j.cache.exception;
+
+/**
+ * Exception class for rate limiting.
+ * <p>
+ * 限流异常类。
+ * <p>
+ * This exception is thrown when a call exceeds its rate limit
+ * and no permit is available.
+ * <p>
+ * 当调用超过其速率限制且没有可用许可时抛出此异常。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class RateLimitException extends CacheException {
+    
+    /**
+     * Constructs a new RateLimitException with the specified detail message.
+     * <p>
+     * 使用指定的详细消息构造一个新的 RateLimitException。
+     *
+     * @param message the detail message. The detail message is saved for
+     *                later retrieval by the {@link #getMessage()} method.
+     *                <p>
+     *                详细消息。该消息将被保存，以便稍后通过 {@link #getMessage()} 方法检索。
+     */
+    public RateLimitException(String message) {
+        super(message);
+    }
+    
+    /**
+     * Constructs a new RateLimitException with the specified detail message and cause.
+     * <p>
+     * 使用指定的详细消息和原因构造一个新的 RateLimitException。
+     *
+     * @param message the detail message. The detail message is saved for
+     *                later retrieval by the {@link #getMessage()} method.
+     *                <p>
+     *                详细消息。该消息将被保存，以便稍后通过 {@link #getMessage()} 方法检索。
+     * @param cause the cause (which is saved for later retrieval by the
+     *              {@link #getCause()} method). (A {@code null} value is
+     *              permitted, and indicates that the cause is nonexistent or
+     *              unknown.)
+     *              <p>
+     *              原因（将被保存，以便稍后通过 {@link #getCause()} 方法检索）。
+     *              （允许 {@code null} 值，表示原因不存在或未知。）
+     */
+    public RateLimitException(String message, Throwable cause) {
+        super(message, cause);
+    }
+    
+    /**
+     * Constructs a new RateLimitException with the specified cause.
+     * <p>
+     * 使用指定的原因构造一个新的 RateLimitException。
+     *
+     * @param cause the cause (which is saved for later retrieval by the
+     *              {@link #getCause()} method). (A {@code null} value is
+     *              permitted, and indicates that the cause is nonexistent or
+     *              unknown.)
+     *              <p>
+     *              原因（将被保存，以便稍后通过 {@link #getCause()} 方法检索）。
+     *              （允许 {@code null} 值，表示原因不存在或未知。）
+     */
+    public RateLimitException(Throwable cause) {
+        super(cause);
+    }
+}
\ No newline at end of file
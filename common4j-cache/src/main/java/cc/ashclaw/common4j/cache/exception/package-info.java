@@ -5,9 +5,10 @@
  * <p>
  * This package provides exception classes for handling various cache-related
  * error scenarios, including base cache exceptions, distributed lock exceptions,
- * and cache preheating exceptions.
+ * cache preheating exceptions, rate limiting exceptions and
+ * bulkhead exceptions.
  * <p>
- * 此包为处理各种缓存相关错误场景提供异常类，包括基础缓存异常、分布式锁异常和缓存预热异常。
+ * 此包为处理各种缓存相关错误场景提供异常类，包括基础缓存异常、分布式锁异常、缓存预热异常、限流异常和舱壁已满异常。
  *
  * @author b1itz7
  * @since 1.1.0
@@ -0,0 +1,250 @@
+package cc.ashclaw.common4j.cache.impl.caffeine;
+
+import cc.ashclaw.common4j.cache.config.CacheProperties;
+import cc.ashclaw.common4j.cache.core.Cache;
+import cc.ashclaw.common4j.cache.core.CacheManager;
+import cc.ashclaw.common4j.cache.metrics.CacheMetrics;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adaptive memory budget shared by all Caffeine caches of a cache manager.
+ * <p>
+ * 由缓存管理器中所有Caffeine缓存共享的自适应内存预算。
+ * <p>
+ * The manager owns a total maximum size (or weight) and periodically redistributes
+ * it between the caches through {@code policy().eviction().setMaximum(long)}.
+ * Each cache is weighted by the marginal utility of extra capacity, estimated from
+ * the interval's statistics as {@code misses * missCost * hitRatio}: misses are what
+ * more capacity could save, the miss cost is the average load penalty, and the hit
+ * ratio discounts scan-like caches whose misses would not turn into hits. A cache that
+ * is not full never receives more than it currently holds plus headroom.
+ * <p>
+ * 管理器持有一个总容量（或总权重），并通过 {@code policy().eviction().setMaximum(long)} 定期在各缓存之间重新分配。
+ * 每个缓存按额外容量的边际效用加权，根据本周期统计估算为 {@code 未命中数 * 未命中成本 * 命中率}：
+ * 未命中是更多容量可以节省的部分，未命中成本为平均加载耗时，命中率用于降低扫描型缓存的权重。
+ * 未满的缓存分配的容量不会超过其当前条目数加余量。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class CacheBudgetManager implements AutoCloseable {
+
+    private static final double HEADROOM = 1.25;
+
+    private final CacheManager cacheManager;
+    private final CacheProperties cacheProperties;
+    private final CacheMetrics metrics;
+    private final Map<String, Allocation> allocations = new ConcurrentHashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Constructs a new CacheBudgetManager for the caches of the specified cache manager.
+     * <p>
+     * 为指定缓存管理器的缓存构造一个新的CacheBudgetManager。
+     *
+     * @param cacheManager the cache manager owning the Caffeine caches
+     *                     <p>
+     *                     持有Caffeine缓存的缓存管理器
+     * @param cacheProperties the cache configuration properties
+     *                        <p>
+     *                        缓存配置属性
+     * @param metrics the metrics registry for rebalancing decisions
+     *                <p>
+     *                用于记录再平衡决策的指标注册表
+     */
+    public CacheBudgetManager(CacheManager cacheManager, CacheProperties cacheProperties, CacheMetrics metrics) {
+        this.cacheManager = cacheManager;
+        this.cacheProperties = cacheProperties;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Starts periodic rebalancing at the configured interval.
+     * <p>
+     * 按配置的间隔开始定期再平衡。
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        long interval = cacheProperties.getCaffeine().getBudget().getRebalanceInterval().toMillis();
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("common4j-cache-budget").factory());
+        scheduler.scheduleWithFixedDelay(this::rebalanceQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Runs one rebalancing round over all bounded Caffeine caches. Rounds run one at a time,
+     * whether scheduled or called directly.
+     * <p>
+     * 对所有有界的Caffeine缓存执行一轮再平衡。无论由调度触发还是直接调用，每次只执行一轮。
+     */
+    public synchronized void rebalance() {
+        CacheProperties.BudgetProperties budget = cacheProperties.getCaffeine().getBudget();
+        List<Allocation> round = new ArrayList<>();
+
+        for (String name : new ArrayList<>(cacheManager.getCacheNames())) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache == null || !(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache)) {
+                continue;
+            }
+            com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache =
+                (com.github.benmanes.caffeine.cache.Cache<?, ?>) cache.getNativeCache();
+            Optional<? extends Policy.Eviction<?, ?>> eviction = nativeCache.policy().eviction();
+            if (eviction.isEmpty()) {
+                continue;
+            }
+
+            Allocation allocation = allocations.computeIfAbsent(name, key -> register(key, eviction.get()));
+            allocation.sample(nativeCache, eviction.get());
+            round.add(allocation);
+        }
+
+        if (round.isEmpty()) {
+            return;
+        }
+
+        long total = budget.getTotalMaximum() > 0 ? budget.getTotalMaximum()
+            : cacheProperties.getCaffeine().getMaximumSize() * round.size();
+        long minimum = Math.min(budget.getMinimumPerCache(), total / round.size());
+        long spare = total - minimum * round.size();
+
+        double totalUtility = 0;
+        for (Allocation allocation : round) {
+            totalUtility += allocation.utility;
+        }
+
+        // 计算目标容量，未满的缓存不会获得超过其需要的容量
+        long assigned = 0;
+        for (Allocation allocation : round) {
+            double share = totalUtility > 0 ? allocation.utility / totalUtility : 1.0 / round.size();
+            long target = minimum + (long) (spare * share);
+            if (allocation.used < allocation.maximum) {
+                target = Math.min(target, Math.max(minimum, (long) (allocation.used * HEADROOM)));
+            }
+            long next = allocation.maximum + (long) ((target - allocation.maximum) * budget.getSmoothingFactor());
+            allocation.next = Math.max(minimum, next);
+            assigned += allocation.next;
+        }
+
+        // 平滑后总和可能超出预算，按比例缩减
+        if (assigned > total) {
+            double scale = (double) total / assigned;
+            for (Allocation allocation : round) {
+                allocation.next = Math.max(minimum, (long) (allocation.next * scale));
+            }
+        }
+
+        for (Allocation allocation : round) {
+            if (allocation.next != allocation.maximum) {
+                allocation.eviction.setMaximum(allocation.next);
+                metrics.increment("cache.budget.adjustments", "cache", allocation.name);
+            }
+            allocation.maximum = allocation.next;
+        }
+        metrics.increment("cache.budget.rebalances");
+    }
+
+    /**
+     * Gets the current maximum assigned to the specified cache.
+     * <p>
+     * 获取分配给指定缓存的当前容量上限。
+     *
+     * @param cacheName the cache name
+     *                  <p>
+     *                  缓存名称
+     * @return the current maximum, or -1 if the cache is not managed
+     *         <p>
+     *         当前容量上限，如果缓存未被管理则返回-1
+     */
+    public long getMaximum(String cacheName) {
+        Allocation allocation = allocations.get(cacheName);
+        return allocation == null ? -1 : allocation.maximum;
+    }
+
+    /**
+     * Stops periodic rebalancing.
+     * <p>
+     * 停止定期再平衡。
+     */
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    private Allocation register(String name, Policy.Eviction<?, ?> eviction) {
+        Allocation allocation = new Allocation(name, eviction);
+        metrics.gauge("cache.budget.maximum", () -> allocation.maximum, "cache", name);
+        metrics.gauge("cache.budget.utility", () -> allocation.utility, "cache", name);
+        return allocation;
+    }
+
+    private void rebalanceQuietly() {
+        try {
+            rebalance();
+        } catch (RuntimeException e) {
+            // 调度线程中的异常会终止后续调度，这里只记录失败次数
+            metrics.increment("cache.budget.failures");
+        }
+    }
+
+    /**
+     * Budget state of a single cache.
+     * <p>
+     * 单个缓存的预算状态。
+     */
+    private static class Allocation {
+        final String name;
+        final Policy.Eviction<?, ?> eviction;
+        volatile long maximum;
+        volatile double utility;
+        long used;
+        long next;
+        long lastHits;
+        long lastMisses;
+        long lastLoads;
+        long lastLoadTime;
+        double missCost = 1.0;
+
+        Allocation(String name, Policy.Eviction<?, ?> eviction) {
+            this.name = name;
+            this.eviction = eviction;
+            this.maximum = eviction.getMaximum();
+        }
+
+        void sample(com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache, Policy.Eviction<?, ?> current) {
+            CacheStats stats = nativeCache.stats();
+            long hits = stats.hitCount() - lastHits;
+            long misses = stats.missCount() - lastMisses;
+            long loads = stats.loadCount() - lastLoads;
+            long loadTime = stats.totalLoadTime() - lastLoadTime;
+            lastHits = stats.hitCount();
+            lastMisses = stats.missCount();
+            lastLoads = stats.loadCount();
+            lastLoadTime = stats.totalLoadTime();
+
+            // 只有通过 get(key, loader) 加载的值才有加载耗时，其他情况沿用上一次的成本估计
+            if (loads > 0) {
+                missCost = Math.max(1.0, loadTime / (double) loads / 1_000_000.0);
+            }
+            double hitRatio = hits + misses == 0 ? 0 : hits / (double) (hits + misses);
+            utility = misses * missCost * hitRatio;
+
+            maximum = current.getMaximum();
+            used = current.weightedSize().orElse(nativeCache.estimatedSize());
+        }
+    }
+}
@@ -2,13 +2,25 @@ package cc.ashclaw.common4j.cache.impl.caffeine;
 
 import cc.ashclaw.common4j.cache.config.CacheProperties;
 import cc.ashclaw.common4j.cache.core.Cache;
+import cc.ashclaw.common4j.cache.enums.CacheOperation;
+import cc.ashclaw.common4j.cache.enums.CacheType;
+import cc.ashclaw.common4j.cache.event.CacheEventPublisher;
+import cc.ashclaw.common4j.cache.support.KeyPattern;
+import cc.ashclaw.common4j.cache.support.NullValue;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.springframework.util.ClassUtils;
 
+import java.lang.reflect.Type;
 import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 /**
  * Implementation of Cache interface using Caffeine library.
@@ -20,6 +32,13 @@ import java.util.concurrent.TimeUnit;
  * cache operations and configurations.
  * <p>
  * 此类使用Caffeine缓存库提供本地内存缓存实现，支持各种缓存操作和配置。
+ * <p>
+ * {@link NullValue} markers are kept in a separate Caffeine cache bounded by
+ * {@code negativeMaximumSize} and expiring after {@code penetrationExpireTime}, so
+ * they neither take capacity from regular entries nor live as long as them.
+ * <p>
+ * {@link NullValue} 标记保存在单独的Caffeine缓存中，容量上限为 {@code negativeMaximumSize}，
+ * 在 {@code penetrationExpireTime} 后过期，因此既不占用普通条目的容量，也不会与普通条目存活同样长的时间。
  *
  * @author b1itz7
  * @since 1.1.0
@@ -28,7 +47,9 @@ public class CaffeineCache implements Cache {
     
     private final String name;
     private final com.github.benmanes.caffeine.cache.Cache<Object, Object> cache;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> negatives;
     private final CacheProperties cacheProperties;
+    private final CacheEventPublisher eventPublisher;
     
     /**
      * Constructs a new CaffeineCache with the specified name, Caffeine builder, and cache properties.
@@ -46,8 +67,43 @@ public class CaffeineCache implements Cache {
      *                        缓存配置属性
      */
     public CaffeineCache(String name, Caffeine<Object, Object> caffeineBuilder, CacheProperties cacheProperties) {
+        this(name, caffeineBuilder, cacheProperties, null, false);
+    }
+    
+    /**
+     * Constructs a new CaffeineCache publishing its events to the specified publisher.
+     * <p>
+     * 构造一个将事件发布到指定发布器的新CaffeineCache。
+     *
+     * @param name the name of the cache
+     *             <p>
+     *             缓存的名称
+     * @param caffeineBuilder the Caffeine builder instance
+     *                        <p>
+     *                        Caffeine构建器实例
+     * @param cacheProperties the cache configuration properties
+     *                        <p>
+     *                        缓存配置属性
+     * @param eventPublisher the event publisher, or {@code null} to publish nothing
+     *                       <p>
+     *                       事件发布器，为 {@code null} 时不发布事件
+     * @param removalEvents whether to register a removal listener on the builder,
+     *                      which must then not be shared with other caches
+     *                      <p>
+     *                      是否在构建器上注册移除监听器，此时构建器不能与其他缓存共享
+     */
+    public CaffeineCache(String name, Caffeine<Object, Object> caffeineBuilder, CacheProperties cacheProperties,
+                         CacheEventPublisher eventPublisher, boolean removalEvents) {
         this.name = name;
+        this.eventPublisher = eventPublisher;
+        if (eventPublisher != null && removalEvents) {
+            caffeineBuilder = caffeineBuilder.removalListener((key, value, cause) -> onRemoval(key, cause));
+        }
         this.cache = caffeineBuilder.build();
+        this.negatives = Caffeine.newBuilder()
+            .maximumSize(cacheProperties.getCaffeine().getNegativeMaximumSize())
+            .expireAfterWrite(cacheProperties.getPenetrationExpireTime())
+            .build();
         this.cacheProperties = cacheProperties;
     }
     
@@ -64,12 +120,31 @@ public class CaffeineCache implements Cache {
     @Override
     public <T> T get(Object key, Class<T> type) {
         Object value = cache.getIfPresent(key);
-        return type.cast(value);
+        if (value == null) {
+            value = negatives.getIfPresent(key);
+        }
+        return value == null ? null : NullValue.decode(value, type);
+    }
+    
+    @Override
+    public Object get(Object key, Type type) {
+        // 本地缓存保存原始对象，无需转换
+        Object value = cache.getIfPresent(key);
+        if (value == null) {
+            return negatives.getIfPresent(key);
+        }
+        // 类型不符的值（例如以其他类型写入的同名键）视为未命中
+        Class<?> rawType = ClassUtils.resolvePrimitiveIfNecessary(TypeFactory.rawClass(type));
+        return rawType.isInstance(value) || NullValue.isNull(value) ? value : null;
     }
     
     @Override
     @SuppressWarnings("unchecked")
     public <T> T get(Object key, Callable<T> valueLoader) {
+        if (negatives.getIfPresent(key) != null) {
+            // 已知不存在的键不再加载
+            return null;
+        }
         try {
             return (T) cache.get(key, k -> {
                 try {
@@ -83,22 +158,42 @@ public class CaffeineCache implements Cache {
         }
     }
     
+    @Override
+    public <T> T getAndTouch(Object key, Class<T> type, long timeout, TimeUnit unit) {
+        T value = get(key, type);
+        if (NullValue.isNull(value)) {
+            return value;
+        }
+        // 只有使用可变过期策略构建的缓存才支持按条目设置过期时间，其他情况下读取本身已刷新访问时间
+        if (value != null) {
+            cache.policy().expireVariably().ifPresent(expiration -> expiration.setExpiresAfter(key, timeout, unit));
+        }
+        return value;
+    }
+    
     @Override
     public void put(Object key, Object value) {
-        cache.put(key, value);
+        if (NullValue.isNull(value)) {
+            cache.invalidate(key);
+            negatives.put(key, value);
+        } else {
+            cache.put(key, value);
+            negatives.invalidate(key);
+        }
+        publish(CacheOperation.PUT, key);
     }
     
     @Override
     public void put(Object key, Object value, long timeout, TimeUnit unit) {
         // Caffeine缓存构建时已经设置了过期策略，这里直接使用put
-        cache.put(key, value);
+        put(key, value);
     }
     
     @Override
     public boolean putIfAbsent(Object key, Object value) {
-        Object existing = cache.getIfPresent(key);
+        Object existing = get(key, Object.class);
         if (existing == null) {
-            cache.put(key, value);
+            put(key, value);
             return true;
         }
         return false;
@@ -109,19 +204,34 @@ public class CaffeineCache implements Cache {
         return putIfAbsent(key, value);
     }
     
+    @Override
+    public <T> T compute(Object key, Class<T> type, UnaryOperator<T> remappingFunction) {
+        // Caffeine的compute在条目上加锁执行，空值标记不在主缓存中，函数看到的是null
+        Object value = cache.asMap().compute(key, (k, current) -> remappingFunction.apply(type.cast(current)));
+        negatives.invalidate(key);
+        if (value != null) {
+            publish(CacheOperation.PUT, key);
+        }
+        return type.cast(value);
+    }
+    
     @Override
     public void evict(Object key) {
         cache.invalidate(key);
+        negatives.invalidate(key);
     }
     
     @Override
     public void evict(Collection<?> keys) {
         cache.invalidateAll(keys);
+        negatives.invalidateAll(keys);
     }
     
     @Override
     public void clear() {
         cache.invalidateAll();
+        negatives.invalidateAll();
+        publish(CacheOperation.CLEAR, null);
     }
     
     @Override
@@ -132,13 +242,33 @@ public class CaffeineCache implements Cache {
         for (Map.Entry<Object, Object> entry : values.entrySet()) {
             result.put(entry.getKey(), type.cast(entry.getValue()));
         }
+        if (values.size() < keys.size()) {
+            // 已知不存在的键以空值返回，调用方可据此与未命中区分
+            for (Map.Entry<Object, Object> entry : negatives.getAllPresent(keys).entrySet()) {
+                result.putIfAbsent(entry.getKey(), NullValue.decode(entry.getValue(), type));
+            }
+        }
         
         return result;
     }
     
     @Override
     public void multiPut(Map<?, ?> map) {
-        cache.putAll(map);
+        Map<Object, Object> regular = new java.util.HashMap<>(map);
+        regular.values().removeIf(NullValue::isNull);
+        cache.putAll(regular);
+        negatives.invalidateAll(regular.keySet());
+        if (regular.size() < map.size()) {
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (NullValue.isNull(entry.getValue())) {
+                    cache.invalidate(entry.getKey());
+                    negatives.put(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        for (Object key : map.keySet()) {
+            publish(CacheOperation.PUT, key);
+        }
     }
     
     @Override
@@ -170,4 +300,64 @@ public class CaffeineCache implements Cache {
     public long size() {
         return cache.estimatedSize();
     }
-}
\ No newline at end of file
+    
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The map views of Caffeine are iterated in place without copying, so {@code batchSize}
+     * is not used.
+     * <p>
+     * Caffeine的映射视图直接原地遍历而不复制，因此不使用 {@code batchSize}。
+     */
+    @Override
+    public Stream<Object> keys(String pattern, int batchSize) {
+        Stream<Object> keys = Stream.concat(cache.asMap().keySet().stream(), negatives.asMap().keySet().stream());
+        Predicate<Object> filter = KeyPattern.compile(pattern);
+        return filter == null ? keys : keys.filter(filter);
+    }
+    
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The map views of Caffeine are iterated in place without copying, so {@code batchSize}
+     * is not used.
+     * <p>
+     * Caffeine的映射视图直接原地遍历而不复制，因此不使用 {@code batchSize}。
+     */
+    @Override
+    public <T> Stream<Map.Entry<Object, T>> entries(String pattern, int batchSize, Class<T> type) {
+        Stream<Map.Entry<Object, Object>> entries = cache.asMap().entrySet().stream();
+        Predicate<Object> filter = KeyPattern.compile(pattern);
+        if (filter != null) {
+            entries = entries.filter(entry -> filter.test(entry.getKey()));
+        }
+        return entries.map(entry -> Map.entry(entry.getKey(), type.cast(entry.getValue())));
+    }
+    
+    /**
+     * Gets the estimated number of null value markers.
+     * <p>
+     * 获取空值标记的估计数量。
+     *
+     * @return the estimated number of null value markers
+     *         <p>
+     *         空值标记的估计数量
+     */
+    public long negativeSize() {
+        return negatives.estimatedSize();
+    }
+    
+    private void publish(CacheOperation operation, Object key) {
+        if (eventPublisher != null) {
+            eventPublisher.publish(name, operation, key, CacheType.LOCAL);
+        }
+    }
+    
+    private void onRemoval(Object key, RemovalCause cause) {
+        // 替换由写入事件覆盖，不再重复发布
+        if (cause == RemovalCause.REPLACED) {
+            return;
+        }
+        publish(cause == RemovalCause.EXPIRED ? CacheOperation.EXPIRE : CacheOperation.EVICT, key);
+    }
+}
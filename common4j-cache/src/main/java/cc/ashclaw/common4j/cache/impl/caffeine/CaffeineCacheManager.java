@@ -4,11 +4,14 @@ import cc.ashclaw.common4j.cache.config.CacheProperties;
 import cc.ashclaw.common4j.cache.core.Cache;
 import cc.ashclaw.common4j.cache.core.CacheManager;
 import cc.ashclaw.common4j.cache.enums.CacheType;
+import cc.ashclaw.common4j.cache.event.CacheEventPublisher;
 import com.github.benmanes.caffeine.cache.Caffeine;
 
 import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Implementation of CacheManager interface for Caffeine caches.
@@ -25,21 +28,27 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class CaffeineCacheManager implements CacheManager {
     
-    private final Caffeine<Object, Object> caffeineBuilder;
+    private final Supplier<Caffeine<Object, Object>> builderFactory;
+    private final boolean sharedBuilder;
     private final CacheProperties cacheProperties;
     private final Map<String, Cache> cacheMap = new ConcurrentHashMap<>();
+    private CacheEventPublisher eventPublisher;
     
     /**
      * Constructs a new CaffeineCacheManager with the specified cache properties.
      * <p>
      * 使用指定的缓存属性构造一个新的CaffeineCacheManager。
+     * <p>
+     * The Caffeine builder is derived from {@code common4j.cache.caffeine.*}.
+     * <p>
+     * Caffeine构建器根据 {@code common4j.cache.caffeine.*} 配置生成。
      *
      * @param cacheProperties the cache configuration properties
      *                        <p>
      *                        缓存配置属性
      */
     public CaffeineCacheManager(CacheProperties cacheProperties) {
-        this(Caffeine.newBuilder(), cacheProperties);
+        this(() -> newBuilder(cacheProperties), false, cacheProperties);
     }
     
     /**
@@ -55,14 +64,77 @@ public class CaffeineCacheManager implements CacheManager {
      *                        缓存配置属性
      */
     public CaffeineCacheManager(Caffeine<Object, Object> caffeineBuilder, CacheProperties cacheProperties) {
-        this.caffeineBuilder = caffeineBuilder;
+        this(() -> caffeineBuilder, true, cacheProperties);
+    }
+    
+    private CaffeineCacheManager(Supplier<Caffeine<Object, Object>> builderFactory, boolean sharedBuilder,
+                                 CacheProperties cacheProperties) {
+        this.builderFactory = builderFactory;
+        this.sharedBuilder = sharedBuilder;
         this.cacheProperties = cacheProperties;
     }
     
+    /**
+     * Sets the publisher receiving the events of caches created afterwards.
+     * <p>
+     * 设置接收此后创建的缓存事件的发布器。
+     * <p>
+     * Removal events require a builder per cache, because a Caffeine builder accepts a
+     * single removal listener; caches built from a shared builder only publish writes.
+     * <p>
+     * 移除事件要求每个缓存使用独立的构建器，因为一个Caffeine构建器只能设置一个移除监听器；
+     * 由共享构建器创建的缓存只发布写入事件。
+     *
+     * @param eventPublisher the event publisher
+     *                       <p>
+     *                       事件发布器
+     */
+    public void setEventPublisher(CacheEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+    
+    /**
+     * Creates a Caffeine builder configured with the Caffeine cache properties.
+     * <p>
+     * 创建一个使用Caffeine缓存属性配置的Caffeine构建器。
+     * <p>
+     * Statistics are recorded when either {@code stats-enabled} or the memory
+     * budget is enabled, because the budget rebalances caches from their hit rates.
+     * <p>
+     * 当启用 {@code stats-enabled} 或内存预算时会记录统计信息，因为预算需要根据命中率再平衡缓存。
+     *
+     * @param cacheProperties the cache configuration properties
+     *                        <p>
+     *                        缓存配置属性
+     * @return the configured Caffeine builder
+     *         <p>
+     *         配置好的Caffeine构建器
+     */
+    public static Caffeine<Object, Object> newBuilder(CacheProperties cacheProperties) {
+        CacheProperties.CaffeineProperties caffeineProps = cacheProperties.getCaffeine();
+        
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .initialCapacity(caffeineProps.getInitialCapacity())
+                .maximumSize(caffeineProps.getMaximumSize());
+        
+        if (caffeineProps.getExpireAfterWrite() != null) {
+            builder.expireAfterWrite(caffeineProps.getExpireAfterWrite().toMillis(), TimeUnit.MILLISECONDS);
+        }
+        
+        if (caffeineProps.getExpireAfterAccess() != null) {
+            builder.expireAfterAccess(caffeineProps.getExpireAfterAccess().toMillis(), TimeUnit.MILLISECONDS);
+        }
+        
+        if (caffeineProps.isStatsEnabled() || caffeineProps.getBudget().isEnabled()) {
+            builder.recordStats();
+        }
+        
+        return builder;
+    }
+    
     @Override
     public Cache getCache(String name) {
-        return cacheMap.computeIfAbsent(name, 
-            key -> new CaffeineCache(name, caffeineBuilder, cacheProperties));
+        return cacheMap.computeIfAbsent(name, this::newCache);
     }
     
     @Override
@@ -77,7 +149,7 @@ public class CaffeineCacheManager implements CacheManager {
     
     @Override
     public Cache createCache(String name) {
-        CaffeineCache cache = new CaffeineCache(name, caffeineBuilder, cacheProperties);
+        CaffeineCache cache = newCache(name);
         cacheMap.put(name, cache);
         return cache;
     }
@@ -89,4 +161,8 @@ public class CaffeineCacheManager implements CacheManager {
             cache.clear();
         }
     }
-}
\ No newline at end of file
+    
+    private CaffeineCache newCache(String name) {
+        return new CaffeineCache(name, builderFactory.get(), cacheProperties, eventPublisher, !sharedBuilder);
+    }
+}
@@ -0,0 +1,544 @@
+package cc.ashclaw.common4j.cache.impl.memory;
+
+import cc.ashclaw.common4j.cache.config.CacheProperties;
+import cc.ashclaw.common4j.cache.core.Cache;
+import cc.ashclaw.common4j.cache.exception.CacheException;
+import cc.ashclaw.common4j.cache.support.CacheSerializer;
+import cc.ashclaw.common4j.cache.support.KeyPattern;
+import cc.ashclaw.common4j.cache.support.NullValue;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * In-process stand-in for a Redis-backed cache with injectable latency and failures.
+ * <p>
+ * 可注入延迟和故障的Redis缓存进程内替身。
+ * <p>
+ * Entries follow the semantics of {@code RedissonCache}: values are stored as strings
+ * produced by the {@link CacheSerializer}, so every read pays for deserialization and
+ * returns a copy; puts use the global expiration time and the idle expiration of the
+ * cache configuration; and expired entries disappear on access. Each call, and each
+ * multi-key call as a whole, is one simulated round trip that waits for the configured
+ * latency and fails with a {@link CacheException} at the configured rate. The cache lets
+ * tests and benchmarks exercise the distributed tier without a Redis server.
+ * <p>
+ * 条目遵循 {@code RedissonCache} 的语义：值以 {@link CacheSerializer} 生成的字符串保存，因此每次读取都需反序列化并返回副本；
+ * 写入使用全局过期时间和缓存配置中的空闲过期时间；过期条目在访问时消失。每次调用（多键调用整体）都是一次模拟往返，
+ * 等待配置的延迟，并按配置的比例以 {@link CacheException} 失败。此缓存使测试和基准测试无需Redis服务器即可覆盖分布式缓存层。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class InMemoryCache implements Cache {
+
+    private final String name;
+    private final Map<Object, Entry> store = new ConcurrentHashMap<>();
+    private final CacheSerializer serializer;
+    private final CacheProperties cacheProperties;
+    private final LongSupplier nanoClock;
+    private final AtomicLong writes = new AtomicLong();
+    private volatile long latencyNanos;
+    private volatile double failureRate;
+
+    /**
+     * Constructs a new InMemoryCache with the specified name and cache properties.
+     * <p>
+     * 使用指定的名称和缓存属性构造一个新的InMemoryCache。
+     *
+     * @param name the name of the cache
+     *             <p>
+     *             缓存的名称
+     * @param serializer the serializer converting values to their stored form
+     *                   <p>
+     *                   将值转换为存储形式的序列化器
+     * @param cacheProperties the cache configuration properties
+     *                        <p>
+     *                        缓存配置属性
+     */
+    public InMemoryCache(String name, CacheSerializer serializer, CacheProperties cacheProperties) {
+        this(name, serializer, cacheProperties, System::nanoTime);
+    }
+
+    /**
+     * Constructs a new InMemoryCache expiring entries by the specified clock.
+     * <p>
+     * 构造一个按指定时钟使条目过期的新InMemoryCache。
+     *
+     * @param name the name of the cache
+     *             <p>
+     *             缓存的名称
+     * @param serializer the serializer converting values to their stored form
+     *                   <p>
+     *                   将值转换为存储形式的序列化器
+     * @param cacheProperties the cache configuration properties
+     *                        <p>
+     *                        缓存配置属性
+     * @param nanoClock the clock in nanoseconds
+     *                  <p>
+     *                  以纳秒为单位的时钟
+     */
+    public InMemoryCache(String name, CacheSerializer serializer, CacheProperties cacheProperties,
+                         LongSupplier nanoClock) {
+        this.name = name;
+        this.serializer = serializer;
+        this.cacheProperties = cacheProperties;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Sets the latency added to every round trip.
+     * <p>
+     * 设置每次往返附加的延迟。
+     *
+     * @param latency the latency, zero for none
+     *                <p>
+     *                延迟，为零时不附加延迟
+     */
+    public void setLatency(Duration latency) {
+        this.latencyNanos = latency.toNanos();
+    }
+
+    /**
+     * Sets the fraction of round trips that fail.
+     * <p>
+     * 设置往返失败的比例。
+     *
+     * @param failureRate the failure rate between 0 and 1
+     *                    <p>
+     *                    0到1之间的失败比例
+     * @throws IllegalArgumentException if the rate is outside 0 and 1
+     *                                  <p>
+     *                                  如果比例不在0到1之间
+     */
+    public void setFailureRate(double failureRate) {
+        if (failureRate < 0 || failureRate > 1) {
+            throw new IllegalArgumentException("失败比例必须在0到1之间: " + failureRate);
+        }
+        this.failureRate = failureRate;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns the backing map of stored entries.
+     * <p>
+     * 返回保存条目的底层映射。
+     */
+    @Override
+    public Object getNativeCache() {
+        return store;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        roundTrip();
+        Entry entry = read(key, nanoClock.getAsLong());
+        return entry == null ? null : serializer.deserialize(entry.value, type);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object get(Object key, Type type) {
+        roundTrip();
+        Entry entry = read(key, nanoClock.getAsLong());
+        return entry == null ? null : serializer.deserializeValue(entry.value, type);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object cached = get(key, Object.class);
+        if (cached != null) {
+            // 已知不存在的键返回null，不再加载
+            return (T) NullValue.unwrap(cached);
+        }
+
+        try {
+            T value = valueLoader.call();
+            if (value != null) {
+                put(key, value);
+            }
+            return value;
+        } catch (Exception e) {
+            throw new RuntimeException("加载缓存值失败", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> T getAndTouch(Object key, Class<T> type, long timeout, TimeUnit unit) {
+        roundTrip();
+        long now = nanoClock.getAsLong();
+        Entry entry = read(key, now);
+        if (entry == null) {
+            return null;
+        }
+        store.replace(key, entry, entry.withExpireAt(deadline(timeout, unit, now)));
+        return serializer.deserialize(entry.value, type);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void put(Object key, Object value) {
+        put(key, value, cacheProperties.getExpireTime().toSeconds(), TimeUnit.SECONDS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void put(Object key, Object value, long timeout, TimeUnit unit) {
+        roundTrip();
+        store.put(key, newEntry(value, timeout, unit, nanoClock.getAsLong()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean putIfAbsent(Object key, Object value) {
+        return putIfAbsent(key, value, cacheProperties.getExpireTime().toSeconds(), TimeUnit.SECONDS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean putIfAbsent(Object key, Object value, long timeout, TimeUnit unit) {
+        roundTrip();
+        long now = nanoClock.getAsLong();
+        Entry created = newEntry(value, timeout, unit, now);
+        boolean[] put = new boolean[1];
+        store.compute(key, (k, current) -> {
+            if (current != null && !current.isExpired(now)) {
+                return current;
+            }
+            put[0] = true;
+            return created;
+        });
+        return put[0];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> T compute(Object key, Class<T> type, UnaryOperator<T> remappingFunction) {
+        roundTrip();
+        long now = nanoClock.getAsLong();
+        List<T> result = new ArrayList<>(1);
+        store.compute(key, (k, current) -> {
+            Object stored = current == null || current.isExpired(now)
+                ? null
+                : serializer.deserializeValue(current.value, type);
+            T value = remappingFunction.apply(type.cast(NullValue.unwrap(stored)));
+            result.add(value);
+            if (value == null) {
+                return null;
+            }
+            // 新建的条目（包括替换空值标记）使用默认过期时间，更新的条目保留剩余过期时间
+            if (stored == null || NullValue.isNull(stored)) {
+                return newEntry(value, cacheProperties.getExpireTime().toSeconds(), TimeUnit.SECONDS, now);
+            }
+            String encoded = value instanceof String string ? string : serializer.serialize(value);
+            return new Entry(encoded, current.expireAt, current.maxIdleNanos, now, writes.incrementAndGet());
+        });
+        return result.getFirst();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void evict(Object key) {
+        roundTrip();
+        store.remove(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void evict(Collection<?> keys) {
+        roundTrip();
+        keys.forEach(store::remove);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        roundTrip();
+        store.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> Map<Object, T> multiGet(Collection<?> keys, Class<T> type) {
+        roundTrip();
+        long now = nanoClock.getAsLong();
+        Map<Object, T> result = new HashMap<>();
+        for (Object key : keys) {
+            Entry entry = read(key, now);
+            if (entry != null) {
+                result.put(key, serializer.deserialize(entry.value, type));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void multiPut(Map<?, ?> map) {
+        multiPut(map, cacheProperties.getExpireTime().toSeconds(), TimeUnit.SECONDS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void multiPut(Map<?, ?> map, long timeout, TimeUnit unit) {
+        roundTrip();
+        long now = nanoClock.getAsLong();
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            store.put(entry.getKey(), newEntry(entry.getValue(), timeout, unit, now));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long getExpire(Object key) {
+        return getExpire(key, TimeUnit.SECONDS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long getExpire(Object key, TimeUnit timeUnit) {
+        roundTrip();
+        long now = nanoClock.getAsLong();
+        Entry entry = store.get(key);
+        if (entry == null || entry.isExpired(now) || entry.expireAt == Long.MAX_VALUE) {
+            return null;
+        }
+        return timeUnit.convert(entry.expireAt - now, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean expire(Object key, long timeout, TimeUnit unit) {
+        roundTrip();
+        long now = nanoClock.getAsLong();
+        Entry entry = store.get(key);
+        if (entry == null || entry.isExpired(now)) {
+            return false;
+        }
+        return store.replace(key, entry, entry.withExpireAt(deadline(timeout, unit, now)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasKey(Object key) {
+        roundTrip();
+        Entry entry = store.get(key);
+        return entry != null && !entry.isExpired(nanoClock.getAsLong());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long size() {
+        roundTrip();
+        long now = nanoClock.getAsLong();
+        store.values().removeIf(entry -> entry.isExpired(now));
+        return store.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Like {@code RedissonCache}, the write order is only reported when
+     * {@code warmUpLimit} is positive.
+     * <p>
+     * 与 {@code RedissonCache} 相同，仅在 {@code warmUpLimit} 大于0时报告写入顺序。
+     */
+    @Override
+    public List<Object> recentKeys(int limit) {
+        if (cacheProperties.getMultiLevel().getWarmUpLimit() <= 0 || limit <= 0) {
+            return List.of();
+        }
+        roundTrip();
+        long now = nanoClock.getAsLong();
+        return store.entrySet().stream()
+            .filter(entry -> !entry.getValue().isExpired(now))
+            .sorted(Comparator.comparingLong((Map.Entry<Object, Entry> entry) -> entry.getValue().written).reversed())
+            .limit(limit)
+            .map(Map.Entry::getKey)
+            .toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<Object> keys(String pattern, int batchSize) {
+        checkBatchSize(batchSize);
+        roundTrip();
+        long now = nanoClock.getAsLong();
+        Stream<Object> keys = store.entrySet().stream()
+            .filter(entry -> !entry.getValue().isExpired(now))
+            .map(Map.Entry::getKey);
+        Predicate<Object> filter = KeyPattern.compile(pattern);
+        return filter == null ? keys : keys.filter(filter);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> Stream<Map.Entry<Object, T>> entries(String pattern, int batchSize, Class<T> type) {
+        checkBatchSize(batchSize);
+        roundTrip();
+        long now = nanoClock.getAsLong();
+        Predicate<Object> filter = KeyPattern.compile(pattern);
+        return store.entrySet().stream()
+            .filter(entry -> !entry.getValue().isExpired(now))
+            .filter(entry -> filter == null || filter.test(entry.getKey()))
+            .filter(entry -> !NullValue.SERIALIZED.equals(entry.getValue().value))
+            .map(entry -> Map.entry(entry.getKey(), serializer.deserialize(entry.getValue().value, type)));
+    }
+
+    /**
+     * Waits for the simulated latency and fails at the simulated rate.
+     * <p>
+     * 等待模拟的延迟，并按模拟的比例失败。
+     */
+    private void roundTrip() {
+        long latency = latencyNanos;
+        if (latency > 0) {
+            long deadline = System.nanoTime() + latency;
+            for (long remaining = latency; remaining > 0; remaining = deadline - System.nanoTime()) {
+                LockSupport.parkNanos(remaining);
+            }
+        }
+        double rate = failureRate;
+        if (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate) {
+            throw new CacheException("模拟的缓存调用失败: " + name);
+        }
+    }
+
+    /**
+     * Reads a live entry, extending its idle expiration, or removes it if it has expired.
+     */
+    private Entry read(Object key, long now) {
+        Entry entry = store.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(now)) {
+            store.remove(key, entry);
+            return null;
+        }
+        if (entry.maxIdleNanos > 0) {
+            Entry touched = entry.withLastAccess(now);
+            if (store.replace(key, entry, touched)) {
+                return touched;
+            }
+        }
+        return entry;
+    }
+
+    private Entry newEntry(Object value, long timeout, TimeUnit unit, long now) {
+        String stored = value instanceof String string ? string : serializer.serialize(value);
+        return new Entry(stored, deadline(timeout, unit, now), getMaxIdleNanos(), now, writes.incrementAndGet());
+    }
+
+    private long getMaxIdleNanos() {
+        CacheProperties.CacheConfig config = cacheProperties.getConfigs().get(name);
+        if (config == null || config.getExpireAfterAccess() == null) {
+            return 0;
+        }
+        return config.getExpireAfterAccess().toNanos();
+    }
+
+    private static long deadline(long timeout, TimeUnit unit, long now) {
+        return timeout > 0 ? now + unit.toNanos(timeout) : Long.MAX_VALUE;
+    }
+
+    private static void checkBatchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("批次大小必须大于0: " + batchSize);
+        }
+    }
+
+    /**
+     * Stored entry with its absolute expiration, idle expiration and write sequence.
+     * <p>
+     * 带有绝对过期时间、空闲过期时间和写入序号的存储条目。
+     */
+    private record Entry(String value, long expireAt, long maxIdleNanos, long lastAccess, long written) {
+
+        boolean isExpired(long now) {
+            return now - expireAt >= 0 && expireAt != Long.MAX_VALUE
+                || maxIdleNanos > 0 && now - lastAccess >= maxIdleNanos;
+        }
+
+        Entry withExpireAt(long expireAt) {
+            return new Entry(value, expireAt, maxIdleNanos, lastAccess, written);
+        }
+
+        Entry withLastAccess(long lastAccess) {
+            return new Entry(value, expireAt, maxIdleNanos, lastAccess, written);
+        }
+    }
+}
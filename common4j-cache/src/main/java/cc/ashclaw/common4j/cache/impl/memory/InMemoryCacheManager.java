@@ -0,0 +1,131 @@
+package cc.ashclaw.common4j.cache.impl.memory;
+
+import cc.ashclaw.common4j.cache.config.CacheProperties;
+import cc.ashclaw.common4j.cache.core.Cache;
+import cc.ashclaw.common4j.cache.core.CacheManager;
+import cc.ashclaw.common4j.cache.enums.CacheType;
+import cc.ashclaw.common4j.cache.support.CacheSerializer;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementation of CacheManager interface for in-process Redis stand-in caches.
+ * <p>
+ * 用于进程内Redis替身缓存的CacheManager接口实现。
+ * <p>
+ * The manager reports itself as distributed, so it can replace the Redisson cache manager
+ * as the distributed tier of a multi-level cache. Latency and failure settings apply to
+ * the caches already created and to those created afterwards.
+ * <p>
+ * 此管理器将自身报告为分布式类型，因此可以替代Redisson缓存管理器作为多级缓存的分布式缓存层。
+ * 延迟和故障设置同时作用于已创建和此后创建的缓存。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class InMemoryCacheManager implements CacheManager {
+
+    private final CacheSerializer serializer;
+    private final CacheProperties cacheProperties;
+    private final Map<String, InMemoryCache> cacheMap = new ConcurrentHashMap<>();
+    private volatile Duration latency = Duration.ZERO;
+    private volatile double failureRate;
+
+    /**
+     * Constructs a new InMemoryCacheManager with the specified cache properties.
+     * <p>
+     * 使用指定的缓存属性构造一个新的InMemoryCacheManager。
+     *
+     * @param cacheProperties the cache configuration properties
+     *                        <p>
+     *                        缓存配置属性
+     */
+    public InMemoryCacheManager(CacheProperties cacheProperties) {
+        this(new CacheSerializer(), cacheProperties);
+    }
+
+    /**
+     * Constructs a new InMemoryCacheManager with the specified serializer and cache properties.
+     * <p>
+     * 使用指定的序列化器和缓存属性构造一个新的InMemoryCacheManager。
+     *
+     * @param serializer the serializer converting values to their stored form
+     *                   <p>
+     *                   将值转换为存储形式的序列化器
+     * @param cacheProperties the cache configuration properties
+     *                        <p>
+     *                        缓存配置属性
+     */
+    public InMemoryCacheManager(CacheSerializer serializer, CacheProperties cacheProperties) {
+        this.serializer = serializer;
+        this.cacheProperties = cacheProperties;
+    }
+
+    /**
+     * Sets the latency added to every round trip of every cache.
+     * <p>
+     * 设置每个缓存每次往返附加的延迟。
+     *
+     * @param latency the latency, zero for none
+     *                <p>
+     *                延迟，为零时不附加延迟
+     */
+    public void setLatency(Duration latency) {
+        this.latency = latency;
+        cacheMap.values().forEach(cache -> cache.setLatency(latency));
+    }
+
+    /**
+     * Sets the fraction of round trips of every cache that fail.
+     * <p>
+     * 设置每个缓存往返失败的比例。
+     *
+     * @param failureRate the failure rate between 0 and 1
+     *                    <p>
+     *                    0到1之间的失败比例
+     */
+    public void setFailureRate(double failureRate) {
+        this.failureRate = failureRate;
+        cacheMap.values().forEach(cache -> cache.setFailureRate(failureRate));
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return cacheMap.computeIfAbsent(name, this::newCache);
+    }
+
+    @Override
+    public CacheType getCacheType() {
+        return CacheType.DISTRIBUTED;
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return cacheMap.keySet();
+    }
+
+    @Override
+    public Cache createCache(String name) {
+        InMemoryCache cache = newCache(name);
+        cacheMap.put(name, cache);
+        return cache;
+    }
+
+    @Override
+    public void destroyCache(String name) {
+        InMemoryCache cache = cacheMap.remove(name);
+        if (cache != null) {
+            ((Map<?, ?>) cache.getNativeCache()).clear();
+        }
+    }
+
+    private InMemoryCache newCache(String name) {
+        InMemoryCache cache = new InMemoryCache(name, serializer, cacheProperties);
+        cache.setLatency(latency);
+        cache.setFailureRate(failureRate);
+        return cache;
+    }
+}
@@ -0,0 +1,16 @@
+/**
+ * Package containing in-process stand-ins for the distributed cache.
+ * <p>
+ * 包含分布式缓存进程内替身的包。
+ * <p>
+ * This package provides a cache and cache manager emulating the Redis-backed
+ * implementations, with expiration, serialization and injectable latency and failures,
+ * for tests and benchmarks running without a Redis server.
+ * <p>
+ * 此包提供模拟Redis实现的缓存和缓存管理器，支持过期、序列化以及可注入的延迟和故障，
+ * 供无需Redis服务器的测试和基准测试使用。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+package cc.ashclaw.common4j.cache.impl.memory;
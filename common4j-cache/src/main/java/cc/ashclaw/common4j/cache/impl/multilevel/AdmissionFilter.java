@@ -0,0 +1,147 @@
+package cc.ashclaw.common4j.cache.impl.multilevel;
+
+import java.util.Arrays;
+
+/**
+ * Frequency-based admission filter deciding which distributed hits are promoted to the local tier.
+ * <p>
+ * 基于访问频率决定哪些分布式缓存命中可以提升到本地缓存的准入过滤器。
+ * <p>
+ * The first access of a key in a window only sets its bits in a doorkeeper Bloom filter;
+ * later accesses are counted in a count-min sketch of 4-bit counters. A key is admitted
+ * once its estimated frequency reaches {@code minFrequency}, so one-off keys of a scan
+ * never displace the local working set. After {@code window} accesses the doorkeeper is
+ * cleared and every counter halved, letting the filter follow a changing workload.
+ * <p>
+ * 键在一个窗口内的首次访问只在门卫布隆过滤器中置位，之后的访问计入由4位计数器组成的count-min草图。
+ * 键的估计频率达到 {@code minFrequency} 后才被准入，因此扫描中只访问一次的键不会挤出本地缓存的工作集。
+ * 每 {@code window} 次访问后清空门卫并将所有计数器减半，使过滤器能跟随负载变化。
+ * <p>
+ * The filter is thread-safe. It is consulted on the distributed read path only, where
+ * its lock is negligible next to the network round trip.
+ * <p>
+ * 此过滤器是线程安全的。它只在分布式缓存读取路径上使用，其锁开销相对网络往返可以忽略。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class AdmissionFilter {
+
+    private static final int DEPTH = 4;
+    private static final int MAX_COUNT = 15;
+
+    private final long[] doorkeeper;
+    private final int doorkeeperMask;
+    private final byte[] counters;
+    private final int widthMask;
+    private final int window;
+    private final int minFrequency;
+    private int accesses;
+
+    /**
+     * Constructs a new AdmissionFilter.
+     * <p>
+     * 构造一个新的AdmissionFilter。
+     *
+     * @param window the number of accesses after which the frequencies age
+     *               <p>
+     *               频率衰减前的访问次数
+     * @param minFrequency the number of accesses in a window a key needs to be admitted
+     *                     <p>
+     *                     键在一个窗口内被准入所需的访问次数
+     * @throws IllegalArgumentException if the window or the minimum frequency is not positive
+     *                                  <p>
+     *                                  如果窗口或最小频率不是正数
+     */
+    public AdmissionFilter(int window, int minFrequency) {
+        if (window <= 0) {
+            throw new IllegalArgumentException("准入窗口必须大于0: " + window);
+        }
+        if (minFrequency <= 0) {
+            throw new IllegalArgumentException("最小访问频率必须大于0: " + minFrequency);
+        }
+        // 每个键约8位门卫，误判率约3%；每行计数器数量不少于窗口大小
+        int doorkeeperBits = ceilingPowerOfTwo(Math.max(64, window * 8L));
+        this.doorkeeper = new long[doorkeeperBits >>> 6];
+        this.doorkeeperMask = doorkeeperBits - 1;
+        int width = ceilingPowerOfTwo(Math.max(16, window));
+        this.counters = new byte[DEPTH * width];
+        this.widthMask = width - 1;
+        this.window = window;
+        this.minFrequency = minFrequency;
+    }
+
+    /**
+     * Records an access of a key and tells whether the key may be promoted.
+     * <p>
+     * 记录键的一次访问，并判断该键是否可以提升。
+     *
+     * @param key the key
+     *            <p>
+     *            键
+     * @return {@code true} if the key was accessed often enough in the current window
+     *         <p>
+     *         如果键在当前窗口内的访问次数足够则返回 {@code true}
+     */
+    public synchronized boolean admit(Object key) {
+        long hash = spread(key.hashCode());
+        int frequency = addToDoorkeeper(hash) ? 1 : 1 + increment(hash);
+        if (++accesses >= window) {
+            reset();
+        }
+        return frequency >= minFrequency;
+    }
+
+    /**
+     * Sets the doorkeeper bits of a hash, returning whether any of them was clear.
+     */
+    private boolean addToDoorkeeper(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        boolean added = false;
+        for (int i = 0; i < 3; i++) {
+            int bit = (h1 + i * h2) & doorkeeperMask;
+            long mask = 1L << bit;
+            if ((doorkeeper[bit >>> 6] & mask) == 0) {
+                doorkeeper[bit >>> 6] |= mask;
+                added = true;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Increments the counters of a hash and returns the new estimate.
+     */
+    private int increment(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        int estimate = MAX_COUNT;
+        for (int i = 0; i < DEPTH; i++) {
+            int index = i * (widthMask + 1) + ((h1 + i * h2) & widthMask);
+            if (counters[index] < MAX_COUNT) {
+                counters[index]++;
+            }
+            estimate = Math.min(estimate, counters[index]);
+        }
+        return estimate;
+    }
+
+    private void reset() {
+        Arrays.fill(doorkeeper, 0L);
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] >>= 1;
+        }
+        accesses = 0;
+    }
+
+    private static long spread(int hashCode) {
+        long hash = hashCode * 0x9E3779B97F4A7C15L;
+        return hash ^ (hash >>> 29);
+    }
+
+    private static int ceilingPowerOfTwo(long value) {
+        long capped = Math.min(value, 1L << 30);
+        return (int) (Long.highestOneBit(capped - 1) << 1);
+    }
+}
@@ -1,13 +1,28 @@
 package cc.ashclaw.common4j.cache.impl.multilevel;
 
+import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 import cc.ashclaw.common4j.cache.config.CacheProperties;
 import cc.ashclaw.common4j.cache.core.Cache;
 import cc.ashclaw.common4j.cache.core.MultiLevelCache;
+import cc.ashclaw.common4j.cache.enums.CacheOperation;
+import cc.ashclaw.common4j.cache.enums.CacheType;
+import cc.ashclaw.common4j.cache.event.CacheEventPublisher;
+import cc.ashclaw.common4j.cache.exception.CacheException;
+import cc.ashclaw.common4j.cache.metrics.CacheMetrics;
+import cc.ashclaw.common4j.cache.support.NullValue;
 
 /**
  * Implementation of MultiLevelCache interface combining local and distributed caching.
@@ -28,6 +43,10 @@ public class MultiLevelCacheImpl implements MultiLevelCache {
     private final Cache localCache;
     private final Cache distributedCache;
     private final CacheProperties cacheProperties;
+    private final CacheEventPublisher eventPublisher;
+    private final CacheMetrics metrics;
+    private final AdmissionFilter admissionFilter;
+    private final AtomicReference<CompletableFuture<Long>> warmUp = new AtomicReference<>();
     private SyncStrategy syncStrategy;
     
     /**
@@ -46,9 +65,66 @@ public class MultiLevelCacheImpl implements MultiLevelCache {
      *                        缓存配置属性
      */
     public MultiLevelCacheImpl(Cache localCache, Cache distributedCache, CacheProperties cacheProperties) {
+        this(localCache, distributedCache, cacheProperties, null);
+    }
+    
+    /**
+     * Constructs a new MultiLevelCacheImpl publishing tier promotions to the specified publisher.
+     * <p>
+     * 构造一个将层级提升事件发布到指定发布器的新MultiLevelCacheImpl。
+     *
+     * @param localCache the local cache instance
+     *                   <p>
+     *                   本地缓存实例
+     * @param distributedCache the distributed cache instance
+     *                         <p>
+     *                         分布式缓存实例
+     * @param cacheProperties the cache configuration properties
+     *                        <p>
+     *                        缓存配置属性
+     * @param eventPublisher the event publisher, or {@code null} to publish nothing
+     *                       <p>
+     *                       事件发布器，为 {@code null} 时不发布事件
+     */
+    public MultiLevelCacheImpl(Cache localCache, Cache distributedCache, CacheProperties cacheProperties,
+                               CacheEventPublisher eventPublisher) {
+        this(localCache, distributedCache, cacheProperties, eventPublisher, null);
+    }
+    
+    /**
+     * Constructs a new MultiLevelCacheImpl recording rejected promotions in the specified metrics.
+     * <p>
+     * 构造一个将被拒绝的提升记录到指定指标中的新MultiLevelCacheImpl。
+     * <p>
+     * Promotions go through an {@link AdmissionFilter} when promotion admission is enabled
+     * for this cache, globally or in its cache configuration.
+     * <p>
+     * 当此缓存（全局或在其缓存配置中）启用提升准入时，提升需经过 {@link AdmissionFilter}。
+     *
+     * @param localCache the local cache instance
+     *                   <p>
+     *                   本地缓存实例
+     * @param distributedCache the distributed cache instance
+     *                         <p>
+     *                         分布式缓存实例
+     * @param cacheProperties the cache configuration properties
+     *                        <p>
+     *                        缓存配置属性
+     * @param eventPublisher the event publisher, or {@code null} to publish nothing
+     *                       <p>
+     *                       事件发布器，为 {@code null} 时不发布事件
+     * @param metrics the metrics registry, or {@code null} to record nothing
+     *                <p>
+     *                指标注册表，为 {@code null} 时不记录指标
+     */
+    public MultiLevelCacheImpl(Cache localCache, Cache distributedCache, CacheProperties cacheProperties,
+                               CacheEventPublisher eventPublisher, CacheMetrics metrics) {
         this.localCache = localCache;
         this.distributedCache = distributedCache;
         this.cacheProperties = cacheProperties;
+        this.eventPublisher = eventPublisher;
+        this.metrics = metrics;
+        this.admissionFilter = newAdmissionFilter(localCache.getName(), cacheProperties);
         this.syncStrategy = new DefaultSyncStrategy();
     }
     
@@ -65,44 +141,57 @@ public class MultiLevelCacheImpl implements MultiLevelCache {
     @Override
     public <T> T get(Object key, Class<T> type) {
         // 先查本地缓存
-        T value = localCache.get(key, type);
-        if (value != null) {
-            return value;
+        Object local = localCache.get(key, Object.class);
+        if (local != null) {
+            return NullValue.decode(local, type);
         }
         
-        // 本地缓存未命中，查分布式缓存
-        value = distributedCache.get(key, type);
-        if (value != null) {
-            // 写入本地缓存
-            localCache.put(key, value, 
-                cacheProperties.getMultiLevel().getLocalExpireTime().toSeconds(), 
-                TimeUnit.SECONDS);
+        // 本地缓存未命中，查分布式缓存；通过 multiGet 区分已知不存在的键和未命中
+        Map<Object, T> found = distributedCache.multiGet(List.of(key), type);
+        if (!found.containsKey(key)) {
+            return null;
         }
         
+        T value = found.get(key);
+        promote(key, value);
         return value;
     }
     
     @Override
-    public <T> T get(Object key, Callable<T> valueLoader) {
+    public Object get(Object key, Type type) {
         // 先查本地缓存
-        T value = localCache.get(key, (Class<T>) Object.class);
-        if (value != null) {
-            return value;
+        Object local = localCache.get(key, type);
+        if (local != null) {
+            return local;
         }
         
-        // 本地缓存未命中，查分布式缓存
-        value = distributedCache.get(key, (Class<T>) Object.class);
+        // 分布式缓存保留空值标记，已知不存在的键同样提升到本地缓存
+        Object value = distributedCache.get(key, type);
         if (value != null) {
-            // 写入本地缓存
-            localCache.put(key, value, 
-                cacheProperties.getMultiLevel().getLocalExpireTime().toSeconds(), 
-                TimeUnit.SECONDS);
-            return value;
+            promote(key, value);
+        }
+        return value;
+    }
+    
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        // 先查本地缓存
+        Object cached = localCache.get(key, Object.class);
+        if (cached == null) {
+            // 本地缓存未命中，查分布式缓存
+            cached = distributedCache.get(key, Object.class);
+            if (cached != null) {
+                promote(key, cached);
+            }
+        }
+        if (cached != null) {
+            // 已知不存在的键返回null，不再加载
+            return (T) NullValue.unwrap(cached);
         }
         
         // 两级缓存都未命中，执行valueLoader
         try {
-            value = valueLoader.call();
+            T value = valueLoader.call();
             if (value != null) {
                 // 写入两级缓存
                 put(key, value);
@@ -113,6 +202,22 @@ public class MultiLevelCacheImpl implements MultiLevelCache {
         }
     }
     
+    @Override
+    public <T> T getAndTouch(Object key, Class<T> type, long timeout, TimeUnit unit) {
+        // 本地缓存命中时不访问分布式缓存，本地过期时间较短，未命中时再刷新分布式缓存的过期时间
+        Object local = localCache.get(key, Object.class);
+        if (local != null) {
+            return NullValue.decode(local, type);
+        }
+        
+        T value = distributedCache.getAndTouch(key, type, timeout, unit);
+        if (value != null) {
+            promote(key, value);
+        }
+        
+        return value;
+    }
+    
     @Override
     public void put(Object key, Object value) {
         // 写入本地缓存
@@ -151,6 +256,20 @@ public class MultiLevelCacheImpl implements MultiLevelCache {
         return localResult && distributedResult;
     }
     
+    @Override
+    public <T> T compute(Object key, Class<T> type, UnaryOperator<T> remappingFunction) {
+        // 以分布式缓存为准原子更新，再用结果刷新本地缓存
+        T value = distributedCache.compute(key, type, remappingFunction);
+        if (value != null) {
+            localCache.put(key, value,
+                cacheProperties.getMultiLevel().getLocalExpireTime().toSeconds(),
+                TimeUnit.SECONDS);
+        } else {
+            localCache.evict(key);
+        }
+        return value;
+    }
+    
     @Override
     public void evict(Object key) {
         localCache.evict(key);
@@ -189,9 +308,7 @@ public class MultiLevelCacheImpl implements MultiLevelCache {
             
             // 将分布式缓存结果写入本地缓存
             for (Map.Entry<Object, T> entry : distributedResult.entrySet()) {
-                localCache.put(entry.getKey(), entry.getValue(), 
-                    cacheProperties.getMultiLevel().getLocalExpireTime().toSeconds(), 
-                    TimeUnit.SECONDS);
+                promote(entry.getKey(), entry.getValue());
             }
         }
         
@@ -239,6 +356,30 @@ public class MultiLevelCacheImpl implements MultiLevelCache {
         return distributedCache.size();
     }
     
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Iterates the distributed cache, which holds the complete data set.
+     * <p>
+     * 遍历持有完整数据集的分布式缓存。
+     */
+    @Override
+    public Stream<Object> keys(String pattern, int batchSize) {
+        return distributedCache.keys(pattern, batchSize);
+    }
+    
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Iterates the distributed cache, which holds the complete data set.
+     * <p>
+     * 遍历持有完整数据集的分布式缓存。
+     */
+    @Override
+    public <T> Stream<Map.Entry<Object, T>> entries(String pattern, int batchSize, Class<T> type) {
+        return distributedCache.entries(pattern, batchSize, type);
+    }
+    
     @Override
     public Cache getLocalCache() {
         return localCache;
@@ -260,10 +401,180 @@ public class MultiLevelCacheImpl implements MultiLevelCache {
         // 这里需要根据具体业务需求实现
     }
     
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Starts an asynchronous warm-up of every entry, using the value type configured for
+     * this cache. See {@link #warmUp(Class, Predicate)}.
+     * <p>
+     * 使用此缓存配置的值类型异步预热全部条目，参见 {@link #warmUp(Class, Predicate)}。
+     */
     @Override
     public void syncFromDistributed() {
-        // 从分布式缓存同步到本地缓存
-        // 这里需要根据具体业务需求实现
+        CacheProperties.CacheConfig config = cacheProperties.getConfigs().get(getName());
+        if (config == null || config.getValueType() == null) {
+            throw new CacheException("缓存未配置值类型，无法预热: " + getName());
+        }
+        warmUp(config.getValueType(), null);
+    }
+    
+    /**
+     * Fills the local cache from the distributed cache on a background virtual thread.
+     * <p>
+     * 在后台虚拟线程中从分布式缓存填充本地缓存。
+     * <p>
+     * Entries are streamed from the distributed cache with {@link Cache#entries} in pages of
+     * {@code warmUpBatchSize}, so only one page is held in memory. When {@code warmUpLimit}
+     * is positive the most recently written keys (see {@link Cache#recentKeys}) are loaded
+     * first, reading the values of each batch with a single {@code multiGet}. Entries already present in the local cache are kept, since they are at
+     * least as fresh as the copy in Redis. A warm-up that is already running is shared.
+     * <p>
+     * 条目通过 {@link Cache#entries} 按 {@code warmUpBatchSize} 分页从分布式缓存读取，内存中只保留一页数据。
+     * {@code warmUpLimit} 大于0时优先加载最近写入的键（见 {@link Cache#recentKeys}），每批的值通过一次 {@code multiGet} 获取。
+     * 本地缓存中已有的条目会被保留，因为它们至少与Redis中的副本一样新。正在进行的预热会被共享。
+     *
+     * @param type the value type used to deserialize the entries
+     *             <p>
+     *             用于反序列化条目的值类型
+     * @param keyFilter the keys to load, or {@code null} to load every key
+     *                  <p>
+     *                  要加载的键，为 {@code null} 时加载全部键
+     * @return a future completed with the number of entries loaded into the local cache
+     *         <p>
+     *         以加载到本地缓存的条目数完成的future
+     */
+    public CompletableFuture<Long> warmUp(Class<?> type, Predicate<Object> keyFilter) {
+        CompletableFuture<Long> running = warmUp.get();
+        if (running != null && !running.isDone()) {
+            return running;
+        }
+        
+        CompletableFuture<Long> future = new CompletableFuture<>();
+        if (!warmUp.compareAndSet(running, future)) {
+            return warmUp.get();
+        }
+        
+        Thread.ofVirtual().name("common4j-cache-warmup-" + getName()).start(() -> {
+            try {
+                future.complete(doWarmUp(type, keyFilter));
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+    
+    private long doWarmUp(Class<?> type, Predicate<Object> keyFilter) {
+        CacheProperties.MultiLevelProperties multiLevel = cacheProperties.getMultiLevel();
+        int batchSize = Math.max(1, multiLevel.getWarmUpBatchSize());
+        int limit = multiLevel.getWarmUpLimit();
+        
+        if (limit > 0) {
+            List<Object> recent = distributedCache.recentKeys(limit);
+            // 分布式缓存不跟踪写入顺序时退回游标遍历
+            if (!recent.isEmpty()) {
+                return warmUpKeys(recent.iterator(), type, keyFilter, batchSize);
+            }
+        }
+        
+        Stream<? extends Map.Entry<Object, ?>> entries = distributedCache.entries(null, batchSize, type);
+        if (keyFilter != null) {
+            entries = entries.filter(entry -> keyFilter.test(entry.getKey()));
+        }
+        if (limit > 0) {
+            entries = entries.limit(limit);
+        }
+        long localExpire = multiLevel.getLocalExpireTime().toSeconds();
+        try (Stream<? extends Map.Entry<Object, ?>> stream = entries) {
+            return stream
+                .mapToLong(entry -> localCache.putIfAbsent(entry.getKey(), entry.getValue(), localExpire, TimeUnit.SECONDS) ? 1 : 0)
+                .sum();
+        }
+    }
+    
+    private long warmUpKeys(Iterator<Object> keys, Class<?> type, Predicate<Object> keyFilter, int batchSize) {
+        long loaded = 0;
+        List<Object> batch = new ArrayList<>(batchSize);
+        while (keys.hasNext()) {
+            Object key = keys.next();
+            if (keyFilter != null && !keyFilter.test(key)) {
+                continue;
+            }
+            batch.add(key);
+            if (batch.size() == batchSize) {
+                loaded += fillLocal(batch, type);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            loaded += fillLocal(batch, type);
+        }
+        return loaded;
+    }
+    
+    private long fillLocal(List<Object> keys, Class<?> type) {
+        long localExpire = cacheProperties.getMultiLevel().getLocalExpireTime().toSeconds();
+        long loaded = 0;
+        for (Map.Entry<Object, ?> entry : distributedCache.multiGet(keys, type).entrySet()) {
+            // 已知不存在的键没有值，预热时跳过
+            if (entry.getValue() != null
+                && localCache.putIfAbsent(entry.getKey(), entry.getValue(), localExpire, TimeUnit.SECONDS)) {
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+    
+    /**
+     * Writes an entry read from the distributed tier to the local tier.
+     * <p>
+     * 将从分布式缓存读取的条目写入本地缓存。
+     * <p>
+     * A {@code null} value stands for a key known not to exist and is stored as the
+     * {@link NullValue} marker, which the local tier expires on its own schedule.
+     * <p>
+     * {@code null} 值表示已知不存在的键，以 {@link NullValue} 标记保存，本地缓存按其单独的过期时间清除。
+     * <p>
+     * Entries rejected by the admission filter stay in the distributed tier only.
+     * <p>
+     * 被准入过滤器拒绝的条目只保留在分布式缓存中。
+     */
+    private void promote(Object key, Object value) {
+        if (admissionFilter != null && !admissionFilter.admit(key)) {
+            if (metrics != null) {
+                metrics.increment("cache.promotion.rejected", "cache", getName());
+            }
+            return;
+        }
+        localCache.put(key, value == null ? NullValue.INSTANCE : value,
+            cacheProperties.getMultiLevel().getLocalExpireTime().toSeconds(),
+            TimeUnit.SECONDS);
+        promoted(key);
+    }
+    
+    /**
+     * Creates the admission filter of a cache, or returns {@code null} if its promotions are not filtered.
+     * <p>
+     * 创建缓存的准入过滤器，其提升不经过过滤时返回 {@code null}。
+     */
+    private static AdmissionFilter newAdmissionFilter(String name, CacheProperties cacheProperties) {
+        CacheProperties.MultiLevelProperties props = cacheProperties.getMultiLevel();
+        CacheProperties.CacheConfig config = cacheProperties.getConfigs().get(name);
+        boolean enabled = config != null && config.getPromotionAdmission() != null
+            ? config.getPromotionAdmission()
+            : props.isPromotionAdmission();
+        return enabled ? new AdmissionFilter(props.getAdmissionWindow(), props.getAdmissionMinFrequency()) : null;
+    }
+    
+    /**
+     * Publishes the promotion of an entry from the distributed tier to the local tier.
+     * <p>
+     * 发布条目从分布式缓存提升到本地缓存的事件。
+     */
+    private void promoted(Object key) {
+        if (eventPublisher != null) {
+            eventPublisher.publish(getName(), CacheOperation.PROMOTE, key, CacheType.LOCAL);
+        }
     }
     
     /**
@@ -0,0 +1,156 @@
+package cc.ashclaw.common4j.cache.impl.multilevel;
+
+import cc.ashclaw.common4j.cache.config.CacheProperties;
+import cc.ashclaw.common4j.cache.core.Cache;
+import cc.ashclaw.common4j.cache.core.CacheManager;
+import cc.ashclaw.common4j.cache.enums.CacheType;
+import cc.ashclaw.common4j.cache.event.CacheEventPublisher;
+import cc.ashclaw.common4j.cache.metrics.CacheMetrics;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache manager combining a local and a distributed cache manager into multi-level caches.
+ * <p>
+ * 将本地缓存管理器和分布式缓存管理器组合为多级缓存的缓存管理器。
+ * <p>
+ * Each multi-level cache is created once per name and reused, so that state kept by
+ * the cache (such as synchronization strategy) survives between lookups.
+ * <p>
+ * 每个名称的多级缓存只创建一次并复用，使缓存持有的状态（如同步策略）在多次获取之间保持不变。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class MultiLevelCacheManager implements CacheManager {
+    
+    private final CacheManager localCacheManager;
+    private final CacheManager distributedCacheManager;
+    private final CacheProperties cacheProperties;
+    private final Map<String, Cache> cacheMap = new ConcurrentHashMap<>();
+    private CacheEventPublisher eventPublisher;
+    private CacheMetrics metrics;
+    
+    /**
+     * Constructs a new MultiLevelCacheManager with the specified cache managers and cache properties.
+     * <p>
+     * 使用指定的缓存管理器和缓存属性构造一个新的MultiLevelCacheManager。
+     *
+     * @param localCacheManager the local cache manager instance
+     *                          <p>
+     *                          本地缓存管理器实例
+     * @param distributedCacheManager the distributed cache manager instance
+     *                                <p>
+     *                                分布式缓存管理器实例
+     * @param cacheProperties the cache configuration properties
+     *                        <p>
+     *                        缓存配置属性
+     */
+    public MultiLevelCacheManager(CacheManager localCacheManager, CacheManager distributedCacheManager,
+                                  CacheProperties cacheProperties) {
+        this.localCacheManager = localCacheManager;
+        this.distributedCacheManager = distributedCacheManager;
+        this.cacheProperties = cacheProperties;
+    }
+    
+    /**
+     * Sets the publisher receiving the tier promotions of caches created afterwards.
+     * <p>
+     * 设置接收此后创建的缓存层级提升事件的发布器。
+     *
+     * @param eventPublisher the event publisher
+     *                       <p>
+     *                       事件发布器
+     */
+    public void setEventPublisher(CacheEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+    
+    /**
+     * Sets the metrics registry recording the rejected promotions of caches created afterwards.
+     * <p>
+     * 设置记录此后创建的缓存被拒绝提升次数的指标注册表。
+     *
+     * @param metrics the metrics registry
+     *                <p>
+     *                指标注册表
+     */
+    public void setMetrics(CacheMetrics metrics) {
+        this.metrics = metrics;
+    }
+    
+    @Override
+    public Cache getCache(String name) {
+        return cacheMap.computeIfAbsent(name, key -> new MultiLevelCacheImpl(
+                localCacheManager.getCache(key),
+                distributedCacheManager.getCache(key),
+                cacheProperties,
+                eventPublisher,
+                metrics
+        ));
+    }
+    
+    @Override
+    public CacheType getCacheType() {
+        return CacheType.MULTI_LEVEL;
+    }
+    
+    @Override
+    public Collection<String> getCacheNames() {
+        // 合并两个缓存管理器的缓存名称
+        Set<String> cacheNames = new HashSet<>();
+        cacheNames.addAll(localCacheManager.getCacheNames());
+        cacheNames.addAll(distributedCacheManager.getCacheNames());
+        return cacheNames;
+    }
+    
+    @Override
+    public Cache createCache(String name) {
+        Cache cache = new MultiLevelCacheImpl(
+                localCacheManager.createCache(name),
+                distributedCacheManager.createCache(name),
+                cacheProperties,
+                eventPublisher,
+                metrics
+        );
+        cacheMap.put(name, cache);
+        return cache;
+    }
+    
+    @Override
+    public void destroyCache(String name) {
+        cacheMap.remove(name);
+        localCacheManager.destroyCache(name);
+        distributedCacheManager.destroyCache(name);
+    }
+    
+    /**
+     * Gets the local cache manager.
+     * <p>
+     * 获取本地缓存管理器。
+     *
+     * @return the local cache manager
+     *         <p>
+     *         本地缓存管理器
+     */
+    public CacheManager getLocalCacheManager() {
+        return localCacheManager;
+    }
+    
+    /**
+     * Gets the distributed cache manager.
+     * <p>
+     * 获取分布式缓存管理器。
+     *
+     * @return the distributed cache manager
+     *         <p>
+     *         分布式缓存管理器
+     */
+    public CacheManager getDistributedCacheManager() {
+        return distributedCacheManager;
+    }
+}
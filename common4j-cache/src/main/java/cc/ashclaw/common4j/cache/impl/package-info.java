@@ -5,9 +5,10 @@
  * <p>
  * This package provides concrete implementations of cache interfaces
  * including local caching (Caffeine), distributed caching (Redisson),
+ * client-side sharding, an in-process distributed cache stand-in,
  * and multi-level caching strategies.
  * <p>
- * 此包提供缓存接口的具体实现，包括本地缓存（Caffeine）、分布式缓存（Redisson）和多级缓存策略。
+ * 此包提供缓存接口的具体实现，包括本地缓存（Caffeine）、分布式缓存（Redisson）、客户端分片、进程内分布式缓存替身和多级缓存策略。
  *
  * @author b1itz7
  * @since 1.1.0
@@ -0,0 +1,499 @@
+package cc.ashclaw.common4j.cache.impl.redisson;
+
+import cc.ashclaw.common4j.cache.config.CacheProperties;
+import cc.ashclaw.common4j.cache.core.Cache;
+import cc.ashclaw.common4j.cache.exception.CacheException;
+import cc.ashclaw.common4j.cache.support.CacheSerializer;
+import cc.ashclaw.common4j.cache.support.KeyPattern;
+import cc.ashclaw.common4j.cache.support.NullValue;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.RBatch;
+import org.redisson.api.RBucket;
+import org.redisson.api.RBucketAsync;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.options.KeysScanOptions;
+import org.redisson.client.codec.StringCodec;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+import java.util.stream.Gatherers;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Implementation of Cache interface storing every entry as a Redis key of its own.
+ * <p>
+ * 将每个条目存储为独立Redis键的Cache接口实现。
+ * <p>
+ * Entries are Redis strings named {@code keyPrefix + cacheName + ":" + key}, so the
+ * entries of one cache spread over every slot of a cluster instead of forming a single
+ * big key, and each entry expires on the server through its native TTL. Keys are
+ * identified by their string form. {@code multiGet} issues one {@code MGET} per slot,
+ * and {@code multiPut} pipelines the writes in a batch grouped by node. With
+ * {@code expireAfterAccess} configured, the TTL of an entry is the idle time and every
+ * read renews it with {@code GETEX}. Entry events are not published in this mode.
+ * Cache names must not contain a colon, which keeps the key range of every cache
+ * apart from the key ranges of the others.
+ * <p>
+ * 条目是名为 {@code keyPrefix + 缓存名称 + ":" + 键} 的Redis字符串，因此一个缓存的条目分散在集群的所有槽位上，
+ * 而不会形成单个大键，每个条目通过原生TTL由服务端过期。键以其字符串形式标识。
+ * {@code multiGet} 对每个槽位发送一次 {@code MGET}，{@code multiPut} 在按节点分组的批处理中以管道方式写入。
+ * 配置了 {@code expireAfterAccess} 时，条目的TTL为空闲时间，每次读取都通过 {@code GETEX} 续期。
+ * 此模式下不发布条目事件。缓存名称不能包含冒号，以保证各缓存的键范围互不重叠。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class RedissonBucketCache implements Cache {
+
+    /**
+     * How often a compare-and-set update is retried after losing to a concurrent write.
+     * <p>
+     * 比较并交换更新因并发写入失败后的重试次数。
+     */
+    private static final int MAX_COMPUTE_ATTEMPTS = 16;
+
+    /**
+     * Lua script setting a key only while it still holds the expected value.
+     * <p>
+     * 仅当键仍为期望值时才设置该键的Lua脚本。
+     * <p>
+     * KEYS: entry. ARGV: expected exists, expected value, new exists, new value,
+     * ttl in milliseconds (0 keeps the current TTL of an existing key).
+     */
+    private static final String COMPARE_AND_SET_SCRIPT =
+        "local current = redis.call('get', KEYS[1]); "
+        + "if ARGV[1] == '1' then "
+        + "  if current ~= ARGV[2] then return 0; end; "
+        + "elseif current ~= false then return 0; end; "
+        + "if ARGV[3] == '0' then redis.call('del', KEYS[1]); "
+        + "elseif tonumber(ARGV[5]) > 0 then redis.call('set', KEYS[1], ARGV[4], 'PX', ARGV[5]); "
+        + "elseif current ~= false then redis.call('set', KEYS[1], ARGV[4], 'KEEPTTL'); "
+        + "else redis.call('set', KEYS[1], ARGV[4]); end; "
+        + "return 1;";
+
+    private final String name;
+    private final String keyPrefix;
+    private final RedissonClient redissonClient;
+    private final CacheSerializer serializer;
+    private final CacheProperties cacheProperties;
+
+    /**
+     * Constructs a new RedissonBucketCache with the specified name, Redisson client, serializer, and cache properties.
+     * <p>
+     * 使用指定的名称、Redisson客户端、序列化器和缓存属性构造一个新的RedissonBucketCache。
+     *
+     * @param name the name of the cache
+     *             <p>
+     *             缓存的名称
+     * @param redissonClient the Redisson client instance
+     *                       <p>
+     *                       Redisson客户端实例
+     * @param serializer the cache serializer for object serialization
+     *                   <p>
+     *                   用于对象序列化的缓存序列化器
+     * @param cacheProperties the cache configuration properties
+     *                        <p>
+     *                        缓存配置属性
+     * @throws IllegalArgumentException if the name is empty or contains a colon
+     *                                  <p>
+     *                                  如果名称为空或包含冒号
+     */
+    public RedissonBucketCache(String name, RedissonClient redissonClient, CacheSerializer serializer,
+                               CacheProperties cacheProperties) {
+        if (name == null || name.isEmpty() || name.indexOf(':') >= 0) {
+            // 名称含冒号时，缓存 a 的键 b:c 与缓存 a:b 的键 c 会映射到同一个Redis键
+            throw new IllegalArgumentException("缓存名称不能为空且不能包含冒号: " + name);
+        }
+        this.name = name;
+        this.keyPrefix = cacheProperties.getRedisson().getKeyPrefix() + name + ":";
+        this.redissonClient = redissonClient;
+        this.serializer = serializer;
+        this.cacheProperties = cacheProperties;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Entries are separate keys, so the Redisson client itself is returned.
+     * <p>
+     * 条目是相互独立的键，因此返回Redisson客户端本身。
+     */
+    @Override
+    public Object getNativeCache() {
+        return redissonClient;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        long maxIdle = getMaxIdleMillis();
+        RBucket<String> bucket = bucket(key);
+        String value = maxIdle > 0 ? bucket.getAndExpire(Duration.ofMillis(maxIdle)) : bucket.get();
+        return value == null ? null : serializer.deserialize(value, type);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object get(Object key, Type type) {
+        long maxIdle = getMaxIdleMillis();
+        RBucket<String> bucket = bucket(key);
+        String value = maxIdle > 0 ? bucket.getAndExpire(Duration.ofMillis(maxIdle)) : bucket.get();
+        return serializer.deserializeValue(value, type);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object cached = get(key, Object.class);
+        if (cached != null) {
+            // 已知不存在的键返回null，不再加载
+            return (T) NullValue.unwrap(cached);
+        }
+
+        try {
+            T value = valueLoader.call();
+            if (value != null) {
+                put(key, value);
+            }
+            return value;
+        } catch (Exception e) {
+            throw new RuntimeException("加载缓存值失败", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The read and the expiration update are a single {@code GETEX} command.
+     * <p>
+     * 读取和过期时间更新是一条 {@code GETEX} 命令。
+     */
+    @Override
+    public <T> T getAndTouch(Object key, Class<T> type, long timeout, TimeUnit unit) {
+        String value = bucket(key).getAndExpire(Duration.ofMillis(unit.toMillis(timeout)));
+        return value == null ? null : serializer.deserialize(value, type);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void put(Object key, Object value) {
+        put(key, value, cacheProperties.getExpireTime().toSeconds(), TimeUnit.SECONDS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void put(Object key, Object value, long timeout, TimeUnit unit) {
+        long ttl = getTtlMillis(timeout, unit);
+        if (ttl > 0) {
+            bucket(key).set(encode(value), Duration.ofMillis(ttl));
+        } else {
+            bucket(key).set(encode(value));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean putIfAbsent(Object key, Object value) {
+        return putIfAbsent(key, value, cacheProperties.getExpireTime().toSeconds(), TimeUnit.SECONDS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean putIfAbsent(Object key, Object value, long timeout, TimeUnit unit) {
+        long ttl = getTtlMillis(timeout, unit);
+        if (ttl > 0) {
+            return bucket(key).setIfAbsent(encode(value), Duration.ofMillis(ttl));
+        }
+        return bucket(key).setIfAbsent(encode(value));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The stored string is compared and swapped on the server by a Lua script; an
+     * updated entry keeps its TTL through {@code KEEPTTL}, or renews its idle time with
+     * {@code expireAfterAccess} configured.
+     * <p>
+     * 由Lua脚本在服务端比较并交换存储的字符串；更新的条目通过 {@code KEEPTTL} 保留其TTL，
+     * 配置了 {@code expireAfterAccess} 时则续期其空闲时间。
+     */
+    @Override
+    public <T> T compute(Object key, Class<T> type, UnaryOperator<T> remappingFunction) {
+        RScript script = redissonClient.getScript(StringCodec.INSTANCE);
+        for (int attempt = 0; attempt < MAX_COMPUTE_ATTEMPTS; attempt++) {
+            String stored = bucket(key).get();
+            boolean absent = stored == null || NullValue.SERIALIZED.equals(stored);
+            T value = remappingFunction.apply(absent ? null : serializer.deserialize(stored, type));
+            if (value == null && stored == null) {
+                return null;
+            }
+
+            // 新建的条目（包括替换空值标记）使用默认过期时间，更新的条目保留剩余过期时间
+            long ttl = absent
+                ? getTtlMillis(cacheProperties.getExpireTime().toSeconds(), TimeUnit.SECONDS)
+                : getMaxIdleMillis();
+            Boolean swapped = script.eval(redisKey(key), RScript.Mode.READ_WRITE, COMPARE_AND_SET_SCRIPT,
+                RScript.ReturnType.BOOLEAN, List.of(redisKey(key)),
+                stored == null ? "0" : "1", stored == null ? "" : stored,
+                value == null ? "0" : "1", value == null ? "" : encode(value), String.valueOf(ttl));
+            if (Boolean.TRUE.equals(swapped)) {
+                return value;
+            }
+        }
+        throw new CacheException("并发更新冲突，重试次数已用尽: " + key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void evict(Object key) {
+        bucket(key).delete();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The keys are deleted with one {@code DEL} per slot.
+     * <p>
+     * 每个槽位的键通过一次 {@code DEL} 删除。
+     */
+    @Override
+    public void evict(Collection<?> keys) {
+        if (!keys.isEmpty()) {
+            redissonClient.getKeys().delete(keys.stream().map(this::redisKey).toArray(String[]::new));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The keys of the cache are found with {@code SCAN} on every node and deleted in batches.
+     * <p>
+     * 在每个节点上通过 {@code SCAN} 查找此缓存的键并分批删除。
+     */
+    @Override
+    public void clear() {
+        redissonClient.getKeys().deleteByPattern(KeyPattern.escape(keyPrefix) + "*");
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Redisson groups the keys by slot and sends one {@code MGET} per slot.
+     * <p>
+     * Redisson按槽位对键分组，每个槽位发送一次 {@code MGET}。
+     */
+    @Override
+    public <T> Map<Object, T> multiGet(Collection<?> keys, Class<T> type) {
+        Map<String, Object> keysByRedisKey = new LinkedHashMap<>();
+        for (Object key : keys) {
+            keysByRedisKey.put(redisKey(key), key);
+        }
+        if (keysByRedisKey.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        Map<String, String> values = redissonClient.getBuckets(StringCodec.INSTANCE)
+            .get(keysByRedisKey.keySet().toArray(new String[0]));
+        Map<Object, T> result = new HashMap<>();
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            result.put(keysByRedisKey.get(entry.getKey()), serializer.deserialize(entry.getValue(), type));
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void multiPut(Map<?, ?> map) {
+        multiPut(map, cacheProperties.getExpireTime().toSeconds(), TimeUnit.SECONDS);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * {@code MSET} cannot set a TTL, so the writes are pipelined in a batch that Redisson
+     * groups by node.
+     * <p>
+     * {@code MSET} 无法设置TTL，因此写入在Redisson按节点分组的批处理中以管道方式发送。
+     */
+    @Override
+    public void multiPut(Map<?, ?> map, long timeout, TimeUnit unit) {
+        if (map.isEmpty()) {
+            return;
+        }
+        long ttl = getTtlMillis(timeout, unit);
+        RBatch batch = redissonClient.createBatch(BatchOptions.defaults());
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            RBucketAsync<String> bucket = batch.getBucket(redisKey(entry.getKey()), StringCodec.INSTANCE);
+            if (ttl > 0) {
+                bucket.setAsync(encode(entry.getValue()), Duration.ofMillis(ttl));
+            } else {
+                bucket.setAsync(encode(entry.getValue()));
+            }
+        }
+        batch.execute();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long getExpire(Object key) {
+        return getExpire(key, TimeUnit.SECONDS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long getExpire(Object key, TimeUnit timeUnit) {
+        long ttl = bucket(key).remainTimeToLive();
+        if (ttl == -1 || ttl == -2) {
+            return null;
+        }
+        return timeUnit.convert(ttl, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean expire(Object key, long timeout, TimeUnit unit) {
+        return bucket(key).expire(Duration.ofMillis(unit.toMillis(timeout)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasKey(Object key) {
+        return bucket(key).isExists();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The keys of the cache are counted with a cursor scan, so the cost grows with the
+     * number of entries.
+     * <p>
+     * 通过游标扫描统计此缓存的键，开销随条目数量增长。
+     */
+    @Override
+    public long size() {
+        try (Stream<Object> keys = keys(null, 1000)) {
+            return keys.count();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Pages are read with {@code SCAN} on every node. The keys are plain strings, so the
+     * pattern is matched by the server. The keys are returned in their string form.
+     * <p>
+     * 在每个节点上通过 {@code SCAN} 分页读取。键是普通字符串，因此由服务端匹配模式。键以字符串形式返回。
+     */
+    @Override
+    public Stream<Object> keys(String pattern, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("批次大小必须大于0: " + batchSize);
+        }
+        KeysScanOptions options = KeysScanOptions.defaults()
+            .pattern(KeyPattern.escape(keyPrefix) + (pattern == null || pattern.isEmpty() ? "*" : pattern))
+            .chunkSize(batchSize);
+        Iterable<String> redisKeys = redissonClient.getKeys().getKeys(options);
+        return StreamSupport.stream(() -> Spliterators.spliteratorUnknownSize(redisKeys.iterator(), Spliterator.NONNULL),
+                Spliterator.NONNULL, false)
+            .map(redisKey -> redisKey.substring(keyPrefix.length()));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Each page of keys is followed by a {@code multiGet} of its values.
+     * <p>
+     * 每页键之后通过一次 {@code multiGet} 读取其值。
+     */
+    @Override
+    public <T> Stream<Map.Entry<Object, T>> entries(String pattern, int batchSize, Class<T> type) {
+        return keys(pattern, batchSize)
+            .gather(Gatherers.windowFixed(batchSize))
+            .flatMap(page -> fetchPage(page, type));
+    }
+
+    private <T> Stream<Map.Entry<Object, T>> fetchPage(List<Object> page, Class<T> type) {
+        Map<Object, T> values = multiGet(page, type);
+        // 已被删除的键和空值标记都没有可返回的值
+        return page.stream()
+            .filter(key -> values.get(key) != null && !NullValue.isNull(values.get(key)))
+            .map(key -> Map.entry(key, values.get(key)));
+    }
+
+    private RBucket<String> bucket(Object key) {
+        return redissonClient.getBucket(redisKey(key), StringCodec.INSTANCE);
+    }
+
+    private String redisKey(Object key) {
+        return keyPrefix + key;
+    }
+
+    private String encode(Object value) {
+        return value instanceof String ? (String) value : serializer.serialize(value);
+    }
+
+    /**
+     * Gets the TTL of a write; with {@code expireAfterAccess} configured the idle time is used.
+     * <p>
+     * 获取写入的TTL；配置了 {@code expireAfterAccess} 时使用空闲时间。
+     */
+    private long getTtlMillis(long timeout, TimeUnit unit) {
+        long maxIdle = getMaxIdleMillis();
+        return maxIdle > 0 ? maxIdle : unit.toMillis(Math.max(timeout, 0));
+    }
+
+    private long getMaxIdleMillis() {
+        CacheProperties.CacheConfig config = cacheProperties.getConfigs().get(name);
+        if (config == null || config.getExpireAfterAccess() == null) {
+            return 0;
+        }
+        return config.getExpireAfterAccess().toMillis();
+    }
+}
@@ -2,15 +2,42 @@ package cc.ashclaw.common4j.cache.impl.redisson;
 
 import cc.ashclaw.common4j.cache.config.CacheProperties;
 import cc.ashclaw.common4j.cache.core.Cache;
+import cc.ashclaw.common4j.cache.enums.CacheOperation;
+import cc.ashclaw.common4j.cache.enums.CacheType;
+import cc.ashclaw.common4j.cache.event.CacheEventPublisher;
+import cc.ashclaw.common4j.cache.exception.CacheException;
 import cc.ashclaw.common4j.cache.support.CacheSerializer;
+import cc.ashclaw.common4j.cache.support.KeyPattern;
+import cc.ashclaw.common4j.cache.support.NullValue;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
 import org.redisson.api.RMapCache;
+import org.redisson.api.RMapCacheAsync;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RScoredSortedSetAsync;
 import org.redisson.api.RedissonClient;
+import org.redisson.api.map.event.EntryCreatedListener;
+import org.redisson.api.map.event.EntryExpiredListener;
+import org.redisson.api.map.event.EntryRemovedListener;
+import org.redisson.api.map.event.EntryUpdatedListener;
 
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Implementation of Cache interface using Redisson library.
@@ -28,10 +55,21 @@ import java.util.concurrent.TimeUnit;
  */
 public class RedissonCache implements Cache {
     
+    /**
+     * How often a compare-and-set update is retried after losing to a concurrent write.
+     * <p>
+     * 比较并交换更新因并发写入失败后的重试次数。
+     */
+    private static final int MAX_COMPUTE_ATTEMPTS = 16;
+    
     private final String name;
     private final RMapCache<Object, Object> cache;
+    private final RedissonClient redissonClient;
+    private final RScoredSortedSet<Object> recent;
+    private final int recentCapacity;
     private final CacheSerializer serializer;
     private final CacheProperties cacheProperties;
+    private final List<Integer> listenerIds = new ArrayList<>();
     
     /**
      * Constructs a new RedissonCache with the specified name, Redisson client, serializer, and cache properties.
@@ -54,8 +92,88 @@ public class RedissonCache implements Cache {
     public RedissonCache(String name, RedissonClient redissonClient, CacheSerializer serializer, CacheProperties cacheProperties) {
         this.name = name;
         this.cache = redissonClient.getMapCache(name);
+        this.redissonClient = redissonClient;
         this.serializer = serializer;
         this.cacheProperties = cacheProperties;
+        // 仅在预热需要按最近写入优先加载时维护写入索引
+        this.recentCapacity = cacheProperties.getMultiLevel().getWarmUpLimit();
+        this.recent = recentCapacity > 0
+            ? redissonClient.getScoredSortedSet(prefixName("common4j__recent", cache.getName()), cache.getCodec())
+            : null;
+    }
+    
+    /**
+     * Constructs a new RedissonCache publishing entry events to the specified publisher.
+     * <p>
+     * 构造一个将条目事件发布到指定发布器的新RedissonCache。
+     * <p>
+     * Entry listeners of the map cache receive the changes made by every node,
+     * including expirations performed by the Redisson eviction task.
+     * <p>
+     * 映射缓存的条目监听器会收到所有节点所做的变更，包括Redisson清理任务执行的过期。
+     *
+     * @param name the name of the cache
+     *             <p>
+     *             缓存的名称
+     * @param redissonClient the Redisson client instance
+     *                       <p>
+     *                       Redisson客户端实例
+     * @param serializer the cache serializer for object serialization
+     *                   <p>
+     *                   用于对象序列化的缓存序列化器
+     * @param cacheProperties the cache configuration properties
+     *                        <p>
+     *                        缓存配置属性
+     * @param eventPublisher the event publisher, or {@code null} to publish nothing
+     *                       <p>
+     *                       事件发布器，为 {@code null} 时不发布事件
+     */
+    public RedissonCache(String name, RedissonClient redissonClient, CacheSerializer serializer,
+                         CacheProperties cacheProperties, CacheEventPublisher eventPublisher) {
+        this(name, redissonClient, serializer, cacheProperties);
+        if (eventPublisher != null) {
+            listenerIds.add(cache.addListener((EntryCreatedListener<Object, Object>) event ->
+                eventPublisher.publish(name, CacheOperation.PUT, event.getKey(), CacheType.DISTRIBUTED)));
+            listenerIds.add(cache.addListener((EntryUpdatedListener<Object, Object>) event ->
+                eventPublisher.publish(name, CacheOperation.PUT, event.getKey(), CacheType.DISTRIBUTED)));
+            listenerIds.add(cache.addListener((EntryRemovedListener<Object, Object>) event ->
+                eventPublisher.publish(name, CacheOperation.EVICT, event.getKey(), CacheType.DISTRIBUTED)));
+            listenerIds.add(cache.addListener((EntryExpiredListener<Object, Object>) event ->
+                eventPublisher.publish(name, CacheOperation.EXPIRE, event.getKey(), CacheType.DISTRIBUTED)));
+        }
+    }
+    
+    /**
+     * Removes the entry listeners registered by this cache.
+     * <p>
+     * 移除此缓存注册的条目监听器。
+     */
+    public void removeListeners() {
+        for (int listenerId : listenerIds) {
+            cache.removeListener(listenerId);
+        }
+        listenerIds.clear();
+    }
+    
+    /**
+     * {@inheritDoc}
+     * <p>
+     * When {@code warmUpLimit} is positive, every write also records its key with the
+     * write time in a sorted set kept next to the map, trimmed to the {@code warmUpLimit}
+     * latest keys in the same pipelined batch. The index is maintained asynchronously and
+     * on a best-effort basis: an expired key stays in it until newer writes push it out,
+     * and the write times come from the clocks of the writing nodes.
+     * <p>
+     * {@code warmUpLimit} 大于0时，每次写入还会将键及其写入时间记录到与映射相邻的有序集合中，
+     * 并在同一流水线批次中裁剪为最近的 {@code warmUpLimit} 个键。索引异步、尽力维护：
+     * 已过期的键会保留在索引中，直到被更新的写入挤出；写入时间取自写入节点的时钟。
+     */
+    @Override
+    public List<Object> recentKeys(int limit) {
+        if (recent == null || limit <= 0) {
+            return List.of();
+        }
+        return new ArrayList<>(recent.valueRangeReversed(0, limit - 1));
     }
     
     /**
@@ -91,18 +209,28 @@ public class RedissonCache implements Cache {
         return type.cast(value);
     }
     
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object get(Object key, Type type) {
+        Object value = cache.get(key);
+        return value instanceof String str ? serializer.deserializeValue(str, type) : value;
+    }
+    
     /**
      * {@inheritDoc}
      */
     @Override
     public <T> T get(Object key, Callable<T> valueLoader) {
-        T value = get(key, (Class<T>) Object.class);
-        if (value != null) {
-            return value;
+        Object cached = get(key, Object.class);
+        if (cached != null) {
+            // 已知不存在的键返回null，不再加载
+            return (T) NullValue.unwrap(cached);
         }
         
         try {
-            value = valueLoader.call();
+            T value = valueLoader.call();
             if (value != null) {
                 put(key, value);
             }
@@ -112,6 +240,35 @@ public class RedissonCache implements Cache {
         }
     }
     
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The read and the expiration update are sent as one pipelined batch through the
+     * public {@code RMapCache} API, so a sliding expiration costs a single round trip
+     * without depending on how Redisson lays out the map cache in Redis.
+     * <p>
+     * 读取和过期时间更新通过公开的 {@code RMapCache} API以一个流水线批次发送，滑动过期只需一次网络往返，
+     * 且不依赖Redisson在Redis中的映射缓存存储结构。
+     */
+    @Override
+    public <T> T getAndTouch(Object key, Class<T> type, long timeout, TimeUnit unit) {
+        RBatch batch = redissonClient.createBatch(BatchOptions.defaults());
+        RMapCacheAsync<Object, Object> map = batch.getMapCache(cache.getName(), cache.getCodec());
+        RFuture<Object> read = map.getAsync(key);
+        // 已过期或不存在的条目不会被重新设置过期时间
+        map.expireEntryAsync(key, Duration.ofMillis(unit.toMillis(timeout)), Duration.ofMillis(getMaxIdleMillis()));
+        batch.execute();
+        
+        Object value = read.toCompletableFuture().join();
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof String) {
+            return serializer.deserialize((String) value, type);
+        }
+        return type.cast(value);
+    }
+    
     /**
      * {@inheritDoc}
      */
@@ -130,11 +287,15 @@ public class RedissonCache implements Cache {
             cacheValue = serializer.serialize(value);
         }
         
-        if (timeout > 0) {
+        long maxIdle = getMaxIdleMillis();
+        if (maxIdle > 0) {
+            cache.fastPut(key, cacheValue, Math.max(timeout, 0), unit, maxIdle, TimeUnit.MILLISECONDS);
+        } else if (timeout > 0) {
             cache.fastPut(key, cacheValue, timeout, unit);
         } else {
             cache.fastPut(key, cacheValue);
         }
+        recordWrites(List.of(key));
     }
     
     /**
@@ -155,11 +316,58 @@ public class RedissonCache implements Cache {
             cacheValue = serializer.serialize(value);
         }
         
-        if (timeout > 0) {
-            return cache.fastPutIfAbsent(key, cacheValue, timeout, unit);
+        long maxIdle = getMaxIdleMillis();
+        boolean written;
+        if (maxIdle > 0) {
+            written = cache.fastPutIfAbsent(key, cacheValue, Math.max(timeout, 0), unit, maxIdle, TimeUnit.MILLISECONDS);
+        } else if (timeout > 0) {
+            written = cache.fastPutIfAbsent(key, cacheValue, timeout, unit);
         } else {
-            return cache.fastPutIfAbsent(key, cacheValue);
+            written = cache.fastPutIfAbsent(key, cacheValue);
+        }
+        if (written) {
+            recordWrites(List.of(key));
+        }
+        return written;
+    }
+    
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The stored serialized value is compared and swapped on the server through
+     * {@code putIfAbsent}, {@code replace} and {@code remove} of the map.
+     * <p>
+     * 通过映射的 {@code putIfAbsent}、{@code replace} 和 {@code remove} 在服务端比较并交换存储的序列化值。
+     */
+    @Override
+    public <T> T compute(Object key, Class<T> type, UnaryOperator<T> remappingFunction) {
+        for (int attempt = 0; attempt < MAX_COMPUTE_ATTEMPTS; attempt++) {
+            Object stored = cache.get(key);
+            if (NullValue.SERIALIZED.equals(stored)) {
+                // 先移除空值标记，使新条目使用默认过期时间而不是防穿透的过期时间
+                cache.remove(key, stored);
+                continue;
+            }
+            
+            T current = stored == null ? null
+                : type.cast(stored instanceof String str ? serializer.deserialize(str, type) : stored);
+            T value = remappingFunction.apply(current);
+            boolean written;
+            if (value == null) {
+                written = stored == null || cache.remove(key, stored);
+            } else if (stored == null) {
+                written = putIfAbsent(key, value);
+            } else {
+                written = cache.replace(key, stored, value instanceof String ? value : serializer.serialize(value));
+                if (written) {
+                    recordWrites(List.of(key));
+                }
+            }
+            if (written) {
+                return value;
+            }
         }
+        throw new CacheException("并发更新冲突，重试次数已用尽: " + key);
     }
     
     /**
@@ -168,6 +376,9 @@ public class RedissonCache implements Cache {
     @Override
     public void evict(Object key) {
         cache.fastRemove(key);
+        if (recent != null) {
+            recent.removeAsync(key);
+        }
     }
     
     /**
@@ -176,6 +387,9 @@ public class RedissonCache implements Cache {
     @Override
     public void evict(Collection<?> keys) {
         cache.fastRemove(keys.toArray());
+        if (recent != null) {
+            recent.removeAllAsync(keys);
+        }
     }
     
     /**
@@ -184,6 +398,9 @@ public class RedissonCache implements Cache {
     @Override
     public void clear() {
         cache.clear();
+        if (recent != null) {
+            recent.deleteAsync();
+        }
     }
     
     /**
@@ -231,11 +448,23 @@ public class RedissonCache implements Cache {
             }
         }
         
-        if (timeout > 0) {
+        long maxIdle = getMaxIdleMillis();
+        if (maxIdle > 0) {
+            // putAll 不支持空闲过期时间，改为并发发送单条写入
+            List<RFuture<Boolean>> futures = new ArrayList<>(cacheMap.size());
+            for (Map.Entry<Object, Object> entry : cacheMap.entrySet()) {
+                futures.add(cache.fastPutAsync(entry.getKey(), entry.getValue(),
+                    Math.max(timeout, 0), unit, maxIdle, TimeUnit.MILLISECONDS));
+            }
+            for (RFuture<Boolean> future : futures) {
+                future.toCompletableFuture().join();
+            }
+        } else if (timeout > 0) {
             cache.putAll(cacheMap, timeout, unit);
         } else {
             cache.putAll(cacheMap);
         }
+        recordWrites(cacheMap.keySet());
     }
     
     /**
@@ -263,7 +492,8 @@ public class RedissonCache implements Cache {
      */
     @Override
     public boolean expire(Object key, long timeout, TimeUnit unit) {
-        return cache.expire(java.time.Duration.of(timeout, unit.toChronoUnit()));
+        // 只更新该条目的过期时间，保留其空闲过期设置
+        return cache.expireEntry(key, Duration.ofMillis(unit.toMillis(timeout)), Duration.ofMillis(getMaxIdleMillis()));
     }
     
     /**
@@ -281,4 +511,107 @@ public class RedissonCache implements Cache {
     public long size() {
         return cache.size();
     }
-}
\ No newline at end of file
+    
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Pages are read with {@code HSCAN}, so the Redis server is never blocked by a full scan.
+     * <p>
+     * 分页通过 {@code HSCAN} 读取，不会因全量扫描阻塞Redis服务端。
+     */
+    @Override
+    public Stream<Object> keys(String pattern, int batchSize) {
+        Stream<Object> keys = stream(cache.keySet(checkBatchSize(batchSize)).iterator());
+        Predicate<Object> filter = KeyPattern.compile(pattern);
+        return filter == null ? keys : keys.filter(filter);
+    }
+    
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Pages are read with {@code HSCAN}, which returns the values together with the keys,
+     * so no further round trip is needed per page.
+     * <p>
+     * 分页通过 {@code HSCAN} 读取，值与键一同返回，每页无需额外的网络往返。
+     */
+    @Override
+    public <T> Stream<Map.Entry<Object, T>> entries(String pattern, int batchSize, Class<T> type) {
+        Stream<Map.Entry<Object, Object>> entries = stream(cache.entrySet(checkBatchSize(batchSize)).iterator());
+        Predicate<Object> filter = KeyPattern.compile(pattern);
+        if (filter != null) {
+            entries = entries.filter(entry -> filter.test(entry.getKey()));
+        }
+        return entries
+            .filter(entry -> !NullValue.SERIALIZED.equals(entry.getValue()))
+            .map(entry -> {
+                Object value = entry.getValue();
+                T converted = value instanceof String
+                    ? serializer.deserialize((String) value, type)
+                    : type.cast(value);
+                return Map.entry(entry.getKey(), converted);
+            });
+    }
+    
+    /**
+     * Gets the idle expiration configured for this cache.
+     * <p>
+     * 获取此缓存配置的空闲过期时间。
+     *
+     * @return the idle time in milliseconds, or 0 if entries do not expire on idle
+     *         <p>
+     *         以毫秒为单位的空闲时间，如果条目不按空闲过期则返回0
+     */
+    /**
+     * Records the written keys in the recency index, trimming it to its capacity.
+     * <p>
+     * 将写入的键记录到最近写入索引中，并将索引裁剪到其容量。
+     */
+    private void recordWrites(Collection<?> keys) {
+        if (recent == null || keys.isEmpty()) {
+            return;
+        }
+        RBatch batch = redissonClient.createBatch(BatchOptions.defaults().skipResult());
+        RScoredSortedSetAsync<Object> index = batch.getScoredSortedSet(recent.getName(), recent.getCodec());
+        double now = System.currentTimeMillis();
+        Map<Object, Double> scores = new java.util.HashMap<>(keys.size() * 2);
+        for (Object key : keys) {
+            scores.put(key, now);
+        }
+        index.addAllAsync(scores);
+        // 只保留分数最高的条目，索引大小不随缓存增长
+        index.removeRangeByRankAsync(0, -recentCapacity - 1);
+        batch.executeAsync();
+    }
+    
+    private long getMaxIdleMillis() {
+        CacheProperties.CacheConfig config = cacheProperties.getConfigs().get(name);
+        if (config == null || config.getExpireAfterAccess() == null) {
+            return 0;
+        }
+        return config.getExpireAfterAccess().toMillis();
+    }
+    
+    /**
+     * Builds the name of a Redisson companion object, keeping it in the same cluster slot.
+     * <p>
+     * 构建Redisson附属对象的名称，并保证其与主对象位于同一集群槽位。
+     */
+    private static String prefixName(String prefix, String name) {
+        if (name.contains("{")) {
+            return prefix + ":" + name;
+        }
+        return prefix + ":{" + name + "}";
+    }
+    
+    private static int checkBatchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("批次大小必须大于0: " + batchSize);
+        }
+        return batchSize;
+    }
+    
+    private static <E> Stream<E> stream(Iterator<E> iterator) {
+        // 迭代器按需拉取下一页，流的消费速度即为读取速度
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.NONNULL), false);
+    }
+}
@@ -4,10 +4,23 @@ import cc.ashclaw.common4j.cache.config.CacheProperties;
 import cc.ashclaw.common4j.cache.core.Cache;
 import cc.ashclaw.common4j.cache.core.CacheManager;
 import cc.ashclaw.common4j.cache.enums.CacheType;
+import cc.ashclaw.common4j.cache.enums.RedisReadMode;
+import cc.ashclaw.common4j.cache.enums.RedisStorageMode;
+import cc.ashclaw.common4j.cache.enums.RedisTopology;
+import cc.ashclaw.common4j.cache.event.CacheEventPublisher;
 import cc.ashclaw.common4j.cache.support.CacheSerializer;
+import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
+import org.redisson.config.BaseMasterSlaveServersConfig;
+import org.redisson.config.ClusterServersConfig;
+import org.redisson.config.Config;
+import org.redisson.config.MasterSlaveServersConfig;
+import org.redisson.config.ReadMode;
+import org.redisson.config.SentinelServersConfig;
 
+import java.time.Duration;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -21,16 +34,138 @@ import java.util.concurrent.ConcurrentHashMap;
  * using Redis backend.
  * <p>
  * 此类管理Redisson缓存实例，并提供使用Redis后端创建、检索和管理分布式缓存实例的方法。
+ * <p>
+ * When the topology has replicas, a cache whose read mode differs from the one of the
+ * client reads through an additional client built from the same properties with that
+ * read mode. Replica reads are bounded by {@code maxStaleness}: keys written by this node
+ * are read from the master for that long, see {@link StalenessBoundedCache}.
+ * <p>
+ * 当拓扑包含副本节点时，读取方式与客户端不同的缓存通过一个以相同属性和该读取方式构建的额外客户端读取。
+ * 副本读取受 {@code maxStaleness} 限制：本节点写入的键在该时长内从主节点读取，参见 {@link StalenessBoundedCache}。
  *
  * @author b1itz7
  * @since 1.1.0
  */
-public class RedissonCacheManager implements CacheManager {
+public class RedissonCacheManager implements CacheManager, AutoCloseable {
     
     private final RedissonClient redissonClient;
     private final CacheSerializer serializer;
     private final CacheProperties cacheProperties;
     private final Map<String, Cache> cacheMap = new ConcurrentHashMap<>();
+    private final Map<RedisReadMode, RedissonClient> readClients = new ConcurrentHashMap<>();
+    private CacheEventPublisher eventPublisher;
+    
+    /**
+     * Builds the Redisson configuration for the configured topology.
+     * <p>
+     * 根据配置的拓扑构建Redisson配置。
+     *
+     * @param cacheProperties the cache configuration properties
+     *                        <p>
+     *                        缓存配置属性
+     * @param readMode the nodes reads go to
+     *                 <p>
+     *                 读取所使用的节点
+     * @return the Redisson configuration
+     *         <p>
+     *         Redisson配置
+     * @throws IllegalArgumentException if the addresses required by the topology are missing
+     *                                  <p>
+     *                                  如果缺少拓扑所需的地址
+     */
+    public static Config newConfig(CacheProperties cacheProperties, RedisReadMode readMode) {
+        CacheProperties.RedissonProperties props = cacheProperties.getRedisson();
+        Config config = newBaseConfig(props);
+        
+        List<String> nodes = props.getNodeAddresses();
+        switch (props.getTopology()) {
+            case SINGLE -> useSingleServer(config, props, props.getAddress());
+            case MASTER_REPLICA -> {
+                MasterSlaveServersConfig servers = config.useMasterSlaveServers()
+                    .setMasterAddress(props.getAddress())
+                    .setDatabase(props.getDatabase());
+                nodes.forEach(servers::addSlaveAddress);
+                applyReplicated(servers, props, readMode);
+            }
+            case SENTINEL -> {
+                if (props.getMasterName() == null || nodes.isEmpty()) {
+                    throw new IllegalArgumentException("哨兵模式需要配置masterName和nodeAddresses");
+                }
+                SentinelServersConfig servers = config.useSentinelServers()
+                    .setMasterName(props.getMasterName())
+                    .setDatabase(props.getDatabase());
+                nodes.forEach(servers::addSentinelAddress);
+                applyReplicated(servers, props, readMode);
+            }
+            case CLUSTER -> {
+                if (nodes.isEmpty()) {
+                    throw new IllegalArgumentException("集群模式需要配置nodeAddresses");
+                }
+                ClusterServersConfig servers = config.useClusterServers();
+                nodes.forEach(servers::addNodeAddress);
+                applyReplicated(servers, props, readMode);
+            }
+        }
+        return config;
+    }
+    
+    /**
+     * Builds the Redisson configuration of a single server at the specified address,
+     * with the pool and timeout settings of the cache properties.
+     * <p>
+     * 构建位于指定地址的单个服务器的Redisson配置，连接池和超时设置沿用缓存属性。
+     *
+     * @param cacheProperties the cache configuration properties
+     *                        <p>
+     *                        缓存配置属性
+     * @param address the server address
+     *                <p>
+     *                服务器地址
+     * @return the Redisson configuration
+     *         <p>
+     *         Redisson配置
+     */
+    public static Config newConfig(CacheProperties cacheProperties, String address) {
+        CacheProperties.RedissonProperties props = cacheProperties.getRedisson();
+        Config config = newBaseConfig(props);
+        useSingleServer(config, props, address);
+        return config;
+    }
+    
+    private static Config newBaseConfig(CacheProperties.RedissonProperties props) {
+        Config config = new Config();
+        config.setThreads(props.getThreads());
+        config.setNettyThreads(props.getNettyThreads());
+        if (props.getPassword() != null && !props.getPassword().isEmpty()) {
+            config.setPassword(props.getPassword());
+        }
+        return config;
+    }
+    
+    private static void useSingleServer(Config config, CacheProperties.RedissonProperties props, String address) {
+        config.useSingleServer()
+            .setAddress(address)
+            .setDatabase(props.getDatabase())
+            .setConnectionPoolSize(props.getConnectionPoolSize())
+            .setConnectionMinimumIdleSize(props.getConnectionMinimumIdleSize())
+            .setConnectTimeout((int) props.getConnectionTimeout().toMillis())
+            .setTimeout((int) props.getCommandTimeout().toMillis());
+    }
+    
+    private static void applyReplicated(BaseMasterSlaveServersConfig<?> servers,
+                                        CacheProperties.RedissonProperties props, RedisReadMode readMode) {
+        servers.setReadMode(switch (readMode) {
+            case MASTER -> ReadMode.MASTER;
+            case REPLICA -> ReadMode.SLAVE;
+            case MASTER_REPLICA -> ReadMode.MASTER_SLAVE;
+        });
+        servers.setMasterConnectionPoolSize(props.getConnectionPoolSize());
+        servers.setMasterConnectionMinimumIdleSize(props.getConnectionMinimumIdleSize());
+        servers.setSlaveConnectionPoolSize(props.getReplicaConnectionPoolSize());
+        servers.setSlaveConnectionMinimumIdleSize(props.getReplicaConnectionMinimumIdleSize());
+        servers.setConnectTimeout((int) props.getConnectionTimeout().toMillis());
+        servers.setTimeout((int) props.getCommandTimeout().toMillis());
+    }
     
     /**
      * Constructs a new RedissonCacheManager with the specified Redisson client and cache properties.
@@ -71,10 +206,22 @@ public class RedissonCacheManager implements CacheManager {
         this.cacheProperties = cacheProperties;
     }
     
+    /**
+     * Sets the publisher receiving the entry events of caches created afterwards.
+     * <p>
+     * 设置接收此后创建的缓存条目事件的发布器。
+     *
+     * @param eventPublisher the event publisher
+     *                       <p>
+     *                       事件发布器
+     */
+    public void setEventPublisher(CacheEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+    
     @Override
     public Cache getCache(String name) {
-        return cacheMap.computeIfAbsent(name, 
-            key -> new RedissonCache(name, redissonClient, serializer, cacheProperties));
+        return cacheMap.computeIfAbsent(name, this::newCache);
     }
     
     @Override
@@ -89,7 +236,7 @@ public class RedissonCacheManager implements CacheManager {
     
     @Override
     public Cache createCache(String name) {
-        RedissonCache cache = new RedissonCache(name, redissonClient, serializer, cacheProperties);
+        Cache cache = newCache(name);
         cacheMap.put(name, cache);
         return cache;
     }
@@ -98,7 +245,67 @@ public class RedissonCacheManager implements CacheManager {
     public void destroyCache(String name) {
         Cache cache = cacheMap.remove(name);
         if (cache != null) {
+            Cache primary = cache instanceof StalenessBoundedCache bounded ? bounded.getPrimary() : cache;
+            if (primary instanceof RedissonCache redissonCache) {
+                redissonCache.removeListeners();
+            }
             cache.clear();
         }
     }
+    
+    /**
+     * Shuts down the additional clients created for per-cache read modes.
+     * <p>
+     * 关闭为各缓存读取方式创建的额外客户端。
+     */
+    @Override
+    public void close() {
+        readClients.values().forEach(RedissonClient::shutdown);
+        readClients.clear();
+    }
+    
+    /**
+     * Creates a cache in the storage and read mode configured for its name, falling back to the global modes.
+     * <p>
+     * 按缓存名称配置的存储方式和读取方式创建缓存，未配置时使用全局设置。
+     */
+    private Cache newCache(String name) {
+        CacheProperties.RedissonProperties props = cacheProperties.getRedisson();
+        CacheProperties.CacheConfig config = cacheProperties.getConfigs().get(name);
+        RedisReadMode readMode = config != null && config.getReadMode() != null
+            ? config.getReadMode()
+            : props.getReadMode();
+        if (props.getTopology() == RedisTopology.SINGLE || readMode == RedisReadMode.MASTER) {
+            return newCache(name, client(RedisReadMode.MASTER), eventPublisher);
+        }
+        
+        Duration maxStaleness = config != null && config.getMaxStaleness() != null
+            ? config.getMaxStaleness()
+            : props.getMaxStaleness();
+        if (maxStaleness == null || maxStaleness.isZero()) {
+            return newCache(name, client(readMode), eventPublisher);
+        }
+        // 只在主节点缓存上注册监听器，避免重复发布事件
+        return new StalenessBoundedCache(newCache(name, client(RedisReadMode.MASTER), eventPublisher),
+            newCache(name, client(readMode), null), maxStaleness);
+    }
+    
+    private Cache newCache(String name, RedissonClient client, CacheEventPublisher publisher) {
+        CacheProperties.CacheConfig config = cacheProperties.getConfigs().get(name);
+        RedisStorageMode mode = config != null && config.getStorageMode() != null
+            ? config.getStorageMode()
+            : cacheProperties.getRedisson().getStorageMode();
+        if (mode == RedisStorageMode.BUCKET) {
+            return new RedissonBucketCache(name, client, serializer, cacheProperties);
+        }
+        return new RedissonCache(name, client, serializer, cacheProperties, publisher);
+    }
+    
+    private RedissonClient client(RedisReadMode readMode) {
+        if (readMode == cacheProperties.getRedisson().getReadMode()
+            || cacheProperties.getRedisson().getTopology() == RedisTopology.SINGLE) {
+            return redissonClient;
+        }
+        return readClients.computeIfAbsent(readMode, mode -> Redisson.create(newConfig(cacheProperties, mode)));
+    }
 }
\ No newline at end of file
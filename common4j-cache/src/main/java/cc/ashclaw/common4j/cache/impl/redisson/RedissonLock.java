@@ -2,10 +2,16 @@ package cc.ashclaw.common4j.cache.impl.redisson;
 
 import cc.ashclaw.common4j.cache.enums.LockType;
 import cc.ashclaw.common4j.cache.exception.CacheLockException;
+import cc.ashclaw.common4j.cache.metrics.CacheMetrics;
+import cc.ashclaw.common4j.cache.metrics.TopKSketch;
 import org.redisson.api.RLock;
 import org.redisson.api.RReadWriteLock;
 import org.redisson.api.RedissonClient;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -18,15 +24,42 @@ import java.util.concurrent.TimeUnit;
  * including reentrant, fair, read-write, and red locks.
  * <p>
  * 此类使用Redisson和Redis后端提供分布式锁定功能，支持各种锁类型，包括可重入锁、公平锁、读写锁和红锁。
+ * <p>
+ * A lock created from several keys acquires them as one Redisson {@code MultiLock}.
+ * The keys are sorted and deduplicated first, so callers locking overlapping key sets
+ * always acquire them in the same order and cannot deadlock each other.
+ * <p>
+ * 由多个键创建的锁会作为一个Redisson {@code MultiLock} 整体获取。键会先排序并去重，
+ * 因此锁定重叠键集合的调用方总是以相同顺序获取锁，不会相互死锁。
  *
  * @author b1itz7
  * @since 1.1.0
  */
 public class RedissonLock {
     
+    /**
+     * The default minimum wait counted as contention, well above a Redis round trip.
+     * <p>
+     * 计为争用的默认最小等待时间，明显高于一次Redis往返。
+     */
+    public static final Duration DEFAULT_CONTENDED_THRESHOLD = Duration.ofMillis(20);
+    
+    /**
+     * The number of keys monitored by the contended keys sketch.
+     * <p>
+     * 争用键概要监控的键数量。
+     */
+    private static final int CONTENDED_KEYS = 64;
+    
     private final RedissonClient redissonClient;
     private final String lockKey;
+    private final List<String> keys;
+    private final List<RLock> locks;
     private RLock lock;
+    private CacheMetrics metrics;
+    private String lockName;
+    private long contendedNanos = DEFAULT_CONTENDED_THRESHOLD.toNanos();
+    private long acquiredAt;
     
     /**
      * Constructs a new RedissonLock with the specified Redisson client and lock key.
@@ -43,7 +76,9 @@ public class RedissonLock {
     public RedissonLock(RedissonClient redissonClient, String lockKey) {
         this.redissonClient = redissonClient;
         this.lockKey = lockKey;
+        this.keys = List.of(lockKey);
         this.lock = redissonClient.getLock(lockKey);
+        this.locks = List.of(lock);
     }
     
     /**
@@ -64,28 +99,119 @@ public class RedissonLock {
     public RedissonLock(RedissonClient redissonClient, String lockKey, LockType lockType) {
         this.redissonClient = redissonClient;
         this.lockKey = lockKey;
+        this.keys = List.of(lockKey);
+        this.lock = createLock(redissonClient, lockKey, lockType);
+        this.locks = List.of(lock);
+    }
+    
+    /**
+     * Constructs a new RedissonLock holding all the specified keys at once.
+     * <p>
+     * 构造一个同时持有所有指定键的新RedissonLock。
+     * <p>
+     * The keys are sorted and deduplicated. A single remaining key is locked directly,
+     * several keys are combined into a {@code MultiLock} that is acquired and released
+     * as a whole.
+     * <p>
+     * 键会被排序并去重。只剩一个键时直接加锁，多个键则组合为一个整体获取和释放的 {@code MultiLock}。
+     *
+     * @param redissonClient the Redisson client instance
+     *                       <p>
+     *                       Redisson客户端实例
+     * @param lockKeys the keys used for the distributed lock
+     *                 <p>
+     *                 用于分布式锁的键
+     * @param lockType the type of lock to create for every key
+     *                 <p>
+     *                 为每个键创建的锁类型
+     */
+    public RedissonLock(RedissonClient redissonClient, Collection<String> lockKeys, LockType lockType) {
+        if (lockKeys == null || lockKeys.isEmpty()) {
+            throw new IllegalArgumentException("Lock keys must not be empty");
+        }
         
+        TreeSet<String> sortedKeys = new TreeSet<>(lockKeys);
+        this.redissonClient = redissonClient;
+        this.lockKey = String.join(",", sortedKeys);
+        this.keys = List.copyOf(sortedKeys);
+        this.locks = sortedKeys.stream()
+            .map(key -> createLock(redissonClient, key, lockType))
+            .toList();
+        this.lock = locks.size() == 1 ? locks.get(0) : redissonClient.getMultiLock(locks.toArray(new RLock[0]));
+    }
+    
+    /**
+     * Records wait time, hold time, failures and contended keys of this lock.
+     * <p>
+     * 记录此锁的等待时间、持有时间、失败次数和争用键。
+     * <p>
+     * Histograms and counters are tagged with the lock name rather than the key, which
+     * keeps the number of metrics bounded; the individual keys only enter the
+     * {@code lock.contended} top-K sketch.
+     * <p>
+     * 直方图和计数器以锁名称而非键作为标签，以限制指标数量；具体的键只进入 {@code lock.contended} Top-K概要。
+     *
+     * @param metrics the metrics registry
+     *                <p>
+     *                指标注册表
+     * @param lockName the lock name used as metric tag, e.g. the key prefix
+     *                 <p>
+     *                 用作指标标签的锁名称，例如键前缀
+     * @return this lock
+     *         <p>
+     *         当前锁
+     */
+    public RedissonLock instrument(CacheMetrics metrics, String lockName) {
+        this.metrics = metrics;
+        this.lockName = lockName;
+        return this;
+    }
+    
+    /**
+     * Records the metrics of this lock, counting waits of at least the specified threshold as contention.
+     * <p>
+     * 记录此锁的指标，等待时间不低于指定阈值时计为争用。
+     *
+     * @param metrics the metrics registry
+     *                <p>
+     *                指标注册表
+     * @param lockName the lock name used as metric tag, e.g. the key prefix
+     *                 <p>
+     *                 用作指标标签的锁名称，例如键前缀
+     * @param contendedThreshold the minimum wait counted as contention
+     *                           <p>
+     *                           计为争用的最小等待时间
+     * @return this lock
+     *         <p>
+     *         当前锁
+     */
+    public RedissonLock instrument(CacheMetrics metrics, String lockName, Duration contendedThreshold) {
+        this.contendedNanos = contendedThreshold.toNanos();
+        return instrument(metrics, lockName);
+    }
+    
+    /**
+     * Creates the Redisson lock of the specified type for a key.
+     * <p>
+     * 为键创建指定类型的Redisson锁。
+     */
+    private static RLock createLock(RedissonClient redissonClient, String lockKey, LockType lockType) {
         switch (lockType) {
             case REENTRANT:
-                this.lock = redissonClient.getLock(lockKey);
-                break;
+                return redissonClient.getLock(lockKey);
             case FAIR:
-                this.lock = redissonClient.getFairLock(lockKey);
-                break;
+                return redissonClient.getFairLock(lockKey);
             case READ:
                 RReadWriteLock readWriteLock = redissonClient.getReadWriteLock(lockKey);
-                this.lock = readWriteLock.readLock();
-                break;
+                return readWriteLock.readLock();
             case WRITE:
                 RReadWriteLock rwLock = redissonClient.getReadWriteLock(lockKey);
-                this.lock = rwLock.writeLock();
-                break;
+                return rwLock.writeLock();
             case RED_LOCK:
                 // 红锁需要多个Redis实例，这里简化处理
-                this.lock = redissonClient.getLock(lockKey);
-                break;
+                return redissonClient.getLock(lockKey);
             default:
-                this.lock = redissonClient.getLock(lockKey);
+                return redissonClient.getLock(lockKey);
         }
     }
     
@@ -99,11 +225,14 @@ public class RedissonLock {
      *                            如果获取锁失败，则抛出CacheLockException
      */
     public void lock() {
+        long start = System.nanoTime();
         try {
             lock.lock();
         } catch (Exception e) {
+            failed();
             throw new CacheLockException("获取分布式锁失败", e);
         }
+        acquired(start);
     }
     
     /**
@@ -122,11 +251,14 @@ public class RedissonLock {
      *                            如果获取锁失败，则抛出CacheLockException
      */
     public void lock(long leaseTime, TimeUnit unit) {
+        long start = System.nanoTime();
         try {
             lock.lock(leaseTime, unit);
         } catch (Exception e) {
+            failed();
             throw new CacheLockException("获取分布式锁失败", e);
         }
+        acquired(start);
     }
     
     /**
@@ -142,11 +274,15 @@ public class RedissonLock {
      *                            如果获取锁失败，则抛出CacheLockException
      */
     public boolean tryLock() {
+        long start = System.nanoTime();
+        boolean locked;
         try {
-            return lock.tryLock();
+            locked = lock.tryLock();
         } catch (Exception e) {
+            failed();
             throw new CacheLockException("尝试获取分布式锁失败", e);
         }
+        return completed(start, locked);
     }
     
     /**
@@ -168,11 +304,15 @@ public class RedissonLock {
      *                            如果获取锁失败，则抛出CacheLockException
      */
     public boolean tryLock(long waitTime, TimeUnit unit) {
+        long start = System.nanoTime();
+        boolean locked;
         try {
-            return lock.tryLock(waitTime, unit);
+            locked = lock.tryLock(waitTime, unit);
         } catch (Exception e) {
+            failed();
             throw new CacheLockException("尝试获取分布式锁失败", e);
         }
+        return completed(start, locked);
     }
     
     /**
@@ -197,11 +337,15 @@ public class RedissonLock {
      *                            如果获取锁失败，则抛出CacheLockException
      */
     public boolean tryLock(long waitTime, long leaseTime, TimeUnit unit) {
+        long start = System.nanoTime();
+        boolean locked;
         try {
-            return lock.tryLock(waitTime, leaseTime, unit);
+            locked = lock.tryLock(waitTime, leaseTime, unit);
         } catch (Exception e) {
+            failed();
             throw new CacheLockException("尝试获取分布式锁失败", e);
         }
+        return completed(start, locked);
     }
     
     /**
@@ -215,8 +359,9 @@ public class RedissonLock {
      */
     public void unlock() {
         try {
-            if (lock.isHeldByCurrentThread()) {
+            if (isHeldByCurrentThread()) {
                 lock.unlock();
+                released();
             }
         } catch (Exception e) {
             throw new CacheLockException("释放分布式锁失败", e);
@@ -234,7 +379,9 @@ public class RedissonLock {
      */
     public void forceUnlock() {
         try {
-            lock.forceUnlock();
+            for (RLock component : locks) {
+                component.forceUnlock();
+            }
         } catch (Exception e) {
             throw new CacheLockException("强制释放分布式锁失败", e);
         }
@@ -250,7 +397,13 @@ public class RedissonLock {
      *         如果锁被当前线程持有，则返回 {@code true}；否则返回 {@code false}
      */
     public boolean isHeldByCurrentThread() {
-        return lock.isHeldByCurrentThread();
+        // MultiLock 不支持直接查询，需逐个检查组成它的锁
+        for (RLock component : locks) {
+            if (!component.isHeldByCurrentThread()) {
+                return false;
+            }
+        }
+        return true;
     }
     
     /**
@@ -263,6 +416,53 @@ public class RedissonLock {
      *         如果锁被任何线程持有，则返回 {@code true}；否则返回 {@code false}
      */
     public boolean isLocked() {
-        return lock.isLocked();
+        for (RLock component : locks) {
+            if (component.isLocked()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private boolean completed(long start, boolean locked) {
+        if (locked) {
+            acquired(start);
+        } else if (metrics != null) {
+            metrics.histogram("lock.wait", "lock", lockName).record(System.nanoTime() - start);
+            metrics.increment("lock.failures", "lock", lockName);
+            contended();
+        }
+        return locked;
+    }
+    
+    private void acquired(long start) {
+        acquiredAt = System.nanoTime();
+        if (metrics != null) {
+            long waitNanos = acquiredAt - start;
+            metrics.histogram("lock.wait", "lock", lockName).record(waitNanos);
+            if (waitNanos >= contendedNanos) {
+                contended();
+            }
+        }
+    }
+    
+    private void released() {
+        if (metrics != null && acquiredAt != 0) {
+            metrics.histogram("lock.hold", "lock", lockName).record(System.nanoTime() - acquiredAt);
+        }
+        acquiredAt = 0;
+    }
+    
+    private void failed() {
+        if (metrics != null) {
+            metrics.increment("lock.errors", "lock", lockName);
+        }
+    }
+    
+    private void contended() {
+        TopKSketch contendedKeys = metrics.topK("lock.contended", CONTENDED_KEYS);
+        for (String key : keys) {
+            contendedKeys.offer(key);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,358 @@
+package cc.ashclaw.common4j.cache.impl.redisson;
+
+import cc.ashclaw.common4j.cache.core.Cache;
+import cc.ashclaw.common4j.cache.support.NullValue;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * Cache reading from replicas while keeping the writes of this node visible.
+ * <p>
+ * 从副本节点读取，同时保证本节点写入可见的缓存。
+ * <p>
+ * Writes go to the primary cache, whose client reads from the master, and the written
+ * keys are remembered for {@code maxStaleness}. Reads of those keys go to the master as
+ * well; every other read goes to the replica cache. A node therefore never reads a value
+ * older than its own last write because of replication lag, while writes made by other
+ * nodes become visible once they reach the replicas. After {@link #clear()} every read
+ * goes to the master for {@code maxStaleness}.
+ * <p>
+ * 写入发往主缓存（其客户端从主节点读取），写入的键会在 {@code maxStaleness} 时长内被记录，
+ * 对这些键的读取同样发往主节点；其他读取都发往副本缓存。因此节点不会因复制延迟读到比自己最近一次写入更旧的值，
+ * 而其他节点的写入在到达副本后可见。调用 {@link #clear()} 后的 {@code maxStaleness} 时长内所有读取都发往主节点。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class StalenessBoundedCache implements Cache {
+
+    private static final long MAX_RECENT_WRITES = 100_000;
+
+    private final Cache primary;
+    private final Cache replica;
+    private final long maxStalenessNanos;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Boolean> recentWrites;
+    private volatile long masterUntil = System.nanoTime();
+
+    /**
+     * Constructs a new StalenessBoundedCache over the specified caches.
+     * <p>
+     * 基于指定的缓存构造一个新的StalenessBoundedCache。
+     *
+     * @param primary the cache whose client reads from the master
+     *                <p>
+     *                其客户端从主节点读取的缓存
+     * @param replica the same cache through a client reading from the replicas
+     *                <p>
+     *                通过从副本节点读取的客户端访问的同一缓存
+     * @param maxStaleness how long written keys are read from the master
+     *                     <p>
+     *                     写入的键从主节点读取的时长
+     */
+    public StalenessBoundedCache(Cache primary, Cache replica, Duration maxStaleness) {
+        this.primary = primary;
+        this.replica = replica;
+        this.maxStalenessNanos = maxStaleness.toNanos();
+        this.recentWrites = Caffeine.newBuilder()
+            .maximumSize(MAX_RECENT_WRITES)
+            .expireAfterWrite(maxStaleness)
+            .build();
+    }
+
+    /**
+     * Gets the cache whose client reads from the master.
+     * <p>
+     * 获取其客户端从主节点读取的缓存。
+     *
+     * @return the primary cache
+     *         <p>
+     *         主缓存
+     */
+    public Cache getPrimary() {
+        return primary;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return primary.getName();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getNativeCache() {
+        return primary.getNativeCache();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return reader(key).get(key, type);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object get(Object key, Type type) {
+        return reader(key).get(key, type);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object cached = get(key, Object.class);
+        if (cached != null) {
+            // 已知不存在的键返回null，不再加载
+            return (T) NullValue.unwrap(cached);
+        }
+
+        try {
+            T value = valueLoader.call();
+            if (value != null) {
+                put(key, value);
+            }
+            return value;
+        } catch (Exception e) {
+            throw new RuntimeException("加载缓存值失败", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Updating the expiration is a write, so it always goes to the master.
+     * <p>
+     * 更新过期时间属于写操作，因此始终发往主节点。
+     */
+    @Override
+    public <T> T getAndTouch(Object key, Class<T> type, long timeout, TimeUnit unit) {
+        return primary.getAndTouch(key, type, timeout, unit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void put(Object key, Object value) {
+        primary.put(key, value);
+        written(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void put(Object key, Object value, long timeout, TimeUnit unit) {
+        primary.put(key, value, timeout, unit);
+        written(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean putIfAbsent(Object key, Object value) {
+        boolean put = primary.putIfAbsent(key, value);
+        written(key);
+        return put;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean putIfAbsent(Object key, Object value, long timeout, TimeUnit unit) {
+        boolean put = primary.putIfAbsent(key, value, timeout, unit);
+        written(key);
+        return put;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> T compute(Object key, Class<T> type, UnaryOperator<T> remappingFunction) {
+        T value = primary.compute(key, type, remappingFunction);
+        written(key);
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void evict(Object key) {
+        primary.evict(key);
+        written(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void evict(Collection<?> keys) {
+        primary.evict(keys);
+        keys.forEach(this::written);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        primary.clear();
+        masterUntil = System.nanoTime() + maxStalenessNanos;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> Map<Object, T> multiGet(Collection<?> keys, Class<T> type) {
+        if (readsFromMaster()) {
+            return primary.multiGet(keys, type);
+        }
+        List<Object> fromMaster = new ArrayList<>();
+        List<Object> fromReplica = new ArrayList<>();
+        for (Object key : keys) {
+            (recentWrites.getIfPresent(key) != null ? fromMaster : fromReplica).add(key);
+        }
+        if (fromMaster.isEmpty()) {
+            return replica.multiGet(fromReplica, type);
+        }
+        Map<Object, T> result = new HashMap<>(primary.multiGet(fromMaster, type));
+        if (!fromReplica.isEmpty()) {
+            result.putAll(replica.multiGet(fromReplica, type));
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void multiPut(Map<?, ?> map) {
+        primary.multiPut(map);
+        map.keySet().forEach(this::written);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void multiPut(Map<?, ?> map, long timeout, TimeUnit unit) {
+        primary.multiPut(map, timeout, unit);
+        map.keySet().forEach(this::written);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long getExpire(Object key) {
+        return reader(key).getExpire(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long getExpire(Object key, TimeUnit timeUnit) {
+        return reader(key).getExpire(key, timeUnit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean expire(Object key, long timeout, TimeUnit unit) {
+        boolean updated = primary.expire(key, timeout, unit);
+        written(key);
+        return updated;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasKey(Object key) {
+        return reader(key).hasKey(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long size() {
+        return replica.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Reading the recency index is a bulk read and goes to the replicas.
+     * <p>
+     * 读取最近写入索引属于批量读取，发往副本节点。
+     */
+    @Override
+    public List<Object> recentKeys(int limit) {
+        return replica.recentKeys(limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Iteration is a bulk read and goes to the replicas.
+     * <p>
+     * 遍历属于批量读取，发往副本节点。
+     */
+    @Override
+    public Stream<Object> keys(String pattern, int batchSize) {
+        return replica.keys(pattern, batchSize);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Iteration is a bulk read and goes to the replicas.
+     * <p>
+     * 遍历属于批量读取，发往副本节点。
+     */
+    @Override
+    public <T> Stream<Map.Entry<Object, T>> entries(String pattern, int batchSize, Class<T> type) {
+        return replica.entries(pattern, batchSize, type);
+    }
+
+    private Cache reader(Object key) {
+        return readsFromMaster() || recentWrites.getIfPresent(key) != null ? primary : replica;
+    }
+
+    private boolean readsFromMaster() {
+        return System.nanoTime() - masterUntil < 0;
+    }
+
+    private void written(Object key) {
+        recentWrites.put(key, Boolean.TRUE);
+    }
+}
@@ -5,9 +5,10 @@
  * <p>
  * This package provides implementations for distributed caching
  * using the Redisson library with Redis backend, including cache
- * instances, cache managers, and distributed lock implementations.
+ * instances stored as one hash or as one key per entry, cache managers,
+ * and distributed lock implementations.
  * <p>
- * 此包使用Redisson库和Redis后端提供分布式缓存的实现，包括缓存实例、缓存管理器和分布式锁实现。
+ * 此包使用Redisson库和Redis后端提供分布式缓存的实现，包括以单个哈希或每条目一个键存储的缓存实例、缓存管理器和分布式锁实现。
  *
  * @author b1itz7
  * @since 1.1.0
@@ -0,0 +1,140 @@
+package cc.ashclaw.common4j.cache.impl.sharded;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Immutable consistent-hash ring mapping keys to nodes.
+ * <p>
+ * 将键映射到节点的不可变一致性哈希环。
+ * <p>
+ * Every node takes {@code virtualNodes} points on a 64-bit ring, placed by hashing the
+ * node name, and a key belongs to the first point at or after its own hash. Adding or
+ * removing a node therefore moves only the keys of that node, and the points depend on
+ * the node names only, so every client builds the same ring. Keys are hashed by their
+ * string form.
+ * <p>
+ * 每个节点根据节点名称的哈希在64位环上占用 {@code virtualNodes} 个点，键属于其哈希值处或之后的第一个点。
+ * 因此增删节点只会移动该节点的键；这些点只取决于节点名称，所有客户端都会构建出相同的环。键按其字符串形式计算哈希。
+ *
+ * @param <T> the node type
+ *            <p>
+ *            节点类型
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class ConsistentHashRing<T> {
+
+    private final NavigableMap<Long, T> ring = new TreeMap<>();
+    private final int nodeCount;
+
+    /**
+     * Constructs a new ring over the specified nodes.
+     * <p>
+     * 基于指定节点构造一个新的哈希环。
+     *
+     * @param nodes the nodes by name
+     *              <p>
+     *              按名称索引的节点
+     * @param virtualNodes the number of points per node
+     *                     <p>
+     *                     每个节点的虚拟节点数
+     * @throws IllegalArgumentException if there are no nodes or {@code virtualNodes} is not positive
+     *                                  <p>
+     *                                  如果没有节点或 {@code virtualNodes} 不是正数
+     */
+    public ConsistentHashRing(Map<String, T> nodes, int virtualNodes) {
+        if (nodes.isEmpty()) {
+            throw new IllegalArgumentException("哈希环至少需要一个节点");
+        }
+        if (virtualNodes <= 0) {
+            throw new IllegalArgumentException("虚拟节点数必须大于0: " + virtualNodes);
+        }
+        for (Map.Entry<String, T> node : nodes.entrySet()) {
+            for (int i = 0; i < virtualNodes; i++) {
+                // 64位哈希碰撞极少见，碰撞时保留先加入的节点
+                ring.putIfAbsent(hash(node.getKey() + "#" + i), node.getValue());
+            }
+        }
+        this.nodeCount = nodes.size();
+    }
+
+    /**
+     * Gets the node owning a key.
+     * <p>
+     * 获取键所属的节点。
+     *
+     * @param key the key
+     *            <p>
+     *            键
+     * @return the node
+     *         <p>
+     *         节点
+     */
+    public T get(Object key) {
+        Map.Entry<Long, T> entry = ring.ceilingEntry(hash(String.valueOf(key)));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    /**
+     * Groups keys by the node owning them.
+     * <p>
+     * 按所属节点对键分组。
+     *
+     * @param keys the keys
+     *             <p>
+     *             键集合
+     * @param <K> the key type
+     *            <p>
+     *            键类型
+     * @return the keys of every node that owns at least one of them
+     *         <p>
+     *         至少拥有其中一个键的每个节点及其键
+     */
+    public <K> Map<T, List<K>> partition(Collection<K> keys) {
+        Map<T, List<K>> groups = new LinkedHashMap<>();
+        for (K key : keys) {
+            groups.computeIfAbsent(get(key), node -> new ArrayList<>()).add(key);
+        }
+        return groups;
+    }
+
+    /**
+     * Gets the number of nodes on the ring.
+     * <p>
+     * 获取环上的节点数。
+     *
+     * @return the number of nodes
+     *         <p>
+     *         节点数
+     */
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Hashes a string with 64-bit FNV-1a followed by the MurmurHash3 finalizer, which
+     * spreads similar names evenly over the ring.
+     * <p>
+     * 使用64位FNV-1a计算字符串哈希，再经过MurmurHash3的最终混合，使相似的名称均匀分布在环上。
+     */
+    static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,540 @@
+package cc.ashclaw.common4j.cache.impl.sharded;
+
+import cc.ashclaw.common4j.cache.core.Cache;
+import cc.ashclaw.common4j.cache.exception.CacheException;
+import cc.ashclaw.common4j.cache.metrics.CacheMetrics;
+import cc.ashclaw.common4j.cache.resilience.CircuitBreaker;
+import cc.ashclaw.common4j.cache.support.NullValue;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * Cache spreading its keys over independent shards through a consistent-hash ring.
+ * <p>
+ * 通过一致性哈希环将键分布到多个独立分片上的缓存。
+ * <p>
+ * Every key lives on the shard chosen by the ring. Multi-key operations are grouped by
+ * shard and the groups run in parallel on virtual threads. Each shard is guarded by a
+ * circuit breaker shared by every cache of the manager: when a shard fails or its breaker
+ * is open, reads from it are misses, so a shard going down costs hit ratio instead of
+ * errors. Writes to such a shard throw a {@link CacheException} instead of being dropped,
+ * since a silently lost eviction would leave a stale entry on the shard; multi-shard
+ * writes still reach the healthy shards before the failure is reported. Iteration visits
+ * the shards one after another.
+ * <p>
+ * 每个键存放在哈希环选定的分片上。多键操作按分片分组，各组在虚拟线程上并行执行。
+ * 每个分片由管理器中所有缓存共享的熔断器保护：分片故障或其熔断器打开时，对其读取视为未命中，
+ * 因此分片宕机只会降低命中率而不会产生错误。对此类分片的写入会抛出 {@link CacheException} 而不是被丢弃，
+ * 因为静默丢失的清除操作会使旧条目保留在分片上；跨分片的写入仍会先作用于健康分片，再报告失败。遍历时依次访问各分片。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class ShardedCache implements Cache {
+
+    private final String name;
+    private final List<Shard> shards;
+    private final ConsistentHashRing<Shard> ring;
+    private final ExecutorService executor;
+    private final CacheMetrics metrics;
+
+    /**
+     * Constructs a new ShardedCache over the specified shard caches.
+     * <p>
+     * 基于指定的分片缓存构造一个新的ShardedCache。
+     *
+     * @param name the name of the cache
+     *             <p>
+     *             缓存的名称
+     * @param caches the cache of every shard by node name
+     *               <p>
+     *               按节点名称索引的各分片缓存
+     * @param breakers the circuit breaker of every shard by node name
+     *                 <p>
+     *                 按节点名称索引的各分片熔断器
+     * @param virtualNodes the number of ring points per shard
+     *                     <p>
+     *                     每个分片的虚拟节点数
+     * @param executor the executor running the shard groups of multi-key operations
+     *                 <p>
+     *                 执行多键操作各分片分组的执行器
+     * @param metrics the metrics registry
+     *                <p>
+     *                指标注册表
+     */
+    public ShardedCache(String name, Map<String, Cache> caches, Map<String, CircuitBreaker> breakers,
+                        int virtualNodes, ExecutorService executor, CacheMetrics metrics) {
+        this.name = name;
+        Map<String, Shard> byNode = new LinkedHashMap<>();
+        for (Map.Entry<String, Cache> entry : caches.entrySet()) {
+            byNode.put(entry.getKey(), new Shard(entry.getKey(), entry.getValue(), breakers.get(entry.getKey())));
+        }
+        this.shards = List.copyOf(byNode.values());
+        this.ring = new ConsistentHashRing<>(byNode, virtualNodes);
+        this.executor = executor;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Gets the cache of the shard owning a key.
+     * <p>
+     * 获取键所属分片的缓存。
+     *
+     * @param key the key
+     *            <p>
+     *            键
+     * @return the shard cache
+     *         <p>
+     *         分片缓存
+     */
+    public Cache getShard(Object key) {
+        return ring.get(key).cache();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns the shard caches in the order of their nodes.
+     * <p>
+     * 按节点顺序返回各分片缓存。
+     */
+    @Override
+    public Object getNativeCache() {
+        return shards.stream().map(Shard::cache).toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return call(ring.get(key), cache -> cache.get(key, type), null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object get(Object key, Type type) {
+        return call(ring.get(key), cache -> cache.get(key, type), null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object cached = get(key, Object.class);
+        if (cached != null) {
+            // 已知不存在的键返回null，不再加载
+            return (T) NullValue.unwrap(cached);
+        }
+
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new RuntimeException("加载缓存值失败", e);
+        }
+        if (value != null) {
+            try {
+                put(key, value);
+            } catch (RuntimeException e) {
+                // 回写失败不影响本次读取，失败已计入分片指标
+            }
+        }
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> T getAndTouch(Object key, Class<T> type, long timeout, TimeUnit unit) {
+        return call(ring.get(key), cache -> cache.getAndTouch(key, type, timeout, unit), null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void put(Object key, Object value) {
+        write(ring.get(key), cache -> {
+            cache.put(key, value);
+            return null;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void put(Object key, Object value, long timeout, TimeUnit unit) {
+        write(ring.get(key), cache -> {
+            cache.put(key, value, timeout, unit);
+            return null;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean putIfAbsent(Object key, Object value) {
+        return write(ring.get(key), cache -> cache.putIfAbsent(key, value));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean putIfAbsent(Object key, Object value, long timeout, TimeUnit unit) {
+        return write(ring.get(key), cache -> cache.putIfAbsent(key, value, timeout, unit));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A failing shard is reported instead of answered with {@code null}, which would
+     * read as an evicted entry.
+     * <p>
+     * 分片故障时抛出异常而不是返回 {@code null}，否则会被误认为条目已移除。
+     */
+    @Override
+    public <T> T compute(Object key, Class<T> type, UnaryOperator<T> remappingFunction) {
+        return write(ring.get(key), cache -> cache.compute(key, type, remappingFunction));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void evict(Object key) {
+        write(ring.get(key), cache -> {
+            cache.evict(key);
+            return null;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void evict(Collection<?> keys) {
+        writeEachShard(ring.partition(keys), Cache::evict);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        Map<Shard, List<Object>> all = new LinkedHashMap<>();
+        shards.forEach(shard -> all.put(shard, List.of()));
+        writeEachShard(all, (cache, group) -> cache.clear());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Keys on a failed shard are missing from the result.
+     * <p>
+     * 故障分片上的键不出现在结果中。
+     */
+    @Override
+    public <T> Map<Object, T> multiGet(Collection<?> keys, Class<T> type) {
+        Map<Object, T> result = new HashMap<>();
+        for (Map<Object, T> values : forEachShard(ring.partition(keys),
+                (cache, group) -> cache.multiGet(group, type), Map.<Object, T>of())) {
+            result.putAll(values);
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void multiPut(Map<?, ?> map) {
+        writeEachShard(ring.partition(map.keySet()), (cache, group) -> cache.multiPut(slice(map, group)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void multiPut(Map<?, ?> map, long timeout, TimeUnit unit) {
+        writeEachShard(ring.partition(map.keySet()),
+            (cache, group) -> cache.multiPut(slice(map, group), timeout, unit));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long getExpire(Object key) {
+        return call(ring.get(key), cache -> cache.getExpire(key), null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long getExpire(Object key, TimeUnit timeUnit) {
+        return call(ring.get(key), cache -> cache.getExpire(key, timeUnit), null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean expire(Object key, long timeout, TimeUnit unit) {
+        return call(ring.get(key), cache -> cache.expire(key, timeout, unit), false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasKey(Object key) {
+        return call(ring.get(key), cache -> cache.hasKey(key), false);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Failed shards count as empty.
+     * <p>
+     * 故障分片按空缓存计算。
+     */
+    @Override
+    public long size() {
+        long size = 0;
+        for (Shard shard : shards) {
+            size += call(shard, Cache::size, 0L);
+        }
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The recent keys of the shards are interleaved, taking one key from each shard in
+     * turn. Keys hash evenly across the shards, so this approximates the order across the
+     * cluster. A shard that cannot be reached is skipped.
+     * <p>
+     * 各分片的最近写入键交替合并，依次从每个分片取一个键。键在各分片间均匀散列，
+     * 因此结果近似于整个集群的写入顺序。无法访问的分片被跳过。
+     */
+    @Override
+    public List<Object> recentKeys(int limit) {
+        List<List<Object>> perShard = new ArrayList<>(shards.size());
+        for (Shard shard : shards) {
+            perShard.add(call(shard, cache -> cache.recentKeys(limit), List.of()));
+        }
+        List<Object> keys = new ArrayList<>();
+        for (int rank = 0; keys.size() < limit; rank++) {
+            boolean any = false;
+            for (List<Object> recent : perShard) {
+                if (rank < recent.size() && keys.size() < limit) {
+                    keys.add(recent.get(rank));
+                    any = true;
+                }
+            }
+            if (!any) {
+                break;
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The shards are iterated one after another; a shard that cannot be reached is skipped.
+     * <p>
+     * 依次遍历各分片；无法访问的分片被跳过。
+     */
+    @Override
+    public Stream<Object> keys(String pattern, int batchSize) {
+        return shards.stream()
+            .flatMap(shard -> call(shard, cache -> cache.keys(pattern, batchSize), Stream.empty()));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The shards are iterated one after another; a shard that cannot be reached is skipped.
+     * <p>
+     * 依次遍历各分片；无法访问的分片被跳过。
+     */
+    @Override
+    public <T> Stream<Map.Entry<Object, T>> entries(String pattern, int batchSize, Class<T> type) {
+        return shards.stream()
+            .flatMap(shard -> call(shard, cache -> cache.entries(pattern, batchSize, type), Stream.empty()));
+    }
+
+    /**
+     * Runs an operation on a shard, falling back when the shard is unavailable.
+     * <p>
+     * 在分片上执行操作，分片不可用时返回降级值。
+     */
+    private <R> R call(Shard shard, Function<Cache, R> operation, R fallback) {
+        if (!shard.breaker().tryAcquire()) {
+            metrics.increment("cache.shard.rejected", "cache", name, "shard", shard.node());
+            return fallback;
+        }
+        long start = System.nanoTime();
+        try {
+            R result = operation.apply(shard.cache());
+            shard.breaker().onSuccess(System.nanoTime() - start);
+            return result;
+        } catch (RuntimeException e) {
+            shard.breaker().onError();
+            metrics.increment("cache.shard.failures", "cache", name, "shard", shard.node());
+            return fallback;
+        }
+    }
+
+    /**
+     * Runs a write on a shard, throwing when the shard is unavailable.
+     * <p>
+     * 在分片上执行写入，分片不可用时抛出异常。
+     */
+    private <R> R write(Shard shard, Function<Cache, R> operation) {
+        if (!shard.breaker().tryAcquire()) {
+            metrics.increment("cache.shard.rejected", "cache", name, "shard", shard.node());
+            throw new CacheException("缓存分片不可用，写入未执行: " + shard.node());
+        }
+        long start = System.nanoTime();
+        try {
+            R result = operation.apply(shard.cache());
+            shard.breaker().onSuccess(System.nanoTime() - start);
+            return result;
+        } catch (RuntimeException e) {
+            shard.breaker().onError();
+            metrics.increment("cache.shard.failures", "cache", name, "shard", shard.node());
+            throw e;
+        }
+    }
+
+    /**
+     * Runs a write on every shard group in parallel and throws the first failure once all groups finished.
+     * <p>
+     * 对每个分片分组并行执行写入，全部分组完成后抛出第一个失败。
+     */
+    private <K> void writeEachShard(Map<Shard, List<K>> groups, BiConsumer<Cache, List<K>> operation) {
+        if (groups.size() == 1) {
+            Map.Entry<Shard, List<K>> group = groups.entrySet().iterator().next();
+            write(group.getKey(), cache -> {
+                operation.accept(cache, group.getValue());
+                return null;
+            });
+            return;
+        }
+        List<CompletableFuture<Object>> futures = new ArrayList<>(groups.size());
+        for (Map.Entry<Shard, List<K>> group : groups.entrySet()) {
+            futures.add(CompletableFuture.supplyAsync(() -> write(group.getKey(), cache -> {
+                operation.accept(cache, group.getValue());
+                return null;
+            }), executor));
+        }
+        RuntimeException failure = null;
+        for (CompletableFuture<Object> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                RuntimeException cause = e.getCause() instanceof RuntimeException runtime ? runtime : e;
+                if (failure == null) {
+                    failure = cause;
+                } else {
+                    failure.addSuppressed(cause);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Runs an operation on every shard group, in parallel when there is more than one group.
+     * <p>
+     * 对每个分片分组执行操作，分组多于一个时并行执行。
+     */
+    private <K, R> List<R> forEachShard(Map<Shard, List<K>> groups,
+                                        BiFunction<Cache, List<K>, R> operation, R fallback) {
+        if (groups.size() == 1) {
+            Map.Entry<Shard, List<K>> group = groups.entrySet().iterator().next();
+            R result = call(group.getKey(), cache -> operation.apply(cache, group.getValue()), fallback);
+            return result == null ? List.of() : List.of(result);
+        }
+        List<CompletableFuture<R>> futures = new ArrayList<>(groups.size());
+        for (Map.Entry<Shard, List<K>> group : groups.entrySet()) {
+            futures.add(CompletableFuture.supplyAsync(
+                () -> call(group.getKey(), cache -> operation.apply(cache, group.getValue()), fallback), executor));
+        }
+        List<R> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<R> future : futures) {
+            R result = future.join();
+            if (result != null) {
+                results.add(result);
+            }
+        }
+        return results;
+    }
+
+    private static Map<Object, Object> slice(Map<?, ?> map, List<?> keys) {
+        Map<Object, Object> slice = new HashMap<>(keys.size() * 2);
+        for (Object key : keys) {
+            slice.put(key, map.get(key));
+        }
+        return slice;
+    }
+
+    /**
+     * A shard: its node name, its cache and the circuit breaker guarding the node.
+     * Shards are equal when their node names are, so grouping keys by shard never
+     * calls into the shard's cache.
+     * <p>
+     * 分片：节点名称、分片缓存以及保护该节点的熔断器。
+     * 节点名称相同的分片即相等，因此按分片对键分组时不会调用分片缓存。
+     */
+    record Shard(String node, Cache cache, CircuitBreaker breaker) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Shard other && node.equals(other.node);
+        }
+
+        @Override
+        public int hashCode() {
+            return node.hashCode();
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package cc.ashclaw.common4j.cache.impl.sharded;
+
+import cc.ashclaw.common4j.cache.config.CacheProperties;
+import cc.ashclaw.common4j.cache.core.Cache;
+import cc.ashclaw.common4j.cache.core.CacheManager;
+import cc.ashclaw.common4j.cache.enums.CacheType;
+import cc.ashclaw.common4j.cache.impl.redisson.RedissonCacheManager;
+import cc.ashclaw.common4j.cache.metrics.CacheMetrics;
+import cc.ashclaw.common4j.cache.resilience.CircuitBreaker;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Implementation of CacheManager interface sharding every cache over independent cache managers.
+ * <p>
+ * 将每个缓存分片到多个独立缓存管理器上的CacheManager接口实现。
+ * <p>
+ * Each shard is a cache manager of its own, normally a {@link RedissonCacheManager} over
+ * one Redis server, and every cache is a {@link ShardedCache} routing keys to the shards
+ * through a consistent-hash ring. The circuit breaker of a shard is shared by all caches,
+ * so a server going down is detected once. The manager can be the distributed tier of
+ * a multi-level cache.
+ * <p>
+ * 每个分片都是一个独立的缓存管理器，通常是基于一个Redis服务器的 {@link RedissonCacheManager}；
+ * 每个缓存都是通过一致性哈希环将键路由到各分片的 {@link ShardedCache}。分片的熔断器由所有缓存共享，
+ * 因此服务器宕机只需检测一次。此管理器可作为多级缓存的分布式缓存层。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class ShardedCacheManager implements CacheManager, AutoCloseable {
+
+    private final Map<String, CacheManager> shards;
+    private final Map<String, CircuitBreaker> breakers = new LinkedHashMap<>();
+    private final CacheProperties cacheProperties;
+    private final CacheMetrics metrics;
+    private final List<RedissonClient> clients;
+    private final ExecutorService executor;
+    private final Map<String, ShardedCache> cacheMap = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new ShardedCacheManager over the specified shard cache managers.
+     * <p>
+     * 基于指定的分片缓存管理器构造一个新的ShardedCacheManager。
+     *
+     * @param shards the cache manager of every shard by node name; the names place the shards on the ring
+     *               <p>
+     *               按节点名称索引的各分片缓存管理器；名称决定分片在哈希环上的位置
+     * @param cacheProperties the cache configuration properties
+     *                        <p>
+     *                        缓存配置属性
+     * @param metrics the metrics registry
+     *                <p>
+     *                指标注册表
+     */
+    public ShardedCacheManager(Map<String, ? extends CacheManager> shards, CacheProperties cacheProperties,
+                               CacheMetrics metrics) {
+        this(shards, cacheProperties, metrics, List.of());
+    }
+
+    private ShardedCacheManager(Map<String, ? extends CacheManager> shards, CacheProperties cacheProperties,
+                                CacheMetrics metrics, List<RedissonClient> clients) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("分片缓存至少需要一个分片");
+        }
+        this.shards = new LinkedHashMap<>(shards);
+        for (String node : shards.keySet()) {
+            breakers.put(node, new CircuitBreaker(node, cacheProperties.getResilience()));
+        }
+        this.cacheProperties = cacheProperties;
+        this.metrics = metrics;
+        this.clients = clients;
+        this.executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("common4j-cache-shard-", 0).factory());
+    }
+
+    /**
+     * Creates a manager with one Redisson client per address in {@code sharding.nodes}.
+     * <p>
+     * 为 {@code sharding.nodes} 中的每个地址创建一个Redisson客户端，并据此创建管理器。
+     * <p>
+     * The clients share the pool and timeout settings of the {@code redisson} properties
+     * and are shut down by {@link #close()}.
+     * <p>
+     * 这些客户端沿用 {@code redisson} 属性中的连接池和超时设置，并由 {@link #close()} 关闭。
+     *
+     * @param cacheProperties the cache configuration properties
+     *                        <p>
+     *                        缓存配置属性
+     * @param metrics the metrics registry
+     *                <p>
+     *                指标注册表
+     * @return the sharded cache manager
+     *         <p>
+     *         分片缓存管理器
+     */
+    public static ShardedCacheManager create(CacheProperties cacheProperties, CacheMetrics metrics) {
+        Map<String, CacheManager> shards = new LinkedHashMap<>();
+        List<RedissonClient> clients = new ArrayList<>();
+        for (String address : cacheProperties.getSharding().getNodes()) {
+            RedissonClient client = Redisson.create(RedissonCacheManager.newConfig(cacheProperties, address));
+            clients.add(client);
+            shards.put(address, new RedissonCacheManager(client, cacheProperties));
+        }
+        return new ShardedCacheManager(shards, cacheProperties, metrics, clients);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return cacheMap.computeIfAbsent(name, this::newCache);
+    }
+
+    @Override
+    public CacheType getCacheType() {
+        return CacheType.DISTRIBUTED;
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return cacheMap.keySet();
+    }
+
+    @Override
+    public Cache createCache(String name) {
+        ShardedCache cache = newCache(name);
+        cacheMap.put(name, cache);
+        return cache;
+    }
+
+    @Override
+    public void destroyCache(String name) {
+        cacheMap.remove(name);
+        for (CacheManager shard : shards.values()) {
+            shard.destroyCache(name);
+        }
+    }
+
+    /**
+     * Stops the shard executor and shuts down the clients created by {@link #create}.
+     * <p>
+     * 停止分片执行器，并关闭由 {@link #create} 创建的客户端。
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        clients.forEach(RedissonClient::shutdown);
+    }
+
+    private ShardedCache newCache(String name) {
+        Map<String, Cache> caches = new LinkedHashMap<>();
+        for (Map.Entry<String, CacheManager> shard : shards.entrySet()) {
+            caches.put(shard.getKey(), shard.getValue().getCache(name));
+        }
+        return new ShardedCache(name, caches, breakers, cacheProperties.getSharding().getVirtualNodes(),
+            executor, metrics);
+    }
+}
@@ -0,0 +1,14 @@
+/**
+ * Package containing client-side sharded cache implementations.
+ * <p>
+ * 包含客户端分片缓存实现的包。
+ * <p>
+ * This package provides a cache manager that spreads the keys of every cache over
+ * independent Redis servers through a consistent-hash ring, without Redis Cluster.
+ * <p>
+ * 此包提供一个缓存管理器，通过一致性哈希环将每个缓存的键分布到多个独立的Redis服务器上，无需Redis集群。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+package cc.ashclaw.common4j.cache.impl.sharded;
@@ -0,0 +1,239 @@
+package cc.ashclaw.common4j.cache.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Lightweight registry for cache module metrics.
+ * <p>
+ * 缓存模块指标的轻量级注册表。
+ * <p>
+ * Components of the cache module register counters, gauges, latency histograms and
+ * top-K sketches here under a
+ * metric name and optional tag pairs. The registry has no dependency on a
+ * metrics library; {@link #snapshot()} returns the current values so that they
+ * can be bridged to Micrometer, JMX or a log reporter by the application.
+ * <p>
+ * 缓存模块的各组件以指标名称和可选的标签对在此注册计数器、仪表、耗时直方图和Top-K概要。
+ * 注册表不依赖任何指标库；{@link #snapshot()} 返回当前值，由应用程序桥接到Micrometer、JMX或日志输出。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class CacheMetrics {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final Map<String, Supplier<? extends Number>> gauges = new ConcurrentHashMap<>();
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, TopKSketch> sketches = new ConcurrentHashMap<>();
+
+    /**
+     * Gets or creates the counter with the specified name and tags.
+     * <p>
+     * 获取或创建具有指定名称和标签的计数器。
+     *
+     * @param name the metric name
+     *             <p>
+     *             指标名称
+     * @param tags the tag key/value pairs, e.g. {@code "cache", "user"}
+     *             <p>
+     *             标签键值对，例如 {@code "cache", "user"}
+     * @return the counter
+     *         <p>
+     *         计数器
+     */
+    public LongAdder counter(String name, String... tags) {
+        return counters.computeIfAbsent(id(name, tags), key -> new LongAdder());
+    }
+
+    /**
+     * Increments the counter with the specified name and tags by one.
+     * <p>
+     * 将具有指定名称和标签的计数器加一。
+     *
+     * @param name the metric name
+     *             <p>
+     *             指标名称
+     * @param tags the tag key/value pairs
+     *             <p>
+     *             标签键值对
+     */
+    public void increment(String name, String... tags) {
+        counter(name, tags).increment();
+    }
+
+    /**
+     * Registers a gauge whose value is read from the supplier at snapshot time.
+     * <p>
+     * 注册一个仪表，其值在生成快照时从提供者读取。
+     * <p>
+     * Registering the same name and tags again replaces the previous gauge.
+     * <p>
+     * 使用相同的名称和标签再次注册会替换之前的仪表。
+     *
+     * @param name the metric name
+     *             <p>
+     *             指标名称
+     * @param supplier the supplier of the current value
+     *                 <p>
+     *                 当前值的提供者
+     * @param tags the tag key/value pairs
+     *             <p>
+     *             标签键值对
+     */
+    public void gauge(String name, Supplier<? extends Number> supplier, String... tags) {
+        gauges.put(id(name, tags), supplier);
+    }
+
+    /**
+     * Removes the gauge with the specified name and tags.
+     * <p>
+     * 移除具有指定名称和标签的仪表。
+     *
+     * @param name the metric name
+     *             <p>
+     *             指标名称
+     * @param tags the tag key/value pairs
+     *             <p>
+     *             标签键值对
+     */
+    public void removeGauge(String name, String... tags) {
+        gauges.remove(id(name, tags));
+    }
+
+    /**
+     * Gets or creates the latency histogram with the specified name and tags.
+     * <p>
+     * 获取或创建具有指定名称和标签的耗时直方图。
+     * <p>
+     * A histogram appears in the snapshot as {@code name.count}, {@code name.mean},
+     * {@code name.p50}, {@code name.p99} and {@code name.max}, durations in milliseconds.
+     * <p>
+     * 直方图在快照中表现为 {@code name.count}、{@code name.mean}、{@code name.p50}、
+     * {@code name.p99} 和 {@code name.max}，耗时以毫秒为单位。
+     *
+     * @param name the metric name
+     *             <p>
+     *             指标名称
+     * @param tags the tag key/value pairs
+     *             <p>
+     *             标签键值对
+     * @return the histogram
+     *         <p>
+     *         直方图
+     */
+    public LatencyHistogram histogram(String name, String... tags) {
+        return histograms.computeIfAbsent(id(name, tags), key -> new Histogram(name, tags)).histogram;
+    }
+
+    /**
+     * Gets or creates the top-K sketch with the specified name.
+     * <p>
+     * 获取或创建具有指定名称的Top-K概要。
+     * <p>
+     * The monitored keys appear in the snapshot as {@code name{key=...}} with their
+     * estimated counts.
+     * <p>
+     * 被监控的键在快照中表现为 {@code name{key=...}}，值为其估计计数。
+     *
+     * @param name the metric name
+     *             <p>
+     *             指标名称
+     * @param capacity the number of monitored keys, used when the sketch is created
+     *                 <p>
+     *                 监控的键数量，仅在创建概要时使用
+     * @return the sketch
+     *         <p>
+     *         概要
+     */
+    public TopKSketch topK(String name, int capacity) {
+        return sketches.computeIfAbsent(name, key -> new TopKSketch(capacity));
+    }
+
+    /**
+     * Takes a snapshot of all registered metrics, sorted by metric id.
+     * <p>
+     * 获取所有已注册指标的快照，按指标标识排序。
+     *
+     * @return the metric values keyed by {@code name{tag=value,...}}
+     *         <p>
+     *         以 {@code name{tag=value,...}} 为键的指标值
+     */
+    public Map<String, Number> snapshot() {
+        Map<String, Number> snapshot = new TreeMap<>();
+        for (Map.Entry<String, LongAdder> entry : counters.entrySet()) {
+            snapshot.put(entry.getKey(), entry.getValue().sum());
+        }
+        for (Map.Entry<String, Supplier<? extends Number>> entry : gauges.entrySet()) {
+            Number value = entry.getValue().get();
+            if (value != null) {
+                snapshot.put(entry.getKey(), value);
+            }
+        }
+        for (Histogram entry : histograms.values()) {
+            LatencyHistogram histogram = entry.histogram;
+            snapshot.put(id(entry.name + ".count", entry.tags), histogram.getCount());
+            snapshot.put(id(entry.name + ".mean", entry.tags), histogram.getMean() / NANOS_PER_MILLI);
+            snapshot.put(id(entry.name + ".p50", entry.tags), histogram.getPercentile(0.5) / NANOS_PER_MILLI);
+            snapshot.put(id(entry.name + ".p99", entry.tags), histogram.getPercentile(0.99) / NANOS_PER_MILLI);
+            snapshot.put(id(entry.name + ".max", entry.tags), histogram.getMax() / NANOS_PER_MILLI);
+        }
+        for (Map.Entry<String, TopKSketch> entry : sketches.entrySet()) {
+            TopKSketch sketch = entry.getValue();
+            for (TopKSketch.Entry top : sketch.top(sketch.getCapacity())) {
+                snapshot.put(id(entry.getKey(), "key", top.key()), top.count());
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Builds the metric id from the name and tag pairs.
+     * <p>
+     * 根据名称和标签对构建指标标识。
+     *
+     * @param name the metric name
+     *             <p>
+     *             指标名称
+     * @param tags the tag key/value pairs
+     *             <p>
+     *             标签键值对
+     * @return the metric id
+     *         <p>
+     *         指标标识
+     */
+    static String id(String name, String... tags) {
+        if (tags == null || tags.length == 0) {
+            return name;
+        }
+        if (tags.length % 2 != 0) {
+            throw new IllegalArgumentException("Tags must be key/value pairs: " + String.join(",", tags));
+        }
+
+        StringBuilder id = new StringBuilder(name).append('{');
+        for (int i = 0; i < tags.length; i += 2) {
+            if (i > 0) {
+                id.append(',');
+            }
+            id.append(tags[i]).append('=').append(tags[i + 1]);
+        }
+        return id.append('}').toString();
+    }
+
+    private static final class Histogram {
+
+        private final String name;
+        private final String[] tags;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+
+        private Histogram(String name, String[] tags) {
+            this.name = name;
+            this.tags = tags;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package cc.ashclaw.common4j.cache.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of durations with log-linear buckets.
+ * <p>
+ * 使用对数线性分桶的无锁耗时直方图。
+ * <p>
+ * Every power of two is split into {@value #SUB_BUCKETS} linear sub-buckets, so a
+ * recorded value is off by at most 12.5% while the whole range of {@code long}
+ * nanoseconds fits into a few hundred counters. Recording is a single atomic
+ * increment and never allocates.
+ * <p>
+ * 每个2的幂区间被划分为 {@value #SUB_BUCKETS} 个线性子桶，记录值的误差不超过12.5%，
+ * 而整个 {@code long} 纳秒范围只需几百个计数器。记录操作只是一次原子自增，不分配对象。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class LatencyHistogram {
+
+    static final int SUB_BUCKET_BITS = 3;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * Records a duration.
+     * <p>
+     * 记录一次耗时。
+     *
+     * @param nanos the duration in nanoseconds; negative values are recorded as zero
+     *              <p>
+     *              以纳秒为单位的耗时，负值按0记录
+     */
+    public void record(long nanos) {
+        long value = Math.max(0L, nanos);
+        buckets.incrementAndGet(bucketIndex(value));
+        count.increment();
+        total.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * Gets the number of recorded durations.
+     * <p>
+     * 获取已记录的耗时数量。
+     *
+     * @return the number of recorded durations
+     *         <p>
+     *         已记录的耗时数量
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Gets the largest recorded duration.
+     * <p>
+     * 获取记录到的最大耗时。
+     *
+     * @return the largest duration in nanoseconds, or 0 if nothing was recorded
+     *         <p>
+     *         以纳秒为单位的最大耗时，未记录时返回0
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Gets the mean of the recorded durations.
+     * <p>
+     * 获取已记录耗时的平均值。
+     *
+     * @return the mean in nanoseconds, or 0 if nothing was recorded
+     *         <p>
+     *         以纳秒为单位的平均值，未记录时返回0
+     */
+    public double getMean() {
+        long n = count.sum();
+        return n == 0 ? 0.0 : (double) total.sum() / n;
+    }
+
+    /**
+     * Gets the duration below which the specified fraction of the recorded durations fall.
+     * <p>
+     * 获取指定比例的已记录耗时所低于的耗时值。
+     *
+     * @param quantile the quantile between 0 and 1, e.g. {@code 0.99}
+     *                 <p>
+     *                 0到1之间的分位数，例如 {@code 0.99}
+     * @return the upper bound of the bucket holding the quantile in nanoseconds,
+     *         or 0 if nothing was recorded
+     *         <p>
+     *         分位数所在桶的上界（纳秒），未记录时返回0
+     */
+    public long getPercentile(double quantile) {
+        if (quantile < 0.0 || quantile > 1.0) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1, but got " + quantile);
+        }
+
+        long[] counts = new long[BUCKET_COUNT];
+        long recorded = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            recorded += counts[i];
+        }
+        if (recorded == 0) {
+            return 0L;
+        }
+
+        long target = Math.max(1L, (long) Math.ceil(quantile * recorded));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(bucketUpperBound(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Gets the bucket of a non-negative value.
+     * <p>
+     * 获取非负值所在的桶。
+     */
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Gets the largest value falling into a bucket.
+     * <p>
+     * 获取落入某个桶的最大值。
+     */
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long subBucket = index % SUB_BUCKETS;
+        long next = (SUB_BUCKETS + subBucket + 1) << shift;
+        // 最高的桶上界超出 long 范围
+        return next <= 0 ? Long.MAX_VALUE : next - 1;
+    }
+}
@@ -0,0 +1,129 @@
+package cc.ashclaw.common4j.cache.metrics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving sketch tracking the most frequent keys of an unbounded stream.
+ * <p>
+ * 跟踪无界数据流中最频繁键的Space-Saving概要结构。
+ * <p>
+ * At most {@code capacity} keys are monitored. An unmonitored key replaces the key
+ * with the smallest count and inherits that count as its error, so every key seen
+ * more than {@code n / capacity} times out of {@code n} is guaranteed to be present
+ * and no count is ever underestimated.
+ * <p>
+ * 最多监控 {@code capacity} 个键。未被监控的键会替换计数最小的键，并继承该计数作为误差。
+ * 因此在 {@code n} 次出现中超过 {@code n / capacity} 次的键一定会被保留，且计数不会被低估。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class TopKSketch {
+
+    /**
+     * A monitored key with its estimated count.
+     * <p>
+     * 被监控的键及其估计计数。
+     *
+     * @param key the key
+     *            <p>
+     *            键
+     * @param count the estimated count, never lower than the real count
+     *              <p>
+     *              估计计数，不低于真实计数
+     * @param error the largest possible overestimation of the count
+     *              <p>
+     *              计数可能的最大高估值
+     */
+    public record Entry(String key, long count, long error) {
+    }
+
+    private final int capacity;
+    private final Map<String, long[]> counters = new HashMap<>();
+
+    /**
+     * Constructs a new TopKSketch monitoring up to the specified number of keys.
+     * <p>
+     * 构造一个最多监控指定数量键的新TopKSketch。
+     *
+     * @param capacity the number of monitored keys
+     *                 <p>
+     *                 监控的键数量
+     */
+    public TopKSketch(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive, but got " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Counts one occurrence of a key.
+     * <p>
+     * 记录键的一次出现。
+     *
+     * @param key the key
+     *            <p>
+     *            键
+     */
+    public synchronized void offer(String key) {
+        long[] counter = counters.get(key);
+        if (counter != null) {
+            counter[0]++;
+            return;
+        }
+        if (counters.size() < capacity) {
+            counters.put(key, new long[] {1L, 0L});
+            return;
+        }
+
+        // 替换计数最小的键，新键继承其计数作为误差
+        String minKey = null;
+        long minCount = Long.MAX_VALUE;
+        for (Map.Entry<String, long[]> entry : counters.entrySet()) {
+            if (entry.getValue()[0] < minCount) {
+                minCount = entry.getValue()[0];
+                minKey = entry.getKey();
+            }
+        }
+        counters.remove(minKey);
+        counters.put(key, new long[] {minCount + 1, minCount});
+    }
+
+    /**
+     * Gets the most frequent keys, most frequent first.
+     * <p>
+     * 获取最频繁的键，按频率从高到低排列。
+     *
+     * @param limit the maximum number of keys
+     *              <p>
+     *              最大键数量
+     * @return the most frequent keys
+     *         <p>
+     *         最频繁的键
+     */
+    public synchronized List<Entry> top(int limit) {
+        List<Entry> entries = new ArrayList<>(counters.size());
+        for (Map.Entry<String, long[]> entry : counters.entrySet()) {
+            entries.add(new Entry(entry.getKey(), entry.getValue()[0], entry.getValue()[1]));
+        }
+        entries.sort((a, b) -> Long.compare(b.count(), a.count()));
+        return entries.size() > limit ? new ArrayList<>(entries.subList(0, limit)) : entries;
+    }
+
+    /**
+     * Gets the number of monitored keys.
+     * <p>
+     * 获取监控的键数量。
+     *
+     * @return the number of monitored keys
+     *         <p>
+     *         监控的键数量
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,17 @@
+/**
+ * Package containing cache metrics support.
+ * <p>
+ * 包含缓存指标支持的包。
+ * <p>
+ * This package provides a dependency-free metrics registry that the cache
+ * components use to publish counters and gauges, such as memory budget
+ * allocations and rebalancing decisions, together with a log-linear latency
+ * histogram and a Space-Saving top-K sketch used for lock contention.
+ * <p>
+ * 此包提供一个无依赖的指标注册表，缓存组件使用它发布计数器和仪表，例如内存预算分配和再平衡决策，
+ * 以及用于锁争用统计的对数线性耗时直方图和Space-Saving Top-K概要。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+package cc.ashclaw.common4j.cache.metrics;
@@ -0,0 +1,72 @@
+package cc.ashclaw.common4j.cache.preheat;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-process preheat coordinator, used in tests and where the nodes share one JVM.
+ * <p>
+ * 进程内的预热协调器，在测试中以及节点共享同一JVM时使用。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class InMemoryPreheatCoordinator implements PreheatCoordinator {
+
+    private final Map<String, ReentrantLock> locks = new ConcurrentHashMap<>();
+    private final Map<String, Long> completed = new ConcurrentHashMap<>();
+    private final Duration waitTime;
+    private final Duration freshness;
+
+    /**
+     * Constructs a new InMemoryPreheatCoordinator.
+     * <p>
+     * 构造一个新的InMemoryPreheatCoordinator。
+     *
+     * @param waitTime how long to wait for the thread running a task
+     *                 <p>
+     *                 等待正在执行任务的线程的最长时间
+     * @param freshness how long a completed task is not run again
+     *                  <p>
+     *                  已完成的任务不再执行的时长
+     */
+    public InMemoryPreheatCoordinator(Duration waitTime, Duration freshness) {
+        this.waitTime = waitTime;
+        this.freshness = freshness;
+    }
+
+    @Override
+    public boolean runOnce(String task, Runnable loader) {
+        if (isCompleted(task)) {
+            return false;
+        }
+
+        ReentrantLock lock = locks.computeIfAbsent(task, k -> new ReentrantLock());
+        try {
+            if (!lock.tryLock(waitTime.toMillis(), TimeUnit.MILLISECONDS)) {
+                return false;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        try {
+            if (isCompleted(task)) {
+                return false;
+            }
+            loader.run();
+            completed.put(task, System.nanoTime() + freshness.toNanos());
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isCompleted(String task) {
+        Long until = completed.get(task);
+        return until != null && System.nanoTime() - until < 0;
+    }
+}
@@ -0,0 +1,37 @@
+package cc.ashclaw.common4j.cache.preheat;
+
+/**
+ * Coordinator letting only one node of a cluster run each preheat task.
+ * <p>
+ * 使集群中每个预热任务只由一个节点执行的协调器。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public interface PreheatCoordinator {
+
+    /**
+     * Runs a preheat task unless another node has completed it recently.
+     * <p>
+     * 执行预热任务，除非其他节点最近已完成该任务。
+     * <p>
+     * While one node runs the task the other nodes wait for it. If the running node fails
+     * or dies, a waiting node takes the task over. A node that is not the one running the
+     * loader should fill its local tier from the distributed tier instead.
+     * <p>
+     * 一个节点执行任务期间其他节点等待。执行任务的节点失败或宕机时，由等待的节点接管任务。
+     * 未执行加载的节点应从分布式缓存填充其本地缓存。
+     *
+     * @param task the name of the task, the same on every node
+     *             <p>
+     *             任务名称，在所有节点上相同
+     * @param loader the loader writing the data to the caches
+     *               <p>
+     *               将数据写入缓存的加载器
+     * @return {@code true} if the loader ran on this node, {@code false} if the task was
+     *         completed by another node or waiting for it timed out
+     *         <p>
+     *         如果加载器在本节点执行则返回 {@code true}；如果任务已由其他节点完成或等待超时则返回 {@code false}
+     */
+    boolean runOnce(String task, Runnable loader);
+}
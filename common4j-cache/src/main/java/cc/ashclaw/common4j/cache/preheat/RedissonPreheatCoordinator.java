@@ -0,0 +1,88 @@
+package cc.ashclaw.common4j.cache.preheat;
+
+import org.redisson.api.RBucket;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Preheat coordinator based on a Redisson lock per task and a completion marker.
+ * <p>
+ * 基于每个任务一把Redisson锁和完成标记的预热协调器。
+ * <p>
+ * The lock is taken without a lease time, so the watchdog keeps it while the node is
+ * alive and lets it expire shortly after the node dies, handing the task to the next
+ * waiting node. The completion marker expires after {@code freshness}, so a later
+ * rollout preheats again.
+ * <p>
+ * 加锁时不指定租约时间，由看门狗在节点存活期间续期，节点宕机后锁很快过期，任务交给下一个等待的节点。
+ * 完成标记在 {@code freshness} 后过期，因此之后的发布会重新预热。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class RedissonPreheatCoordinator implements PreheatCoordinator {
+
+    private final RedissonClient redissonClient;
+    private final String keyPrefix;
+    private final Duration waitTime;
+    private final Duration freshness;
+
+    /**
+     * Constructs a new RedissonPreheatCoordinator.
+     * <p>
+     * 构造一个新的RedissonPreheatCoordinator。
+     *
+     * @param redissonClient the Redisson client instance
+     *                       <p>
+     *                       Redisson客户端实例
+     * @param keyPrefix the prefix of the Redis keys
+     *                  <p>
+     *                  Redis键的前缀
+     * @param waitTime how long to wait for the node running a task
+     *                 <p>
+     *                 等待正在执行任务的节点的最长时间
+     * @param freshness how long a completed task is not run again
+     *                  <p>
+     *                  已完成的任务不再执行的时长
+     */
+    public RedissonPreheatCoordinator(RedissonClient redissonClient, String keyPrefix,
+                                      Duration waitTime, Duration freshness) {
+        this.redissonClient = redissonClient;
+        this.keyPrefix = keyPrefix;
+        this.waitTime = waitTime;
+        this.freshness = freshness;
+    }
+
+    @Override
+    public boolean runOnce(String task, Runnable loader) {
+        RBucket<String> done = redissonClient.getBucket(keyPrefix + task + ":done", StringCodec.INSTANCE);
+        if (done.isExists()) {
+            return false;
+        }
+
+        RLock lock = redissonClient.getLock(keyPrefix + task);
+        try {
+            if (!lock.tryLock(waitTime.toMillis(), TimeUnit.MILLISECONDS)) {
+                return false;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        try {
+            // 等待期间任务可能已由其他节点完成
+            if (done.isExists()) {
+                return false;
+            }
+            loader.run();
+            done.set("1", freshness);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
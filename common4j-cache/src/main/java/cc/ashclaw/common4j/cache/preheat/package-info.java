@@ -0,0 +1,16 @@
+/**
+ * Package containing cluster coordination of cache preheating.
+ * <p>
+ * 包含缓存预热集群协调的包。
+ * <p>
+ * This package provides the {@code PreheatCoordinator} used by the preheat aspect, so
+ * that a rollout loads each preheat task from the data source on one node only, together
+ * with a coordinator based on Redisson locks and an in-process coordinator.
+ * <p>
+ * 此包提供预热切面使用的 {@code PreheatCoordinator}，使发布时每个预热任务只在一个节点上从数据源加载，
+ * 同时提供基于Redisson锁的协调器和进程内协调器。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+package cc.ashclaw.common4j.cache.preheat;
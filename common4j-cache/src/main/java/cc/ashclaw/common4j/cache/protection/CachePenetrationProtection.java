@@ -1,9 +1,12 @@
 package cc.ashclaw.common4j.cache.protection;
 
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import cc.ashclaw.common4j.cache.config.CacheProperties;
 import cc.ashclaw.common4j.cache.core.Cache;
+import cc.ashclaw.common4j.cache.support.NullValue;
 
 /**
  * Cache penetration protection implementation.
@@ -33,6 +36,12 @@ public class CachePenetrationProtection {
      * Gets a cache value with penetration protection by caching null values.
      * <p>
      * 通过缓存空值来获取缓存值，提供穿透保护。
+     * <p>
+     * A key cached as {@link NullValue} is returned as {@code null} without touching the
+     * cache again; a missing key is marked as null until the caller stores a real value.
+     * <p>
+     * 缓存为 {@link NullValue} 的键直接返回 {@code null}，不再写入缓存；
+     * 缺失的键会被标记为空值，直到调用方写入真实值。
      *
      * @param key the cache key
      *            <p>
@@ -48,16 +57,35 @@ public class CachePenetrationProtection {
      *         缓存的值，如果键不存在则返回null
      */
     public <T> T getWithProtection(Object key, Class<T> type) {
-        T value = cache.get(key, type);
-        
-        if (value == null) {
-            // 设置空值缓存，防止缓存穿透
-            cache.put(key, createNullValue(), 
-                cacheProperties.getPenetrationExpireTime().toSeconds(), 
-                TimeUnit.SECONDS);
+        Map<Object, T> found = cache.multiGet(List.of(key), type);
+        if (found.containsKey(key)) {
+            T value = found.get(key);
+            return NullValue.isNull(value) ? null : value;
         }
         
-        return value;
+        // 设置空值缓存，防止缓存穿透
+        putNullValue(key);
+        return null;
+    }
+    
+    /**
+     * Caches the null value marker for a key known not to exist.
+     * <p>
+     * 为已知不存在的键缓存空值标记。
+     * <p>
+     * The marker expires after {@code penetrationExpireTime}, which is usually much
+     * shorter than the expiration of regular entries.
+     * <p>
+     * 标记在 {@code penetrationExpireTime} 后过期，通常远短于普通条目的过期时间。
+     *
+     * @param key the cache key
+     *            <p>
+     *            缓存键
+     */
+    public void putNullValue(Object key) {
+        cache.put(key, NullValue.INSTANCE,
+            cacheProperties.getPenetrationExpireTime().toSeconds(),
+            TimeUnit.SECONDS);
     }
     
     /**
@@ -73,31 +101,6 @@ public class CachePenetrationProtection {
      *         如果值是空值标记，则返回 {@code true}；否则返回 {@code false}
      */
     public boolean isNullValue(Object value) {
-        return value instanceof NullValue;
-    }
-    
-    /**
-     * Creates a null value marker object.
-     * <p>
-     * 创建空值标记对象。
-     *
-     * @return the null value marker object
-     *         <p>
-     *         空值标记对象
-     */
-    private Object createNullValue() {
-        return new NullValue();
-    }
-    
-    /**
-     * Null value marker class for cache penetration protection.
-     * <p>
-     * 用于缓存穿透保护的空值标记类。
-     */
-    private static class NullValue {
-        @Override
-        public String toString() {
-            return "NullValue{}";
-        }
+        return NullValue.isNull(value);
     }
-}
\ No newline at end of file
+}
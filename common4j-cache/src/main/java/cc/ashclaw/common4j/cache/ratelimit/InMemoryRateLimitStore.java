@@ -0,0 +1,123 @@
+package cc.ashclaw.common4j.cache.ratelimit;
+
+import cc.ashclaw.common4j.cache.enums.RateLimitAlgorithm;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * In-process rate limit store, used when no Redis is available and in tests.
+ * <p>
+ * 进程内的限流存储，在没有Redis时以及测试中使用。
+ * <p>
+ * The algorithms are the same as in {@link RedissonRateLimitStore}, so limits behave
+ * identically on a single node.
+ * <p>
+ * 算法与 {@link RedissonRateLimitStore} 相同，因此在单节点上限流行为一致。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private final Map<String, State> states = new ConcurrentHashMap<>();
+    private final LongSupplier clock;
+
+    /**
+     * Constructs a new InMemoryRateLimitStore using the system clock.
+     * <p>
+     * 使用系统时钟构造一个新的InMemoryRateLimitStore。
+     */
+    public InMemoryRateLimitStore() {
+        this(System::currentTimeMillis);
+    }
+
+    /**
+     * Constructs a new InMemoryRateLimitStore with the specified clock.
+     * <p>
+     * 使用指定的时钟构造一个新的InMemoryRateLimitStore。
+     *
+     * @param clock the clock in milliseconds
+     *              <p>
+     *              以毫秒为单位的时钟
+     */
+    public InMemoryRateLimitStore(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public long acquire(String key, RateLimitRule rule, long permits) {
+        State state = states.computeIfAbsent(key, k -> new State());
+        synchronized (state) {
+            long now = clock.getAsLong();
+            if (rule.getAlgorithm() == RateLimitAlgorithm.SLIDING_WINDOW) {
+                state.roll(rule, now);
+                double elapsed = (double) (now % rule.getIntervalMillis()) / rule.getIntervalMillis();
+                long used = (long) Math.ceil(state.previous * (1 - elapsed) + state.current);
+                long granted = Math.max(0, Math.min(permits, rule.getRate() - used));
+                state.current += granted;
+                return granted;
+            }
+
+            state.refill(rule, now);
+            long granted = Math.max(0, Math.min(permits, (long) Math.floor(state.tokens)));
+            state.tokens -= granted;
+            return granted;
+        }
+    }
+
+    @Override
+    public void release(String key, RateLimitRule rule, long permits) {
+        State state = states.get(key);
+        if (state == null || permits <= 0) {
+            return;
+        }
+        synchronized (state) {
+            long now = clock.getAsLong();
+            if (rule.getAlgorithm() == RateLimitAlgorithm.SLIDING_WINDOW) {
+                state.roll(rule, now);
+                state.current -= Math.min(state.current, permits);
+            } else {
+                state.refill(rule, now);
+                state.tokens = Math.min(rule.getRate(), state.tokens + permits);
+            }
+        }
+    }
+
+    /**
+     * Permits of one key.
+     * <p>
+     * 单个键的许可状态。
+     */
+    private static final class State {
+
+        private boolean initialized;
+        private double tokens;
+        private long timestamp;
+        private long window;
+        private long current;
+        private long previous;
+
+        private void refill(RateLimitRule rule, long now) {
+            if (!initialized) {
+                initialized = true;
+                tokens = rule.getRate();
+            } else if (now > timestamp) {
+                tokens = Math.min(rule.getRate(),
+                    tokens + (double) (now - timestamp) * rule.getRate() / rule.getIntervalMillis());
+            }
+            timestamp = Math.max(timestamp, now);
+        }
+
+        private void roll(RateLimitRule rule, long now) {
+            long nowWindow = now / rule.getIntervalMillis();
+            if (nowWindow == window) {
+                return;
+            }
+            previous = nowWindow == window + 1 ? current : 0;
+            current = 0;
+            window = nowWindow;
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package cc.ashclaw.common4j.cache.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Rate limiter serving permits from a local lock-free bucket refilled in blocks from a shared store.
+ * <p>
+ * 从本地无锁令牌桶提供许可、并从共享存储批量补充的限流器。
+ * <p>
+ * Each node leases permits from the {@link RateLimitStore} in blocks of {@code leaseSize}
+ * and hands them out with a compare-and-set on a local counter, so a cluster-wide limit
+ * costs about one store call per block instead of one per request. A block is capped at
+ * a tenth of the rate, which keeps a single node from holding most of the budget. Leased
+ * permits that are still unused after {@code leaseTime} are given back to the store.
+ * When the store grants too few permits, the key is rejected locally until the shared
+ * limit could have refilled the missing permits, instead of calling the store again for
+ * every rejected request.
+ * <p>
+ * 每个节点以 {@code leaseSize} 为单位从 {@link RateLimitStore} 批量租用许可，并通过本地计数器的CAS操作分发，
+ * 因此集群级限流每批只需约一次存储调用，而非每个请求一次。每批许可不超过速率的十分之一，
+ * 避免单个节点占用大部分配额。租用后超过 {@code leaseTime} 仍未使用的许可会归还给存储。
+ * 存储授予的许可不足时，在共享配额可能补足缺少的许可之前直接在本地拒绝该键，而不是每个被拒绝的请求都再次调用存储。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class LeasedRateLimiter implements AutoCloseable {
+
+    private final RateLimitStore store;
+    private final long leaseSize;
+    private final long leaseMillis;
+    private final LongSupplier clock;
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService sweeper;
+
+    /**
+     * Constructs a new LeasedRateLimiter returning expired leases in the background.
+     * <p>
+     * 构造一个在后台归还过期租约的新LeasedRateLimiter。
+     *
+     * @param store the shared permit store
+     *              <p>
+     *              共享许可存储
+     * @param leaseSize the number of permits leased per store call
+     *                  <p>
+     *                  每次存储调用租用的许可数
+     * @param leaseMillis the time after which unused leased permits are given back, in milliseconds
+     *                    <p>
+     *                    未使用的租用许可被归还前的时间（毫秒）
+     */
+    public LeasedRateLimiter(RateLimitStore store, long leaseSize, long leaseMillis) {
+        this(store, leaseSize, leaseMillis, System::currentTimeMillis);
+        this.sweeper.scheduleWithFixedDelay(this::releaseExpired, leaseMillis, leaseMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Constructs a new LeasedRateLimiter with the specified clock and without background sweeping.
+     * <p>
+     * 使用指定的时钟构造一个不进行后台清理的新LeasedRateLimiter。
+     *
+     * @param store the shared permit store
+     *              <p>
+     *              共享许可存储
+     * @param leaseSize the number of permits leased per store call
+     *                  <p>
+     *                  每次存储调用租用的许可数
+     * @param leaseMillis the time after which unused leased permits are given back, in milliseconds
+     *                    <p>
+     *                    未使用的租用许可被归还前的时间（毫秒）
+     * @param clock the clock in milliseconds
+     *              <p>
+     *              以毫秒为单位的时钟
+     */
+    public LeasedRateLimiter(RateLimitStore store, long leaseSize, long leaseMillis, LongSupplier clock) {
+        if (leaseSize <= 0 || leaseMillis <= 0) {
+            throw new IllegalArgumentException("Lease size and lease time must be positive");
+        }
+        this.store = store;
+        this.leaseSize = leaseSize;
+        this.leaseMillis = leaseMillis;
+        this.clock = clock;
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "common4j-rate-limit-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Attempts to take permits without waiting.
+     * <p>
+     * 尝试获取许可，不等待。
+     *
+     * @param key the rate limit key
+     *            <p>
+     *            限流键
+     * @param rule the rate limit rule
+     *             <p>
+     *             限流规则
+     * @param permits the number of permits
+     *                <p>
+     *                许可数
+     * @return {@code true} if the permits were taken, {@code false} if the limit is exceeded
+     *         <p>
+     *         获取成功返回 {@code true}，超出限制返回 {@code false}
+     */
+    public boolean tryAcquire(String key, RateLimitRule rule, long permits) {
+        Lease lease = leases.computeIfAbsent(key, k -> new Lease(rule));
+        long now = clock.getAsLong();
+        if (now < lease.expiresAt && lease.take(permits)) {
+            return true;
+        }
+        if (now < lease.exhaustedUntil) {
+            // 共享配额已耗尽，补充之前直接在本地拒绝
+            return false;
+        }
+
+        synchronized (lease) {
+            if (lease.retired) {
+                // 租约已被后台清理移除，改用新的租约
+                return tryAcquire(key, rule, permits);
+            }
+            if (clock.getAsLong() < lease.exhaustedUntil) {
+                return false;
+            }
+            if (clock.getAsLong() >= lease.expiresAt) {
+                // 租约到期，先归还未使用的许可再重新租用
+                release(key, lease);
+            } else if (lease.take(permits)) {
+                return true;
+            }
+
+            long block = Math.max(permits, Math.min(leaseSize, Math.max(1, rule.getRate() / 10)));
+            long granted = store.acquire(key, rule, block - lease.tokens.get());
+            if (granted > 0) {
+                lease.tokens.addAndGet(granted);
+                lease.expiresAt = clock.getAsLong() + leaseMillis;
+            }
+            if (lease.take(permits)) {
+                return true;
+            }
+            // 按规则的补充速率估算缺少的许可何时可用
+            long missing = permits - lease.tokens.get();
+            long refillMillis = Math.min(rule.getIntervalMillis(),
+                Math.ceilDiv(missing * rule.getIntervalMillis(), Math.max(1, rule.getRate())));
+            lease.exhaustedUntil = clock.getAsLong() + Math.max(1, refillMillis);
+            return false;
+        }
+    }
+
+    /**
+     * Gives back every leased permit that is not used yet.
+     * <p>
+     * 归还所有尚未使用的租用许可。
+     */
+    public void releaseAll() {
+        for (Map.Entry<String, Lease> entry : leases.entrySet()) {
+            synchronized (entry.getValue()) {
+                release(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Stops the background sweeping and gives back every unused permit.
+     * <p>
+     * 停止后台清理并归还所有未使用的许可。
+     */
+    @Override
+    public void close() {
+        sweeper.shutdownNow();
+        releaseAll();
+    }
+
+    private void releaseExpired() {
+        long now = clock.getAsLong();
+        for (Map.Entry<String, Lease> entry : leases.entrySet()) {
+            Lease lease = entry.getValue();
+            if (now >= lease.expiresAt) {
+                synchronized (lease) {
+                    if (now >= lease.expiresAt) {
+                        release(entry.getKey(), lease);
+                        // 到期未续租的键不再保留租约对象
+                        lease.retired = true;
+                        leases.remove(entry.getKey(), lease);
+                    }
+                }
+            }
+        }
+    }
+
+    private void release(String key, Lease lease) {
+        long unused = lease.tokens.getAndSet(0);
+        if (unused > 0) {
+            store.release(key, lease.rule, unused);
+        }
+    }
+
+    /**
+     * Permits leased by this node for one key.
+     * <p>
+     * 本节点为单个键租用的许可。
+     */
+    private static final class Lease {
+
+        private final RateLimitRule rule;
+        private final AtomicLong tokens = new AtomicLong();
+        private volatile long expiresAt;
+        private volatile long exhaustedUntil;
+        private boolean retired;
+
+        private Lease(RateLimitRule rule) {
+            this.rule = rule;
+        }
+
+        private boolean take(long permits) {
+            long available;
+            do {
+                available = tokens.get();
+                if (available < permits) {
+                    return false;
+                }
+            } while (!tokens.compareAndSet(available, available - permits));
+            return true;
+        }
+    }
+}
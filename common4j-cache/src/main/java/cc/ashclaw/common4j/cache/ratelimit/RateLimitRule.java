@@ -0,0 +1,86 @@
+package cc.ashclaw.common4j.cache.ratelimit;
+
+import cc.ashclaw.common4j.cache.enums.RateLimitAlgorithm;
+
+import java.time.Duration;
+
+/**
+ * Definition of a rate limit: a number of permits per interval and the algorithm enforcing it.
+ * <p>
+ * 限流规则定义：每个时间间隔内的许可数以及执行限流的算法。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public final class RateLimitRule {
+
+    private final long rate;
+    private final long intervalMillis;
+    private final RateLimitAlgorithm algorithm;
+
+    /**
+     * Constructs a new RateLimitRule.
+     * <p>
+     * 构造一个新的RateLimitRule。
+     *
+     * @param rate the number of permits per interval
+     *             <p>
+     *             每个时间间隔内的许可数
+     * @param interval the interval
+     *                 <p>
+     *                 时间间隔
+     * @param algorithm the rate limiting algorithm
+     *                  <p>
+     *                  限流算法
+     */
+    public RateLimitRule(long rate, Duration interval, RateLimitAlgorithm algorithm) {
+        if (rate <= 0) {
+            throw new IllegalArgumentException("Rate must be positive, but got " + rate);
+        }
+        if (interval.toMillis() <= 0) {
+            throw new IllegalArgumentException("Interval must be at least one millisecond, but got " + interval);
+        }
+        this.rate = rate;
+        this.intervalMillis = interval.toMillis();
+        this.algorithm = algorithm;
+    }
+
+    /**
+     * Gets the number of permits per interval.
+     * <p>
+     * 获取每个时间间隔内的许可数。
+     *
+     * @return the rate
+     *         <p>
+     *         速率
+     */
+    public long getRate() {
+        return rate;
+    }
+
+    /**
+     * Gets the interval in milliseconds.
+     * <p>
+     * 获取以毫秒为单位的时间间隔。
+     *
+     * @return the interval in milliseconds
+     *         <p>
+     *         以毫秒为单位的时间间隔
+     */
+    public long getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    /**
+     * Gets the rate limiting algorithm.
+     * <p>
+     * 获取限流算法。
+     *
+     * @return the algorithm
+     *         <p>
+     *         限流算法
+     */
+    public RateLimitAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+}
@@ -0,0 +1,54 @@
+package cc.ashclaw.common4j.cache.ratelimit;
+
+/**
+ * Shared store holding the permits of rate limits.
+ * <p>
+ * 保存限流许可的共享存储。
+ * <p>
+ * A store may grant fewer permits than requested, so that a node leasing a block
+ * of permits still receives what is left instead of nothing.
+ * <p>
+ * 存储可以授予少于请求数量的许可，使批量租用许可的节点仍能获得剩余的许可，而不是一无所获。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public interface RateLimitStore {
+
+    /**
+     * Takes up to the specified number of permits.
+     * <p>
+     * 获取不超过指定数量的许可。
+     *
+     * @param key the rate limit key
+     *            <p>
+     *            限流键
+     * @param rule the rate limit rule
+     *             <p>
+     *             限流规则
+     * @param permits the number of permits wanted
+     *                <p>
+     *                期望的许可数
+     * @return the number of permits granted, between 0 and {@code permits}
+     *         <p>
+     *         授予的许可数，介于0和 {@code permits} 之间
+     */
+    long acquire(String key, RateLimitRule rule, long permits);
+
+    /**
+     * Gives back permits that were granted but not used.
+     * <p>
+     * 归还已授予但未使用的许可。
+     *
+     * @param key the rate limit key
+     *            <p>
+     *            限流键
+     * @param rule the rate limit rule
+     *             <p>
+     *             限流规则
+     * @param permits the number of unused permits
+     *                <p>
+     *                未使用的许可数
+     */
+    void release(String key, RateLimitRule rule, long permits);
+}
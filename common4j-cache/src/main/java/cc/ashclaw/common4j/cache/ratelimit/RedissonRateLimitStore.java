@@ -0,0 +1,138 @@
+package cc.ashclaw.common4j.cache.ratelimit;
+
+import cc.ashclaw.common4j.cache.enums.RateLimitAlgorithm;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+import java.util.List;
+
+/**
+ * Rate limit store keeping the permits in Redis, shared by every node.
+ * <p>
+ * 将许可保存在Redis中、由所有节点共享的限流存储。
+ * <p>
+ * Each call is a single Lua script that grants as many of the requested permits as are
+ * available, so a node leasing a block of permits needs one round trip per block.
+ * Unused permits can be given back with a negative request. Time is taken from the
+ * Redis server, so clock skew between nodes does not matter.
+ * <p>
+ * 每次调用是一个Lua脚本，授予尽可能多的请求许可，因此批量租用许可的节点每批只需一次往返。
+ * 未使用的许可通过负数请求归还。时间取自Redis服务端，节点之间的时钟偏差不影响限流。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class RedissonRateLimitStore implements RateLimitStore {
+
+    /**
+     * Token bucket refilled continuously; a negative request returns permits.
+     * <p>
+     * 连续补充的令牌桶；负数请求用于归还许可。
+     * <p>
+     * KEYS: bucket. ARGV: rate, interval in milliseconds, requested permits.
+     */
+    private static final String TOKEN_BUCKET_SCRIPT =
+        "local rate = tonumber(ARGV[1]); "
+        + "local interval = tonumber(ARGV[2]); "
+        + "local requested = tonumber(ARGV[3]); "
+        + "local time = redis.call('time'); "
+        + "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000); "
+        + "local state = redis.call('hmget', KEYS[1], 'tokens', 'ts'); "
+        + "local tokens = tonumber(state[1]); "
+        + "local ts = tonumber(state[2]); "
+        + "if tokens == nil then tokens = rate; ts = now; end; "
+        + "if now > ts then tokens = math.min(rate, tokens + (now - ts) * rate / interval); ts = now; end; "
+        + "local granted = 0; "
+        + "if requested < 0 then "
+        + "  tokens = math.min(rate, tokens - requested); "
+        + "else "
+        + "  granted = math.max(0, math.min(requested, math.floor(tokens))); "
+        + "  tokens = tokens - granted; "
+        + "end; "
+        + "redis.call('hset', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(ts)); "
+        + "redis.call('pexpire', KEYS[1], interval * 2); "
+        + "return tostring(granted);";
+
+    /**
+     * Sliding window counter keeping the current and the previous window; a negative
+     * request returns permits to the current window.
+     * <p>
+     * 保存当前窗口和上一窗口的滑动窗口计数器；负数请求将许可归还到当前窗口。
+     * <p>
+     * KEYS: window counter. ARGV: rate, interval in milliseconds, requested permits.
+     */
+    private static final String SLIDING_WINDOW_SCRIPT =
+        "local rate = tonumber(ARGV[1]); "
+        + "local interval = tonumber(ARGV[2]); "
+        + "local requested = tonumber(ARGV[3]); "
+        + "local time = redis.call('time'); "
+        + "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000); "
+        + "local window = math.floor(now / interval); "
+        + "local state = redis.call('hmget', KEYS[1], 'window', 'current', 'previous'); "
+        + "local current = tonumber(state[2]) or 0; "
+        + "local previous = tonumber(state[3]) or 0; "
+        + "local stored = tonumber(state[1]); "
+        + "if stored ~= window then "
+        + "  if stored == window - 1 then previous = current; else previous = 0; end; "
+        + "  current = 0; "
+        + "end; "
+        + "local granted = 0; "
+        + "if requested < 0 then "
+        + "  current = current - math.min(current, -requested); "
+        + "else "
+        + "  local elapsed = (now % interval) / interval; "
+        + "  local used = math.ceil(previous * (1 - elapsed) + current); "
+        + "  granted = math.max(0, math.min(requested, rate - used)); "
+        + "  current = current + granted; "
+        + "end; "
+        + "redis.call('hset', KEYS[1], 'window', tostring(window), 'current', tostring(current), "
+        + "  'previous', tostring(previous)); "
+        + "redis.call('pexpire', KEYS[1], interval * 2); "
+        + "return tostring(granted);";
+
+    private final RScript script;
+    private final String keyPrefix;
+
+    /**
+     * Constructs a new RedissonRateLimitStore.
+     * <p>
+     * 构造一个新的RedissonRateLimitStore。
+     *
+     * @param redissonClient the Redisson client instance
+     *                       <p>
+     *                       Redisson客户端实例
+     * @param keyPrefix the prefix of the Redis keys
+     *                  <p>
+     *                  Redis键的前缀
+     */
+    public RedissonRateLimitStore(RedissonClient redissonClient, String keyPrefix) {
+        this.script = redissonClient.getScript(StringCodec.INSTANCE);
+        this.keyPrefix = keyPrefix;
+    }
+
+    @Override
+    public long acquire(String key, RateLimitRule rule, long permits) {
+        if (permits <= 0) {
+            return 0;
+        }
+        return eval(key, rule, permits);
+    }
+
+    @Override
+    public void release(String key, RateLimitRule rule, long permits) {
+        if (permits > 0) {
+            eval(key, rule, -permits);
+        }
+    }
+
+    private long eval(String key, RateLimitRule rule, long permits) {
+        String redisKey = keyPrefix + key;
+        String lua = rule.getAlgorithm() == RateLimitAlgorithm.SLIDING_WINDOW
+            ? SLIDING_WINDOW_SCRIPT : TOKEN_BUCKET_SCRIPT;
+        String granted = script.eval(redisKey, RScript.Mode.READ_WRITE, lua, RScript.ReturnType.VALUE,
+            List.of(redisKey), String.valueOf(rule.getRate()), String.valueOf(rule.getIntervalMillis()),
+            String.valueOf(permits));
+        return granted == null ? 0 : Long.parseLong(granted);
+    }
+}
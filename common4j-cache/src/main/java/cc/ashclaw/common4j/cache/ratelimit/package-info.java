@@ -0,0 +1,16 @@
+/**
+ * Package containing distributed rate limiting support.
+ * <p>
+ * 包含分布式限流支持的包。
+ * <p>
+ * This package provides the {@code LeasedRateLimiter}, which serves permits from a
+ * local bucket refilled in blocks from a shared {@code RateLimitStore}, together with
+ * a Redis store based on Lua scripts and an in-process store.
+ * <p>
+ * 此包提供 {@code LeasedRateLimiter}，它从本地令牌桶提供许可，并从共享的 {@code RateLimitStore} 批量补充，
+ * 同时提供基于Lua脚本的Redis存储和进程内存储。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+package cc.ashclaw.common4j.cache.ratelimit;
@@ -0,0 +1,261 @@
+package cc.ashclaw.common4j.cache.resilience;
+
+import cc.ashclaw.common4j.cache.config.CacheProperties;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Count-based circuit breaker for calls to a remote cache tier.
+ * <p>
+ * 针对远程缓存层调用的基于计数的熔断器。
+ * <p>
+ * The breaker keeps the outcome of the last {@code windowSize} calls. Once at least
+ * {@code minimumCalls} were recorded, it opens when the failure rate (errors and
+ * timeouts) or the slow call rate reaches its threshold. After {@code openDuration}
+ * it lets {@code halfOpenProbes} calls through; if they all succeed the breaker
+ * closes, and any failure opens it again.
+ * <p>
+ * 熔断器保存最近 {@code windowSize} 次调用的结果。记录的调用数达到 {@code minimumCalls} 后，
+ * 当失败率（错误和超时）或慢调用率达到阈值时熔断器打开。经过 {@code openDuration} 后放行
+ * {@code halfOpenProbes} 次探测调用；探测全部成功则关闭熔断器，任一失败则再次打开。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class CircuitBreaker {
+
+    /**
+     * State of a circuit breaker.
+     * <p>
+     * 熔断器状态。
+     */
+    public enum State {
+
+        /**
+         * Calls pass through and outcomes are recorded.
+         * <p>
+         * 调用正常通过并记录结果。
+         */
+        CLOSED,
+
+        /**
+         * Calls are rejected until the open duration has elapsed.
+         * <p>
+         * 在打开时长结束前拒绝调用。
+         */
+        OPEN,
+
+        /**
+         * A limited number of probe calls are let through.
+         * <p>
+         * 放行有限数量的探测调用。
+         */
+        HALF_OPEN
+    }
+
+    private static final byte SUCCESS = 0;
+    private static final byte SLOW = 1;
+    private static final byte FAILURE = 2;
+
+    private final String name;
+    private final int minimumCalls;
+    private final float failureRateThreshold;
+    private final float slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final int halfOpenProbes;
+    private final LongSupplier nanoClock;
+
+    private final byte[] outcomes;
+    private int position;
+    private int recorded;
+    private int failures;
+    private int slowCalls;
+
+    private volatile State state = State.CLOSED;
+    private long openedAt;
+    private int probesStarted;
+    private int probesSucceeded;
+
+    /**
+     * Constructs a new CircuitBreaker using {@link System#nanoTime()}.
+     * <p>
+     * 使用 {@link System#nanoTime()} 构造一个新的CircuitBreaker。
+     *
+     * @param name the breaker name, usually the cache name
+     *             <p>
+     *             熔断器名称，通常为缓存名称
+     * @param properties the resilience configuration
+     *                   <p>
+     *                   弹性配置
+     */
+    public CircuitBreaker(String name, CacheProperties.ResilienceProperties properties) {
+        this(name, properties, System::nanoTime);
+    }
+
+    /**
+     * Constructs a new CircuitBreaker with the specified clock.
+     * <p>
+     * 使用指定的时钟构造一个新的CircuitBreaker。
+     *
+     * @param name the breaker name, usually the cache name
+     *             <p>
+     *             熔断器名称，通常为缓存名称
+     * @param properties the resilience configuration
+     *                   <p>
+     *                   弹性配置
+     * @param nanoClock the clock in nanoseconds
+     *                  <p>
+     *                  以纳秒为单位的时钟
+     */
+    public CircuitBreaker(String name, CacheProperties.ResilienceProperties properties, LongSupplier nanoClock) {
+        this.name = name;
+        this.outcomes = new byte[Math.max(1, properties.getWindowSize())];
+        this.minimumCalls = Math.max(1, Math.min(properties.getMinimumCalls(), outcomes.length));
+        this.failureRateThreshold = properties.getFailureRateThreshold();
+        this.slowCallRateThreshold = properties.getSlowCallRateThreshold();
+        this.slowCallNanos = properties.getSlowCallThreshold().toNanos();
+        this.openNanos = properties.getOpenDuration().toNanos();
+        this.halfOpenProbes = Math.max(1, properties.getHalfOpenProbes());
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Asks for permission to call the protected tier.
+     * <p>
+     * 请求调用受保护缓存层的许可。
+     *
+     * @return {@code true} if the call may proceed, {@code false} if it must fall back
+     *         <p>
+     *         如果允许调用则返回 {@code true}，需要降级时返回 {@code false}
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < openNanos) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (probesStarted < halfOpenProbes) {
+            probesStarted++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Records a successful call and its duration.
+     * <p>
+     * 记录一次成功调用及其耗时。
+     *
+     * @param durationNanos the call duration in nanoseconds
+     *                      <p>
+     *                      以纳秒为单位的调用耗时
+     */
+    public synchronized void onSuccess(long durationNanos) {
+        if (state == State.HALF_OPEN) {
+            if (durationNanos >= slowCallNanos) {
+                open();
+            } else if (++probesSucceeded >= halfOpenProbes) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(durationNanos >= slowCallNanos ? SLOW : SUCCESS);
+        }
+    }
+
+    /**
+     * Records a failed or timed out call.
+     * <p>
+     * 记录一次失败或超时的调用。
+     */
+    public synchronized void onError() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(FAILURE);
+        }
+    }
+
+    /**
+     * Gets the current state, moving an expired open state to half-open.
+     * <p>
+     * 获取当前状态，已到期的打开状态会转为半开状态。
+     *
+     * @return the current state
+     *         <p>
+     *         当前状态
+     */
+    public synchronized State getState() {
+        if (state == State.OPEN && nanoClock.getAsLong() - openedAt >= openNanos) {
+            transitionTo(State.HALF_OPEN);
+        }
+        return state;
+    }
+
+    /**
+     * Gets the breaker name.
+     * <p>
+     * 获取熔断器名称。
+     *
+     * @return the breaker name
+     *         <p>
+     *         熔断器名称
+     */
+    public String getName() {
+        return name;
+    }
+
+    private void record(byte outcome) {
+        if (recorded == outcomes.length) {
+            byte evicted = outcomes[position];
+            if (evicted == FAILURE) {
+                failures--;
+            } else if (evicted == SLOW) {
+                slowCalls--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[position] = outcome;
+        position = (position + 1) % outcomes.length;
+        if (outcome == FAILURE) {
+            failures++;
+        } else if (outcome == SLOW) {
+            slowCalls++;
+        }
+
+        if (recorded >= minimumCalls) {
+            float failureRate = failures * 100f / recorded;
+            float slowCallRate = slowCalls * 100f / recorded;
+            if (failureRate >= failureRateThreshold || slowCallRate >= slowCallRateThreshold) {
+                open();
+            }
+        }
+    }
+
+    private void open() {
+        openedAt = nanoClock.getAsLong();
+        transitionTo(State.OPEN);
+    }
+
+    private void transitionTo(State next) {
+        state = next;
+        probesStarted = 0;
+        probesSucceeded = 0;
+        if (next == State.CLOSED) {
+            // 关闭时重新开始统计，避免旧的失败记录立即再次触发熔断
+            position = 0;
+            recorded = 0;
+            failures = 0;
+            slowCalls = 0;
+        }
+    }
+}
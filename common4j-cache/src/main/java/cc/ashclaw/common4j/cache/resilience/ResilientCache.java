@@ -0,0 +1,534 @@
+package cc.ashclaw.common4j.cache.resilience;
+
+import cc.ashclaw.common4j.cache.config.CacheProperties;
+import cc.ashclaw.common4j.cache.core.Cache;
+import cc.ashclaw.common4j.cache.enums.DegradedWritePolicy;
+import cc.ashclaw.common4j.cache.exception.CacheException;
+import cc.ashclaw.common4j.cache.metrics.CacheMetrics;
+import cc.ashclaw.common4j.cache.support.NullValue;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * Cache decorator that bounds the latency of a remote tier and degrades gracefully.
+ * <p>
+ * 限制远程缓存层延迟并平滑降级的缓存装饰器。
+ * <p>
+ * Every call to the delegate runs on a separate (virtual) thread and the caller waits
+ * at most the latency budget of the cache. Timeouts and errors feed a
+ * {@link CircuitBreaker}; while it is open the delegate is not called at all. Reads are
+ * then served from a stale copy of recently read or written values, which outlives the
+ * short local tier expiration, and writes are queued for replay or dropped according
+ * to {@link DegradedWritePolicy}. Queued writes are replayed in order once calls
+ * succeed again.
+ * <p>
+ * 对委托缓存的每次调用都在独立的（虚拟）线程上执行，调用方最多等待该缓存的延迟预算。
+ * 超时和错误会反馈给 {@link CircuitBreaker}，熔断器打开期间完全不调用委托缓存。此时读取由最近读写值的
+ * 过期副本提供，其保留时间长于本地缓存的过期时间；写入则根据 {@link DegradedWritePolicy} 排队重放或丢弃。
+ * 调用恢复成功后，排队的写入按顺序重放。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class ResilientCache implements Cache {
+
+    private final Cache delegate;
+    private final CircuitBreaker breaker;
+    private final ExecutorService executor;
+    private final CacheMetrics metrics;
+    private final long budgetNanos;
+    private final DegradedWritePolicy writePolicy;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> stale;
+    private final BlockingDeque<PendingWrite> pendingWrites;
+    private final AtomicBoolean replaying = new AtomicBoolean();
+
+    /**
+     * Constructs a new ResilientCache around the specified delegate.
+     * <p>
+     * 围绕指定的委托缓存构造一个新的ResilientCache。
+     *
+     * @param delegate the remote cache to protect
+     *                 <p>
+     *                 要保护的远程缓存
+     * @param breaker the circuit breaker for the delegate
+     *                <p>
+     *                委托缓存的熔断器
+     * @param executor the executor running delegate calls, usually one virtual thread per task
+     *                 <p>
+     *                 执行委托调用的执行器，通常每个任务一个虚拟线程
+     * @param cacheProperties the cache configuration properties
+     *                        <p>
+     *                        缓存配置属性
+     * @param metrics the metrics registry
+     *                <p>
+     *                指标注册表
+     */
+    public ResilientCache(Cache delegate, CircuitBreaker breaker, ExecutorService executor,
+                          CacheProperties cacheProperties, CacheMetrics metrics) {
+        CacheProperties.ResilienceProperties resilience = cacheProperties.getResilience();
+        CacheProperties.CacheConfig config = cacheProperties.getConfigs().get(delegate.getName());
+
+        this.delegate = delegate;
+        this.breaker = breaker;
+        this.executor = executor;
+        this.metrics = metrics;
+        this.budgetNanos = (config != null && config.getLatencyBudget() != null
+            ? config.getLatencyBudget() : resilience.getLatencyBudget()).toNanos();
+        this.writePolicy = resilience.getWritePolicy();
+        this.stale = Caffeine.newBuilder()
+            .maximumSize(resilience.getStaleMaximumSize())
+            .expireAfterWrite(resilience.getStaleRetention().toMillis(), TimeUnit.MILLISECONDS)
+            .build();
+        this.pendingWrites = new LinkedBlockingDeque<>(Math.max(1, resilience.getWriteQueueCapacity()));
+
+        String name = delegate.getName();
+        metrics.gauge("cache.resilience.state", () -> breaker.getState().ordinal(), "cache", name);
+        metrics.gauge("cache.resilience.pending.writes", pendingWrites::size, "cache", name);
+    }
+
+    /**
+     * Gets the circuit breaker protecting the delegate.
+     * <p>
+     * 获取保护委托缓存的熔断器。
+     *
+     * @return the circuit breaker
+     *         <p>
+     *         熔断器
+     */
+    public CircuitBreaker getCircuitBreaker() {
+        return breaker;
+    }
+
+    /**
+     * Gets the protected cache.
+     * <p>
+     * 获取受保护的缓存。
+     *
+     * @return the delegate cache
+     *         <p>
+     *         委托缓存
+     */
+    public Cache getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Gets the number of writes waiting to be replayed.
+     * <p>
+     * 获取等待重放的写入数量。
+     *
+     * @return the number of pending writes
+     *         <p>
+     *         等待中的写入数量
+     */
+    public int getPendingWriteCount() {
+        return pendingWrites.size();
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        T value = call(() -> delegate.get(key, type), () -> staleGet(key, type));
+        if (value != null) {
+            stale.put(key, value);
+        }
+        return value;
+    }
+
+    @Override
+    public Object get(Object key, Type type) {
+        Object value = call(() -> delegate.get(key, type), () -> staleGet(key, type));
+        if (value != null) {
+            stale.put(key, value);
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object cached = get(key, Object.class);
+        if (cached != null) {
+            // 已知不存在的键返回null，不再加载
+            return (T) NullValue.unwrap(cached);
+        }
+
+        // 加载在调用线程上执行，不受延迟预算限制
+        try {
+            T value = valueLoader.call();
+            if (value != null) {
+                put(key, value);
+            }
+            return value;
+        } catch (Exception e) {
+            throw new RuntimeException("加载缓存值失败", e);
+        }
+    }
+
+    @Override
+    public <T> T getAndTouch(Object key, Class<T> type, long timeout, TimeUnit unit) {
+        T value = call(() -> delegate.getAndTouch(key, type, timeout, unit), () -> staleGet(key, type));
+        if (value != null) {
+            stale.put(key, value);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        stale.put(key, value);
+        write(cache -> cache.put(key, value), cache -> cache.evict(key));
+    }
+
+    @Override
+    public void put(Object key, Object value, long timeout, TimeUnit unit) {
+        stale.put(key, value);
+        write(cache -> cache.put(key, value, timeout, unit), cache -> cache.evict(key));
+    }
+
+    @Override
+    public boolean putIfAbsent(Object key, Object value) {
+        return putIfAbsent(key, value, cache -> cache.putIfAbsent(key, value));
+    }
+
+    @Override
+    public boolean putIfAbsent(Object key, Object value, long timeout, TimeUnit unit) {
+        return putIfAbsent(key, value, cache -> cache.putIfAbsent(key, value, timeout, unit));
+    }
+
+    @Override
+    public <T> T compute(Object key, Class<T> type, UnaryOperator<T> remappingFunction) {
+        // 读-改-写依赖分布式缓存的当前值，降级期间既不能基于过期副本计算，也不能排队重放
+        Supplier<T> fallback = () -> {
+            throw new CacheException("分布式缓存已降级，无法原子更新: " + key);
+        };
+
+        T value = pendingWrites.isEmpty()
+            ? call(() -> delegate.compute(key, type, remappingFunction), fallback)
+            : fallback.get();
+        if (value != null) {
+            stale.put(key, value);
+        } else {
+            stale.invalidate(key);
+        }
+        return value;
+    }
+
+    @Override
+    public void evict(Object key) {
+        stale.invalidate(key);
+        Consumer<Cache> operation = cache -> cache.evict(key);
+        write(operation, operation);
+    }
+
+    @Override
+    public void evict(Collection<?> keys) {
+        stale.invalidateAll(keys);
+        Consumer<Cache> operation = cache -> cache.evict(keys);
+        write(operation, operation);
+    }
+
+    @Override
+    public void clear() {
+        stale.invalidateAll();
+        write(Cache::clear, Cache::clear);
+    }
+
+    @Override
+    public <T> Map<Object, T> multiGet(Collection<?> keys, Class<T> type) {
+        Map<Object, T> values = call(() -> delegate.multiGet(keys, type), () -> staleMultiGet(keys, type));
+        for (Map.Entry<Object, T> entry : values.entrySet()) {
+            // 已知不存在的键以空值返回，不保存到过期副本中
+            if (entry.getValue() != null) {
+                stale.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public void multiPut(Map<?, ?> map) {
+        stale.putAll(map);
+        write(cache -> cache.multiPut(map), cache -> cache.evict(map.keySet()));
+    }
+
+    @Override
+    public void multiPut(Map<?, ?> map, long timeout, TimeUnit unit) {
+        stale.putAll(map);
+        write(cache -> cache.multiPut(map, timeout, unit), cache -> cache.evict(map.keySet()));
+    }
+
+    @Override
+    public Long getExpire(Object key) {
+        return call(() -> delegate.getExpire(key), () -> null);
+    }
+
+    @Override
+    public Long getExpire(Object key, TimeUnit timeUnit) {
+        return call(() -> delegate.getExpire(key, timeUnit), () -> null);
+    }
+
+    @Override
+    public boolean expire(Object key, long timeout, TimeUnit unit) {
+        return call(() -> delegate.expire(key, timeout, unit), () -> false);
+    }
+
+    @Override
+    public boolean hasKey(Object key) {
+        return call(() -> delegate.hasKey(key), () -> stale.getIfPresent(key) != null);
+    }
+
+    @Override
+    public long size() {
+        return call(delegate::size, stale::estimatedSize);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Reading the recency index is a bulk operation outside the latency budget and goes
+     * straight to the delegate.
+     * <p>
+     * 读取最近写入索引属于批量操作，不受延迟预算限制，直接访问委托缓存。
+     */
+    @Override
+    public List<Object> recentKeys(int limit) {
+        return delegate.recentKeys(limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Iteration is a bulk operation outside the latency budget and goes straight to the delegate.
+     * <p>
+     * 遍历属于批量操作，不受延迟预算限制，直接访问委托缓存。
+     */
+    @Override
+    public Stream<Object> keys(String pattern, int batchSize) {
+        return delegate.keys(pattern, batchSize);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Iteration is a bulk operation outside the latency budget and goes straight to the delegate.
+     * <p>
+     * 遍历属于批量操作，不受延迟预算限制，直接访问委托缓存。
+     */
+    @Override
+    public <T> Stream<Map.Entry<Object, T>> entries(String pattern, int batchSize, Class<T> type) {
+        return delegate.entries(pattern, batchSize, type);
+    }
+
+    /**
+     * Runs an operation against the delegate within the latency budget.
+     * <p>
+     * 在延迟预算内对委托缓存执行操作。
+     */
+    private <T> T call(Callable<T> operation, Supplier<T> fallback) {
+        if (!breaker.tryAcquire()) {
+            metrics.increment("cache.resilience.rejected", "cache", getName());
+            return fallback.get();
+        }
+
+        long start = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(operation);
+        } catch (RejectedExecutionException e) {
+            // 缓存管理器关闭后不再调用委托缓存
+            breaker.onError();
+            return fallback.get();
+        }
+        try {
+            T result = future.get(budgetNanos, TimeUnit.NANOSECONDS);
+            breaker.onSuccess(System.nanoTime() - start);
+            replayPendingWrites();
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            breaker.onError();
+            metrics.increment("cache.resilience.timeouts", "cache", getName());
+            return fallback.get();
+        } catch (ExecutionException e) {
+            breaker.onError();
+            metrics.increment("cache.resilience.failures", "cache", getName());
+            return fallback.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            // 半开状态下探测许可已被占用，必须报告结果，否则熔断器将永远拒绝调用
+            breaker.onError();
+            Thread.currentThread().interrupt();
+            return fallback.get();
+        }
+    }
+
+    /**
+     * Writes to the delegate, or queues or drops the write while degraded.
+     * <p>
+     * 写入委托缓存，降级期间则排队或丢弃该写入。
+     * <p>
+     * A write that timed out or failed after it started may still have been applied, and
+     * replaying it later could overwrite a newer value written by another node. Such a
+     * write is replaced by its invalidation, which at worst causes a miss.
+     * <p>
+     * 开始执行后超时或失败的写入可能已经生效，之后重放可能覆盖其他节点写入的新值。
+     * 此类写入改为重放其失效操作，最坏情况下只会导致一次未命中。
+     */
+    private void write(Consumer<Cache> operation, Consumer<Cache> invalidation) {
+        // 仍有排队写入时新写入也必须排队，以保证重放顺序
+        if (!pendingWrites.isEmpty()) {
+            degrade(operation, invalidation);
+            replayPendingWrites();
+            return;
+        }
+
+        AtomicBoolean started = new AtomicBoolean();
+        call(() -> {
+            // 降级后才开始执行的写入直接放弃，由排队的写入代替
+            if (started.compareAndSet(false, true)) {
+                operation.accept(delegate);
+            }
+            return null;
+        }, () -> {
+            boolean neverStarted = started.compareAndSet(false, true);
+            degrade(neverStarted ? operation : invalidation, invalidation);
+            return null;
+        });
+    }
+
+    private boolean putIfAbsent(Object key, Object value, Predicate<Cache> operation) {
+        Supplier<Boolean> fallback = () -> {
+            boolean absent = stale.getIfPresent(key) == null;
+            if (absent) {
+                // 重放的putIfAbsent不会覆盖其他节点写入的值
+                degrade(operation::test, operation::test);
+            }
+            return absent;
+        };
+
+        boolean absent = pendingWrites.isEmpty() ? call(() -> operation.test(delegate), fallback) : fallback.get();
+        if (absent) {
+            stale.put(key, value);
+        }
+        return absent;
+    }
+
+    private void degrade(Consumer<Cache> operation, Consumer<Cache> invalidation) {
+        if (writePolicy == DegradedWritePolicy.QUEUE && pendingWrites.offerLast(new PendingWrite(operation, invalidation))) {
+            metrics.increment("cache.resilience.writes.queued", "cache", getName());
+        } else {
+            metrics.increment("cache.resilience.writes.dropped", "cache", getName());
+        }
+    }
+
+    /**
+     * Replays queued writes in order once the breaker is closed.
+     * <p>
+     * 熔断器关闭后按顺序重放排队的写入。
+     */
+    private void replayPendingWrites() {
+        if (pendingWrites.isEmpty() || breaker.getState() != CircuitBreaker.State.CLOSED
+            || !replaying.compareAndSet(false, true)) {
+            return;
+        }
+
+        executor.execute(() -> {
+            try {
+                PendingWrite write;
+                while (breaker.getState() == CircuitBreaker.State.CLOSED
+                    && (write = pendingWrites.peekFirst()) != null) {
+                    long start = System.nanoTime();
+                    try {
+                        write.operation().accept(delegate);
+                    } catch (RuntimeException e) {
+                        breaker.onError();
+                        metrics.increment("cache.resilience.failures", "cache", getName());
+                        // 失败的重放可能已部分生效，下次改为重放其失效操作
+                        if (write.operation() != write.invalidation()) {
+                            pendingWrites.pollFirst();
+                            if (!pendingWrites.offerFirst(new PendingWrite(write.invalidation(), write.invalidation()))) {
+                                metrics.increment("cache.resilience.writes.dropped", "cache", getName());
+                            }
+                        }
+                        return;
+                    }
+                    breaker.onSuccess(System.nanoTime() - start);
+                    pendingWrites.pollFirst();
+                    metrics.increment("cache.resilience.writes.replayed", "cache", getName());
+                }
+            } finally {
+                replaying.set(false);
+            }
+        });
+    }
+
+    private <T> T staleGet(Object key, Class<T> type) {
+        Object value = stale.getIfPresent(key);
+        if (type.isInstance(value)) {
+            metrics.increment("cache.resilience.stale.hits", "cache", getName());
+            return type.cast(value);
+        }
+        return null;
+    }
+
+    private Object staleGet(Object key, Type type) {
+        Object value = stale.getIfPresent(key);
+        Class<?> rawType = ClassUtils.resolvePrimitiveIfNecessary(TypeFactory.rawClass(type));
+        if (rawType.isInstance(value) || NullValue.isNull(value)) {
+            metrics.increment("cache.resilience.stale.hits", "cache", getName());
+            return value;
+        }
+        return null;
+    }
+
+    private <T> Map<Object, T> staleMultiGet(Collection<?> keys, Class<T> type) {
+        Map<Object, T> result = new HashMap<>();
+        for (Object key : keys) {
+            T value = staleGet(key, type);
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Queued write together with the operation that undoes its effect.
+     * <p>
+     * 排队的写入及撤销其效果的操作。
+     */
+    private record PendingWrite(Consumer<Cache> operation, Consumer<Cache> invalidation) {
+    }
+}
@@ -0,0 +1,103 @@
+package cc.ashclaw.common4j.cache.resilience;
+
+import cc.ashclaw.common4j.cache.config.CacheProperties;
+import cc.ashclaw.common4j.cache.core.Cache;
+import cc.ashclaw.common4j.cache.core.CacheManager;
+import cc.ashclaw.common4j.cache.enums.CacheType;
+import cc.ashclaw.common4j.cache.metrics.CacheMetrics;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Cache manager decorator wrapping every cache of a remote tier in a {@link ResilientCache}.
+ * <p>
+ * 将远程缓存层的每个缓存包装为 {@link ResilientCache} 的缓存管理器装饰器。
+ * <p>
+ * Each cache gets its own circuit breaker, so a slow or failing cache does not trip
+ * the others. Delegate calls run on virtual threads, which makes waiting for a slow
+ * Redis cheap and keeps the caller bounded by the latency budget.
+ * <p>
+ * 每个缓存拥有独立的熔断器，一个缓存变慢或失败不会影响其他缓存。委托调用在虚拟线程上执行，
+ * 等待缓慢的Redis代价很低，调用方的等待时间受延迟预算限制。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class ResilientCacheManager implements CacheManager, AutoCloseable {
+
+    private final CacheManager delegate;
+    private final CacheProperties cacheProperties;
+    private final CacheMetrics metrics;
+    private final ExecutorService executor;
+    private final Map<String, ResilientCache> cacheMap = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new ResilientCacheManager around the specified cache manager.
+     * <p>
+     * 围绕指定的缓存管理器构造一个新的ResilientCacheManager。
+     *
+     * @param delegate the cache manager of the remote tier
+     *                 <p>
+     *                 远程缓存层的缓存管理器
+     * @param cacheProperties the cache configuration properties
+     *                        <p>
+     *                        缓存配置属性
+     * @param metrics the metrics registry
+     *                <p>
+     *                指标注册表
+     */
+    public ResilientCacheManager(CacheManager delegate, CacheProperties cacheProperties, CacheMetrics metrics) {
+        this.delegate = delegate;
+        this.cacheProperties = cacheProperties;
+        this.metrics = metrics;
+        this.executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("common4j-cache-remote-", 0).factory());
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return cacheMap.computeIfAbsent(name, key -> wrap(delegate.getCache(key)));
+    }
+
+    @Override
+    public CacheType getCacheType() {
+        return delegate.getCacheType();
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    @Override
+    public Cache createCache(String name) {
+        ResilientCache cache = wrap(delegate.createCache(name));
+        cacheMap.put(name, cache);
+        return cache;
+    }
+
+    @Override
+    public void destroyCache(String name) {
+        cacheMap.remove(name);
+        delegate.destroyCache(name);
+    }
+
+    /**
+     * Stops the executor running the delegate calls; calls in progress are allowed to finish.
+     * <p>
+     * 停止执行委托调用的执行器；进行中的调用允许执行完毕。
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private ResilientCache wrap(Cache cache) {
+        CircuitBreaker breaker = new CircuitBreaker(cache.getName(), cacheProperties.getResilience());
+        return new ResilientCache(cache, breaker, executor, cacheProperties, metrics);
+    }
+}
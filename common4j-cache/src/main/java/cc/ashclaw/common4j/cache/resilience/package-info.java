@@ -0,0 +1,16 @@
+/**
+ * Package containing resilience support for the distributed cache tier.
+ * <p>
+ * 包含分布式缓存层弹性支持的包。
+ * <p>
+ * This package provides a circuit breaker and a cache decorator that bound the
+ * latency of remote calls, serve recently seen values while Redis is degraded,
+ * and queue or drop writes until the remote tier recovers.
+ * <p>
+ * 此包提供熔断器和缓存装饰器，用于限制远程调用的延迟，在Redis降级期间返回最近见过的值，
+ * 并在远程缓存层恢复前排队或丢弃写入。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+package cc.ashclaw.common4j.cache.resilience;
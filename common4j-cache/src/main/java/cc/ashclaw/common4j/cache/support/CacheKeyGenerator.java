@@ -1,5 +1,7 @@
 package cc.ashclaw.common4j.cache.support;
 
+import cc.ashclaw.common4j.cache.tenant.TenantKeys;
+import cc.ashclaw.common4j.cache.tenant.TenantResolver;
 import org.springframework.cache.interceptor.KeyGenerator;
 
 import org.springframework.expression.Expression;
@@ -9,6 +11,8 @@ import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.util.StringUtils;
 
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Cache key generator implementation.
@@ -20,6 +24,11 @@ import java.lang.reflect.Method;
  * cache key generation strategies.
  * <p>
  * 此类提供基于方法名称、参数和SpEL表达式生成缓存键的方法，支持灵活的缓存键生成策略。
+ * <p>
+ * With tenant partitioning configured, {@link #generateCacheKey} folds the tenant of the
+ * invocation into the key, resolved from the tenant expression or else the tenant resolver.
+ * <p>
+ * 配置了租户划分时，{@link #generateCacheKey} 会将调用所属的租户折叠进键，租户由租户表达式解析，未配置表达式时由租户解析器提供。
  *
  * @author b1itz7
  * @since 1.1.0
@@ -28,6 +37,53 @@ public class CacheKeyGenerator implements KeyGenerator {
     
     private final ExpressionParser parser = new SpelExpressionParser();
     
+    /**
+     * The parsed expressions, keyed by expression string.
+     * <p>
+     * 已解析的表达式，以表达式字符串为键。
+     */
+    private final Map<String, Expression> expressions = new ConcurrentHashMap<>();
+    
+    /**
+     * The SpEL expression resolving the tenant of an invocation, if any.
+     * <p>
+     * 解析调用所属租户的SpEL表达式（可选）。
+     */
+    private String tenantExpression;
+    
+    /**
+     * The resolver of the current tenant, if any.
+     * <p>
+     * 当前租户的解析器（可选）。
+     */
+    private TenantResolver tenantResolver;
+    
+    /**
+     * Sets the SpEL expression resolving the tenant of an invocation.
+     * <p>
+     * 设置解析调用所属租户的SpEL表达式。
+     *
+     * @param tenantExpression the tenant expression, evaluated with the same variables as key expressions
+     *                         <p>
+     *                         租户表达式，使用与键表达式相同的变量求值
+     */
+    public void setTenantExpression(String tenantExpression) {
+        this.tenantExpression = tenantExpression;
+    }
+    
+    /**
+     * Sets the resolver of the current tenant, used when no tenant expression is set.
+     * <p>
+     * 设置当前租户的解析器，在未设置租户表达式时使用。
+     *
+     * @param tenantResolver the tenant resolver
+     *                       <p>
+     *                       租户解析器
+     */
+    public void setTenantResolver(TenantResolver tenantResolver) {
+        this.tenantResolver = tenantResolver;
+    }
+    
     @Override
     public Object generate(Object target, Method method, Object... params) {
         return generateKey(method.getName(), params);
@@ -94,6 +150,65 @@ public class CacheKeyGenerator implements KeyGenerator {
             return generate(target, method, params);
         }
         
+        Expression expression = parseExpression(keyExpression);
+        return expression.getValue(createContext(target, method, params));
+    }
+    
+    /**
+     * Generates the key of a cache entry, folding in the tenant of the invocation.
+     * <p>
+     * 生成缓存条目的键，并折叠进调用所属的租户。
+     * <p>
+     * Without a tenant, or without tenant partitioning configured, the key is the one of
+     * {@link #generateKeyBySpEL} and is shared by all tenants.
+     * <p>
+     * 没有租户或未配置租户划分时，键与 {@link #generateKeyBySpEL} 的结果相同，由所有租户共享。
+     *
+     * @param keyExpression the SpEL expression for key generation, empty for the default key
+     *                      <p>
+     *                      用于生成键的SpEL表达式，为空时使用默认键
+     * @param target the target object
+     *               <p>
+     *               目标对象
+     * @param method the target method
+     *               <p>
+     *               目标方法
+     * @param params the method parameters
+     *               <p>
+     *               方法参数
+     * @return the generated cache key
+     *         <p>
+     *         生成的缓存键
+     */
+    public Object generateCacheKey(String keyExpression, Object target, Method method, Object... params) {
+        Object key = generateKeyBySpEL(keyExpression, target, method, params);
+        String tenant = resolveTenant(target, method, params);
+        return tenant == null ? key : TenantKeys.fold(tenant, key);
+    }
+    
+    /**
+     * Resolves the tenant of an invocation.
+     * <p>
+     * 解析调用所属的租户。
+     *
+     * @return the tenant ID, or {@code null} if the invocation belongs to no tenant
+     *         <p>
+     *         租户ID；如果调用不属于任何租户则返回 {@code null}
+     */
+    private String resolveTenant(Object target, Method method, Object... params) {
+        if (StringUtils.hasText(tenantExpression)) {
+            Object tenant = parseExpression(tenantExpression).getValue(createContext(target, method, params));
+            return tenant == null ? null : tenant.toString();
+        }
+        return tenantResolver == null ? null : tenantResolver.resolveTenant();
+    }
+    
+    /**
+     * Creates the evaluation context of an invocation.
+     * <p>
+     * 创建调用的求值上下文。
+     */
+    private StandardEvaluationContext createContext(Object target, Method method, Object... params) {
         StandardEvaluationContext context = new StandardEvaluationContext();
         context.setVariable("target", target);
         context.setVariable("method", method);
@@ -106,8 +221,22 @@ public class CacheKeyGenerator implements KeyGenerator {
                 context.setVariable("a" + i, params[i]);
             }
         }
-        
-        Expression expression = parser.parseExpression(keyExpression);
-        return expression.getValue(context);
+        return context;
+    }
+    
+    /**
+     * Parses an expression, reusing the result of earlier calls.
+     * <p>
+     * 解析表达式，复用之前调用的解析结果。
+     *
+     * @param expression the expression string
+     *                   <p>
+     *                   表达式字符串
+     * @return the parsed expression
+     *         <p>
+     *         解析后的表达式
+     */
+    private Expression parseExpression(String expression) {
+        return expressions.computeIfAbsent(expression, parser::parseExpression);
     }
-}
\ No newline at end of file
+}
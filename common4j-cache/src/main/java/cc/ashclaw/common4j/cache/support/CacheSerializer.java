@@ -3,9 +3,13 @@ package cc.ashclaw.common4j.cache.support;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import org.springframework.util.StringUtils;
 
 import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Cache serializer implementation for object serialization and deserialization.
@@ -16,6 +20,16 @@ import java.io.IOException;
  * for cache values using Jackson ObjectMapper for JSON serialization.
  * <p>
  * 此类使用Jackson ObjectMapper提供缓存值的序列化和反序列化功能，支持JSON序列化。
+ * <p>
+ * The {@link NullValue} marker is written as {@link NullValue#SERIALIZED} and read back
+ * through {@link NullValue#decode(Object, Class)}.
+ * <p>
+ * {@link NullValue} 标记被写为 {@link NullValue#SERIALIZED}，并通过 {@link NullValue#decode(Object, Class)} 读回。
+ * <p>
+ * An {@link ObjectReader} is kept per target type, so the type is resolved once rather
+ * than on every read.
+ * <p>
+ * 每个目标类型保留一个 {@link ObjectReader}，类型只需解析一次，而不是每次读取都解析。
  *
  * @author b1itz7
  * @since 1.1.0
@@ -23,6 +37,7 @@ import java.io.IOException;
 public class CacheSerializer {
     
     private final ObjectMapper objectMapper;
+    private final Map<Type, ObjectReader> readers = new ConcurrentHashMap<>();
     
     public CacheSerializer() {
         this.objectMapper = new ObjectMapper();
@@ -49,6 +64,10 @@ public class CacheSerializer {
             return null;
         }
         
+        if (obj instanceof NullValue) {
+            return NullValue.SERIALIZED;
+        }
+        
         if (obj instanceof String) {
             return (String) obj;
         }
@@ -83,12 +102,16 @@ public class CacheSerializer {
             return null;
         }
         
+        if (NullValue.SERIALIZED.equals(str)) {
+            return NullValue.decode(NullValue.INSTANCE, clazz);
+        }
+        
         if (clazz == String.class) {
             return clazz.cast(str);
         }
         
         try {
-            return objectMapper.readValue(str, clazz);
+            return reader(clazz).readValue(str);
         } catch (IOException e) {
             throw new RuntimeException("反序列化对象失败", e);
         }
@@ -113,15 +136,51 @@ public class CacheSerializer {
      *         反序列化后的对象，如果字符串为空则返回null
      */
     @SuppressWarnings("unchecked")
-    public <T> T deserialize(String str, java.lang.reflect.Type type) {
+    public <T> T deserialize(String str, Type type) {
+        if (NullValue.SERIALIZED.equals(str)) {
+            return type instanceof Class ? (T) NullValue.decode(NullValue.INSTANCE, (Class<?>) type) : null;
+        }
+        return (T) deserializeValue(str, type);
+    }
+    
+    /**
+     * Deserializes a string to an object of the specified type, keeping the null marker.
+     * <p>
+     * 将字符串反序列化为指定类型的对象，并保留空值标记。
+     *
+     * @param str the string to deserialize
+     *            <p>
+     *            要反序列化的字符串
+     * @param type the target type
+     *             <p>
+     *             目标类型
+     * @return the deserialized object, {@link NullValue#INSTANCE} for the serialized marker,
+     *         or null if the string is empty
+     *         <p>
+     *         反序列化后的对象；对于序列化的空值标记返回 {@link NullValue#INSTANCE}；如果字符串为空则返回null
+     */
+    public Object deserializeValue(String str, Type type) {
         if (!StringUtils.hasText(str)) {
             return null;
         }
         
+        if (NullValue.SERIALIZED.equals(str)) {
+            return NullValue.INSTANCE;
+        }
+        
+        if (type == String.class) {
+            return str;
+        }
+        
         try {
-            return objectMapper.readValue(str, objectMapper.getTypeFactory().constructType(type));
+            return reader(type).readValue(str);
         } catch (IOException e) {
             throw new RuntimeException("反序列化对象失败", e);
         }
     }
+    
+    private ObjectReader reader(Type type) {
+        return readers.computeIfAbsent(type,
+            key -> objectMapper.readerFor(objectMapper.getTypeFactory().constructType(key)));
+    }
 }
\ No newline at end of file
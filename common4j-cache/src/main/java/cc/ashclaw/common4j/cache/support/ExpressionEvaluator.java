@@ -7,6 +7,8 @@ import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.util.StringUtils;
 
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * SpEL expression evaluator for cache condition evaluation.
@@ -25,6 +27,13 @@ public class ExpressionEvaluator {
     
     private final ExpressionParser parser = new SpelExpressionParser();
     
+    /**
+     * The parsed expressions, keyed by expression string.
+     * <p>
+     * 已解析的表达式，以表达式字符串为键。
+     */
+    private final Map<String, Expression> expressions = new ConcurrentHashMap<>();
+    
     /**
      * Evaluates a condition expression for cache operations.
      * <p>
@@ -55,7 +64,7 @@ public class ExpressionEvaluator {
         }
         
         StandardEvaluationContext context = createEvaluationContext(target, method, args, result);
-        Expression expression = parser.parseExpression(condition);
+        Expression expression = parseExpression(condition);
         
         Boolean value = expression.getValue(context, Boolean.class);
         return value != null && value;
@@ -91,7 +100,7 @@ public class ExpressionEvaluator {
         }
         
         StandardEvaluationContext context = createEvaluationContext(target, method, args, result);
-        Expression expression = parser.parseExpression(unless);
+        Expression expression = parseExpression(unless);
         
         Boolean value = expression.getValue(context, Boolean.class);
         return value != null && value;
@@ -127,11 +136,27 @@ public class ExpressionEvaluator {
         }
         
         StandardEvaluationContext context = createEvaluationContext(target, method, args, result);
-        Expression expr = parser.parseExpression(expression);
+        Expression expr = parseExpression(expression);
         
         return expr.getValue(context);
     }
     
+    /**
+     * Parses an expression, reusing the result of earlier calls.
+     * <p>
+     * 解析表达式，复用之前调用的解析结果。
+     *
+     * @param expression the expression string
+     *                   <p>
+     *                   表达式字符串
+     * @return the parsed expression
+     *         <p>
+     *         解析后的表达式
+     */
+    private Expression parseExpression(String expression) {
+        return expressions.computeIfAbsent(expression, parser::parseExpression);
+    }
+    
     /**
      * Creates an evaluation context for SpEL expression evaluation.
      * <p>
@@ -0,0 +1,125 @@
+package cc.ashclaw.common4j.cache.support;
+
+import cc.ashclaw.common4j.cache.core.Cache;
+import cc.ashclaw.common4j.cache.exception.CacheException;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Coordinator sharing in-flight bulk loads between concurrent callers.
+ * <p>
+ * 在并发调用方之间共享进行中批量加载的协调器。
+ * <p>
+ * Each missing key is claimed with a future. A caller loads only the keys it claimed,
+ * with a single call to the bulk loader, and waits for the keys already being loaded
+ * by other callers. Concurrent requests for overlapping key sets therefore hit the
+ * data source once per key.
+ * <p>
+ * 每个缺失的键通过一个future认领。调用方只通过一次批量加载调用加载自己认领的键，
+ * 并等待其他调用方正在加载的键。因此，键集合重叠的并发请求对每个键只访问一次数据源。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class InFlightLoader {
+
+    private static final Map<Cache, InFlightLoader> LOADERS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Map<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the loader shared by the bulk loads of the specified cache.
+     * <p>
+     * 获取指定缓存的批量加载共享的加载器。
+     *
+     * @param cache the cache whose misses are loaded
+     *              <p>
+     *              要加载其未命中键的缓存
+     * @return the loader of the cache
+     *         <p>
+     *         该缓存的加载器
+     */
+    public static InFlightLoader of(Cache cache) {
+        return LOADERS.computeIfAbsent(cache, key -> new InFlightLoader());
+    }
+
+    /**
+     * Loads the specified keys, sharing loads that are already in flight.
+     * <p>
+     * 加载指定的键，共享已在进行中的加载。
+     *
+     * @param keys the keys to load
+     *             <p>
+     *             要加载的键
+     * @param bulkLoader the loader for the keys claimed by this caller
+     *                   <p>
+     *                   加载本调用方认领的键的加载器
+     * @param <K> the key type
+     *            <p>
+     *            键类型
+     * @param <V> the value type
+     *            <p>
+     *            值类型
+     * @return the loaded values; keys without a value are absent
+     *         <p>
+     *         加载到的值，没有值的键不包含在结果中
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> Map<K, V> load(Collection<K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        Set<K> claimed = new LinkedHashSet<>();
+        Map<K, CompletableFuture<Object>> futures = new HashMap<>();
+
+        for (K key : keys) {
+            CompletableFuture<Object> future = new CompletableFuture<>();
+            CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+            if (existing == null) {
+                claimed.add(key);
+                futures.put(key, future);
+            } else {
+                futures.put(key, existing);
+            }
+        }
+
+        if (!claimed.isEmpty()) {
+            try {
+                Map<K, V> loaded = bulkLoader.apply(claimed);
+                for (K key : claimed) {
+                    futures.get(key).complete(loaded == null ? null : loaded.get(key));
+                }
+            } catch (RuntimeException e) {
+                for (K key : claimed) {
+                    futures.get(key).completeExceptionally(e);
+                }
+                throw e;
+            } finally {
+                for (K key : claimed) {
+                    inFlight.remove(key, futures.get(key));
+                }
+            }
+        }
+
+        Map<K, V> result = new HashMap<>();
+        for (Map.Entry<K, CompletableFuture<Object>> entry : futures.entrySet()) {
+            Object value;
+            try {
+                value = entry.getValue().join();
+            } catch (CompletionException e) {
+                throw new CacheException("批量加载缓存值失败", e.getCause());
+            }
+            if (value != null) {
+                result.put(entry.getKey(), (V) value);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,119 @@
+package cc.ashclaw.common4j.cache.support;
+
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Glob-style key pattern with the syntax of the Redis {@code SCAN MATCH} option.
+ * <p>
+ * 采用Redis {@code SCAN MATCH} 选项语法的通配符键模式。
+ * <p>
+ * {@code *} matches any sequence, {@code ?} matches one character, {@code [abc]},
+ * {@code [a-z]} and {@code [^a]} match character classes, and {@code \} escapes the next
+ * character. Keys are matched by their string form. The pattern is evaluated on the client
+ * for every tier, since distributed keys are stored encoded by the Redisson codec and
+ * cannot be matched reliably by the server.
+ * <p>
+ * {@code *} 匹配任意字符序列，{@code ?} 匹配单个字符，{@code [abc]}、{@code [a-z]} 和 {@code [^a]}
+ * 匹配字符类，{@code \} 转义下一个字符。键按其字符串形式匹配。由于分布式缓存的键经过Redisson编解码器编码，
+ * 服务端无法可靠匹配，因此所有缓存层都在客户端进行匹配。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public final class KeyPattern {
+
+    private KeyPattern() {
+    }
+
+    /**
+     * Compiles a pattern into a key predicate.
+     * <p>
+     * 将模式编译为键断言。
+     *
+     * @param pattern the pattern, or {@code null} to match every key
+     *                <p>
+     *                模式，为 {@code null} 时匹配所有键
+     * @return the predicate, or {@code null} if every key matches
+     *         <p>
+     *         键断言，所有键都匹配时返回 {@code null}
+     * @throws IllegalArgumentException if a character class is empty or not closed
+     *                                  <p>
+     *                                  如果字符类为空或未闭合
+     */
+    public static Predicate<Object> compile(String pattern) {
+        if (pattern == null || pattern.isEmpty() || pattern.equals("*")) {
+            return null;
+        }
+        Pattern regex = Pattern.compile(toRegex(pattern), Pattern.DOTALL);
+        return key -> key != null && regex.matcher(String.valueOf(key)).matches();
+    }
+
+    /**
+     * Escapes the glob characters of a literal, so that it can prefix a pattern.
+     * <p>
+     * 转义字面量中的通配符字符，使其可作为模式的前缀。
+     *
+     * @param literal the literal text
+     *                <p>
+     *                字面量文本
+     * @return the escaped text
+     *         <p>
+     *         转义后的文本
+     */
+    public static String escape(String literal) {
+        StringBuilder escaped = new StringBuilder(literal.length() + 8);
+        for (int i = 0; i < literal.length(); i++) {
+            char c = literal.charAt(i);
+            if (c == '*' || c == '?' || c == '[' || c == ']' || c == '\\') {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    private static String toRegex(String pattern) {
+        StringBuilder regex = new StringBuilder(pattern.length() + 16);
+        int i = 0;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i++);
+            switch (c) {
+                case '*' -> regex.append(".*");
+                case '?' -> regex.append('.');
+                case '\\' -> {
+                    if (i < pattern.length()) {
+                        regex.append(Pattern.quote(String.valueOf(pattern.charAt(i++))));
+                    } else {
+                        regex.append("\\\\");
+                    }
+                }
+                case '[' -> {
+                    int end = pattern.indexOf(']', i + 1);
+                    if (end < 0 || end == i + 1 && pattern.charAt(i) == '^') {
+                        throw new IllegalArgumentException("字符类无效: " + pattern);
+                    }
+                    regex.append('[');
+                    int start = i;
+                    if (pattern.charAt(i) == '^') {
+                        regex.append('^');
+                        start++;
+                    }
+                    for (int j = start; j < end; j++) {
+                        char member = pattern.charAt(j);
+                        // 保留范围符号，其余符号转义后按字面量处理
+                        if (member == '-' && j > start && j < end - 1 || Character.isLetterOrDigit(member)) {
+                            regex.append(member);
+                        } else {
+                            regex.append('\\').append(member);
+                        }
+                    }
+                    regex.append(']');
+                    i = end + 1;
+                }
+                default -> regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return regex.toString();
+    }
+}
@@ -0,0 +1,114 @@
+package cc.ashclaw.common4j.cache.support;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Marker cached in place of a value known not to exist.
+ * <p>
+ * 代替已知不存在的值进行缓存的标记。
+ * <p>
+ * Every tier understands the marker: local caches keep it apart from regular entries
+ * with a short TTL of its own, and {@link CacheSerializer} writes it as a fixed string
+ * so that it survives the round trip through Redis. A read with {@code Object.class}
+ * returns the marker itself, so callers can tell a known missing key from a miss; a
+ * read with any other type returns {@code null}, and {@code multiGet} reports the key
+ * as present with a {@code null} value.
+ * <p>
+ * 所有缓存层都能识别此标记：本地缓存将其与普通条目分开保存并使用单独的较短过期时间，
+ * {@link CacheSerializer} 将其写为固定字符串，因此经过Redis往返后仍可识别。
+ * 以 {@code Object.class} 读取时返回标记本身，调用方可以区分已知不存在的键和未命中；
+ * 以其他类型读取时返回 {@code null}，{@code multiGet} 则将该键作为值为 {@code null} 的已存在键返回。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public final class NullValue implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The single instance of the marker.
+     * <p>
+     * 标记的唯一实例。
+     */
+    public static final NullValue INSTANCE = new NullValue();
+
+    /**
+     * The string stored in Redis for the marker.
+     * <p>
+     * 标记在Redis中存储的字符串。
+     */
+    public static final String SERIALIZED = "\u0000common4j:null\u0000";
+
+    private NullValue() {
+    }
+
+    /**
+     * Checks whether a cached value is the marker.
+     * <p>
+     * 检查缓存的值是否为标记。
+     *
+     * @param value the cached value
+     *              <p>
+     *              缓存的值
+     * @return {@code true} if the value is the marker
+     *         <p>
+     *         如果值是标记则返回 {@code true}
+     */
+    public static boolean isNull(Object value) {
+        return value instanceof NullValue;
+    }
+
+    /**
+     * Converts a cached value to the requested type, mapping the marker as described above.
+     * <p>
+     * 将缓存的值转换为请求的类型，并按上述规则映射标记。
+     *
+     * @param value the cached value
+     *              <p>
+     *              缓存的值
+     * @param type the requested type
+     *             <p>
+     *             请求的类型
+     * @param <T> the requested type
+     *            <p>
+     *            请求的类型
+     * @return the value, the marker, or {@code null}
+     *         <p>
+     *         值、标记或 {@code null}
+     */
+    public static <T> T decode(Object value, Class<T> type) {
+        if (value instanceof NullValue) {
+            return type.isInstance(INSTANCE) ? type.cast(INSTANCE) : null;
+        }
+        return type.cast(value);
+    }
+
+    /**
+     * Replaces the marker with {@code null}.
+     * <p>
+     * 将标记替换为 {@code null}。
+     *
+     * @param value the cached value
+     *              <p>
+     *              缓存的值
+     * @return the value, or {@code null} for the marker
+     *         <p>
+     *         值，标记时返回 {@code null}
+     */
+    public static Object unwrap(Object value) {
+        return value instanceof NullValue ? null : value;
+    }
+
+    @Serial
+    private Object readResolve() {
+        return INSTANCE;
+    }
+
+    @Override
+    public String toString() {
+        return "NullValue{}";
+    }
+}
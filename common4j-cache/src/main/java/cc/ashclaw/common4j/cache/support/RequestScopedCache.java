@@ -0,0 +1,352 @@
+package cc.ashclaw.common4j.cache.support;
+
+/**
+ * Level-0 memoization cache bound to a request scope, consulted before every other tier.
+ * <p>
+ * 绑定到请求作用域的L0记忆缓存，在所有其他缓存层之前查询。
+ * <p>
+ * Inside a scope, {@code @Cacheable} results are kept in a small open-addressed map
+ * confined to the thread that opened the scope, so repeated lookups of the same key
+ * skip the cache tiers altogether. A scope is opened either with {@link #call} or
+ * {@link #run}, which bind the map to a {@link ScopedValue} and work with virtual
+ * threads, or with {@link #open()} for code that cannot wrap the request, such as an
+ * interceptor; the map is dropped when the scope ends. Outside a scope every method is
+ * a no-op. Writes made through the annotations update the map; writes made directly
+ * through a {@code Cache} are not seen until the next scope.
+ * <p>
+ * 在作用域内，{@code @Cacheable} 的结果保存在一个仅限打开作用域的线程使用的小型开放寻址表中，
+ * 因此重复查询同一键时会完全跳过各缓存层。作用域可通过 {@link #call} 或 {@link #run} 打开，
+ * 它们将映射表绑定到 {@link ScopedValue} 并支持虚拟线程；也可通过 {@link #open()} 打开，
+ * 用于无法包装请求的代码，例如拦截器；作用域结束时映射表随之丢弃。在作用域之外所有方法均不执行任何操作。
+ * 通过注解进行的写入会更新映射表；直接通过 {@code Cache} 进行的写入要到下一个作用域才可见。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public final class RequestScopedCache {
+
+    /**
+     * The maximum number of entries kept in one scope; further results are not memoized.
+     * <p>
+     * 单个作用域保存的最大条目数；超出后的结果不再缓存。
+     */
+    public static final int MAX_ENTRIES = 256;
+
+    private static final ScopedValue<Memo> SCOPE = ScopedValue.newInstance();
+    private static final ThreadLocal<Memo> THREAD = new ThreadLocal<>();
+
+    private RequestScopedCache() {
+    }
+
+    /**
+     * Runs an operation inside a scope and returns its result.
+     * <p>
+     * 在作用域内执行操作并返回其结果。
+     *
+     * @param op the operation
+     *           <p>
+     *           要执行的操作
+     * @param <R> the result type
+     *            <p>
+     *            结果类型
+     * @param <X> the exception type
+     *            <p>
+     *            异常类型
+     * @return the result of the operation
+     *         <p>
+     *         操作的结果
+     * @throws X if the operation throws
+     *           <p>
+     *           如果操作抛出异常
+     */
+    public static <R, X extends Throwable> R call(ScopedValue.CallableOp<? extends R, X> op) throws X {
+        if (current() != null) {
+            // 已处于作用域中，沿用外层映射表
+            return op.call();
+        }
+        return ScopedValue.where(SCOPE, new Memo(Thread.currentThread())).call(op);
+    }
+
+    /**
+     * Runs a task inside a scope.
+     * <p>
+     * 在作用域内执行任务。
+     *
+     * @param task the task
+     *             <p>
+     *             要执行的任务
+     */
+    public static void run(Runnable task) {
+        if (current() != null) {
+            task.run();
+            return;
+        }
+        ScopedValue.where(SCOPE, new Memo(Thread.currentThread())).run(task);
+    }
+
+    /**
+     * Opens a scope bound to the current thread until the returned handle is closed.
+     * <p>
+     * 打开一个绑定到当前线程的作用域，直到返回的句柄被关闭。
+     *
+     * @return the handle closing the scope
+     *         <p>
+     *         用于关闭作用域的句柄
+     */
+    public static Scope open() {
+        Memo previous = THREAD.get();
+        THREAD.set(new Memo(Thread.currentThread()));
+        return new Scope(previous);
+    }
+
+    /**
+     * Checks whether a scope is active on the current thread.
+     * <p>
+     * 检查当前线程上是否有活动的作用域。
+     *
+     * @return {@code true} if a scope is active
+     *         <p>
+     *         如果有活动的作用域则返回 {@code true}
+     */
+    public static boolean isActive() {
+        return current() != null;
+    }
+
+    /**
+     * Gets a memoized value.
+     * <p>
+     * 获取已缓存的值。
+     *
+     * @param cacheName the cache name
+     *                  <p>
+     *                  缓存名称
+     * @param key the cache key
+     *            <p>
+     *            缓存键
+     * @return the value, or {@code null} if absent or no scope is active
+     *         <p>
+     *         缓存的值，不存在或没有活动作用域时返回 {@code null}
+     */
+    public static Object get(String cacheName, Object key) {
+        Memo memo = current();
+        return memo == null || key == null ? null : memo.get(cacheName, key);
+    }
+
+    /**
+     * Memoizes a value.
+     * <p>
+     * 缓存一个值。
+     *
+     * @param cacheName the cache name
+     *                  <p>
+     *                  缓存名称
+     * @param key the cache key
+     *            <p>
+     *            缓存键
+     * @param value the value
+     *              <p>
+     *              值
+     */
+    public static void put(String cacheName, Object key, Object value) {
+        Memo memo = current();
+        if (memo != null && key != null && value != null) {
+            memo.put(cacheName, key, value);
+        }
+    }
+
+    /**
+     * Removes a memoized value.
+     * <p>
+     * 移除已缓存的值。
+     *
+     * @param cacheName the cache name
+     *                  <p>
+     *                  缓存名称
+     * @param key the cache key
+     *            <p>
+     *            缓存键
+     */
+    public static void evict(String cacheName, Object key) {
+        Memo memo = current();
+        if (memo != null && key != null) {
+            memo.remove(cacheName, key);
+        }
+    }
+
+    /**
+     * Removes every memoized value of a cache.
+     * <p>
+     * 移除某个缓存的所有已缓存值。
+     *
+     * @param cacheName the cache name
+     *                  <p>
+     *                  缓存名称
+     */
+    public static void clear(String cacheName) {
+        Memo memo = current();
+        if (memo != null) {
+            memo.clear(cacheName);
+        }
+    }
+
+    private static Memo current() {
+        Memo memo = SCOPE.isBound() ? SCOPE.get() : THREAD.get();
+        // 作用域值会被结构化并发的子任务继承，映射表只允许打开作用域的线程使用
+        return memo != null && memo.owner == Thread.currentThread() ? memo : null;
+    }
+
+    /**
+     * Handle of a scope opened with {@link #open()}.
+     * <p>
+     * 通过 {@link #open()} 打开的作用域的句柄。
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final Memo previous;
+
+        private Scope(Memo previous) {
+            this.previous = previous;
+        }
+
+        /**
+         * Ends the scope and restores the enclosing one, if any.
+         * <p>
+         * 结束作用域并恢复外层作用域（如果有）。
+         */
+        @Override
+        public void close() {
+            if (previous == null) {
+                THREAD.remove();
+            } else {
+                THREAD.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Open-addressed map with linear probing, keyed by cache name and key.
+     * <p>
+     * 以缓存名称和键为键、采用线性探测的开放寻址映射表。
+     */
+    static final class Memo {
+
+        private final Thread owner;
+        private String[] names = new String[16];
+        private Object[] keys = new Object[16];
+        private Object[] values = new Object[16];
+        private int size;
+
+        Memo(Thread owner) {
+            this.owner = owner;
+        }
+
+        Object get(String name, Object key) {
+            int index = indexOf(name, key);
+            return index < 0 ? null : values[index];
+        }
+
+        void put(String name, Object key, Object value) {
+            int index = indexOf(name, key);
+            if (index >= 0) {
+                values[index] = value;
+                return;
+            }
+            if (size >= MAX_ENTRIES) {
+                return;
+            }
+            if ((size + 1) * 2 > keys.length) {
+                resize(keys.length * 2);
+            }
+            insert(name, key, value);
+        }
+
+        void remove(String name, Object key) {
+            int index = indexOf(name, key);
+            if (index < 0) {
+                return;
+            }
+            // 向后移位删除，保持探测链连续，无需墓碑标记
+            int mask = keys.length - 1;
+            int next = index;
+            while (true) {
+                next = (next + 1) & mask;
+                if (keys[next] == null) {
+                    break;
+                }
+                int home = slot(names[next], keys[next], mask);
+                boolean inPlace = index <= next ? index < home && home <= next : index < home || home <= next;
+                if (!inPlace) {
+                    names[index] = names[next];
+                    keys[index] = keys[next];
+                    values[index] = values[next];
+                    index = next;
+                }
+            }
+            names[index] = null;
+            keys[index] = null;
+            values[index] = null;
+            size--;
+        }
+
+        void clear(String name) {
+            String[] oldNames = names;
+            Object[] oldKeys = keys;
+            Object[] oldValues = values;
+            names = new String[oldKeys.length];
+            keys = new Object[oldKeys.length];
+            values = new Object[oldKeys.length];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != null && !oldNames[i].equals(name)) {
+                    insert(oldNames[i], oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        private int indexOf(String name, Object key) {
+            int mask = keys.length - 1;
+            for (int i = slot(name, key, mask); keys[i] != null; i = (i + 1) & mask) {
+                if (keys[i].equals(key) && names[i].equals(name)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private void insert(String name, Object key, Object value) {
+            int mask = keys.length - 1;
+            int i = slot(name, key, mask);
+            while (keys[i] != null) {
+                i = (i + 1) & mask;
+            }
+            names[i] = name;
+            keys[i] = key;
+            values[i] = value;
+            size++;
+        }
+
+        private void resize(int capacity) {
+            String[] oldNames = names;
+            Object[] oldKeys = keys;
+            Object[] oldValues = values;
+            names = new String[capacity];
+            keys = new Object[capacity];
+            values = new Object[capacity];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != null) {
+                    insert(oldNames[i], oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static int slot(String name, Object key, int mask) {
+            int hash = name.hashCode() * 31 + key.hashCode();
+            return (hash ^ (hash >>> 16)) & mask;
+        }
+    }
+}
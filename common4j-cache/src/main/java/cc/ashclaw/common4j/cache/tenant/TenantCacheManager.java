@@ -0,0 +1,149 @@
+package cc.ashclaw.common4j.cache.tenant;
+
+import cc.ashclaw.common4j.cache.config.CacheProperties;
+import cc.ashclaw.common4j.cache.core.Cache;
+import cc.ashclaw.common4j.cache.core.CacheManager;
+import cc.ashclaw.common4j.cache.enums.CacheType;
+import cc.ashclaw.common4j.cache.metrics.CacheMetrics;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * Cache manager decorator wrapping every cache of a tier in a {@link TenantQuotaCache}.
+ * <p>
+ * 将缓存层的每个缓存包装为 {@link TenantQuotaCache} 的缓存管理器装饰器。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class TenantCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final String tier;
+    private final ToLongFunction<String> quota;
+    private final Duration entryLifetime;
+    private final CacheMetrics metrics;
+    private final Map<String, TenantQuotaCache> cacheMap = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new TenantCacheManager around the specified cache manager.
+     * <p>
+     * 围绕指定的缓存管理器构造一个新的TenantCacheManager。
+     *
+     * @param delegate the cache manager of the tier
+     *                 <p>
+     *                 缓存层的缓存管理器
+     * @param tier the name of the tier used as metric tag
+     *             <p>
+     *             用作指标标签的缓存层名称
+     * @param quota the maximum number of entries of a tenant in each cache
+     *              <p>
+     *              租户在每个缓存中的最大条目数
+     * @param entryLifetime how long an entry lives in the tier
+     *                      <p>
+     *                      条目在缓存层中的存活时间
+     * @param metrics the metrics registry
+     *                <p>
+     *                指标注册表
+     */
+    public TenantCacheManager(CacheManager delegate, String tier, ToLongFunction<String> quota,
+                              Duration entryLifetime, CacheMetrics metrics) {
+        this.delegate = delegate;
+        this.tier = tier;
+        this.quota = quota;
+        this.entryLifetime = entryLifetime;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Creates the decorator of a local tier, using the local quotas.
+     * <p>
+     * 创建本地缓存层的装饰器，使用本地配额。
+     *
+     * @param delegate the cache manager of the local tier
+     *                 <p>
+     *                 本地缓存层的缓存管理器
+     * @param cacheProperties the cache configuration properties
+     *                        <p>
+     *                        缓存配置属性
+     * @param metrics the metrics registry
+     *                <p>
+     *                指标注册表
+     * @return the tenant cache manager
+     *         <p>
+     *         租户缓存管理器
+     */
+    public static TenantCacheManager local(CacheManager delegate, CacheProperties cacheProperties,
+                                           CacheMetrics metrics) {
+        CacheProperties.TenantProperties tenant = cacheProperties.getTenant();
+        return new TenantCacheManager(delegate, "local", id -> {
+            CacheProperties.TenantQuota quota = tenant.getQuotas().get(id);
+            return quota != null && quota.getLocal() != null ? quota.getLocal() : tenant.getLocalQuota();
+        }, cacheProperties.getMultiLevel().getLocalExpireTime(), metrics);
+    }
+
+    /**
+     * Creates the decorator of a distributed tier, using the distributed quotas.
+     * <p>
+     * 创建分布式缓存层的装饰器，使用分布式配额。
+     *
+     * @param delegate the cache manager of the distributed tier
+     *                 <p>
+     *                 分布式缓存层的缓存管理器
+     * @param cacheProperties the cache configuration properties
+     *                        <p>
+     *                        缓存配置属性
+     * @param metrics the metrics registry
+     *                <p>
+     *                指标注册表
+     * @return the tenant cache manager
+     *         <p>
+     *         租户缓存管理器
+     */
+    public static TenantCacheManager distributed(CacheManager delegate, CacheProperties cacheProperties,
+                                                 CacheMetrics metrics) {
+        CacheProperties.TenantProperties tenant = cacheProperties.getTenant();
+        return new TenantCacheManager(delegate, "distributed", id -> {
+            CacheProperties.TenantQuota quota = tenant.getQuotas().get(id);
+            return quota != null && quota.getDistributed() != null
+                ? quota.getDistributed()
+                : tenant.getDistributedQuota();
+        }, cacheProperties.getExpireTime(), metrics);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return cacheMap.computeIfAbsent(name, key -> wrap(delegate.getCache(key)));
+    }
+
+    @Override
+    public CacheType getCacheType() {
+        return delegate.getCacheType();
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    @Override
+    public Cache createCache(String name) {
+        TenantQuotaCache cache = wrap(delegate.createCache(name));
+        cacheMap.put(name, cache);
+        return cache;
+    }
+
+    @Override
+    public void destroyCache(String name) {
+        cacheMap.remove(name);
+        delegate.destroyCache(name);
+    }
+
+    private TenantQuotaCache wrap(Cache cache) {
+        return new TenantQuotaCache(cache, tier, quota, entryLifetime, metrics);
+    }
+}
@@ -0,0 +1,84 @@
+package cc.ashclaw.common4j.cache.tenant;
+
+/**
+ * Holder of the current tenant, bound to a scope.
+ * <p>
+ * 绑定到作用域的当前租户持有者。
+ * <p>
+ * The tenant is bound with {@link #run} or {@link #call} to a {@link ScopedValue}, so it
+ * is visible to the code of the scope, including structured subtasks, and works with
+ * virtual threads. Outside a scope there is no current tenant.
+ * <p>
+ * 租户通过 {@link #run} 或 {@link #call} 绑定到 {@link ScopedValue}，因此对作用域内的代码（包括结构化子任务）可见，
+ * 并支持虚拟线程。在作用域之外没有当前租户。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public final class TenantContext {
+
+    private static final ScopedValue<String> TENANT = ScopedValue.newInstance();
+
+    private TenantContext() {
+    }
+
+    /**
+     * Runs a task on behalf of a tenant.
+     * <p>
+     * 以租户身份执行任务。
+     *
+     * @param tenant the tenant ID
+     *               <p>
+     *               租户ID
+     * @param task the task
+     *             <p>
+     *             要执行的任务
+     * @throws IllegalArgumentException if the tenant ID is empty or contains a colon
+     *                                  <p>
+     *                                  如果租户ID为空或包含冒号
+     */
+    public static void run(String tenant, Runnable task) {
+        ScopedValue.where(TENANT, TenantKeys.checkTenant(tenant)).run(task);
+    }
+
+    /**
+     * Runs an operation on behalf of a tenant and returns its result.
+     * <p>
+     * 以租户身份执行操作并返回其结果。
+     *
+     * @param tenant the tenant ID
+     *               <p>
+     *               租户ID
+     * @param op the operation
+     *           <p>
+     *           要执行的操作
+     * @param <R> the result type
+     *            <p>
+     *            结果类型
+     * @param <X> the exception type
+     *            <p>
+     *            异常类型
+     * @return the result of the operation
+     *         <p>
+     *         操作的结果
+     * @throws X if the operation throws
+     *           <p>
+     *           如果操作抛出异常
+     */
+    public static <R, X extends Throwable> R call(String tenant, ScopedValue.CallableOp<? extends R, X> op) throws X {
+        return ScopedValue.where(TENANT, TenantKeys.checkTenant(tenant)).call(op);
+    }
+
+    /**
+     * Gets the tenant of the current scope.
+     * <p>
+     * 获取当前作用域的租户。
+     *
+     * @return the tenant ID, or {@code null} outside a scope
+     *         <p>
+     *         租户ID；在作用域之外返回 {@code null}
+     */
+    public static String current() {
+        return TENANT.orElse(null);
+    }
+}
@@ -0,0 +1,95 @@
+package cc.ashclaw.common4j.cache.tenant;
+
+/**
+ * Folding of tenant IDs into cache keys.
+ * <p>
+ * 将租户ID折叠进缓存键的工具。
+ * <p>
+ * A tenant key has the form {@code tenant:<tenantId>:<key>}, so the entries of different
+ * tenants never collide and the tenant of an entry can be read back from its key alone.
+ * Keys written directly through a {@code Cache} take part in the per-tenant accounting
+ * once they are folded with {@link #fold}; keys without the prefix are shared by all
+ * tenants and are not accounted.
+ * <p>
+ * 租户键的格式为 {@code tenant:<租户ID>:<键>}，因此不同租户的条目不会冲突，且仅凭键即可读出条目所属的租户。
+ * 直接通过 {@code Cache} 写入的键经 {@link #fold} 折叠后同样参与按租户的统计；没有该前缀的键由所有租户共享，不参与统计。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public final class TenantKeys {
+
+    /**
+     * The prefix of tenant keys.
+     * <p>
+     * 租户键的前缀。
+     */
+    public static final String PREFIX = "tenant:";
+
+    private TenantKeys() {
+    }
+
+    /**
+     * Folds a tenant ID into a key.
+     * <p>
+     * 将租户ID折叠进键。
+     *
+     * @param tenant the tenant ID
+     *               <p>
+     *               租户ID
+     * @param key the key
+     *            <p>
+     *            键
+     * @return the tenant key
+     *         <p>
+     *         租户键
+     * @throws IllegalArgumentException if the tenant ID is empty or contains a colon
+     *                                  <p>
+     *                                  如果租户ID为空或包含冒号
+     */
+    public static String fold(String tenant, Object key) {
+        return PREFIX + checkTenant(tenant) + ":" + key;
+    }
+
+    /**
+     * Reads the tenant ID back from a key.
+     * <p>
+     * 从键中读出租户ID。
+     *
+     * @param key the key
+     *            <p>
+     *            键
+     * @return the tenant ID, or {@code null} if the key is shared by all tenants
+     *         <p>
+     *         租户ID；如果键由所有租户共享则返回 {@code null}
+     */
+    public static String tenantOf(Object key) {
+        if (!(key instanceof String string) || !string.startsWith(PREFIX)) {
+            return null;
+        }
+        int end = string.indexOf(':', PREFIX.length());
+        return end > PREFIX.length() ? string.substring(PREFIX.length(), end) : null;
+    }
+
+    /**
+     * Checks that a tenant ID can be folded into a key.
+     * <p>
+     * 检查租户ID能否折叠进键。
+     *
+     * @param tenant the tenant ID
+     *               <p>
+     *               租户ID
+     * @return the tenant ID
+     *         <p>
+     *         租户ID
+     * @throws IllegalArgumentException if the tenant ID is empty or contains a colon
+     *                                  <p>
+     *                                  如果租户ID为空或包含冒号
+     */
+    public static String checkTenant(String tenant) {
+        if (tenant == null || tenant.isEmpty() || tenant.indexOf(':') >= 0) {
+            throw new IllegalArgumentException("租户ID不能为空且不能包含冒号: " + tenant);
+        }
+        return tenant;
+    }
+}
@@ -0,0 +1,413 @@
+package cc.ashclaw.common4j.cache.tenant;
+
+import cc.ashclaw.common4j.cache.core.Cache;
+import cc.ashclaw.common4j.cache.metrics.CacheMetrics;
+import cc.ashclaw.common4j.cache.support.NullValue;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * Cache accounting the entries of each tenant against a quota.
+ * <p>
+ * 按配额统计每个租户条目的缓存。
+ * <p>
+ * Every key written for a tenant (see {@link TenantKeys}) is recorded in a bounded index
+ * of that tenant. When a tenant exceeds its quota, its index evicts one of the tenant's
+ * own keys, chosen by frequency and recency, from the underlying cache. A large tenant
+ * therefore only displaces its own entries, and the entries of small tenants stay in
+ * place. Hits, misses, evictions and the size of each tenant are published as metrics
+ * tagged with the cache, the tier and the tenant.
+ * <p>
+ * 为租户写入的每个键（见 {@link TenantKeys}）都记录在该租户的有界索引中。租户超出配额时，
+ * 其索引会按访问频率和时间从底层缓存中淘汰该租户自己的一个键。因此大租户只会挤出自己的条目，
+ * 小租户的条目不受影响。每个租户的命中、未命中、淘汰次数和条目数以带有缓存、层级和租户标签的指标发布。
+ * <p>
+ * The index is kept per node. For a local tier this is exact; for a distributed tier it
+ * bounds the keys a tenant writes through each node, so the cluster-wide bound is the
+ * quota times the number of writing nodes.
+ * <p>
+ * 索引按节点保存。对本地缓存层这是精确的；对分布式缓存层它限制租户通过每个节点写入的键数，
+ * 因此集群范围的上限为配额乘以写入节点数。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class TenantQuotaCache implements Cache {
+
+    private final Cache delegate;
+    private final String tier;
+    private final ToLongFunction<String> quota;
+    private final Duration entryLifetime;
+    private final CacheMetrics metrics;
+    private final Map<String, com.github.benmanes.caffeine.cache.Cache<Object, Boolean>> tenants =
+        new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new TenantQuotaCache over the specified cache.
+     * <p>
+     * 基于指定的缓存构造一个新的TenantQuotaCache。
+     *
+     * @param delegate the cache holding the entries
+     *                 <p>
+     *                 保存条目的缓存
+     * @param tier the name of the tier used as metric tag
+     *             <p>
+     *             用作指标标签的缓存层名称
+     * @param quota the maximum number of entries of a tenant
+     *              <p>
+     *              租户的最大条目数
+     * @param entryLifetime how long an entry lives in the underlying cache
+     *                      <p>
+     *                      条目在底层缓存中的存活时间
+     * @param metrics the cache metrics registry
+     *                <p>
+     *                缓存指标注册表
+     */
+    public TenantQuotaCache(Cache delegate, String tier, ToLongFunction<String> quota, Duration entryLifetime,
+                            CacheMetrics metrics) {
+        this.delegate = delegate;
+        this.tier = tier;
+        this.quota = quota;
+        this.entryLifetime = entryLifetime;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Gets the cache holding the entries.
+     * <p>
+     * 获取保存条目的缓存。
+     *
+     * @return the underlying cache
+     *         <p>
+     *         底层缓存
+     */
+    public Cache getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Gets the number of entries accounted to a tenant.
+     * <p>
+     * 获取计入租户的条目数。
+     *
+     * @param tenant the tenant ID
+     *               <p>
+     *               租户ID
+     * @return the estimated number of entries of the tenant
+     *         <p>
+     *         租户的估计条目数
+     */
+    public long size(String tenant) {
+        com.github.benmanes.caffeine.cache.Cache<Object, Boolean> index = tenants.get(tenant);
+        if (index == null) {
+            return 0;
+        }
+        index.cleanUp();
+        return index.estimatedSize();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return accessed(key, delegate.get(key, type));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object get(Object key, Type type) {
+        return accessed(key, delegate.get(key, type));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object cached = get(key, Object.class);
+        if (cached != null) {
+            // 已知不存在的键返回null，不再加载
+            return (T) NullValue.unwrap(cached);
+        }
+
+        try {
+            T value = valueLoader.call();
+            if (value != null) {
+                put(key, value);
+            }
+            return value;
+        } catch (Exception e) {
+            throw new RuntimeException("加载缓存值失败", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> T getAndTouch(Object key, Class<T> type, long timeout, TimeUnit unit) {
+        return accessed(key, delegate.getAndTouch(key, type, timeout, unit));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+        written(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void put(Object key, Object value, long timeout, TimeUnit unit) {
+        delegate.put(key, value, timeout, unit);
+        written(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean putIfAbsent(Object key, Object value) {
+        boolean put = delegate.putIfAbsent(key, value);
+        if (put) {
+            written(key);
+        }
+        return put;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean putIfAbsent(Object key, Object value, long timeout, TimeUnit unit) {
+        boolean put = delegate.putIfAbsent(key, value, timeout, unit);
+        if (put) {
+            written(key);
+        }
+        return put;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> T compute(Object key, Class<T> type, UnaryOperator<T> remappingFunction) {
+        T value = delegate.compute(key, type, remappingFunction);
+        if (value != null) {
+            written(key);
+        } else {
+            removed(key);
+        }
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        removed(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void evict(Collection<?> keys) {
+        delegate.evict(keys);
+        keys.forEach(this::removed);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        delegate.clear();
+        tenants.values().forEach(com.github.benmanes.caffeine.cache.Cache::invalidateAll);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> Map<Object, T> multiGet(Collection<?> keys, Class<T> type) {
+        Map<Object, T> result = delegate.multiGet(keys, type);
+        for (Object key : keys) {
+            accessed(key, result.get(key));
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void multiPut(Map<?, ?> map) {
+        delegate.multiPut(map);
+        map.keySet().forEach(this::written);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void multiPut(Map<?, ?> map, long timeout, TimeUnit unit) {
+        delegate.multiPut(map, timeout, unit);
+        map.keySet().forEach(this::written);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long getExpire(Object key) {
+        return delegate.getExpire(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long getExpire(Object key, TimeUnit timeUnit) {
+        return delegate.getExpire(key, timeUnit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean expire(Object key, long timeout, TimeUnit unit) {
+        return delegate.expire(key, timeout, unit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasKey(Object key) {
+        return delegate.hasKey(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long size() {
+        return delegate.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Object> recentKeys(int limit) {
+        return delegate.recentKeys(limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<Object> keys(String pattern, int batchSize) {
+        return delegate.keys(pattern, batchSize);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> Stream<Map.Entry<Object, T>> entries(String pattern, int batchSize, Class<T> type) {
+        return delegate.entries(pattern, batchSize, type);
+    }
+
+    /**
+     * Records a read of a key in the metrics of its tenant.
+     */
+    private <T> T accessed(Object key, T value) {
+        String tenant = TenantKeys.tenantOf(key);
+        if (tenant != null) {
+            metrics.increment(value != null ? "cache.tenant.hits" : "cache.tenant.misses",
+                "cache", getName(), "tier", tier, "tenant", tenant);
+            if (value != null) {
+                // 读取同样计入访问频率，使常用的键在配额内被保留
+                com.github.benmanes.caffeine.cache.Cache<Object, Boolean> index = tenants.get(tenant);
+                if (index != null) {
+                    index.getIfPresent(key);
+                }
+            }
+        }
+        return value;
+    }
+
+    private void written(Object key) {
+        String tenant = TenantKeys.tenantOf(key);
+        if (tenant != null) {
+            tenants.computeIfAbsent(tenant, this::newIndex).put(key, Boolean.TRUE);
+        }
+    }
+
+    private void removed(Object key) {
+        String tenant = TenantKeys.tenantOf(key);
+        if (tenant != null) {
+            com.github.benmanes.caffeine.cache.Cache<Object, Boolean> index = tenants.get(tenant);
+            if (index != null) {
+                index.invalidate(key);
+            }
+        }
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Boolean> newIndex(String tenant) {
+        com.github.benmanes.caffeine.cache.Cache<Object, Boolean> index = Caffeine.newBuilder()
+            .maximumSize(quota.applyAsLong(tenant))
+            .expireAfterWrite(entryLifetime)
+            // 淘汰在写入线程上执行，超出配额的租户自己承担淘汰开销
+            .executor(Runnable::run)
+            .removalListener((Object key, Boolean value, RemovalCause cause) -> {
+                if (cause == RemovalCause.SIZE) {
+                    delegate.evict(key);
+                    metrics.increment("cache.tenant.evictions", "cache", getName(), "tier", tier, "tenant", tenant);
+                }
+            })
+            .build();
+        metrics.gauge("cache.tenant.size", index::estimatedSize, "cache", getName(), "tier", tier, "tenant", tenant);
+        return index;
+    }
+}
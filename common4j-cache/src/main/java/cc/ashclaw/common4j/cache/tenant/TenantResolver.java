@@ -0,0 +1,29 @@
+package cc.ashclaw.common4j.cache.tenant;
+
+/**
+ * Provider of the tenant of the current operation.
+ * <p>
+ * 提供当前操作所属租户的接口。
+ * <p>
+ * The default resolver reads {@link TenantContext}; an application can declare its own
+ * resolver bean, for example one reading the tenant from its security context.
+ * <p>
+ * 默认解析器读取 {@link TenantContext}；应用可以声明自己的解析器bean，例如从其安全上下文中读取租户。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+@FunctionalInterface
+public interface TenantResolver {
+
+    /**
+     * Resolves the tenant of the current operation.
+     * <p>
+     * 解析当前操作所属的租户。
+     *
+     * @return the tenant ID, or {@code null} if the operation belongs to no tenant
+     *         <p>
+     *         租户ID；如果操作不属于任何租户则返回 {@code null}
+     */
+    String resolveTenant();
+}
@@ -0,0 +1,17 @@
+/**
+ * Package containing tenant-aware cache partitioning.
+ * <p>
+ * 包含按租户划分缓存的包。
+ * <p>
+ * This package provides the resolution of the current tenant through {@code TenantContext}
+ * or a {@code TenantResolver}, the folding of tenant IDs into keys by {@code TenantKeys},
+ * and the {@code TenantQuotaCache}, which bounds the entries of each tenant in a tier so
+ * that a large tenant cannot evict the entries of the others.
+ * <p>
+ * 此包提供通过 {@code TenantContext} 或 {@code TenantResolver} 解析当前租户、由 {@code TenantKeys} 将租户ID折叠进键，
+ * 以及 {@code TenantQuotaCache}，它限制每个租户在缓存层中的条目数，使大租户无法淘汰其他租户的条目。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+package cc.ashclaw.common4j.cache.tenant;
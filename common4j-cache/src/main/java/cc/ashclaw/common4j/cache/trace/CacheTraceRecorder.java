@@ -0,0 +1,239 @@
+package cc.ashclaw.common4j.cache.trace;
+
+import cc.ashclaw.common4j.cache.enums.CacheOperation;
+import cc.ashclaw.common4j.cache.exception.CacheException;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Low-overhead recorder of cache access events into a binary ring file.
+ * <p>
+ * 将缓存访问事件记录到二进制环形文件中的低开销记录器。
+ * <p>
+ * Events are written as fixed 20-byte records into a memory-mapped file, so
+ * recording is a handful of absolute buffer writes without locks or allocation.
+ * Only key hashes are stored. Keys are sampled spatially by hash (every key whose
+ * hash falls into the sample is always recorded), which keeps the reuse distances
+ * of the sampled keys intact; the simulator scales cache sizes by the sample rate.
+ * <p>
+ * 事件以固定20字节记录写入内存映射文件，记录过程只有少量绝对位置写入，无锁且无对象分配。
+ * 文件中只保存键的哈希值。按键哈希进行空间采样（落入样本的键总是被记录），
+ * 从而保持被采样键的重用距离；模拟器会按采样率缩放缓存容量。
+ * <p>
+ * File layout: a 32-byte header ({@code magic, version, capacity, sampleRate,
+ * startMillis, cursor}) followed by {@code capacity} records of
+ * {@code timeOffsetMillis, cacheHash, keyHash, operation}. Cache names are written
+ * to a {@code .names} side file on {@link #close()}.
+ * <p>
+ * 文件格式：32字节文件头（{@code magic, version, capacity, sampleRate, startMillis, cursor}），
+ * 后跟 {@code capacity} 条记录（{@code timeOffsetMillis, cacheHash, keyHash, operation}）。
+ * 缓存名称在 {@link #close()} 时写入 {@code .names} 附属文件。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class CacheTraceRecorder implements AutoCloseable {
+
+    static final int MAGIC = 0x43345452;
+    static final int VERSION = 2;
+    static final int HEADER_SIZE = 32;
+    static final int RECORD_SIZE = 20;
+    static final int HIT_FLAG = 0x100;
+
+    private static final int CURSOR_OFFSET = 24;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final int sampleMask;
+    private final long startMillis;
+    private final AtomicLong cursor = new AtomicLong();
+    private final Map<Integer, String> cacheNames = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    /**
+     * Constructs a new CacheTraceRecorder writing into the specified file.
+     * <p>
+     * 构造一个写入指定文件的新CacheTraceRecorder。
+     *
+     * @param path the trace file, created or overwritten
+     *             <p>
+     *             跟踪文件，不存在则创建，存在则覆盖
+     * @param capacity the number of records kept in the ring
+     *                 <p>
+     *                 环中保留的记录数
+     * @param sampleRate the key sample rate as a power of two; 1 records every key
+     *                   <p>
+     *                   键的采样率，必须为2的幂；1表示记录所有键
+     */
+    public CacheTraceRecorder(Path path, int capacity, int sampleRate) {
+        if (capacity <= 0 || capacity > (Integer.MAX_VALUE - HEADER_SIZE) / RECORD_SIZE) {
+            throw new IllegalArgumentException("Trace capacity out of range: " + capacity);
+        }
+        if (sampleRate <= 0 || Integer.bitCount(sampleRate) != 1) {
+            throw new IllegalArgumentException("Sample rate must be a power of two, but got " + sampleRate);
+        }
+
+        this.path = path;
+        this.capacity = capacity;
+        this.sampleMask = sampleRate - 1;
+        this.startMillis = System.currentTimeMillis();
+
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                HEADER_SIZE + (long) capacity * RECORD_SIZE);
+        } catch (IOException e) {
+            throw new CacheException("创建缓存跟踪文件失败: " + path, e);
+        }
+
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(8, capacity);
+        buffer.putInt(12, sampleRate);
+        buffer.putLong(16, startMillis);
+        buffer.putLong(CURSOR_OFFSET, 0L);
+    }
+
+    /**
+     * Records a cache event if its key falls into the sample.
+     * <p>
+     * 如果键落入样本，则记录一个缓存事件。
+     *
+     * @param cacheName the cache name
+     *                  <p>
+     *                  缓存名称
+     * @param key the cache key, or {@code null} for cache-wide operations
+     *            <p>
+     *            缓存键，缓存级操作时为 {@code null}
+     * @param operation the cache operation
+     *                  <p>
+     *                  缓存操作
+     * @param hit whether a {@code GET} found a value
+     *            <p>
+     *            {@code GET} 操作是否命中
+     */
+    public void record(String cacheName, Object key, CacheOperation operation, boolean hit) {
+        if (closed) {
+            return;
+        }
+
+        int keyHash = key == null ? 0 : hash(key.hashCode());
+        // CLEAR 作用于整个缓存，必须始终记录
+        if (operation != CacheOperation.CLEAR && (keyHash & sampleMask) != 0) {
+            return;
+        }
+
+        int cacheHash = cacheName.hashCode();
+        cacheNames.putIfAbsent(cacheHash, cacheName);
+
+        long sequence = cursor.getAndIncrement();
+        int position = HEADER_SIZE + (int) (sequence % capacity) * RECORD_SIZE;
+        // 时间偏移使用long保存，int毫秒偏移在运行约24.8天后溢出
+        buffer.putLong(position, System.currentTimeMillis() - startMillis);
+        buffer.putInt(position + 8, cacheHash);
+        buffer.putInt(position + 12, keyHash);
+        buffer.putInt(position + 16, operation.ordinal() | (hit ? HIT_FLAG : 0));
+        buffer.putLong(CURSOR_OFFSET, sequence + 1);
+    }
+
+    /**
+     * Gets the number of events recorded since creation, including overwritten ones.
+     * <p>
+     * 获取自创建以来记录的事件数，包括已被覆盖的事件。
+     *
+     * @return the number of recorded events
+     *         <p>
+     *         已记录的事件数
+     */
+    public long getRecordedCount() {
+        return cursor.get();
+    }
+
+    /**
+     * Gets the trace file path.
+     * <p>
+     * 获取跟踪文件路径。
+     *
+     * @return the trace file path
+     *         <p>
+     *         跟踪文件路径
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Flushes the trace, writes the cache name side file and releases the file.
+     * <p>
+     * 刷新跟踪数据，写入缓存名称附属文件并释放文件。
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        buffer.putLong(CURSOR_OFFSET, cursor.get());
+        buffer.force();
+
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<Integer, String> entry : cacheNames.entrySet()) {
+            lines.add(entry.getKey() + "=" + entry.getValue());
+        }
+        try {
+            Files.write(namesPath(path), lines, StandardCharsets.UTF_8);
+            channel.close();
+        } catch (IOException e) {
+            throw new CacheException("关闭缓存跟踪文件失败: " + path, e);
+        }
+    }
+
+    /**
+     * Gets the path of the cache name side file for a trace file.
+     * <p>
+     * 获取跟踪文件对应的缓存名称附属文件路径。
+     *
+     * @param trace the trace file path
+     *              <p>
+     *              跟踪文件路径
+     * @return the side file path
+     *         <p>
+     *         附属文件路径
+     */
+    static Path namesPath(Path trace) {
+        return trace.resolveSibling(trace.getFileName() + ".names");
+    }
+
+    /**
+     * Spreads the bits of a hash code (MurmurHash3 finalizer).
+     * <p>
+     * 打散哈希码的位分布（MurmurHash3终结函数）。
+     */
+    private static int hash(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
@@ -0,0 +1,396 @@
+package cc.ashclaw.common4j.cache.trace;
+
+import cc.ashclaw.common4j.cache.enums.CacheOperation;
+import cc.ashclaw.common4j.cache.exception.CacheException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Offline simulator that replays a cache trace against several eviction policies.
+ * <p>
+ * 离线模拟器，针对多种淘汰策略回放缓存跟踪记录。
+ * <p>
+ * The trace written by {@link CacheTraceRecorder} is replayed with demand-fill
+ * semantics (a missed {@code GET} loads the entry, as {@code CacheAspect} does)
+ * against LRU and W-TinyLFU for every combination of maximum size and TTL. The
+ * W-TinyLFU policy is Caffeine itself, driven by a ticker that follows the trace
+ * timestamps so that expiration is simulated deterministically. The resulting
+ * hit rates per size form the hit-rate curve used to pick {@code maximumSize}
+ * and {@code localExpireTime} for each cache.
+ * <p>
+ * {@link CacheTraceRecorder} 写入的跟踪记录以按需加载语义回放（未命中的 {@code GET} 会加载条目，与
+ * {@code CacheAspect} 一致），针对LRU和W-TinyLFU以及每种最大容量和TTL组合进行模拟。
+ * W-TinyLFU策略直接使用Caffeine，并由跟随跟踪时间戳的时钟驱动，从而确定性地模拟过期。
+ * 各容量下的命中率构成命中率曲线，用于为每个缓存选择 {@code maximumSize} 和 {@code localExpireTime}。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class CacheTraceSimulator {
+
+    private static final CacheOperation[] OPERATIONS = CacheOperation.values();
+
+    private final int sampleRate;
+    private final long[] times;
+    private final int[] caches;
+    private final int[] keys;
+    private final int[] operations;
+    private final Map<Integer, String> cacheNames;
+
+    private CacheTraceSimulator(int sampleRate, long[] times, int[] caches, int[] keys, int[] operations,
+                                Map<Integer, String> cacheNames) {
+        this.sampleRate = sampleRate;
+        this.times = times;
+        this.caches = caches;
+        this.keys = keys;
+        this.operations = operations;
+        this.cacheNames = cacheNames;
+    }
+
+    /**
+     * Loads a trace file written by {@link CacheTraceRecorder}.
+     * <p>
+     * 加载由 {@link CacheTraceRecorder} 写入的跟踪文件。
+     *
+     * @param trace the trace file path
+     *              <p>
+     *              跟踪文件路径
+     * @return the simulator for the trace
+     *         <p>
+     *         该跟踪记录的模拟器
+     */
+    public static CacheTraceSimulator load(Path trace) {
+        try (FileChannel channel = FileChannel.open(trace, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt(0) != CacheTraceRecorder.MAGIC || buffer.getInt(4) != CacheTraceRecorder.VERSION) {
+                throw new CacheException("不是有效的缓存跟踪文件: " + trace);
+            }
+
+            int capacity = buffer.getInt(8);
+            int sampleRate = buffer.getInt(12);
+            long cursor = buffer.getLong(24);
+            int count = (int) Math.min(cursor, capacity);
+            // 环已写满时，最旧的记录位于游标所在的槽位
+            int first = cursor > capacity ? (int) (cursor % capacity) : 0;
+
+            long[] times = new long[count];
+            int[] caches = new int[count];
+            int[] keys = new int[count];
+            int[] operations = new int[count];
+            for (int i = 0; i < count; i++) {
+                int position = CacheTraceRecorder.HEADER_SIZE
+                    + ((first + i) % capacity) * CacheTraceRecorder.RECORD_SIZE;
+                times[i] = buffer.getLong(position);
+                caches[i] = buffer.getInt(position + 8);
+                keys[i] = buffer.getInt(position + 12);
+                operations[i] = buffer.getInt(position + 16);
+            }
+
+            return new CacheTraceSimulator(sampleRate, times, caches, keys, operations, readNames(trace));
+        } catch (IOException e) {
+            throw new CacheException("读取缓存跟踪文件失败: " + trace, e);
+        }
+    }
+
+    /**
+     * Gets the cache names present in the trace.
+     * <p>
+     * 获取跟踪记录中出现的缓存名称。
+     *
+     * @return the cache names
+     *         <p>
+     *         缓存名称
+     */
+    public List<String> getCacheNames() {
+        List<String> names = new ArrayList<>();
+        for (int cacheHash : distinctCaches()) {
+            names.add(cacheNames.getOrDefault(cacheHash, String.valueOf(cacheHash)));
+        }
+        return names;
+    }
+
+    /**
+     * Replays the events of one cache against every policy, size and TTL.
+     * <p>
+     * 针对每种策略、容量和TTL回放某个缓存的事件。
+     *
+     * @param cacheName the cache to replay, or {@code null} for all caches
+     *                  <p>
+     *                  要回放的缓存，{@code null} 表示所有缓存
+     * @param maximumSizes the full-traffic maximum sizes to simulate
+     *                     <p>
+     *                     要模拟的全量流量下的最大容量
+     * @param ttls the TTLs to simulate; {@link Duration#ZERO} means no expiration
+     *             <p>
+     *             要模拟的TTL；{@link Duration#ZERO} 表示不过期
+     * @return one result per policy, size and TTL
+     *         <p>
+     *         每种策略、容量和TTL对应一个结果
+     */
+    public List<SimulationResult> simulate(String cacheName, List<Long> maximumSizes, List<Duration> ttls) {
+        List<SimulationResult> results = new ArrayList<>();
+        for (Duration ttl : ttls) {
+            for (long maximumSize : maximumSizes) {
+                // 空间采样只保留 1/sampleRate 的键，模拟容量按相同比例缩小
+                long scaledSize = Math.max(1, maximumSize / sampleRate);
+                results.add(replay(cacheName, "LRU", new LruPolicy(scaledSize, ttl), maximumSize, ttl));
+                results.add(replay(cacheName, "W-TinyLFU", new TinyLfuPolicy(scaledSize, ttl), maximumSize, ttl));
+            }
+        }
+        return results;
+    }
+
+    private SimulationResult replay(String cacheName, String policyName, Policy policy, long maximumSize,
+                                    Duration ttl) {
+        Integer cacheHash = cacheName == null ? null : cacheHash(cacheName);
+        long accesses = 0;
+        long hits = 0;
+
+        for (int i = 0; i < keys.length; i++) {
+            if (cacheHash != null && caches[i] != cacheHash) {
+                continue;
+            }
+
+            // 不同缓存的相同键哈希需要区分
+            long key = cacheHash != null ? keys[i] : ((long) caches[i] << 32) | (keys[i] & 0xFFFFFFFFL);
+            long now = times[i];
+            CacheOperation operation = OPERATIONS[operations[i] & 0xFF];
+            switch (operation) {
+                case GET:
+                    accesses++;
+                    if (policy.get(key, now)) {
+                        hits++;
+                    } else {
+                        policy.put(key, now);
+                    }
+                    break;
+                case PUT:
+                    policy.put(key, now);
+                    break;
+                case EVICT:
+                    policy.remove(key);
+                    break;
+                case CLEAR:
+                    policy.clear();
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        return new SimulationResult(cacheName, policyName, maximumSize, ttl, accesses, hits);
+    }
+
+    private int cacheHash(String cacheName) {
+        for (Map.Entry<Integer, String> entry : cacheNames.entrySet()) {
+            if (entry.getValue().equals(cacheName)) {
+                return entry.getKey();
+            }
+        }
+        return cacheName.hashCode();
+    }
+
+    private List<Integer> distinctCaches() {
+        List<Integer> distinct = new ArrayList<>();
+        for (int cacheHash : caches) {
+            if (!distinct.contains(cacheHash)) {
+                distinct.add(cacheHash);
+            }
+        }
+        return distinct;
+    }
+
+    private static Map<Integer, String> readNames(Path trace) throws IOException {
+        Map<Integer, String> names = new HashMap<>();
+        Path namesPath = CacheTraceRecorder.namesPath(trace);
+        if (Files.exists(namesPath)) {
+            for (String line : Files.readAllLines(namesPath, StandardCharsets.UTF_8)) {
+                int separator = line.indexOf('=');
+                if (separator > 0) {
+                    names.put(Integer.parseInt(line.substring(0, separator)), line.substring(separator + 1));
+                }
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Simulated eviction policy.
+     * <p>
+     * 模拟的淘汰策略。
+     */
+    private interface Policy {
+        boolean get(long key, long now);
+
+        void put(long key, long now);
+
+        void remove(long key);
+
+        void clear();
+    }
+
+    /**
+     * Least-recently-used policy with optional expire-after-write.
+     * <p>
+     * 最近最少使用策略，可选写入后过期。
+     */
+    private static class LruPolicy implements Policy {
+        private final long maximumSize;
+        private final long ttlMillis;
+        private final LinkedHashMap<Long, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+        LruPolicy(long maximumSize, Duration ttl) {
+            this.maximumSize = maximumSize;
+            this.ttlMillis = ttl.toMillis();
+        }
+
+        @Override
+        public boolean get(long key, long now) {
+            Long writeTime = entries.get(key);
+            if (writeTime == null) {
+                return false;
+            }
+            if (ttlMillis > 0 && now - writeTime >= ttlMillis) {
+                entries.remove(key);
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public void put(long key, long now) {
+            entries.put(key, now);
+            if (entries.size() > maximumSize) {
+                Iterator<Long> eldest = entries.keySet().iterator();
+                eldest.next();
+                eldest.remove();
+            }
+        }
+
+        @Override
+        public void remove(long key) {
+            entries.remove(key);
+        }
+
+        @Override
+        public void clear() {
+            entries.clear();
+        }
+    }
+
+    /**
+     * W-TinyLFU policy backed by Caffeine with a trace-driven ticker.
+     * <p>
+     * 由Caffeine实现的W-TinyLFU策略，使用跟踪记录驱动的时钟。
+     */
+    private static class TinyLfuPolicy implements Policy {
+        private long nowNanos;
+        private final Cache<Long, Boolean> cache;
+
+        TinyLfuPolicy(long maximumSize, Duration ttl) {
+            Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .executor(Runnable::run)
+                .ticker(() -> nowNanos);
+            if (!ttl.isZero()) {
+                builder.expireAfterWrite(ttl.toNanos(), TimeUnit.NANOSECONDS);
+            }
+            this.cache = builder.build();
+        }
+
+        @Override
+        public boolean get(long key, long now) {
+            nowNanos = TimeUnit.MILLISECONDS.toNanos(now);
+            return cache.getIfPresent(key) != null;
+        }
+
+        @Override
+        public void put(long key, long now) {
+            nowNanos = TimeUnit.MILLISECONDS.toNanos(now);
+            cache.put(key, Boolean.TRUE);
+        }
+
+        @Override
+        public void remove(long key) {
+            cache.invalidate(key);
+        }
+
+        @Override
+        public void clear() {
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * Result of replaying a trace against one policy configuration.
+     * <p>
+     * 针对一种策略配置回放跟踪记录的结果。
+     */
+    public static class SimulationResult {
+        private final String cacheName;
+        private final String policy;
+        private final long maximumSize;
+        private final Duration ttl;
+        private final long accesses;
+        private final long hits;
+
+        SimulationResult(String cacheName, String policy, long maximumSize, Duration ttl, long accesses, long hits) {
+            this.cacheName = cacheName;
+            this.policy = policy;
+            this.maximumSize = maximumSize;
+            this.ttl = ttl;
+            this.accesses = accesses;
+            this.hits = hits;
+        }
+
+        public String getCacheName() {
+            return cacheName;
+        }
+
+        public String getPolicy() {
+            return policy;
+        }
+
+        public long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public long getAccesses() {
+            return accesses;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public double getHitRate() {
+            return accesses == 0 ? 0 : hits / (double) accesses;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-10s size=%-10d ttl=%-10s hitRate=%.4f (%d/%d)",
+                policy, maximumSize, ttl.isZero() ? "none" : ttl, getHitRate(), hits, accesses);
+        }
+    }
+}
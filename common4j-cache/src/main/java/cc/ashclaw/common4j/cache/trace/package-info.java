@@ -0,0 +1,16 @@
+/**
+ * Package containing cache access tracing support.
+ * <p>
+ * 包含缓存访问跟踪支持的包。
+ * <p>
+ * This package provides a low-overhead recorder that writes sampled cache access
+ * events to a memory-mapped ring file, and an offline simulator that replays such
+ * a trace against several eviction policies, sizes and TTLs to produce hit-rate curves.
+ * <p>
+ * 此包提供一个低开销的记录器，将采样的缓存访问事件写入内存映射环形文件，
+ * 以及一个离线模拟器，针对多种淘汰策略、容量和TTL回放跟踪记录以生成命中率曲线。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+package cc.ashclaw.common4j.cache.trace;
@@ -1,11 +1,17 @@
 package cc.ashclaw.common4j.cache.util;
 
+import cc.ashclaw.common4j.cache.config.CacheProperties;
 import cc.ashclaw.common4j.cache.enums.LockType;
 import cc.ashclaw.common4j.cache.impl.redisson.RedissonLock;
+import cc.ashclaw.common4j.cache.metrics.CacheMetrics;
 import org.redisson.api.RedissonClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
@@ -25,13 +31,32 @@ import java.util.function.Supplier;
 @Component
 public class LockUtil {
     
+    /**
+     * The metric tag of locks whose keys have no common prefix.
+     * <p>
+     * 键没有共同前缀的锁使用的指标标签。
+     */
+    private static final String DEFAULT_LOCK_NAME = "default";
+    
     private static RedissonClient redissonClient;
+    private static CacheMetrics cacheMetrics;
+    private static Duration contendedThreshold = RedissonLock.DEFAULT_CONTENDED_THRESHOLD;
     
     @Autowired
     public void setRedissonClient(RedissonClient redissonClient) {
         LockUtil.redissonClient = redissonClient;
     }
     
+    @Autowired(required = false)
+    public void setCacheMetrics(CacheMetrics cacheMetrics) {
+        LockUtil.cacheMetrics = cacheMetrics;
+    }
+    
+    @Autowired(required = false)
+    public void setCacheProperties(CacheProperties cacheProperties) {
+        LockUtil.contendedThreshold = cacheProperties.getLockContendedThreshold();
+    }
+    
     /**
      * Executes the specified operation with a distributed lock.
      * <p>
@@ -112,7 +137,7 @@ public class LockUtil {
     public static <T> T executeWithLock(String lockKey, LockType lockType, 
                                       long waitTime, long leaseTime, TimeUnit unit, 
                                       Supplier<T> supplier) {
-        RedissonLock lock = new RedissonLock(redissonClient, lockKey, lockType);
+        RedissonLock lock = instrument(new RedissonLock(redissonClient, lockKey, lockType), lockName(lockKey));
         
         try {
             if (lock.tryLock(waitTime, leaseTime, unit)) {
@@ -191,7 +216,7 @@ public class LockUtil {
     public static void executeWithLock(String lockKey, LockType lockType, 
                                       long waitTime, long leaseTime, TimeUnit unit, 
                                       Runnable runnable) {
-        RedissonLock lock = new RedissonLock(redissonClient, lockKey, lockType);
+        RedissonLock lock = instrument(new RedissonLock(redissonClient, lockKey, lockType), lockName(lockKey));
         
         try {
             if (lock.tryLock(waitTime, leaseTime, unit)) {
@@ -208,6 +233,109 @@ public class LockUtil {
         }
     }
     
+    /**
+     * Executes the specified operation while holding the distributed locks of all the specified keys.
+     * <p>
+     * 在持有所有指定键的分布式锁期间执行指定的操作。
+     * <p>
+     * The keys are sorted and deduplicated and acquired as one multi-lock, so concurrent
+     * callers locking overlapping key sets cannot deadlock.
+     * <p>
+     * 键会被排序、去重并作为一个联锁获取，因此锁定重叠键集合的并发调用方不会死锁。
+     *
+     * @param lockKeys the keys for the distributed locks
+     *                 <p>
+     *                 分布式锁的键
+     * @param supplier the operation to be executed
+     *                 <p>
+     *                 要执行的操作
+     * @param <T> the type of the result
+     *            <p>
+     *            结果的类型
+     * @return the result of the operation
+     *         <p>
+     *         操作的结果
+     */
+    public static <T> T executeWithLocks(Collection<String> lockKeys, Supplier<T> supplier) {
+        return executeWithLocks(lockKeys, LockType.REENTRANT, 30, 30, TimeUnit.SECONDS, supplier);
+    }
+    
+    /**
+     * Executes the specified operation while holding the distributed locks of all the specified keys
+     * with custom timeout configuration.
+     * <p>
+     * 使用自定义超时配置，在持有所有指定键的分布式锁期间执行指定的操作。
+     *
+     * @param lockKeys the keys for the distributed locks
+     *                 <p>
+     *                 分布式锁的键
+     * @param lockType the type of lock to use for every key
+     *                 <p>
+     *                 每个键使用的锁类型
+     * @param waitTime the maximum time to wait for all the locks
+     *                 <p>
+     *                 等待全部锁的最大时间
+     * @param leaseTime the time to hold the locks after acquiring them
+     *                  <p>
+     *                  获取锁后持有锁的时间
+     * @param unit the time unit for waitTime and leaseTime
+     *             <p>
+     *             waitTime和leaseTime的时间单位
+     * @param supplier the operation to be executed
+     *                 <p>
+     *                 要执行的操作
+     * @param <T> the type of the result
+     *            <p>
+     *            结果的类型
+     * @return the result of the operation
+     *         <p>
+     *         操作的结果
+     */
+    public static <T> T executeWithLocks(Collection<String> lockKeys, LockType lockType,
+                                       long waitTime, long leaseTime, TimeUnit unit,
+                                       Supplier<T> supplier) {
+        if (lockKeys == null || lockKeys.isEmpty()) {
+            throw new IllegalArgumentException("锁键不能为空");
+        }
+        Set<String> lockNames = lockKeys.stream().map(LockUtil::lockName).collect(Collectors.toSet());
+        String lockName = lockNames.size() == 1 ? lockNames.iterator().next() : DEFAULT_LOCK_NAME;
+        RedissonLock lock = instrument(new RedissonLock(redissonClient, lockKeys, lockType), lockName);
+        
+        try {
+            if (lock.tryLock(waitTime, leaseTime, unit)) {
+                try {
+                    return supplier.get();
+                } finally {
+                    lock.unlock();
+                }
+            } else {
+                throw new RuntimeException("获取分布式锁失败");
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("执行带锁操作失败", e);
+        }
+    }
+    
+    /**
+     * Executes the specified operation while holding the distributed locks of all the specified keys
+     * (no return value).
+     * <p>
+     * 在持有所有指定键的分布式锁期间执行指定的操作（无返回值）。
+     *
+     * @param lockKeys the keys for the distributed locks
+     *                 <p>
+     *                 分布式锁的键
+     * @param runnable the operation to be executed
+     *                 <p>
+     *                 要执行的操作
+     */
+    public static void executeWithLocks(Collection<String> lockKeys, Runnable runnable) {
+        executeWithLocks(lockKeys, LockType.REENTRANT, 30, 30, TimeUnit.SECONDS, () -> {
+            runnable.run();
+            return null;
+        });
+    }
+    
     /**
      * Attempts to acquire the lock immediately.
      * <p>
@@ -221,7 +349,7 @@ public class LockUtil {
      *         如果获取了锁，则返回 {@code true}；否则返回 {@code false}
      */
     public static boolean tryLock(String lockKey) {
-        RedissonLock lock = new RedissonLock(redissonClient, lockKey);
+        RedissonLock lock = instrument(new RedissonLock(redissonClient, lockKey), lockName(lockKey));
         return lock.tryLock();
     }
     
@@ -244,7 +372,7 @@ public class LockUtil {
      *         如果获取了锁，则返回 {@code true}；否则返回 {@code false}
      */
     public static boolean tryLock(String lockKey, long waitTime, TimeUnit unit) {
-        RedissonLock lock = new RedissonLock(redissonClient, lockKey);
+        RedissonLock lock = instrument(new RedissonLock(redissonClient, lockKey), lockName(lockKey));
         return lock.tryLock(waitTime, unit);
     }
     
@@ -258,7 +386,7 @@ public class LockUtil {
      *                分布式锁的键
      */
     public static void unlock(String lockKey) {
-        RedissonLock lock = new RedissonLock(redissonClient, lockKey);
+        RedissonLock lock = instrument(new RedissonLock(redissonClient, lockKey), lockName(lockKey));
         lock.unlock();
     }
     
@@ -275,7 +403,30 @@ public class LockUtil {
      *         如果锁被任何线程持有，则返回 {@code true}；否则返回 {@code false}
      */
     public static boolean isLocked(String lockKey) {
-        RedissonLock lock = new RedissonLock(redissonClient, lockKey);
+        RedissonLock lock = instrument(new RedissonLock(redissonClient, lockKey), lockName(lockKey));
         return lock.isLocked();
     }
-}
\ No newline at end of file
+    
+    /**
+     * Enables the metrics of a lock, tagged with the specified lock name.
+     * <p>
+     * 启用锁的指标，以指定的锁名称作为标签。
+     */
+    private static RedissonLock instrument(RedissonLock lock, String lockName) {
+        if (cacheMetrics != null) {
+            lock.instrument(cacheMetrics, lockName, contendedThreshold);
+        }
+        return lock;
+    }
+    
+    /**
+     * Gets the metric tag of a key: the prefix before the first colon, or a constant name
+     * for keys without one, so that the number of tags stays bounded.
+     * <p>
+     * 获取键的指标标签：第一个冒号之前的前缀；没有前缀的键使用固定名称，以限制标签数量。
+     */
+    private static String lockName(String lockKey) {
+        int separator = lockKey.indexOf(':');
+        return separator > 0 ? lockKey.substring(0, separator) : DEFAULT_LOCK_NAME;
+    }
+}
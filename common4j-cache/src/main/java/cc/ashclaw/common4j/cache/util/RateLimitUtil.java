@@ -0,0 +1,110 @@
+package cc.ashclaw.common4j.cache.util;
+
+import cc.ashclaw.common4j.cache.enums.RateLimitAlgorithm;
+import cc.ashclaw.common4j.cache.exception.RateLimitException;
+import cc.ashclaw.common4j.cache.ratelimit.LeasedRateLimiter;
+import cc.ashclaw.common4j.cache.ratelimit.RateLimitRule;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Rate limiting utility class providing static methods for rate limit checks.
+ * <p>
+ * 限流工具类，提供用于限流检查的静态方法。
+ * <p>
+ * This class offers the same cluster-wide limits as {@code @RateLimit} for code
+ * that cannot use the annotation.
+ * <p>
+ * 此类为无法使用注解的代码提供与 {@code @RateLimit} 相同的集群级限流。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+@Component
+public class RateLimitUtil {
+    
+    private static LeasedRateLimiter rateLimiter;
+    
+    @Autowired
+    public void setRateLimiter(LeasedRateLimiter rateLimiter) {
+        RateLimitUtil.rateLimiter = rateLimiter;
+    }
+    
+    /**
+     * Attempts to take one permit of a token bucket limit.
+     * <p>
+     * 尝试从令牌桶限流中获取一个许可。
+     *
+     * @param key the rate limit key
+     *            <p>
+     *            限流键
+     * @param rate the number of permits per interval
+     *             <p>
+     *             每个时间间隔内的许可数
+     * @param interval the interval
+     *                 <p>
+     *                 时间间隔
+     * @return {@code true} if the permit was taken, {@code false} if the limit is exceeded
+     *         <p>
+     *         获取成功返回 {@code true}，超出限制返回 {@code false}
+     */
+    public static boolean tryAcquire(String key, long rate, Duration interval) {
+        return tryAcquire(key, new RateLimitRule(rate, interval, RateLimitAlgorithm.TOKEN_BUCKET), 1);
+    }
+    
+    /**
+     * Attempts to take permits of the specified limit.
+     * <p>
+     * 尝试从指定的限流中获取许可。
+     *
+     * @param key the rate limit key
+     *            <p>
+     *            限流键
+     * @param rule the rate limit rule
+     *             <p>
+     *             限流规则
+     * @param permits the number of permits
+     *                <p>
+     *                许可数
+     * @return {@code true} if the permits were taken, {@code false} if the limit is exceeded
+     *         <p>
+     *         获取成功返回 {@code true}，超出限制返回 {@code false}
+     */
+    public static boolean tryAcquire(String key, RateLimitRule rule, long permits) {
+        return rateLimiter.tryAcquire(key, rule, permits);
+    }
+    
+    /**
+     * Executes the specified operation if a permit of the specified limit is available.
+     * <p>
+     * 如果指定限流有可用许可，则执行指定的操作。
+     *
+     * @param key the rate limit key
+     *            <p>
+     *            限流键
+     * @param rule the rate limit rule
+     *             <p>
+     *             限流规则
+     * @param supplier the operation to be executed
+     *                 <p>
+     *                 要执行的操作
+     * @param <T> the type of the result
+     *            <p>
+     *            结果的类型
+     * @return the result of the operation
+     *         <p>
+     *         操作的结果
+     * @throws RateLimitException if the limit is exceeded
+     *                            <p>
+     *                            如果超出限制
+     */
+    public static <T> T executeWithRateLimit(String key, RateLimitRule rule, Supplier<T> supplier) {
+        if (!rateLimiter.tryAcquire(key, rule, 1)) {
+            throw new RateLimitException("请求过于频繁");
+        }
+        return supplier.get();
+    }
+}
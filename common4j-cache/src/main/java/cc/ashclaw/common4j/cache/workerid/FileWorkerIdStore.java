@@ -0,0 +1,97 @@
+package cc.ashclaw.common4j.cache.workerid;
+
+import cc.ashclaw.common4j.cache.exception.CacheException;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Worker ID store locking one file per slot, for nodes sharing a host and no Redis.
+ * <p>
+ * 为每个槽位锁定一个文件的工作节点ID存储，用于共享同一主机且没有Redis的节点。
+ * <p>
+ * A slot is held through an exclusive lock on its file in the directory. The operating
+ * system drops the lock when the process dies, so no lease time is needed and
+ * {@code leaseTime} is ignored.
+ * <p>
+ * 槽位通过对目录中对应文件的排他锁持有。进程退出时操作系统会释放锁，因此不需要租约时间，{@code leaseTime} 被忽略。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class FileWorkerIdStore implements WorkerIdStore {
+
+    private final Path directory;
+    private final Map<Integer, FileLock> locks = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new FileWorkerIdStore.
+     * <p>
+     * 构造一个新的FileWorkerIdStore。
+     *
+     * @param directory the directory holding the lock files
+     *                  <p>
+     *                  保存锁文件的目录
+     */
+    public FileWorkerIdStore(Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public boolean tryAcquire(int workerId, String owner, Duration leaseTime) {
+        FileChannel channel = null;
+        try {
+            Files.createDirectories(directory);
+            channel = FileChannel.open(directory.resolve("worker-" + workerId + ".lock"),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            FileLock lock = channel.tryLock();
+            if (lock == null) {
+                channel.close();
+                return false;
+            }
+            locks.put(workerId, lock);
+            return true;
+        } catch (OverlappingFileLockException e) {
+            // 本进程已持有该槽位
+            close(channel);
+            return false;
+        } catch (IOException e) {
+            close(channel);
+            throw new CacheException("无法锁定工作节点ID文件: " + directory, e);
+        }
+    }
+
+    @Override
+    public boolean renew(int workerId, String owner, Duration leaseTime) {
+        FileLock lock = locks.get(workerId);
+        return lock != null && lock.isValid();
+    }
+
+    @Override
+    public void release(int workerId, String owner) {
+        FileLock lock = locks.remove(workerId);
+        if (lock != null) {
+            // 关闭通道同时释放锁
+            close(lock.channel());
+        }
+    }
+
+    private static void close(FileChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // 关闭失败时锁随进程退出释放
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package cc.ashclaw.common4j.cache.workerid;
+
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Worker ID store keeping each slot as a Redis key holding its owner.
+ * <p>
+ * 将每个槽位保存为存放其持有者的Redis键的工作节点ID存储。
+ * <p>
+ * A slot is leased with {@code SET NX PX}; renewal and release compare the owner first
+ * in a Lua script, so a node never extends or deletes a slot another node has taken over.
+ * <p>
+ * 槽位通过 {@code SET NX PX} 租用；续约和释放在Lua脚本中先比较持有者，因此节点不会延长或删除已被其他节点接管的槽位。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class RedissonWorkerIdStore implements WorkerIdStore {
+
+    /**
+     * KEYS: slot. ARGV: owner, lease time in milliseconds.
+     */
+    private static final String RENEW_SCRIPT =
+        "if redis.call('get', KEYS[1]) == ARGV[1] then "
+        + "  return redis.call('pexpire', KEYS[1], ARGV[2]); "
+        + "end; "
+        + "return 0;";
+
+    /**
+     * KEYS: slot. ARGV: owner.
+     */
+    private static final String RELEASE_SCRIPT =
+        "if redis.call('get', KEYS[1]) == ARGV[1] then "
+        + "  return redis.call('del', KEYS[1]); "
+        + "end; "
+        + "return 0;";
+
+    private final RedissonClient redissonClient;
+    private final String keyPrefix;
+
+    /**
+     * Constructs a new RedissonWorkerIdStore.
+     * <p>
+     * 构造一个新的RedissonWorkerIdStore。
+     *
+     * @param redissonClient the Redisson client instance
+     *                       <p>
+     *                       Redisson客户端实例
+     * @param keyPrefix the prefix of the Redis keys
+     *                  <p>
+     *                  Redis键的前缀
+     */
+    public RedissonWorkerIdStore(RedissonClient redissonClient, String keyPrefix) {
+        this.redissonClient = redissonClient;
+        this.keyPrefix = keyPrefix;
+    }
+
+    @Override
+    public boolean tryAcquire(int workerId, String owner, Duration leaseTime) {
+        return redissonClient.getBucket(keyPrefix + workerId, StringCodec.INSTANCE).setIfAbsent(owner, leaseTime);
+    }
+
+    @Override
+    public boolean renew(int workerId, String owner, Duration leaseTime) {
+        Boolean renewed = eval(workerId, RENEW_SCRIPT, owner, String.valueOf(leaseTime.toMillis()));
+        return Boolean.TRUE.equals(renewed);
+    }
+
+    @Override
+    public void release(int workerId, String owner) {
+        eval(workerId, RELEASE_SCRIPT, owner);
+    }
+
+    private Boolean eval(int workerId, String script, Object... args) {
+        String key = keyPrefix + workerId;
+        return redissonClient.getScript(StringCodec.INSTANCE).eval(key, RScript.Mode.READ_WRITE, script,
+            RScript.ReturnType.BOOLEAN, List.of(key), args);
+    }
+}
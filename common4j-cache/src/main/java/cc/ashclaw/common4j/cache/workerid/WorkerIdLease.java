@@ -0,0 +1,227 @@
+package cc.ashclaw.common4j.cache.workerid;
+
+import cc.ashclaw.common4j.cache.exception.CacheException;
+import cc.ashclaw.common4j.core.util.IdUtil;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Lease on a Snowflake worker ID, so that nodes get distinct IDs for {@link IdUtil} without configuration.
+ * <p>
+ * Snowflake工作节点ID的租约，使各节点无需配置即可为 {@link IdUtil} 获得互不相同的ID。
+ * <p>
+ * {@link #start()} leases the first free of the 1024 slots, starting at a random one, and
+ * renews the lease every third of the lease time. The lease is considered valid until the
+ * lease time, minus a drift margin, has elapsed since the last successful renewal was sent,
+ * so the node stops generating IDs before the slot can expire in the store and be leased by
+ * another node. Once a renewal finds the slot held by someone else, or the lease has run out,
+ * the lease is lost for good and {@link #nextId()} fails instead of risking duplicate IDs.
+ * <p>
+ * {@link #start()} 从随机位置开始租用1024个槽位中第一个空闲的槽位，并每隔三分之一租约时间续约一次。
+ * 租约在距最近一次成功续约的发送时刻经过租约时间减去漂移余量之前有效，因此节点会在槽位于存储中过期、
+ * 可被其他节点租用之前停止生成ID。一旦续约发现槽位已被他人持有或租约已过期，租约即永久失效，
+ * {@link #nextId()} 将直接失败而不是冒险生成重复ID。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class WorkerIdLease implements AutoCloseable {
+
+    /**
+     * The number of worker IDs supported by {@link IdUtil}.
+     * <p>
+     * {@link IdUtil} 支持的工作节点ID数量。
+     */
+    public static final int WORKER_ID_COUNT = 1024;
+
+    private final WorkerIdStore store;
+    private final Duration leaseTime;
+    private final long validityNanos;
+    private final LongSupplier nanoClock;
+    private final String owner = UUID.randomUUID().toString();
+    private ScheduledExecutorService heartbeat;
+    private volatile int workerId = -1;
+    private volatile long validUntil;
+    private volatile boolean lost;
+
+    /**
+     * Constructs a new WorkerIdLease.
+     * <p>
+     * 构造一个新的WorkerIdLease。
+     *
+     * @param store the store holding the leased slots
+     *              <p>
+     *              保存已租用槽位的存储
+     * @param leaseTime how long a slot is held without renewal
+     *                  <p>
+     *                  未续约时槽位的持有时长
+     */
+    public WorkerIdLease(WorkerIdStore store, Duration leaseTime) {
+        this(store, leaseTime, System::nanoTime);
+    }
+
+    /**
+     * Constructs a new WorkerIdLease using the specified clock.
+     * <p>
+     * 使用指定时钟构造一个新的WorkerIdLease。
+     *
+     * @param store the store holding the leased slots
+     *              <p>
+     *              保存已租用槽位的存储
+     * @param leaseTime how long a slot is held without renewal
+     *                  <p>
+     *                  未续约时槽位的持有时长
+     * @param nanoClock the monotonic clock in nanoseconds
+     *                  <p>
+     *                  以纳秒为单位的单调时钟
+     */
+    public WorkerIdLease(WorkerIdStore store, Duration leaseTime, LongSupplier nanoClock) {
+        if (leaseTime.toMillis() < 3) {
+            throw new IllegalArgumentException("租约时间过短: " + leaseTime);
+        }
+        this.store = store;
+        this.leaseTime = leaseTime;
+        // 与Redlock相同，扣除1%的时钟漂移和2毫秒
+        long leaseNanos = leaseTime.toNanos();
+        this.validityNanos = leaseNanos - leaseNanos / 100 - TimeUnit.MILLISECONDS.toNanos(2);
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Leases a free worker ID and starts renewing it.
+     * <p>
+     * 租用一个空闲的工作节点ID并开始续约。
+     *
+     * @throws CacheException if all worker IDs are leased
+     *                        <p>
+     *                        如果所有工作节点ID都已被租用
+     */
+    public synchronized void start() {
+        if (heartbeat != null) {
+            return;
+        }
+        int offset = ThreadLocalRandom.current().nextInt(WORKER_ID_COUNT);
+        for (int i = 0; i < WORKER_ID_COUNT && workerId < 0; i++) {
+            int candidate = (offset + i) % WORKER_ID_COUNT;
+            long sentAt = nanoClock.getAsLong();
+            if (store.tryAcquire(candidate, owner, leaseTime)) {
+                validUntil = sentAt + validityNanos;
+                workerId = candidate;
+            }
+        }
+        if (workerId < 0) {
+            throw new CacheException("没有可用的工作节点ID，" + WORKER_ID_COUNT + "个ID均已被租用");
+        }
+        long interval = leaseTime.toMillis() / 3;
+        heartbeat = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("common4j-worker-id-heartbeat").factory());
+        heartbeat.scheduleWithFixedDelay(this::renewQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Renews the lease once.
+     * <p>
+     * 续约一次。
+     *
+     * @return {@code true} if the lease is still valid after the renewal
+     *         <p>
+     *         如果续约后租约仍然有效则返回 {@code true}
+     */
+    public boolean renew() {
+        if (lost || workerId < 0) {
+            return false;
+        }
+        long sentAt = nanoClock.getAsLong();
+        if (store.renew(workerId, owner, leaseTime)) {
+            // 本地判定已过期的租约即使续约成功也不再恢复
+            if (isValid()) {
+                validUntil = sentAt + validityNanos;
+                return true;
+            }
+        }
+        lost = true;
+        return false;
+    }
+
+    /**
+     * Returns whether the lease is still held.
+     * <p>
+     * 返回租约是否仍被持有。
+     *
+     * @return {@code true} if the worker ID may be used to generate IDs
+     *         <p>
+     *         如果可以使用该工作节点ID生成ID则返回 {@code true}
+     */
+    public boolean isValid() {
+        return !lost && workerId >= 0 && nanoClock.getAsLong() - validUntil < 0;
+    }
+
+    /**
+     * Returns the leased worker ID.
+     * <p>
+     * 返回租用的工作节点ID。
+     *
+     * @return the worker ID
+     *         <p>
+     *         工作节点ID
+     * @throws CacheException if the lease is not held
+     *                        <p>
+     *                        如果未持有租约
+     */
+    public int getWorkerId() {
+        if (!isValid()) {
+            throw new CacheException("工作节点ID租约已失效: " + workerId);
+        }
+        return workerId;
+    }
+
+    /**
+     * Generates the next ID with the leased worker ID.
+     * <p>
+     * 使用租用的工作节点ID生成下一个ID。
+     *
+     * @return the generated ID
+     *         <p>
+     *         生成的ID
+     * @throws CacheException if the lease is not held
+     *                        <p>
+     *                        如果未持有租约
+     */
+    public long nextId() {
+        return IdUtil.getInstance(getWorkerId()).nextId();
+    }
+
+    /**
+     * Stops renewing and releases the worker ID.
+     * <p>
+     * 停止续约并释放工作节点ID。
+     */
+    @Override
+    public synchronized void close() {
+        if (heartbeat != null) {
+            heartbeat.shutdownNow();
+            heartbeat = null;
+        }
+        if (workerId >= 0 && !lost) {
+            lost = true;
+            store.release(workerId, owner);
+        }
+    }
+
+    private void renewQuietly() {
+        try {
+            renew();
+        } catch (RuntimeException e) {
+            // 调度线程中的异常会终止后续调度，存储暂时不可用时保留租约直至过期
+            if (!isValid()) {
+                lost = true;
+            }
+        }
+    }
+}
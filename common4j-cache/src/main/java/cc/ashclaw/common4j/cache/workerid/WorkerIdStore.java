@@ -0,0 +1,68 @@
+package cc.ashclaw.common4j.cache.workerid;
+
+import java.time.Duration;
+
+/**
+ * Shared store of the worker ID slots leased by the nodes.
+ * <p>
+ * 保存各节点租用的工作节点ID槽位的共享存储。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public interface WorkerIdStore {
+
+    /**
+     * Leases a slot if no other node holds it.
+     * <p>
+     * 如果没有其他节点持有，则租用槽位。
+     *
+     * @param workerId the worker ID of the slot
+     *                 <p>
+     *                 槽位的工作节点ID
+     * @param owner the identity of the leasing node
+     *              <p>
+     *              租用节点的标识
+     * @param leaseTime how long the slot is held without renewal
+     *                  <p>
+     *                  未续约时槽位的持有时长
+     * @return {@code true} if the slot was leased
+     *         <p>
+     *         如果租用成功则返回 {@code true}
+     */
+    boolean tryAcquire(int workerId, String owner, Duration leaseTime);
+
+    /**
+     * Extends the lease of a slot still held by the owner.
+     * <p>
+     * 延长仍由持有者持有的槽位租约。
+     *
+     * @param workerId the worker ID of the slot
+     *                 <p>
+     *                 槽位的工作节点ID
+     * @param owner the identity of the leasing node
+     *              <p>
+     *              租用节点的标识
+     * @param leaseTime how long the slot is held without renewal
+     *                  <p>
+     *                  未续约时槽位的持有时长
+     * @return {@code true} if the lease was extended, {@code false} if the owner lost the slot
+     *         <p>
+     *         如果续约成功则返回 {@code true}；如果持有者已失去槽位则返回 {@code false}
+     */
+    boolean renew(int workerId, String owner, Duration leaseTime);
+
+    /**
+     * Releases a slot held by the owner.
+     * <p>
+     * 释放由持有者持有的槽位。
+     *
+     * @param workerId the worker ID of the slot
+     *                 <p>
+     *                 槽位的工作节点ID
+     * @param owner the identity of the leasing node
+     *              <p>
+     *              租用节点的标识
+     */
+    void release(int workerId, String owner);
+}
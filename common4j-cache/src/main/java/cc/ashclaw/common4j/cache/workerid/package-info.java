@@ -0,0 +1,16 @@
+/**
+ * Package containing worker ID leasing for Snowflake ID generation.
+ * <p>
+ * 包含用于Snowflake ID生成的工作节点ID租约的包。
+ * <p>
+ * This package provides the {@code WorkerIdLease} that leases a distinct worker ID for
+ * {@code IdUtil} on each node, together with a store based on Redis keys with expiration
+ * and a store based on file locks for nodes sharing a host without Redis.
+ * <p>
+ * 此包提供为每个节点的 {@code IdUtil} 租用互不相同工作节点ID的 {@code WorkerIdLease}，
+ * 同时提供基于带过期时间的Redis键的存储，以及供共享同一主机且没有Redis的节点使用的基于文件锁的存储。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+package cc.ashclaw.common4j.cache.workerid;
@@ -23,5 +23,6 @@ module common4j.cache {
     requires spring.expression;
     requires com.fasterxml.jackson.core;
     requires com.fasterxml.jackson.databind;
+    requires common4j.core;
     requires static lombok;
 }
\ No newline at end of file
@@ -0,0 +1,164 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2026 AshClaw.
+
+package cc.ashclaw.common4j.cache.bulkhead;
+
+import cc.ashclaw.common4j.cache.metrics.CacheMetrics;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RFuture;
+import org.redisson.api.RPermitExpirableSemaphore;
+
+import java.lang.reflect.Proxy;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for BulkheadRegistry and BulkheadPool using JUnit 5.
+ * <p>
+ * BulkheadRegistry和BulkheadPool测试类，使用JUnit 5。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class BulkheadRegistryTest {
+
+    /**
+     * Test that calls beyond the local limit are rejected.
+     * <p>
+     * 测试超出本地限制的调用被拒绝。
+     */
+    @Test
+    void testRejectsBeyondLimit() throws InterruptedException {
+        BulkheadPool pool = new BulkheadPool("orders", 2);
+
+        BulkheadPool.Permit first = pool.tryAcquire(0);
+        BulkheadPool.Permit second = pool.tryAcquire(0);
+        assertNotNull(first);
+        assertNotNull(second);
+        assertNull(pool.tryAcquire(0));
+        assertEquals(2, pool.getInUse());
+
+        pool.release(first);
+        assertEquals(1, pool.getInUse());
+        assertNotNull(pool.tryAcquire(0));
+    }
+
+    /**
+     * Test that a waiting call gets the permit given back by another call.
+     * <p>
+     * 测试等待中的调用能获得其他调用归还的许可。
+     */
+    @Test
+    void testWaitsForReleasedPermit() throws InterruptedException {
+        BulkheadPool pool = new BulkheadPool("orders", 1);
+        BulkheadPool.Permit held = pool.tryAcquire(0);
+        CountDownLatch waiting = new CountDownLatch(1);
+
+        Thread releaser = Thread.ofPlatform().start(() -> {
+            try {
+                waiting.await();
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            pool.release(held);
+        });
+        waiting.countDown();
+        assertNotNull(pool.tryAcquire(5_000));
+        releaser.join();
+    }
+
+    /**
+     * Test that reserved cluster permits are renewed and given back once the calls of the node wind down.
+     * <p>
+     * 测试预留的集群许可会续租，并在本节点的调用减少后归还。
+     */
+    @Test
+    void testReservedPermitsFollowLoad() throws InterruptedException {
+        Set<String> held = ConcurrentHashMap.newKeySet();
+        AtomicInteger renewals = new AtomicInteger();
+        BulkheadPool pool = new BulkheadPool("orders", 10, semaphore(held, renewals), 4, 30_000);
+
+        BulkheadPool.Permit first = pool.tryAcquire(0);
+        BulkheadPool.Permit second = pool.tryAcquire(0);
+        BulkheadPool.Permit third = pool.tryAcquire(0);
+        assertEquals(3, held.size());
+
+        pool.release(first);
+        assertEquals(1, pool.getReserved());
+        assertEquals(1, renewals.get());
+        assertNotNull(first = pool.tryAcquire(0));
+        assertEquals(3, held.size());
+
+        pool.release(first);
+        pool.release(second);
+        assertEquals(1, pool.getReserved());
+        pool.release(third);
+        assertEquals(0, pool.getReserved());
+        assertTrue(held.isEmpty());
+    }
+
+    /**
+     * Test that pools are shared by name and export their permits in use.
+     * <p>
+     * 测试许可池按名称共享，并导出正在使用的许可数。
+     */
+    @Test
+    void testRegistryExportsPermitsInUse() throws InterruptedException {
+        CacheMetrics metrics = new CacheMetrics();
+        BulkheadRegistry registry = new BulkheadRegistry(null, metrics, "common4j:bulkhead:", 4, 30_000);
+
+        BulkheadPool pool = registry.getPool("orders", 3, 0);
+        assertSame(pool, registry.getPool("orders", 3, 0));
+        pool.tryAcquire(0);
+
+        assertEquals(1, metrics.snapshot().get("bulkhead.in.use{bulkhead=orders}").intValue());
+        assertThrows(IllegalStateException.class, () -> registry.getPool("payments", 3, 10));
+    }
+
+    /**
+     * Creates a cluster semaphore keeping the ids of the permits it handed out.
+     * <p>
+     * 创建一个记录已发放许可标识的集群信号量。
+     */
+    private static RPermitExpirableSemaphore semaphore(Set<String> held, AtomicInteger renewals) {
+        return (RPermitExpirableSemaphore) Proxy.newProxyInstance(
+            RPermitExpirableSemaphore.class.getClassLoader(),
+            new Class<?>[]{RPermitExpirableSemaphore.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "tryAcquire" -> {
+                    String id = UUID.randomUUID().toString();
+                    held.add(id);
+                    yield id;
+                }
+                case "tryRelease" -> held.remove((String) args[0]);
+                case "updateLeaseTimeAsync" -> {
+                    renewals.incrementAndGet();
+                    yield future(held.contains((String) args[0]));
+                }
+                default -> throw new UnsupportedOperationException(method.getName());
+            });
+    }
+
+    /**
+     * Creates a completed Redisson future backed by a {@link CompletableFuture}.
+     * <p>
+     * 创建一个由 {@link CompletableFuture} 支持的已完成Redisson future。
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> RFuture<T> future(T value) {
+        CompletableFuture<T> future = CompletableFuture.completedFuture(value);
+        return (RFuture<T>) Proxy.newProxyInstance(
+            RFuture.class.getClassLoader(),
+            new Class<?>[]{RFuture.class},
+            (proxy, method, args) -> CompletableFuture.class
+                .getMethod(method.getName(), method.getParameterTypes())
+                .invoke(future, args));
+    }
+}
@@ -0,0 +1,97 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2026 AshClaw.
+
+package cc.ashclaw.common4j.cache.core;
+
+import cc.ashclaw.common4j.cache.config.CacheProperties;
+import cc.ashclaw.common4j.cache.impl.caffeine.CaffeineCache;
+import cc.ashclaw.common4j.cache.impl.memory.InMemoryCache;
+import cc.ashclaw.common4j.cache.impl.multilevel.MultiLevelCacheImpl;
+import cc.ashclaw.common4j.cache.support.CacheSerializer;
+import cc.ashclaw.common4j.cache.support.NullValue;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for Cache#compute using JUnit 5.
+ * <p>
+ * Cache#compute测试类，使用JUnit 5。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class CacheComputeTest {
+
+    private final CacheProperties properties = new CacheProperties();
+
+    /**
+     * Test that concurrent increments through compute are never lost.
+     * <p>
+     * 测试通过compute的并发自增不会丢失更新。
+     */
+    @Test
+    void testConcurrentIncrementsAreNotLost() {
+        CaffeineCache local = new CaffeineCache("counters", Caffeine.newBuilder(), properties);
+        InMemoryCache distributed = new InMemoryCache("counters", new CacheSerializer(), properties);
+        List<Cache> caches = List.of(
+            new CaffeineCache("counters", Caffeine.newBuilder(), properties),
+            new InMemoryCache("counters", new CacheSerializer(), properties),
+            new MultiLevelCacheImpl(local, distributed, properties));
+
+        for (Cache cache : caches) {
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                IntStream.range(0, 1000).forEach(i -> executor.submit(
+                    () -> cache.compute("hits", Integer.class, count -> count == null ? 1 : count + 1)));
+            }
+            assertEquals(1000, cache.get("hits", Integer.class), cache.getClass().getSimpleName());
+        }
+        assertEquals(1000, local.get("hits", Integer.class));
+    }
+
+    /**
+     * Test that a null marker reads as absent and that a null result evicts the entry.
+     * <p>
+     * 测试空值标记被视为不存在，且返回null时移除条目。
+     */
+    @Test
+    void testNullMarkerAndNullResult() {
+        for (Cache cache : List.of(
+            new CaffeineCache("items", Caffeine.newBuilder(), properties),
+            new InMemoryCache("items", new CacheSerializer(), properties))) {
+            cache.put("item", NullValue.INSTANCE);
+
+            assertEquals("created", cache.compute("item", String.class, value -> value == null ? "created" : value));
+            assertEquals("created", cache.get("item", String.class));
+            assertNull(cache.compute("item", String.class, value -> null));
+            assertFalse(cache.hasKey("item"));
+            assertNull(cache.compute("missing", String.class, value -> null));
+        }
+    }
+
+    /**
+     * Test that an update keeps the remaining expiration while a new entry gets the default one.
+     * <p>
+     * 测试更新保留剩余过期时间，而新条目使用默认过期时间。
+     */
+    @Test
+    void testUpdateKeepsExpiration() {
+        AtomicLong clock = new AtomicLong();
+        InMemoryCache cache = new InMemoryCache("items", new CacheSerializer(), properties, clock::get);
+        cache.put("item", 1, 10, TimeUnit.SECONDS);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(4));
+
+        assertEquals(2, cache.compute("item", Integer.class, value -> value + 1));
+        assertEquals(6L, cache.getExpire("item"));
+        cache.compute("other", Integer.class, value -> 1);
+        assertEquals(properties.getExpireTime().toSeconds(), cache.getExpire("other"));
+    }
+}
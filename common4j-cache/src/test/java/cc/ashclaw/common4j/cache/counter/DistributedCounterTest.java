@@ -0,0 +1,162 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2026 AshClaw.
+
+package cc.ashclaw.common4j.cache.counter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for DistributedCounter using JUnit 5.
+ * <p>
+ * DistributedCounter测试类，使用JUnit 5。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class DistributedCounterTest {
+
+    /**
+     * Test that increments are visible locally before they are flushed.
+     * <p>
+     * 测试累加在刷新前即可在本地看到。
+     */
+    @Test
+    void testReadYourWrites() {
+        InMemoryCounterStore store = new InMemoryCounterStore();
+        DistributedCounter counter = new DistributedCounter(store);
+
+        counter.increment("orders");
+        counter.add("orders", 4);
+        assertEquals(0, store.get("orders"));
+        assertEquals(5, counter.get("orders"));
+
+        counter.flush();
+        assertEquals(5, store.get("orders"));
+        assertEquals(0, counter.getUnflushed("orders"));
+        assertEquals(5, counter.get("orders"));
+    }
+
+    /**
+     * Test that concurrent increments are all counted and flushed in one batch.
+     * <p>
+     * 测试并发累加全部被计入，并在一批中刷新。
+     */
+    @Test
+    void testConcurrentIncrementsFlushedInOneBatch() throws InterruptedException {
+        CountingStore store = new CountingStore(new InMemoryCounterStore());
+        DistributedCounter counter = new DistributedCounter(store);
+
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = Thread.ofPlatform().start(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    counter.increment("a");
+                    counter.increment("b");
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(2, counter.flush());
+        assertEquals(1, store.batches.get());
+        assertEquals(80_000, store.get("a"));
+        assertEquals(80_000, store.get("b"));
+        assertEquals(0, counter.flush());
+    }
+
+    /**
+     * Test that deltas are kept when the store fails and sent with the next flush.
+     * <p>
+     * 测试存储失败时保留增量，并随下次刷新发送。
+     */
+    @Test
+    void testDeltasKeptWhenFlushFails() {
+        CountingStore store = new CountingStore(new InMemoryCounterStore());
+        DistributedCounter counter = new DistributedCounter(store);
+        counter.add("orders", 3);
+
+        store.failing.set(true);
+        assertThrows(IllegalStateException.class, counter::flush);
+        assertEquals(3, counter.getUnflushed("orders"));
+
+        store.failing.set(false);
+        counter.close();
+        assertEquals(3, store.get("orders"));
+    }
+
+    /**
+     * Test that a batch applied before the store call failed is not counted twice.
+     * <p>
+     * 测试存储调用失败前已生效的批次不会被重复计数。
+     */
+    @Test
+    void testAppliedBatchNotCountedTwice() {
+        CountingStore store = new CountingStore(new InMemoryCounterStore());
+        DistributedCounter counter = new DistributedCounter(store);
+        counter.add("orders", 3);
+
+        // 批次已生效但响应超时
+        store.failAfterApply.set(true);
+        assertThrows(IllegalStateException.class, counter::flush);
+        assertEquals(3, store.get("orders"));
+
+        store.failAfterApply.set(false);
+        counter.add("orders", 2);
+        assertEquals(1, counter.flush());
+        assertEquals(5, store.get("orders"));
+        assertEquals(0, counter.getUnflushed("orders"));
+        assertEquals(0, counter.flush());
+    }
+
+    /**
+     * Store counting the batches sent to its delegate.
+     * <p>
+     * 统计发送到委托存储批次数的存储。
+     */
+    private static final class CountingStore implements CounterStore {
+
+        private final CounterStore delegate;
+        private final AtomicInteger batches = new AtomicInteger();
+        private final AtomicBoolean failing = new AtomicBoolean();
+        private final AtomicBoolean failAfterApply = new AtomicBoolean();
+
+        private CountingStore(CounterStore delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void add(String batchId, Map<String, Long> deltas) {
+            if (failing.get()) {
+                throw new IllegalStateException("store unavailable");
+            }
+            batches.incrementAndGet();
+            delegate.add(batchId, deltas);
+            if (failAfterApply.get()) {
+                throw new IllegalStateException("response timed out");
+            }
+        }
+
+        @Override
+        public boolean contains(String batchId) {
+            return delegate.contains(batchId);
+        }
+
+        @Override
+        public long get(String key) {
+            return delegate.get(key);
+        }
+
+        @Override
+        public void set(String key, long value) {
+            delegate.set(key, value);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2026 AshClaw.
+
+package cc.ashclaw.common4j.cache.event;
+
+import cc.ashclaw.common4j.cache.config.CacheProperties;
+import cc.ashclaw.common4j.cache.core.Cache;
+import cc.ashclaw.common4j.cache.enums.CacheOperation;
+import cc.ashclaw.common4j.cache.enums.CacheType;
+import cc.ashclaw.common4j.cache.impl.caffeine.CaffeineCacheManager;
+import cc.ashclaw.common4j.cache.metrics.CacheMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for CacheEventPublisher using JUnit 5.
+ * <p>
+ * CacheEventPublisher测试类，使用JUnit 5。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class CacheEventPublisherTest {
+
+    /**
+     * Test that events are delivered in order and in bounded batches.
+     * <p>
+     * 测试事件按顺序以有界批次投递。
+     */
+    @Test
+    void testEventsDeliveredInBatches() throws InterruptedException {
+        List<List<CacheEvent>> batches = new CopyOnWriteArrayList<>();
+        CountDownLatch delivered = new CountDownLatch(10);
+
+        try (CacheEventPublisher publisher = new CacheEventPublisher(100, 4, new CacheMetrics())) {
+            publisher.addListener(events -> {
+                batches.add(events);
+                events.forEach(event -> delivered.countDown());
+            });
+            for (int i = 0; i < 10; i++) {
+                publisher.publish("users", CacheOperation.PUT, i, CacheType.LOCAL);
+            }
+            publisher.start();
+            assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        }
+
+        List<Object> keys = new ArrayList<>();
+        for (List<CacheEvent> batch : batches) {
+            assertTrue(batch.size() <= 4, "Batch should not exceed the batch size");
+            batch.forEach(event -> keys.add(event.getKey()));
+        }
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), keys);
+    }
+
+    /**
+     * Test that events beyond the queue capacity are dropped and counted.
+     * <p>
+     * 测试超出队列容量的事件被丢弃并计数。
+     */
+    @Test
+    void testOverflowIsDropped() {
+        CacheMetrics metrics = new CacheMetrics();
+        CacheEventPublisher publisher = new CacheEventPublisher(2, 4, metrics);
+        publisher.addListener(events -> { });
+        for (int i = 0; i < 5; i++) {
+            publisher.publish("users", CacheOperation.PUT, i, CacheType.LOCAL);
+        }
+        assertEquals(3L, metrics.snapshot().get("cache.events.dropped").longValue());
+    }
+
+    /**
+     * Test that Caffeine writes and removals are published.
+     * <p>
+     * 测试Caffeine的写入和移除会被发布。
+     */
+    @Test
+    void testCaffeineEventsPublished() throws InterruptedException {
+        List<CacheEvent> received = new CopyOnWriteArrayList<>();
+        CountDownLatch delivered = new CountDownLatch(2);
+
+        try (CacheEventPublisher publisher = new CacheEventPublisher(100, 16, new CacheMetrics())) {
+            publisher.addListener(events -> {
+                received.addAll(events);
+                events.forEach(event -> delivered.countDown());
+            });
+            publisher.start();
+
+            CaffeineCacheManager cacheManager = new CaffeineCacheManager(new CacheProperties());
+            cacheManager.setEventPublisher(publisher);
+            Cache cache = cacheManager.getCache("users");
+            cache.put("u1", "alice");
+            cache.evict("u1");
+
+            assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(CacheOperation.PUT, received.get(0).getOperation());
+        assertEquals(CacheOperation.EVICT, received.get(1).getOperation());
+        assertEquals("u1", received.get(1).getKey());
+        assertEquals(CacheType.LOCAL, received.get(1).getTier());
+    }
+}
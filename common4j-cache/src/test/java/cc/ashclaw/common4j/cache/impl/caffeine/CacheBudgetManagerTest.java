@@ -0,0 +1,87 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2026 AshClaw.
+
+package cc.ashclaw.common4j.cache.impl.caffeine;
+
+import cc.ashclaw.common4j.cache.config.CacheProperties;
+import cc.ashclaw.common4j.cache.core.Cache;
+import cc.ashclaw.common4j.cache.metrics.CacheMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for CacheBudgetManager using JUnit 5.
+ * <p>
+ * CacheBudgetManager测试类，使用JUnit 5。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class CacheBudgetManagerTest {
+
+    private static final long TOTAL_MAXIMUM = 2000;
+
+    private CaffeineCacheManager cacheManager;
+    private CacheBudgetManager budgetManager;
+
+    @BeforeEach
+    void setUp() {
+        CacheProperties properties = new CacheProperties();
+        properties.getCaffeine().setMaximumSize(1000);
+        properties.getCaffeine().getBudget().setEnabled(true);
+        properties.getCaffeine().getBudget().setTotalMaximum(TOTAL_MAXIMUM);
+        cacheManager = new CaffeineCacheManager(properties);
+        budgetManager = new CacheBudgetManager(cacheManager, properties, new CacheMetrics());
+    }
+
+    /**
+     * Test that capacity moves toward the cache whose misses would turn into hits, within the total maximum.
+     * <p>
+     * 测试容量向未命中可转化为命中的缓存转移，且不超过总容量。
+     */
+    @Test
+    void testRebalanceMovesCapacityToHotterCache() {
+        Cache hot = cacheManager.getCache("hot");
+        Cache cold = cacheManager.getCache("cold");
+        fill(hot, 1000);
+        fill(cold, 1000);
+
+        long previous = 1000;
+        for (int round = 0; round < 3; round++) {
+            // 热缓存一半命中一半未命中，冷缓存只有命中，没有可由更多容量节省的未命中
+            fill(hot, (int) budgetManager.getMaximum("hot") * 2);
+            for (int i = 0; i < 2000; i++) {
+                hot.get("key:" + i, Integer.class);
+                cold.get("key:" + (i % 100), Integer.class);
+            }
+            budgetManager.rebalance();
+
+            long hotMaximum = budgetManager.getMaximum("hot");
+            long coldMaximum = budgetManager.getMaximum("cold");
+            assertTrue(hotMaximum > previous, "round " + round + ": " + hotMaximum);
+            assertTrue(hotMaximum > coldMaximum);
+            assertTrue(hotMaximum + coldMaximum <= TOTAL_MAXIMUM);
+            previous = hotMaximum;
+        }
+
+        List<CompletableFuture<Void>> rounds = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            rounds.add(CompletableFuture.runAsync(budgetManager::rebalance));
+        }
+        rounds.forEach(CompletableFuture::join);
+        assertTrue(budgetManager.getMaximum("hot") + budgetManager.getMaximum("cold") <= TOTAL_MAXIMUM);
+    }
+
+    private static void fill(Cache cache, int count) {
+        for (int i = 0; i < count; i++) {
+            cache.put("key:" + i, i);
+        }
+        ((com.github.benmanes.caffeine.cache.Cache<?, ?>) cache.getNativeCache()).cleanUp();
+    }
+}
@@ -0,0 +1,196 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2026 AshClaw.
+
+package cc.ashclaw.common4j.cache.impl.memory;
+
+import cc.ashclaw.common4j.cache.config.CacheProperties;
+import cc.ashclaw.common4j.cache.core.Cache;
+import cc.ashclaw.common4j.cache.exception.CacheException;
+import cc.ashclaw.common4j.cache.impl.caffeine.CaffeineCache;
+import cc.ashclaw.common4j.cache.impl.multilevel.MultiLevelCacheImpl;
+import cc.ashclaw.common4j.cache.metrics.CacheMetrics;
+import cc.ashclaw.common4j.cache.support.CacheSerializer;
+import cc.ashclaw.common4j.cache.support.NullValue;
+import cc.ashclaw.common4j.cache.tenant.TenantQuotaCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for InMemoryCache using JUnit 5.
+ * <p>
+ * InMemoryCache测试类，使用JUnit 5。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class InMemoryCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private CacheProperties properties;
+    private InMemoryCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CacheProperties();
+        cache = new InMemoryCache("users", new CacheSerializer(), properties, clock::get);
+    }
+
+    /**
+     * Test that values are stored serialized, so later changes to the original are not seen.
+     * <p>
+     * 测试值以序列化形式保存，之后对原对象的修改不可见。
+     */
+    @Test
+    void testValuesAreStoredSerialized() {
+        List<String> roles = new ArrayList<>(List.of("admin"));
+        cache.put("roles", roles);
+        roles.add("root");
+
+        assertEquals(List.of("admin"), cache.get("roles", List.class));
+        assertNotSame(cache.get("roles", List.class), cache.get("roles", List.class));
+        assertEquals("loaded", cache.get("missing", () -> "loaded"));
+        assertEquals("loaded", cache.get("missing", String.class));
+    }
+
+    /**
+     * Test that entries expire after their time-to-live and that the expiration can be updated.
+     * <p>
+     * 测试条目在存活时间后过期，且过期时间可以更新。
+     */
+    @Test
+    void testEntriesExpire() {
+        cache.put("a", "1", 10, TimeUnit.SECONDS);
+        cache.put("b", "2", 0, TimeUnit.SECONDS);
+        assertEquals(10L, cache.getExpire("a"));
+        assertNull(cache.getExpire("b"));
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        assertTrue(cache.expire("a", 20, TimeUnit.SECONDS));
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertEquals("1", cache.get("a", String.class));
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertNull(cache.get("a", String.class));
+        assertFalse(cache.hasKey("a"));
+        assertTrue(cache.putIfAbsent("a", "3"));
+        assertEquals(2, cache.size());
+    }
+
+    /**
+     * Test that the idle expiration of the cache configuration is reset by reads.
+     * <p>
+     * 测试缓存配置中的空闲过期时间在读取时重置。
+     */
+    @Test
+    void testIdleExpiration() {
+        CacheProperties.CacheConfig config = new CacheProperties.CacheConfig();
+        config.setExpireAfterAccess(Duration.ofSeconds(10));
+        properties.getConfigs().put("users", config);
+        cache.put("session", "s1");
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(8));
+        assertEquals("s1", cache.get("session", String.class));
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(8));
+        assertEquals("s1", cache.get("session", String.class));
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(11));
+        assertNull(cache.get("session", String.class));
+    }
+
+    /**
+     * Test that get-and-touch slides the expiration from the read and never revives an expired entry.
+     * <p>
+     * 测试读取并续期从读取时刻起滑动过期时间，且不会恢复已过期的条目。
+     */
+    @Test
+    void testGetAndTouchSlidesExpiration() {
+        cache.put("session", "s1", 10, TimeUnit.SECONDS);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(8));
+        assertEquals("s1", cache.getAndTouch("session", String.class, 30, TimeUnit.SECONDS));
+        assertEquals(30L, cache.getExpire("session"));
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(25));
+        assertEquals("s1", cache.get("session", String.class));
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(6));
+        assertNull(cache.getAndTouch("session", String.class, 30, TimeUnit.SECONDS));
+        assertFalse(cache.hasKey("session"));
+        assertNull(cache.getAndTouch("unknown", String.class, 30, TimeUnit.SECONDS));
+        assertFalse(cache.hasKey("unknown"));
+    }
+
+    /**
+     * Test that null markers are kept apart from misses and skipped by entry streams.
+     * <p>
+     * 测试空值标记与未命中相区分，并在条目流中被跳过。
+     */
+    @Test
+    void testNullMarkers() {
+        cache.put("gone", NullValue.INSTANCE);
+        cache.put("user:1", "alice");
+
+        Map<Object, Object> found = cache.multiGet(List.of("gone", "unknown"), Object.class);
+        assertEquals(Map.of("gone", NullValue.INSTANCE), found);
+        assertNull(cache.get("gone", () -> "loaded"));
+        assertEquals(2, cache.keys("*", 10).count());
+        assertEquals(List.of(Map.entry("user:1", "alice")), cache.entries("user:*", 10, String.class).toList());
+    }
+
+    /**
+     * Test that injected failures and latency apply to every round trip.
+     * <p>
+     * 测试注入的故障和延迟作用于每次往返。
+     */
+    @Test
+    void testInjectedFaults() {
+        InMemoryCacheManager manager = new InMemoryCacheManager(properties);
+        InMemoryCache orders = (InMemoryCache) manager.getCache("orders");
+        orders.put("o1", "order");
+
+        manager.setFailureRate(1);
+        assertThrows(CacheException.class, () -> orders.get("o1", String.class));
+        assertThrows(CacheException.class, () -> manager.getCache("invoices").put("i1", "invoice"));
+
+        manager.setFailureRate(0);
+        manager.setLatency(Duration.ofMillis(20));
+        long start = System.nanoTime();
+        assertEquals("order", orders.multiGet(List.of("o1", "o2"), String.class).get("o1"));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(20));
+        assertThrows(IllegalArgumentException.class, () -> orders.setFailureRate(2));
+    }
+
+    /**
+     * Test that a limited warm-up loads the most recently written keys through a wrapping cache.
+     * <p>
+     * 测试有数量限制的预热通过包装缓存加载最近写入的键。
+     */
+    @Test
+    void testWarmUpLoadsRecentKeysThroughWrapper() throws Exception {
+        assertEquals(List.of(), cache.recentKeys(2));
+        properties.getMultiLevel().setWarmUpLimit(2);
+        cache.put("u1", "alice");
+        cache.put("u2", "bob");
+        cache.put("u3", "carol");
+        cache.put("u1", "alice");
+        assertEquals(List.of("u1", "u3"), cache.recentKeys(2));
+
+        Cache distributed = new TenantQuotaCache(cache, "distributed", tenant -> 100, Duration.ofMinutes(10),
+            new CacheMetrics());
+        CaffeineCache local = new CaffeineCache("users", Caffeine.newBuilder(), properties);
+        MultiLevelCacheImpl multiLevel = new MultiLevelCacheImpl(local, distributed, properties);
+
+        assertEquals(2L, multiLevel.warmUp(String.class, null).get());
+        assertTrue(local.hasKey("u1"));
+        assertTrue(local.hasKey("u3"));
+        assertFalse(local.hasKey("u2"));
+    }
+}
@@ -0,0 +1,123 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2026 AshClaw.
+
+package cc.ashclaw.common4j.cache.impl.multilevel;
+
+import cc.ashclaw.common4j.cache.config.CacheProperties;
+import cc.ashclaw.common4j.cache.impl.caffeine.CaffeineCache;
+import cc.ashclaw.common4j.cache.metrics.CacheMetrics;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for AdmissionFilter using JUnit 5.
+ * <p>
+ * AdmissionFilter测试类，使用JUnit 5。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class AdmissionFilterTest {
+
+    /**
+     * Test that a key is admitted from its second access on.
+     * <p>
+     * 测试键从第二次访问起被准入。
+     */
+    @Test
+    void testAdmitsRepeatedKeys() {
+        AdmissionFilter filter = new AdmissionFilter(1000, 2);
+
+        assertFalse(filter.admit("hot"));
+        assertTrue(filter.admit("hot"));
+        assertTrue(filter.admit("hot"));
+        assertTrue(new AdmissionFilter(1000, 1).admit("any"));
+    }
+
+    /**
+     * Test that almost no key of a one-off scan is admitted.
+     * <p>
+     * 测试一次性扫描中几乎没有键被准入。
+     */
+    @Test
+    void testRejectsScan() {
+        AdmissionFilter filter = new AdmissionFilter(1000, 2);
+
+        long admitted = IntStream.range(0, 100_000)
+            .filter(i -> filter.admit("scan:" + i))
+            .count();
+
+        // 门卫误判率约为3%
+        assertTrue(admitted < 3000, "admitted " + admitted);
+    }
+
+    /**
+     * Test that frequencies age once the window is full.
+     * <p>
+     * 测试窗口满后频率会衰减。
+     */
+    @Test
+    void testFrequenciesAgeAfterWindow() {
+        AdmissionFilter filter = new AdmissionFilter(100, 3);
+        filter.admit("key");
+        filter.admit("key");
+        IntStream.range(0, 100).forEach(i -> filter.admit("other:" + i));
+
+        // 门卫已清空，计数减半，需要重新积累访问次数
+        assertFalse(filter.admit("key"));
+        assertThrows(IllegalArgumentException.class, () -> new AdmissionFilter(0, 2));
+        assertThrows(IllegalArgumentException.class, () -> new AdmissionFilter(100, 0));
+    }
+
+    /**
+     * Test that a scan over the distributed tier leaves the local working set in place.
+     * <p>
+     * 测试对分布式缓存的扫描不会替换本地工作集。
+     */
+    @Test
+    void testScanDoesNotEvictLocalWorkingSet() {
+        CacheProperties properties = new CacheProperties();
+        properties.getMultiLevel().setPromotionAdmission(true);
+        properties.getMultiLevel().setAdmissionWindow(10_000);
+        CaffeineCache local = new CaffeineCache("items", Caffeine.newBuilder(), properties);
+        CaffeineCache distributed = new CaffeineCache("items", Caffeine.newBuilder(), properties);
+        CacheMetrics metrics = new CacheMetrics();
+        MultiLevelCacheImpl cache = new MultiLevelCacheImpl(local, distributed, properties, null, metrics);
+        IntStream.range(0, 1000).forEach(i -> distributed.put("item:" + i, i));
+
+        assertEquals(1, cache.get("item:1", Integer.class));
+        assertNull(local.get("item:1", Integer.class));
+        assertEquals(1, cache.get("item:1", Integer.class));
+        assertEquals(1, local.get("item:1", Integer.class));
+
+        cache.multiGet(IntStream.range(100, 1000).mapToObj(i -> "item:" + i).toList(), Integer.class);
+        assertTrue(local.size() < 100, "local size " + local.size());
+        assertTrue(metrics.snapshot().get("cache.promotion.rejected{cache=items}").longValue() > 800);
+    }
+
+    /**
+     * Test that a cache configuration can turn admission off for its cache.
+     * <p>
+     * 测试缓存配置可以为其缓存关闭准入。
+     */
+    @Test
+    void testCacheConfigOverridesAdmission() {
+        CacheProperties properties = new CacheProperties();
+        properties.getMultiLevel().setPromotionAdmission(true);
+        CacheProperties.CacheConfig config = new CacheProperties.CacheConfig();
+        config.setPromotionAdmission(false);
+        properties.getConfigs().put("items", config);
+        CaffeineCache local = new CaffeineCache("items", Caffeine.newBuilder(), properties);
+        CaffeineCache distributed = new CaffeineCache("items", Caffeine.newBuilder(), properties);
+        MultiLevelCacheImpl cache = new MultiLevelCacheImpl(local, distributed, properties);
+        distributed.put("item:1", 1);
+
+        assertEquals(1, cache.multiGet(List.of("item:1"), Integer.class).get("item:1"));
+        assertEquals(1, local.get("item:1", Integer.class));
+    }
+}
@@ -0,0 +1,38 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2026 AshClaw.
+
+package cc.ashclaw.common4j.cache.impl.redisson;
+
+import cc.ashclaw.common4j.cache.config.CacheProperties;
+import cc.ashclaw.common4j.cache.support.CacheSerializer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for RedissonBucketCache using JUnit 5.
+ * <p>
+ * RedissonBucketCache测试类，使用JUnit 5。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class RedissonBucketCacheTest {
+
+    private final CacheSerializer serializer = new CacheSerializer();
+    private final CacheProperties properties = new CacheProperties();
+
+    /**
+     * Test that names which would share a key range with another cache are rejected.
+     * <p>
+     * 测试会与其他缓存共享键范围的名称被拒绝。
+     */
+    @Test
+    void testNamesWithColonAreRejected() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new RedissonBucketCache("user:profile", null, serializer, properties));
+        assertThrows(IllegalArgumentException.class,
+            () -> new RedissonBucketCache("", null, serializer, properties));
+        assertEquals("user", new RedissonBucketCache("user", null, serializer, properties).getName());
+    }
+}
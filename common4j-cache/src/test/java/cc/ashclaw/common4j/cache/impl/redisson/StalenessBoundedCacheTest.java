@@ -0,0 +1,77 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2026 AshClaw.
+
+package cc.ashclaw.common4j.cache.impl.redisson;
+
+import cc.ashclaw.common4j.cache.config.CacheProperties;
+import cc.ashclaw.common4j.cache.impl.caffeine.CaffeineCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for StalenessBoundedCache using JUnit 5.
+ * <p>
+ * StalenessBoundedCache测试类，使用JUnit 5。
+ * <p>
+ * Two unrelated local caches stand in for the master and a replica that has not caught up.
+ * <p>
+ * 两个互不相关的本地缓存分别代表主节点和尚未同步的副本节点。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class StalenessBoundedCacheTest {
+
+    private CaffeineCache master;
+    private CaffeineCache lagging;
+    private StalenessBoundedCache cache;
+
+    @BeforeEach
+    void setUp() {
+        CacheProperties properties = new CacheProperties();
+        master = new CaffeineCache("master", Caffeine.newBuilder(), properties);
+        lagging = new CaffeineCache("replica", Caffeine.newBuilder(), properties);
+        cache = new StalenessBoundedCache(master, lagging, Duration.ofMinutes(1));
+    }
+
+    /**
+     * Test that keys written by this node are read from the master and others from the replica.
+     * <p>
+     * 测试本节点写入的键从主节点读取，其他键从副本读取。
+     */
+    @Test
+    void testOwnWritesReadFromMaster() {
+        cache.put("own", "v2");
+        master.put("other", "new");
+        lagging.put("own", "v1");
+        lagging.put("other", "old");
+
+        assertEquals("v2", cache.get("own", String.class));
+        assertEquals("old", cache.get("other", String.class));
+
+        Map<Object, String> values = cache.multiGet(List.of("own", "other"), String.class);
+        assertEquals(Map.of("own", "v2", "other", "old"), values);
+    }
+
+    /**
+     * Test that every read goes to the master for a while after the cache is cleared.
+     * <p>
+     * 测试清空缓存后的一段时间内所有读取都发往主节点。
+     */
+    @Test
+    void testClearReadsFromMaster() {
+        lagging.put("other", "old");
+
+        cache.clear();
+
+        assertNull(cache.get("other", String.class));
+        assertTrue(cache.multiGet(List.of("other"), String.class).isEmpty());
+    }
+}
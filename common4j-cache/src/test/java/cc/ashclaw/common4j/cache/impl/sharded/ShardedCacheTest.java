@@ -0,0 +1,242 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2026 AshClaw.
+
+package cc.ashclaw.common4j.cache.impl.sharded;
+
+import cc.ashclaw.common4j.cache.config.CacheProperties;
+import cc.ashclaw.common4j.cache.core.Cache;
+import cc.ashclaw.common4j.cache.impl.caffeine.CaffeineCache;
+import cc.ashclaw.common4j.cache.impl.caffeine.CaffeineCacheManager;
+import cc.ashclaw.common4j.cache.impl.multilevel.MultiLevelCacheImpl;
+import cc.ashclaw.common4j.cache.metrics.CacheMetrics;
+import cc.ashclaw.common4j.cache.resilience.CircuitBreaker;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for ShardedCache using JUnit 5.
+ * <p>
+ * ShardedCache测试类，使用JUnit 5。
+ * <p>
+ * Local caches stand in for the Redis servers; one of them can be switched to failing.
+ * <p>
+ * 本地缓存代表各Redis服务器，其中一个可以切换为故障状态。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class ShardedCacheTest {
+
+    private static final List<String> NODES = List.of("redis://a:6379", "redis://b:6379", "redis://c:6379");
+
+    private final Map<String, CaffeineCache> stores = new LinkedHashMap<>();
+    private final Map<String, Cache> shards = new HashMap<>();
+    private final Map<String, Boolean> failing = new HashMap<>();
+    private CacheProperties properties;
+    private ExecutorService executor;
+    private ShardedCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CacheProperties();
+        properties.getResilience().setMinimumCalls(1);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        Map<String, Cache> caches = new LinkedHashMap<>();
+        Map<String, CircuitBreaker> breakers = new LinkedHashMap<>();
+        for (String node : NODES) {
+            CaffeineCache store = new CaffeineCache("users", Caffeine.newBuilder(), properties);
+            stores.put(node, store);
+            failing.put(node, false);
+            caches.put(node, failable(node, store));
+            breakers.put(node, new CircuitBreaker(node, properties.getResilience()));
+        }
+        cache = new ShardedCache("users", caches, breakers, 160, executor, new CacheMetrics());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Test that keys spread over all shards and stay on the same shard.
+     * <p>
+     * 测试键分散到所有分片，且始终位于同一分片。
+     */
+    @Test
+    void testKeysSpreadOverShards() {
+        for (int i = 0; i < 3000; i++) {
+            cache.put("user:" + i, i);
+        }
+
+        for (CaffeineCache store : stores.values()) {
+            // 160个虚拟节点时各分片约占三分之一
+            assertTrue(store.size() > 700 && store.size() < 1300, "shard size " + store.size());
+        }
+        assertEquals(3000, cache.size());
+        assertSame(cache.getShard("user:42"), cache.getShard("user:42"));
+        assertEquals(42, cache.get("user:42", Integer.class));
+    }
+
+    /**
+     * Test that adding a shard moves only a part of the keys.
+     * <p>
+     * 测试新增分片只会迁移部分键。
+     */
+    @Test
+    void testRingRemapsFewKeysWhenShardAdded() {
+        Map<String, String> three = new LinkedHashMap<>();
+        NODES.forEach(node -> three.put(node, node));
+        Map<String, String> four = new LinkedHashMap<>(three);
+        four.put("redis://d:6379", "redis://d:6379");
+        ConsistentHashRing<String> before = new ConsistentHashRing<>(three, 160);
+        ConsistentHashRing<String> after = new ConsistentHashRing<>(four, 160);
+
+        long moved = IntStream.range(0, 10000)
+            .filter(i -> !before.get("k" + i).equals(after.get("k" + i)))
+            .count();
+
+        // 理想情况下迁移四分之一的键
+        assertTrue(moved > 1500 && moved < 3500, "moved " + moved);
+        assertThrows(IllegalArgumentException.class, () -> new ConsistentHashRing<>(Map.of(), 160));
+    }
+
+    /**
+     * Test that multi-key operations are grouped by shard and merged.
+     * <p>
+     * 测试多键操作按分片分组并合并结果。
+     */
+    @Test
+    void testMultiKeyOperationsGroupByShard() {
+        Map<String, Integer> values = new LinkedHashMap<>();
+        for (int i = 0; i < 100; i++) {
+            values.put("k" + i, i);
+        }
+        cache.multiPut(values);
+
+        for (Map.Entry<String, Integer> entry : values.entrySet()) {
+            CaffeineCache owner = stores.get(nodeOf(entry.getKey()));
+            assertEquals(entry.getValue(), owner.get(entry.getKey(), Integer.class));
+        }
+        Map<Object, Integer> read = cache.multiGet(values.keySet(), Integer.class);
+        assertEquals(values, read);
+
+        cache.evict(List.of("k1", "k2"));
+        assertFalse(cache.hasKey("k1"));
+        assertEquals(98, cache.keys("k*", 10).count());
+    }
+
+    /**
+     * Test that a failing shard turns reads into misses and rejects writes.
+     * <p>
+     * 测试故障分片的读取变为未命中，写入被拒绝。
+     */
+    @Test
+    void testFailingShardDegradesToMisses() {
+        Map<String, Integer> values = new LinkedHashMap<>();
+        for (int i = 0; i < 60; i++) {
+            values.put("k" + i, i);
+        }
+        cache.multiPut(values);
+        String down = NODES.get(1);
+        failing.put(down, true);
+
+        Map<Object, Integer> read = cache.multiGet(values.keySet(), Integer.class);
+        for (String key : values.keySet()) {
+            assertEquals(!nodeOf(key).equals(down), read.containsKey(key));
+        }
+        String downKey = values.keySet().stream().filter(key -> nodeOf(key).equals(down)).findFirst().orElseThrow();
+        assertNull(cache.get(downKey, Integer.class));
+        assertThrows(RuntimeException.class, () -> cache.put(downKey, -1));
+        assertThrows(RuntimeException.class, () -> cache.evict(downKey));
+        assertEquals("loaded", cache.get("loader:" + downKey, () -> "loaded"));
+
+        // 跨分片写入仍作用于健康分片
+        Map<String, Integer> updated = new LinkedHashMap<>();
+        values.keySet().forEach(key -> updated.put(key, -1));
+        assertThrows(RuntimeException.class, () -> cache.multiPut(updated));
+        String upKey = values.keySet().stream().filter(key -> !nodeOf(key).equals(down)).findFirst().orElseThrow();
+        assertEquals(-1, cache.get(upKey, Integer.class));
+    }
+
+    /**
+     * Test that the sharded cache serves as the distributed tier of a multi-level cache.
+     * <p>
+     * 测试分片缓存可作为多级缓存的分布式缓存层。
+     */
+    @Test
+    void testDistributedTierOfMultiLevelCache() {
+        CaffeineCache local = new CaffeineCache("users", Caffeine.newBuilder(), properties);
+        MultiLevelCacheImpl multiLevel = new MultiLevelCacheImpl(local, cache, properties);
+
+        multiLevel.put("user:1", "alice");
+        assertEquals("alice", stores.get(nodeOf("user:1")).get("user:1", String.class));
+
+        local.clear();
+        assertEquals("alice", multiLevel.get("user:1", String.class));
+        assertEquals("alice", local.get("user:1", String.class));
+    }
+
+    /**
+     * Test that the manager creates caches sharing the shard managers.
+     * <p>
+     * 测试管理器创建的缓存共享各分片管理器。
+     */
+    @Test
+    void testManagerCreatesShardedCaches() {
+        Map<String, CaffeineCacheManager> managers = new LinkedHashMap<>();
+        NODES.forEach(node -> managers.put(node, new CaffeineCacheManager(properties)));
+        try (ShardedCacheManager manager = new ShardedCacheManager(managers, properties, new CacheMetrics())) {
+            Cache orders = manager.getCache("orders");
+            orders.put("o1", "order");
+
+            assertSame(orders, manager.getCache("orders"));
+            long holders = managers.values().stream()
+                .filter(shard -> shard.getCache("orders").hasKey("o1"))
+                .count();
+            assertEquals(1, holders);
+        }
+    }
+
+    private String nodeOf(Object key) {
+        Cache shard = cache.getShard(key);
+        return NODES.stream().filter(node -> shards.get(node) == shard).findFirst().orElseThrow();
+    }
+
+    private Cache failable(String node, CaffeineCache store) {
+        Cache proxy = (Cache) Proxy.newProxyInstance(Cache.class.getClassLoader(), new Class<?>[]{Cache.class},
+            (instance, method, args) -> {
+                if (method.getDeclaringClass() == Object.class) {
+                    return switch (method.getName()) {
+                        case "equals" -> instance == args[0];
+                        case "hashCode" -> System.identityHashCode(instance);
+                        default -> "failable(" + node + ")";
+                    };
+                }
+                if (failing.get(node) && !method.getName().equals("getName")) {
+                    throw new IllegalStateException("Redis unavailable: " + node);
+                }
+                try {
+                    return method.invoke(store, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+        shards.put(node, proxy);
+        return proxy;
+    }
+}
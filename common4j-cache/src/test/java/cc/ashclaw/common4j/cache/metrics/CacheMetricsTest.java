@@ -0,0 +1,101 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2026 AshClaw.
+
+package cc.ashclaw.common4j.cache.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for CacheMetrics, LatencyHistogram and TopKSketch using JUnit 5.
+ * <p>
+ * CacheMetrics、LatencyHistogram和TopKSketch测试类，使用JUnit 5。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class CacheMetricsTest {
+
+    /**
+     * Test that consecutive values map to consecutive buckets and bounds contain their values.
+     * <p>
+     * 测试连续的值映射到连续的桶，且桶上界包含其值。
+     */
+    @Test
+    void testBucketsAreContiguous() {
+        int previous = -1;
+        for (long value = 0; value < 100_000; value++) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertTrue(index == previous || index == previous + 1, "gap at " + value);
+            assertTrue(LatencyHistogram.bucketUpperBound(index) >= value);
+            previous = index;
+        }
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.bucketUpperBound(LatencyHistogram.BUCKET_COUNT - 1));
+    }
+
+    /**
+     * Test that percentiles stay within the relative error of the buckets.
+     * <p>
+     * 测试百分位数在分桶的相对误差范围内。
+     */
+    @Test
+    void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000);
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1_000_000, histogram.getMax());
+        assertEquals(500_500.0, histogram.getMean(), 0.001);
+        assertEquals(500_000, histogram.getPercentile(0.5), 500_000 * 0.125);
+        assertEquals(990_000, histogram.getPercentile(0.99), 990_000 * 0.125);
+        assertEquals(1_000_000, histogram.getPercentile(1.0));
+        assertEquals(0, new LatencyHistogram().getPercentile(0.99));
+    }
+
+    /**
+     * Test that heavy hitters survive a stream of distinct keys.
+     * <p>
+     * 测试高频键在大量不同键的数据流中被保留。
+     */
+    @Test
+    void testTopKKeepsHeavyHitters() {
+        TopKSketch sketch = new TopKSketch(8);
+        for (int i = 0; i < 1000; i++) {
+            sketch.offer("hot");
+            if (i % 2 == 0) {
+                sketch.offer("warm");
+            }
+            sketch.offer("cold-" + i);
+        }
+
+        List<TopKSketch.Entry> top = sketch.top(2);
+        assertEquals("hot", top.get(0).key());
+        assertEquals("warm", top.get(1).key());
+        assertTrue(top.get(0).count() >= 1000);
+        assertTrue(top.get(0).count() - top.get(0).error() <= 1000);
+    }
+
+    /**
+     * Test that histograms and sketches are exported in the snapshot.
+     * <p>
+     * 测试直方图和概要被导出到快照中。
+     */
+    @Test
+    void testSnapshotExportsHistogramsAndSketches() {
+        CacheMetrics metrics = new CacheMetrics();
+        metrics.histogram("lock.wait", "lock", "order").record(2_000_000);
+        metrics.topK("lock.contended", 4).offer("order:1");
+
+        Map<String, Number> snapshot = metrics.snapshot();
+        assertEquals(1L, snapshot.get("lock.wait.count{lock=order}"));
+        assertEquals(2.0, snapshot.get("lock.wait.max{lock=order}").doubleValue(), 0.001);
+        assertEquals(1L, snapshot.get("lock.contended{key=order:1}"));
+    }
+}
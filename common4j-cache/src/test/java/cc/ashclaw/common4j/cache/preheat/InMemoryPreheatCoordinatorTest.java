@@ -0,0 +1,88 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2026 AshClaw.
+
+package cc.ashclaw.common4j.cache.preheat;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for InMemoryPreheatCoordinator using JUnit 5.
+ * <p>
+ * InMemoryPreheatCoordinator测试类，使用JUnit 5。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class InMemoryPreheatCoordinatorTest {
+
+    /**
+     * Test that a task started by many nodes at once is loaded only once.
+     * <p>
+     * 测试多个节点同时启动的任务只加载一次。
+     */
+    @Test
+    void testTaskRunsOnce() throws Exception {
+        PreheatCoordinator coordinator = new InMemoryPreheatCoordinator(Duration.ofSeconds(10), Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<Boolean>> results;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            results = IntStream.range(0, 30)
+                .mapToObj(i -> executor.submit(() -> {
+                    start.await();
+                    return coordinator.runOnce("users:all", loads::incrementAndGet);
+                }))
+                .toList();
+            start.countDown();
+        }
+
+        assertEquals(1, loads.get());
+        long winners = 0;
+        for (Future<Boolean> result : results) {
+            winners += result.get() ? 1 : 0;
+        }
+        assertEquals(1, winners);
+        assertTrue(coordinator.runOnce("users:vip", loads::incrementAndGet));
+    }
+
+    /**
+     * Test that a waiting node takes over the task when the running node fails.
+     * <p>
+     * 测试执行任务的节点失败时由等待的节点接管任务。
+     */
+    @Test
+    void testFailedTaskIsTakenOver() {
+        PreheatCoordinator coordinator = new InMemoryPreheatCoordinator(Duration.ofSeconds(10), Duration.ofMinutes(1));
+
+        assertThrows(IllegalStateException.class, () -> coordinator.runOnce("users:all", () -> {
+            throw new IllegalStateException("database unavailable");
+        }));
+        assertTrue(coordinator.runOnce("users:all", () -> { }));
+        assertFalse(coordinator.runOnce("users:all", () -> fail("already preheated")));
+    }
+
+    /**
+     * Test that a completed task runs again once it is no longer fresh.
+     * <p>
+     * 测试已完成的任务过了有效期后会再次执行。
+     */
+    @Test
+    void testTaskRunsAgainAfterFreshness() {
+        PreheatCoordinator coordinator = new InMemoryPreheatCoordinator(Duration.ofSeconds(10), Duration.ZERO);
+
+        assertTrue(coordinator.runOnce("users:all", () -> { }));
+        assertTrue(coordinator.runOnce("users:all", () -> { }));
+    }
+}
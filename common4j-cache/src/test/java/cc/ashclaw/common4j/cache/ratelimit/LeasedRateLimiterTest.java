@@ -0,0 +1,153 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2026 AshClaw.
+
+package cc.ashclaw.common4j.cache.ratelimit;
+
+import cc.ashclaw.common4j.cache.enums.RateLimitAlgorithm;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for LeasedRateLimiter using JUnit 5.
+ * <p>
+ * LeasedRateLimiter测试类，使用JUnit 5。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class LeasedRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(10_000);
+
+    /**
+     * Test that permits are leased from the store in blocks.
+     * <p>
+     * 测试许可以批量方式从存储租用。
+     */
+    @Test
+    void testPermitsAreLeasedInBlocks() {
+        CountingStore store = new CountingStore(new InMemoryRateLimitStore(clock::get));
+        LeasedRateLimiter limiter = new LeasedRateLimiter(store, 50, 1000, clock::get);
+        RateLimitRule rule = new RateLimitRule(1000, Duration.ofSeconds(1), RateLimitAlgorithm.TOKEN_BUCKET);
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(limiter.tryAcquire("api", rule, 1));
+        }
+        assertEquals(2, store.acquires.get());
+    }
+
+    /**
+     * Test that a limit is enforced across limiters sharing one store.
+     * <p>
+     * 测试共享同一存储的多个限流器共同遵守限制。
+     */
+    @Test
+    void testLimitIsSharedAcrossNodes() {
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(clock::get);
+        LeasedRateLimiter first = new LeasedRateLimiter(store, 5, 1000, clock::get);
+        LeasedRateLimiter second = new LeasedRateLimiter(store, 5, 1000, clock::get);
+        RateLimitRule rule = new RateLimitRule(100, Duration.ofSeconds(1), RateLimitAlgorithm.TOKEN_BUCKET);
+
+        int admitted = 0;
+        for (int i = 0; i < 200; i++) {
+            if ((i % 2 == 0 ? first : second).tryAcquire("api", rule, 1)) {
+                admitted++;
+            }
+        }
+        assertEquals(100, admitted);
+    }
+
+    /**
+     * Test that unused permits are given back when the lease expires.
+     * <p>
+     * 测试租约到期时归还未使用的许可。
+     */
+    @Test
+    void testUnusedPermitsAreReturned() {
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(clock::get);
+        LeasedRateLimiter limiter = new LeasedRateLimiter(store, 10, 1000, clock::get);
+        RateLimitRule rule = new RateLimitRule(100, Duration.ofHours(1), RateLimitAlgorithm.SLIDING_WINDOW);
+
+        assertTrue(limiter.tryAcquire("api", rule, 1));
+        limiter.releaseAll();
+        assertEquals(99, store.acquire("api", rule, 100));
+    }
+
+    /**
+     * Test that an exhausted limit is rejected locally until the permits could have refilled.
+     * <p>
+     * 测试配额耗尽后在许可可能补充之前直接在本地拒绝。
+     */
+    @Test
+    void testExhaustedLimitIsRejectedLocally() {
+        CountingStore store = new CountingStore(new InMemoryRateLimitStore(clock::get));
+        LeasedRateLimiter limiter = new LeasedRateLimiter(store, 5, 1000, clock::get);
+        RateLimitRule rule = new RateLimitRule(10, Duration.ofSeconds(1), RateLimitAlgorithm.TOKEN_BUCKET);
+
+        int admitted = 0;
+        for (int i = 0; i < 100; i++) {
+            if (limiter.tryAcquire("api", rule, 1)) {
+                admitted++;
+            }
+        }
+        assertEquals(10, admitted);
+        int acquires = store.acquires.get();
+        assertFalse(limiter.tryAcquire("api", rule, 1));
+        assertEquals(acquires, store.acquires.get());
+
+        // 每100毫秒补充一个许可
+        clock.addAndGet(100);
+        assertTrue(limiter.tryAcquire("api", rule, 1));
+        assertEquals(acquires + 1, store.acquires.get());
+    }
+
+    /**
+     * Test that the sliding window weights the previous window by its overlap.
+     * <p>
+     * 测试滑动窗口按重叠比例对上一窗口加权。
+     */
+    @Test
+    void testSlidingWindowCountsPreviousWindow() {
+        clock.set(0);
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(clock::get);
+        RateLimitRule rule = new RateLimitRule(10, Duration.ofSeconds(1), RateLimitAlgorithm.SLIDING_WINDOW);
+
+        assertEquals(10, store.acquire("api", rule, 20));
+        clock.set(1500);
+        // 上一窗口仍有一半重叠，计为5个许可
+        assertEquals(5, store.acquire("api", rule, 20));
+        clock.set(2000);
+        assertEquals(5, store.acquire("api", rule, 20));
+    }
+
+    /**
+     * Store counting the calls to its delegate.
+     * <p>
+     * 统计对委托存储调用次数的存储。
+     */
+    private static final class CountingStore implements RateLimitStore {
+
+        private final RateLimitStore delegate;
+        private final AtomicInteger acquires = new AtomicInteger();
+
+        private CountingStore(RateLimitStore delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public long acquire(String key, RateLimitRule rule, long permits) {
+            acquires.incrementAndGet();
+            return delegate.acquire(key, rule, permits);
+        }
+
+        @Override
+        public void release(String key, RateLimitRule rule, long permits) {
+            delegate.release(key, rule, permits);
+        }
+    }
+}
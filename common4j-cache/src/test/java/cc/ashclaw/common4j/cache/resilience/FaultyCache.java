@@ -0,0 +1,197 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2026 AshClaw.
+
+package cc.ashclaw.common4j.cache.resilience;
+
+import cc.ashclaw.common4j.cache.core.Cache;
+import cc.ashclaw.common4j.cache.support.KeyPattern;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * In-memory stand-in for a remote cache with injectable latency and failures.
+ * <p>
+ * 可注入延迟和故障的远程缓存内存替身。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+class FaultyCache implements Cache {
+
+    private final String name;
+    private final Map<Object, Object> store = new ConcurrentHashMap<>();
+    private final AtomicInteger calls = new AtomicInteger();
+    private volatile long delayMillis;
+    private volatile boolean failing;
+
+    FaultyCache(String name) {
+        this.name = name;
+    }
+
+    void setDelayMillis(long delayMillis) {
+        this.delayMillis = delayMillis;
+    }
+
+    void setFailing(boolean failing) {
+        this.failing = failing;
+    }
+
+    int getCalls() {
+        return calls.get();
+    }
+
+    Map<Object, Object> getStore() {
+        return store;
+    }
+
+    private void before() {
+        calls.incrementAndGet();
+        if (delayMillis > 0) {
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (failing) {
+            throw new IllegalStateException("Redis unavailable");
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return store;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        before();
+        return type.cast(store.get(key));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        before();
+        return (T) store.get(key);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        before();
+        store.put(key, value);
+    }
+
+    @Override
+    public void put(Object key, Object value, long timeout, TimeUnit unit) {
+        put(key, value);
+    }
+
+    @Override
+    public boolean putIfAbsent(Object key, Object value) {
+        before();
+        return store.putIfAbsent(key, value) == null;
+    }
+
+    @Override
+    public boolean putIfAbsent(Object key, Object value, long timeout, TimeUnit unit) {
+        return putIfAbsent(key, value);
+    }
+
+    @Override
+    public <T> T compute(Object key, Class<T> type, UnaryOperator<T> remappingFunction) {
+        before();
+        return type.cast(store.compute(key, (k, current) -> remappingFunction.apply(type.cast(current))));
+    }
+
+    @Override
+    public void evict(Object key) {
+        before();
+        store.remove(key);
+    }
+
+    @Override
+    public void evict(Collection<?> keys) {
+        before();
+        store.keySet().removeAll(keys);
+    }
+
+    @Override
+    public void clear() {
+        before();
+        store.clear();
+    }
+
+    @Override
+    public <T> Map<Object, T> multiGet(Collection<?> keys, Class<T> type) {
+        before();
+        Map<Object, T> result = new HashMap<>();
+        for (Object key : keys) {
+            Object value = store.get(key);
+            if (value != null) {
+                result.put(key, type.cast(value));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void multiPut(Map<?, ?> map) {
+        before();
+        store.putAll(map);
+    }
+
+    @Override
+    public void multiPut(Map<?, ?> map, long timeout, TimeUnit unit) {
+        multiPut(map);
+    }
+
+    @Override
+    public Long getExpire(Object key) {
+        return null;
+    }
+
+    @Override
+    public Long getExpire(Object key, TimeUnit timeUnit) {
+        return null;
+    }
+
+    @Override
+    public boolean expire(Object key, long timeout, TimeUnit unit) {
+        before();
+        return store.containsKey(key);
+    }
+
+    @Override
+    public boolean hasKey(Object key) {
+        before();
+        return store.containsKey(key);
+    }
+
+    @Override
+    public long size() {
+        before();
+        return store.size();
+    }
+
+    @Override
+    public Stream<Object> keys(String pattern, int batchSize) {
+        before();
+        Predicate<Object> filter = KeyPattern.compile(pattern);
+        return store.keySet().stream().filter(key -> filter == null || filter.test(key));
+    }
+}
@@ -0,0 +1,219 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2026 AshClaw.
+
+package cc.ashclaw.common4j.cache.resilience;
+
+import cc.ashclaw.common4j.cache.config.CacheProperties;
+import cc.ashclaw.common4j.cache.core.Cache;
+import cc.ashclaw.common4j.cache.impl.caffeine.CaffeineCacheManager;
+import cc.ashclaw.common4j.cache.metrics.CacheMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for ResilientCache and CircuitBreaker using JUnit 5.
+ * <p>
+ * ResilientCache和CircuitBreaker测试类，使用JUnit 5。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class ResilientCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private ExecutorService executor;
+    private FaultyCache remote;
+    private CircuitBreaker breaker;
+    private ResilientCache cache;
+
+    @BeforeEach
+    void setUp() {
+        CacheProperties properties = new CacheProperties();
+        CacheProperties.ResilienceProperties resilience = properties.getResilience();
+        resilience.setLatencyBudget(Duration.ofMillis(50));
+        resilience.setSlowCallThreshold(Duration.ofMillis(40));
+        resilience.setWindowSize(10);
+        resilience.setMinimumCalls(4);
+        resilience.setOpenDuration(Duration.ofSeconds(10));
+        resilience.setHalfOpenProbes(2);
+
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        remote = new FaultyCache("users");
+        breaker = new CircuitBreaker("users", resilience, clock::get);
+        cache = new ResilientCache(remote, breaker, executor, properties, new CacheMetrics());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Test that a slow remote read returns within the latency budget with the stale value.
+     * <p>
+     * 测试远程读取缓慢时在延迟预算内返回过期副本的值。
+     */
+    @Test
+    void testSlowReadServedFromStaleCopy() {
+        cache.put("u1", "alice");
+        remote.setDelayMillis(1_000);
+
+        long start = System.nanoTime();
+        assertEquals("alice", cache.get("u1", String.class));
+        assertTrue(System.nanoTime() - start < Duration.ofMillis(500).toNanos(),
+            "Read should not wait for the slow remote cache");
+    }
+
+    /**
+     * Test that failures open the breaker and probes close it again.
+     * <p>
+     * 测试失败会打开熔断器，探测成功后再次关闭。
+     */
+    @Test
+    void testBreakerOpensAndCloses() {
+        remote.setFailing(true);
+        for (int i = 0; i < 4; i++) {
+            assertNull(cache.get("missing", String.class));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        int calls = remote.getCalls();
+        cache.get("missing", String.class);
+        assertEquals(calls, remote.getCalls(), "Open breaker should not call the remote cache");
+
+        remote.setFailing(false);
+        clock.addAndGet(Duration.ofSeconds(11).toNanos());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        cache.get("missing", String.class);
+        cache.get("missing", String.class);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    /**
+     * Test that writes are queued while the breaker is open and replayed after it closes.
+     * <p>
+     * 测试熔断器打开期间写入排队，关闭后重放。
+     */
+    @Test
+    void testWritesQueuedAndReplayed() throws InterruptedException {
+        remote.setFailing(true);
+        for (int i = 0; i < 4; i++) {
+            cache.get("missing", String.class);
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        cache.put("u1", "alice");
+        cache.put("u2", "bob");
+        cache.evict("u1");
+        assertEquals(3, cache.getPendingWriteCount());
+        assertEquals("bob", cache.get("u2", String.class));
+
+        remote.setFailing(false);
+        clock.addAndGet(Duration.ofSeconds(11).toNanos());
+        cache.get("u2", String.class);
+        cache.get("u2", String.class);
+
+        for (int i = 0; i < 100 && cache.getPendingWriteCount() > 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, cache.getPendingWriteCount());
+        assertFalse(remote.getStore().containsKey("u1"));
+        assertEquals("bob", remote.getStore().get("u2"));
+    }
+
+    /**
+     * Test that a write applied after its timeout is replayed as an invalidation, not as the old value.
+     * <p>
+     * 测试超时后仍然生效的写入以失效操作重放，而不是重放旧值。
+     */
+    @Test
+    void testTimedOutWriteReplaysInvalidation() throws InterruptedException {
+        remote.setDelayMillis(1_000);
+        cache.put("u1", "alice");
+        assertEquals(1, cache.getPendingWriteCount());
+
+        // 超时的写入仍已生效，随后其他节点写入了新值
+        for (int i = 0; i < 100 && !remote.getStore().containsKey("u1"); i++) {
+            Thread.sleep(10);
+        }
+        remote.getStore().put("u1", "carol");
+        remote.setDelayMillis(0);
+        cache.get("u2", String.class);
+
+        for (int i = 0; i < 100 && cache.getPendingWriteCount() > 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, cache.getPendingWriteCount());
+        assertFalse(remote.getStore().containsKey("u1"));
+    }
+
+    /**
+     * Test that an interrupted half-open probe reports its outcome instead of blocking the breaker.
+     * <p>
+     * 测试被中断的半开探测会报告结果，而不会使熔断器一直拒绝调用。
+     */
+    @Test
+    void testInterruptedProbeReportsOutcome() {
+        remote.setFailing(true);
+        for (int i = 0; i < 4; i++) {
+            cache.get("missing", String.class);
+        }
+        remote.setFailing(false);
+        clock.addAndGet(Duration.ofSeconds(11).toNanos());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+        // 探测仍在执行时调用方被中断；已完成的探测不会检查中断标志
+        remote.setDelayMillis(1_000);
+        Thread.currentThread().interrupt();
+        assertNull(cache.get("missing", String.class));
+        assertTrue(Thread.interrupted());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        remote.setDelayMillis(0);
+        clock.addAndGet(Duration.ofSeconds(11).toNanos());
+        cache.get("missing", String.class);
+        cache.get("missing", String.class);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    /**
+     * Test that closing the manager stops delegate calls and falls back instead.
+     * <p>
+     * 测试关闭管理器后不再调用委托缓存，而是直接降级。
+     */
+    @Test
+    void testClosedManagerFallsBack() {
+        ResilientCacheManager manager = new ResilientCacheManager(
+            new CaffeineCacheManager(new CacheProperties()),
+            new CacheProperties(), new CacheMetrics());
+        Cache users = manager.getCache("users");
+        users.put("u1", "alice");
+        assertEquals("alice", users.get("u1", String.class));
+
+        manager.close();
+        assertEquals("alice", users.get("u1", String.class));
+        assertFalse(users.hasKey("u2"));
+    }
+
+    /**
+     * Test that slow successful calls open the breaker on the slow call rate.
+     * <p>
+     * 测试成功但缓慢的调用会因慢调用率打开熔断器。
+     */
+    @Test
+    void testSlowCallRateOpensBreaker() {
+        for (int i = 0; i < 4; i++) {
+            breaker.onSuccess(Duration.ofMillis(45).toNanos());
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+    }
+}
@@ -0,0 +1,143 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2026 AshClaw.
+
+package cc.ashclaw.common4j.cache.support;
+
+import cc.ashclaw.common4j.cache.config.CacheProperties;
+import cc.ashclaw.common4j.cache.impl.caffeine.CaffeineCache;
+import cc.ashclaw.common4j.cache.impl.memory.InMemoryCache;
+import cc.ashclaw.common4j.cache.impl.multilevel.MultiLevelCacheImpl;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for CacheSerializer using JUnit 5.
+ * <p>
+ * CacheSerializer测试类，使用JUnit 5。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class CacheSerializerTest {
+
+    private final CacheSerializer serializer = new CacheSerializer();
+
+    /**
+     * Test that values are read straight into the generic type instead of maps.
+     * <p>
+     * 测试值直接读取为泛型类型，而不是映射。
+     */
+    @Test
+    void testDeserializeGenericType() throws NoSuchMethodException {
+        Type type = Repository.class.getMethod("findAll").getGenericReturnType();
+        String json = serializer.serialize(List.of(new User(1, "alice"), new User(2, "bob")));
+
+        List<User> users = serializer.deserialize(json, type);
+        assertEquals(List.of(new User(1, "alice"), new User(2, "bob")), users);
+        Object untyped = serializer.deserialize(json, Object.class);
+        assertInstanceOf(Map.class, ((List<?>) untyped).getFirst());
+        assertEquals("plain", serializer.deserializeValue("plain", String.class));
+    }
+
+    /**
+     * Test that the null marker is kept by deserializeValue and decoded by deserialize.
+     * <p>
+     * 测试deserializeValue保留空值标记，deserialize对其解码。
+     */
+    @Test
+    void testNullMarker() throws NoSuchMethodException {
+        Type type = Repository.class.getMethod("findAll").getGenericReturnType();
+
+        assertSame(NullValue.INSTANCE, serializer.deserializeValue(NullValue.SERIALIZED, type));
+        assertNull(serializer.<Object>deserialize(NullValue.SERIALIZED, type));
+        assertNull(serializer.deserializeValue(null, type));
+    }
+
+    /**
+     * Test that a multi-level cache reads typed values from the distributed tier and promotes them.
+     * <p>
+     * 测试多级缓存从分布式缓存读取类型化的值并提升到本地缓存。
+     */
+    @Test
+    void testTypedReadThroughTiers() throws NoSuchMethodException {
+        Type type = Repository.class.getMethod("findAll").getGenericReturnType();
+        CacheProperties properties = new CacheProperties();
+        CaffeineCache local = new CaffeineCache("users", Caffeine.newBuilder(), properties);
+        InMemoryCache distributed = new InMemoryCache("users", serializer, properties);
+        MultiLevelCacheImpl cache = new MultiLevelCacheImpl(local, distributed, properties);
+        distributed.put("all", List.of(new User(1, "alice")));
+        distributed.put("none", NullValue.INSTANCE);
+
+        assertEquals(List.of(new User(1, "alice")), cache.get("all", type));
+        assertEquals(List.of(new User(1, "alice")), local.get("all", type));
+        assertSame(NullValue.INSTANCE, cache.get("none", type));
+        assertNull(cache.get("unknown", type));
+    }
+
+    /**
+     * Test that a local value of another type is a miss and is replaced by the typed value of the distributed tier.
+     * <p>
+     * 测试类型不符的本地值视为未命中，并被分布式缓存中类型化的值替换。
+     */
+    @Test
+    void testLocalValueOfOtherTypeIsMiss() throws NoSuchMethodException {
+        Type type = Repository.class.getMethod("findAll").getGenericReturnType();
+        CacheProperties properties = new CacheProperties();
+        CaffeineCache local = new CaffeineCache("users", Caffeine.newBuilder(), properties);
+        InMemoryCache distributed = new InMemoryCache("users", serializer, properties);
+        MultiLevelCacheImpl cache = new MultiLevelCacheImpl(local, distributed, properties);
+        local.put("all", Map.of("id", 1));
+        distributed.put("all", List.of(new User(1, "alice")));
+
+        assertNull(local.get("all", type));
+        assertEquals(List.of(new User(1, "alice")), cache.get("all", type));
+        assertEquals(List.of(new User(1, "alice")), local.get("all", type));
+        local.put("count", 3);
+        assertEquals(3, local.get("count", (Type) int.class));
+    }
+
+    /**
+     * Test that bulk reads through the tiers return typed values and promote them, not maps.
+     * <p>
+     * 测试跨层级的批量读取返回并提升类型化的值，而不是映射。
+     */
+    @Test
+    void testTypedGetAllThroughTiers() {
+        CacheProperties properties = new CacheProperties();
+        CaffeineCache local = new CaffeineCache("users", Caffeine.newBuilder(), properties);
+        InMemoryCache distributed = new InMemoryCache("users", serializer, properties);
+        MultiLevelCacheImpl cache = new MultiLevelCacheImpl(local, distributed, properties);
+        distributed.put(1L, new User(1, "alice"));
+        distributed.put(3L, NullValue.INSTANCE);
+
+        Map<Long, User> users = cache.getAll(List.of(1L, 2L, 3L), User.class,
+            missing -> Map.of(2L, new User(2, "bob")));
+        assertEquals(Map.of(1L, new User(1, "alice"), 2L, new User(2, "bob")), users);
+        assertInstanceOf(User.class, local.get(1L, Object.class));
+        assertEquals(new User(2, "bob"), distributed.get(2L, User.class));
+    }
+
+    /**
+     * Cached value with a record type.
+     * <p>
+     * 记录类型的缓存值。
+     */
+    public record User(long id, String name) {
+    }
+
+    /**
+     * Interface whose method declares the generic type under test.
+     * <p>
+     * 其方法声明了被测泛型类型的接口。
+     */
+    public interface Repository {
+
+        List<User> findAll();
+    }
+}
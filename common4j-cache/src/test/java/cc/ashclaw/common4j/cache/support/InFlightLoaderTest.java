@@ -0,0 +1,80 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2026 AshClaw.
+
+package cc.ashclaw.common4j.cache.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for InFlightLoader using JUnit 5.
+ * <p>
+ * InFlightLoader测试类，使用JUnit 5。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class InFlightLoaderTest {
+
+    /**
+     * Test that keys without a loaded value are absent from the result.
+     * <p>
+     * 测试没有加载到值的键不包含在结果中。
+     */
+    @Test
+    void testLoadSkipsMissingValues() {
+        InFlightLoader loader = new InFlightLoader();
+        Map<Integer, String> result = loader.load(List.of(1, 2, 3), keys -> Map.of(1, "one", 3, "three"));
+        assertEquals(Map.of(1, "one", 3, "three"), result);
+    }
+
+    /**
+     * Test that overlapping concurrent requests load each key once.
+     * <p>
+     * 测试键重叠的并发请求对每个键只加载一次。
+     */
+    @Test
+    void testOverlappingLoadsAreShared() throws Exception {
+        InFlightLoader loader = new InFlightLoader();
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch secondLoaded = new CountDownLatch(1);
+
+        CompletableFuture<Map<Integer, String>> first = CompletableFuture.supplyAsync(() ->
+            loader.load(List.of(1, 2, 3), keys -> {
+                firstStarted.countDown();
+                try {
+                    assertTrue(secondLoaded.await(5, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return values(keys);
+            }));
+        assertTrue(firstStarted.await(5, TimeUnit.SECONDS));
+
+        Map<Integer, String> second = loader.load(List.of(2, 3, 4), keys -> {
+            assertEquals(Set.of(4), keys, "Keys in flight should not be loaded again");
+            secondLoaded.countDown();
+            return values(keys);
+        });
+
+        assertEquals(Map.of(2, "v2", 3, "v3", 4, "v4"), second);
+        assertEquals(Map.of(1, "v1", 2, "v2", 3, "v3"), first.get(5, TimeUnit.SECONDS));
+    }
+
+    private static Map<Integer, String> values(Set<Integer> keys) {
+        Map<Integer, String> values = new HashMap<>();
+        for (Integer key : keys) {
+            values.put(key, "v" + key);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,105 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2026 AshClaw.
+
+package cc.ashclaw.common4j.cache.support;
+
+import cc.ashclaw.common4j.cache.config.CacheProperties;
+import cc.ashclaw.common4j.cache.impl.caffeine.CaffeineCache;
+import cc.ashclaw.common4j.cache.impl.multilevel.MultiLevelCacheImpl;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for KeyPattern and cache iteration using JUnit 5.
+ * <p>
+ * KeyPattern和缓存遍历测试类，使用JUnit 5。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class KeyPatternTest {
+
+    /**
+     * Test that patterns follow the glob syntax of Redis.
+     * <p>
+     * 测试模式遵循Redis的通配符语法。
+     */
+    @Test
+    void testGlobSyntax() {
+        assertNull(KeyPattern.compile(null));
+        assertNull(KeyPattern.compile("*"));
+
+        Predicate<Object> prefix = KeyPattern.compile("user:*");
+        assertTrue(prefix.test("user:1"));
+        assertFalse(prefix.test("order:1"));
+
+        Predicate<Object> single = KeyPattern.compile("h?llo");
+        assertTrue(single.test("hello"));
+        assertFalse(single.test("heello"));
+
+        Predicate<Object> range = KeyPattern.compile("item:[0-3][^a]");
+        assertTrue(range.test("item:2b"));
+        assertFalse(range.test("item:5b"));
+        assertFalse(range.test("item:2a"));
+
+        Predicate<Object> escaped = KeyPattern.compile("a\\*.b");
+        assertTrue(escaped.test("a*.b"));
+        assertFalse(escaped.test("ax.b"));
+
+        assertThrows(IllegalArgumentException.class, () -> KeyPattern.compile("item:[0-3"));
+    }
+
+    /**
+     * Test that the local cache streams matching entries and skips null value markers.
+     * <p>
+     * 测试本地缓存以流返回匹配的条目并跳过空值标记。
+     */
+    @Test
+    void testLocalCacheStreams() {
+        CaffeineCache cache = new CaffeineCache("users", Caffeine.newBuilder(), new CacheProperties());
+        cache.put("user:1", "alice");
+        cache.put("user:2", "bob");
+        cache.put("order:1", "book");
+        cache.put("user:3", NullValue.INSTANCE);
+
+        Set<Object> keys = cache.keys("user:*", 10).collect(Collectors.toSet());
+        assertEquals(Set.of("user:1", "user:2", "user:3"), keys);
+
+        Map<Object, String> entries = cache.entries("user:*", 10, String.class)
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        assertEquals(Map.of("user:1", "alice", "user:2", "bob"), entries);
+    }
+
+    /**
+     * Test that the warm-up streams entries from the distributed tier into the local tier.
+     * <p>
+     * 测试预热以流的方式将分布式缓存层的条目加载到本地缓存层。
+     */
+    @Test
+    void testWarmUpStreamsEntries() throws Exception {
+        CacheProperties properties = new CacheProperties();
+        properties.getMultiLevel().setWarmUpBatchSize(2);
+        CaffeineCache local = new CaffeineCache("local", Caffeine.newBuilder(), properties);
+        CaffeineCache remote = new CaffeineCache("remote", Caffeine.newBuilder(), properties);
+        MultiLevelCacheImpl cache = new MultiLevelCacheImpl(local, remote, properties);
+        for (int i = 0; i < 5; i++) {
+            remote.put("user:" + i, "v" + i);
+        }
+        remote.put("order:1", "book");
+        local.put("user:0", "fresh");
+
+        long loaded = cache.warmUp(String.class, key -> key.toString().startsWith("user:")).get();
+
+        assertEquals(4, loaded);
+        assertEquals("fresh", local.get("user:0", String.class));
+        assertEquals("v4", local.get("user:4", String.class));
+        assertNull(local.get("order:1", String.class));
+    }
+}
@@ -0,0 +1,96 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2026 AshClaw.
+
+package cc.ashclaw.common4j.cache.support;
+
+import cc.ashclaw.common4j.cache.config.CacheProperties;
+import cc.ashclaw.common4j.cache.impl.caffeine.CaffeineCache;
+import cc.ashclaw.common4j.cache.impl.multilevel.MultiLevelCacheImpl;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for NullValue using JUnit 5.
+ * <p>
+ * NullValue测试类，使用JUnit 5。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class NullValueTest {
+
+    /**
+     * Test that the marker survives serializer and Java serialization round trips.
+     * <p>
+     * 测试标记经过序列化器和Java序列化往返后仍可识别。
+     */
+    @Test
+    void testMarkerSurvivesSerialization() throws Exception {
+        CacheSerializer serializer = new CacheSerializer();
+        String serialized = serializer.serialize(NullValue.INSTANCE);
+        assertEquals(NullValue.SERIALIZED, serialized);
+        assertSame(NullValue.INSTANCE, serializer.deserialize(serialized, Object.class));
+        assertNull(serializer.deserialize(serialized, String.class));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(NullValue.INSTANCE);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertSame(NullValue.INSTANCE, in.readObject());
+        }
+    }
+
+    /**
+     * Test that the local cache keeps markers apart from regular entries.
+     * <p>
+     * 测试本地缓存将标记与普通条目分开保存。
+     */
+    @Test
+    void testLocalCacheKeepsMarkersApart() {
+        CaffeineCache cache = new CaffeineCache("users", Caffeine.newBuilder(), new CacheProperties());
+        cache.put("missing", NullValue.INSTANCE);
+
+        assertSame(NullValue.INSTANCE, cache.get("missing", Object.class));
+        assertNull(cache.get("missing", String.class));
+        assertNull(cache.get("missing", () -> fail("loader must not run for a known missing key")));
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.negativeSize());
+
+        Map<Object, String> found = cache.multiGet(List.of("missing", "absent"), String.class);
+        assertTrue(found.containsKey("missing"));
+        assertNull(found.get("missing"));
+        assertFalse(found.containsKey("absent"));
+
+        cache.put("missing", "now present");
+        assertEquals("now present", cache.get("missing", String.class));
+        assertEquals(0, cache.negativeSize());
+    }
+
+    /**
+     * Test that a marker found in the distributed tier is promoted to the local tier.
+     * <p>
+     * 测试在分布式缓存层中找到的标记会被提升到本地缓存层。
+     */
+    @Test
+    void testMarkerPromotedAcrossTiers() {
+        CacheProperties properties = new CacheProperties();
+        CaffeineCache local = new CaffeineCache("local", Caffeine.newBuilder(), properties);
+        CaffeineCache remote = new CaffeineCache("remote", Caffeine.newBuilder(), properties);
+        MultiLevelCacheImpl cache = new MultiLevelCacheImpl(local, remote, properties);
+        remote.put("missing", NullValue.INSTANCE);
+
+        assertNull(cache.get("missing", String.class));
+        assertSame(NullValue.INSTANCE, local.get("missing", Object.class));
+        assertNull(cache.get("missing", () -> fail("loader must not run for a known missing key")));
+    }
+}
@@ -0,0 +1,105 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2026 AshClaw.
+
+package cc.ashclaw.common4j.cache.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for RequestScopedCache using JUnit 5.
+ * <p>
+ * RequestScopedCache测试类，使用JUnit 5。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class RequestScopedCacheTest {
+
+    /**
+     * Test that values are memoized only inside a scope and dropped at its end.
+     * <p>
+     * 测试值仅在作用域内缓存，并在作用域结束时丢弃。
+     */
+    @Test
+    void testValuesLiveOnlyInsideScope() {
+        RequestScopedCache.put("tenant", "t1", "config");
+        assertNull(RequestScopedCache.get("tenant", "t1"));
+
+        RequestScopedCache.run(() -> {
+            RequestScopedCache.put("tenant", "t1", "config");
+            assertEquals("config", RequestScopedCache.get("tenant", "t1"));
+            assertNull(RequestScopedCache.get("user", "t1"));
+        });
+        assertFalse(RequestScopedCache.isActive());
+
+        try (RequestScopedCache.Scope ignored = RequestScopedCache.open()) {
+            assertNull(RequestScopedCache.get("tenant", "t1"));
+            RequestScopedCache.put("tenant", "t1", "config");
+            assertEquals("config", RequestScopedCache.get("tenant", "t1"));
+        }
+        assertNull(RequestScopedCache.get("tenant", "t1"));
+    }
+
+    /**
+     * Test that the map is not visible to other threads.
+     * <p>
+     * 测试映射表对其他线程不可见。
+     */
+    @Test
+    void testScopeConfinedToOwnerThread() throws InterruptedException {
+        AtomicReference<Object> seen = new AtomicReference<>("unset");
+        RequestScopedCache.run(() -> {
+            RequestScopedCache.put("tenant", "t1", "config");
+            Thread other = Thread.ofVirtual().start(() -> seen.set(RequestScopedCache.get("tenant", "t1")));
+            try {
+                other.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertNull(seen.get());
+    }
+
+    /**
+     * Test that removals keep the probe chains of colliding keys intact.
+     * <p>
+     * 测试删除操作保持冲突键的探测链完整。
+     */
+    @Test
+    void testRemoveKeepsProbeChains() {
+        RequestScopedCache.Memo memo = new RequestScopedCache.Memo(Thread.currentThread());
+        for (int i = 0; i < 200; i++) {
+            memo.put("cache", i, "v" + i);
+        }
+        for (int i = 0; i < 200; i += 3) {
+            memo.remove("cache", i);
+        }
+        for (int i = 0; i < 200; i++) {
+            assertEquals(i % 3 == 0 ? null : "v" + i, memo.get("cache", i));
+        }
+
+        memo.put("other", 1, "x");
+        memo.clear("cache");
+        assertEquals(1, memo.size());
+        assertEquals("x", memo.get("other", 1));
+    }
+
+    /**
+     * Test that a scope stops memoizing once it holds the maximum number of entries.
+     * <p>
+     * 测试作用域达到最大条目数后不再缓存新值。
+     */
+    @Test
+    void testScopeIsBounded() {
+        RequestScopedCache.Memo memo = new RequestScopedCache.Memo(Thread.currentThread());
+        for (int i = 0; i < RequestScopedCache.MAX_ENTRIES + 10; i++) {
+            memo.put("cache", i, i);
+        }
+        assertEquals(RequestScopedCache.MAX_ENTRIES, memo.size());
+        assertNull(memo.get("cache", RequestScopedCache.MAX_ENTRIES));
+    }
+}
@@ -0,0 +1,117 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2026 AshClaw.
+
+package cc.ashclaw.common4j.cache.tenant;
+
+import cc.ashclaw.common4j.cache.config.CacheProperties;
+import cc.ashclaw.common4j.cache.impl.caffeine.CaffeineCache;
+import cc.ashclaw.common4j.cache.metrics.CacheMetrics;
+import cc.ashclaw.common4j.cache.support.CacheKeyGenerator;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for TenantQuotaCache and tenant keys using JUnit 5.
+ * <p>
+ * TenantQuotaCache和租户键测试类，使用JUnit 5。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class TenantQuotaCacheTest {
+
+    private final CacheProperties properties = new CacheProperties();
+    private final CacheMetrics metrics = new CacheMetrics();
+
+    /**
+     * Test that a tenant exceeding its quota only evicts its own entries.
+     * <p>
+     * 测试超出配额的租户只淘汰自己的条目。
+     */
+    @Test
+    void testLargeTenantOnlyEvictsItsOwnEntries() {
+        CaffeineCache delegate = new CaffeineCache("items", Caffeine.newBuilder(), properties);
+        Map<String, Long> quotas = Map.of("small", 100L, "large", 100L);
+        TenantQuotaCache cache = new TenantQuotaCache(delegate, "local", quotas::get, Duration.ofMinutes(10), metrics);
+
+        IntStream.range(0, 50).forEach(i -> cache.put(TenantKeys.fold("small", i), i));
+        IntStream.range(0, 10_000).forEach(i -> cache.put(TenantKeys.fold("large", i), i));
+        cache.put("shared", 0);
+
+        assertTrue(cache.size("large") <= 100, "large size " + cache.size("large"));
+        assertEquals(50, cache.size("small"));
+        IntStream.range(0, 50).forEach(i -> assertEquals(i, cache.get(TenantKeys.fold("small", i), Integer.class)));
+        assertTrue(delegate.size() <= 151, "delegate size " + delegate.size());
+        assertEquals(0, cache.get("shared", Integer.class));
+        assertTrue(metrics.snapshot().get("cache.tenant.evictions{cache=items,tier=local,tenant=large}").longValue() > 0);
+    }
+
+    /**
+     * Test that reads are counted per tenant and that evicted keys leave the accounting.
+     * <p>
+     * 测试读取按租户计数，且被移除的键不再计入统计。
+     */
+    @Test
+    void testMetricsPerTenant() {
+        CaffeineCache delegate = new CaffeineCache("items", Caffeine.newBuilder(), properties);
+        TenantQuotaCache cache = new TenantQuotaCache(delegate, "local", tenant -> 10, Duration.ofMinutes(10), metrics);
+        String key = TenantKeys.fold("acme", "item:1");
+
+        assertNull(cache.get(key, Integer.class));
+        cache.put(key, 1);
+        assertEquals(1, cache.get(key, Integer.class));
+        assertEquals(1, cache.size("acme"));
+        cache.evict(key);
+
+        Map<String, Number> snapshot = metrics.snapshot();
+        assertEquals(1L, snapshot.get("cache.tenant.hits{cache=items,tier=local,tenant=acme}"));
+        assertEquals(1L, snapshot.get("cache.tenant.misses{cache=items,tier=local,tenant=acme}"));
+        assertEquals(0L, snapshot.get("cache.tenant.size{cache=items,tier=local,tenant=acme}").longValue());
+    }
+
+    /**
+     * Test that tenant IDs are folded into keys and read back from them.
+     * <p>
+     * 测试租户ID被折叠进键并能从键中读出。
+     */
+    @Test
+    void testTenantKeys() {
+        assertEquals("tenant:acme:user:1", TenantKeys.fold("acme", "user:1"));
+        assertEquals("acme", TenantKeys.tenantOf("tenant:acme:user:1"));
+        assertNull(TenantKeys.tenantOf("user:1"));
+        assertNull(TenantKeys.tenantOf(1L));
+        assertThrows(IllegalArgumentException.class, () -> TenantKeys.fold("a:b", "user:1"));
+        assertThrows(IllegalArgumentException.class, () -> TenantContext.run("", () -> { }));
+    }
+
+    /**
+     * Test that the key generator folds the tenant resolved from an expression or the context.
+     * <p>
+     * 测试键生成器折叠由表达式或上下文解析的租户。
+     */
+    @Test
+    void testKeyGeneratorFoldsTenant() throws Exception {
+        Method method = TenantQuotaCacheTest.class.getDeclaredMethod("findUser", String.class, long.class);
+        CacheKeyGenerator generator = new CacheKeyGenerator();
+        assertEquals("findUser:acme:1", generator.generateCacheKey("", this, method, "acme", 1L));
+
+        generator.setTenantResolver(TenantContext::current);
+        assertEquals("findUser:acme:1", generator.generateCacheKey("", this, method, "acme", 1L));
+        assertEquals("tenant:globex:user:1",
+            TenantContext.call("globex", () -> generator.generateCacheKey("'user:' + #p1", this, method, "acme", 1L)));
+
+        generator.setTenantExpression("#p0");
+        assertEquals("tenant:acme:user:1", generator.generateCacheKey("'user:' + #p1", this, method, "acme", 1L));
+    }
+
+    private String findUser(String tenant, long id) {
+        return tenant + ":" + id;
+    }
+}
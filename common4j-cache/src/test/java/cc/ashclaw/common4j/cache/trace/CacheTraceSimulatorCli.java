@@ -0,0 +1,96 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2026 AshClaw.
+
+package cc.ashclaw.common4j.cache.trace;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Command-line driver printing the hit-rate curves of a cache trace.
+ * <p>
+ * 打印缓存跟踪记录命中率曲线的命令行工具。
+ * <p>
+ * Run it from the test classpath, for example
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=cc.ashclaw.common4j.cache.trace.CacheTraceSimulatorCli -Dexec.args="cache.trace"}.
+ * <p>
+ * 从测试类路径运行，例如
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=cc.ashclaw.common4j.cache.trace.CacheTraceSimulatorCli -Dexec.args="cache.trace"}。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public final class CacheTraceSimulatorCli {
+
+    private CacheTraceSimulatorCli() {
+    }
+
+    /**
+     * Command-line entry point printing hit-rate curves for every cache in a trace.
+     * <p>
+     * 命令行入口，打印跟踪记录中每个缓存的命中率曲线。
+     * <p>
+     * Usage: {@code CacheTraceSimulatorCli <trace> [sizes=100,1000,10000] [ttls=0,10m]}
+     * <p>
+     * 用法：{@code CacheTraceSimulatorCli <trace> [sizes=100,1000,10000] [ttls=0,10m]}
+     *
+     * @param args the trace path, optional comma separated sizes and TTLs
+     *             <p>
+     *             跟踪文件路径，以及可选的逗号分隔容量和TTL
+     */
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            System.out.println("Usage: CacheTraceSimulatorCli <trace> [sizes=100,1000,10000] [ttls=0,10m]");
+            return;
+        }
+
+        List<Long> sizes = new ArrayList<>(List.of(100L, 1_000L, 10_000L));
+        List<Duration> ttls = new ArrayList<>(List.of(Duration.ZERO));
+        for (int i = 1; i < args.length; i++) {
+            if (args[i].startsWith("sizes=")) {
+                sizes.clear();
+                for (String size : args[i].substring(6).split(",")) {
+                    sizes.add(Long.parseLong(size.trim()));
+                }
+            } else if (args[i].startsWith("ttls=")) {
+                ttls.clear();
+                for (String ttl : args[i].substring(5).split(",")) {
+                    ttls.add(parseDuration(ttl.trim()));
+                }
+            }
+        }
+
+        CacheTraceSimulator simulator = CacheTraceSimulator.load(Path.of(args[0]));
+        for (String cacheName : simulator.getCacheNames()) {
+            System.out.println("== " + cacheName);
+            for (CacheTraceSimulator.SimulationResult result : simulator.simulate(cacheName, sizes, ttls)) {
+                System.out.println("  " + result);
+            }
+        }
+    }
+
+
+    private static Duration parseDuration(String text) {
+        if ("0".equals(text)) {
+            return Duration.ZERO;
+        }
+        char unit = text.charAt(text.length() - 1);
+        long amount = Long.parseLong(text.substring(0, text.length() - 1));
+        switch (unit) {
+            case 's':
+                return Duration.ofSeconds(amount);
+            case 'm':
+                return Duration.ofMinutes(amount);
+            case 'h':
+                return Duration.ofHours(amount);
+            case 'd':
+                return Duration.ofDays(amount);
+            default:
+                throw new IllegalArgumentException("Unsupported duration: " + text);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2026 AshClaw.
+
+package cc.ashclaw.common4j.cache.trace;
+
+import cc.ashclaw.common4j.cache.enums.CacheOperation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for CacheTraceRecorder and CacheTraceSimulator using JUnit 5.
+ * <p>
+ * CacheTraceRecorder和CacheTraceSimulator测试类，使用JUnit 5。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class CacheTraceSimulatorTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Test that a recorded trace is replayed with demand-fill semantics.
+     * <p>
+     * 测试记录的跟踪以按需加载语义回放。
+     */
+    @Test
+    void testReplayRecordedTrace() {
+        Path file = tempDir.resolve("cache.trace");
+        try (CacheTraceRecorder recorder = new CacheTraceRecorder(file, 1024, 1)) {
+            for (int round = 0; round < 10; round++) {
+                for (int key = 0; key < 10; key++) {
+                    recorder.record("user-cache", key, CacheOperation.GET, false);
+                }
+            }
+            assertEquals(100, recorder.getRecordedCount());
+        }
+
+        CacheTraceSimulator simulator = CacheTraceSimulator.load(file);
+        assertEquals(List.of("user-cache"), simulator.getCacheNames());
+
+        List<CacheTraceSimulator.SimulationResult> results =
+            simulator.simulate("user-cache", List.of(100L), List.of(Duration.ZERO));
+        assertEquals(2, results.size());
+        for (CacheTraceSimulator.SimulationResult result : results) {
+            // 首轮10次未命中，之后全部命中
+            assertEquals(100, result.getAccesses(), result.getPolicy());
+            assertEquals(90, result.getHits(), result.getPolicy());
+        }
+    }
+
+    /**
+     * Test that only the newest records are kept once the ring wraps around.
+     * <p>
+     * 测试环写满后只保留最新的记录。
+     */
+    @Test
+    void testRingKeepsNewestRecords() {
+        Path file = tempDir.resolve("ring.trace");
+        try (CacheTraceRecorder recorder = new CacheTraceRecorder(file, 8, 1)) {
+            for (int key = 0; key < 20; key++) {
+                recorder.record("ring", key, CacheOperation.GET, false);
+            }
+        }
+
+        CacheTraceSimulator.SimulationResult result = CacheTraceSimulator.load(file)
+            .simulate("ring", List.of(100L), List.of(Duration.ZERO)).get(0);
+        assertEquals(8, result.getAccesses());
+        assertEquals(0, result.getHits());
+    }
+
+    /**
+     * Test that time offsets beyond the range of an int are replayed in order.
+     * <p>
+     * 测试超出int范围的时间偏移仍按顺序回放。
+     */
+    @Test
+    void testLongTimeOffsets() throws Exception {
+        Path file = tempDir.resolve("uptime.trace");
+        try (CacheTraceRecorder recorder = new CacheTraceRecorder(file, 16, 1)) {
+            recorder.record("uptime", 1, CacheOperation.GET, false);
+            recorder.record("uptime", 1, CacheOperation.GET, true);
+        }
+        // 模拟运行30天后写入的第二条记录
+        long offset = Duration.ofDays(30).toMillis();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, offset),
+                CacheTraceRecorder.HEADER_SIZE + CacheTraceRecorder.RECORD_SIZE);
+        }
+
+        CacheTraceSimulator simulator = CacheTraceSimulator.load(file);
+        assertEquals(1, simulator.simulate("uptime", List.of(100L), List.of(Duration.ofDays(31))).get(0).getHits());
+        assertEquals(0, simulator.simulate("uptime", List.of(100L), List.of(Duration.ofDays(29))).get(0).getHits());
+    }
+
+    /**
+     * Test that the sample rate must be a power of two.
+     * <p>
+     * 测试采样率必须为2的幂。
+     */
+    @Test
+    void testInvalidSampleRate() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new CacheTraceRecorder(tempDir.resolve("invalid.trace"), 16, 3));
+    }
+}
@@ -0,0 +1,134 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2026 AshClaw.
+
+package cc.ashclaw.common4j.cache.workerid;
+
+import cc.ashclaw.common4j.cache.exception.CacheException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for WorkerIdLease and FileWorkerIdStore using JUnit 5.
+ * <p>
+ * WorkerIdLease和FileWorkerIdStore测试类，使用JUnit 5。
+ *
+ * @author b1itz7
+ * @since 1.1.9
+ */
+public class WorkerIdLeaseTest {
+
+    @TempDir
+    private Path directory;
+
+    /**
+     * Test that nodes sharing the lock directory lease distinct worker IDs and reuse released ones.
+     * <p>
+     * 测试共享锁目录的节点租用互不相同的工作节点ID，且释放的ID可被再次租用。
+     */
+    @Test
+    void testFileLeasesAreDistinct() {
+        Set<Integer> workerIds = new HashSet<>();
+        WorkerIdLease[] leases = new WorkerIdLease[20];
+        for (int i = 0; i < leases.length; i++) {
+            leases[i] = new WorkerIdLease(new FileWorkerIdStore(directory), Duration.ofMinutes(1));
+            leases[i].start();
+            assertTrue(workerIds.add(leases[i].getWorkerId()));
+            assertTrue(leases[i].renew());
+        }
+        assertNotEquals(leases[0].nextId(), leases[1].nextId());
+
+        int released = leases[0].getWorkerId();
+        leases[0].close();
+        assertFalse(leases[0].isValid());
+        assertThrows(CacheException.class, leases[0]::nextId);
+        FileWorkerIdStore store = new FileWorkerIdStore(directory);
+        assertTrue(store.tryAcquire(released, "other", Duration.ofMinutes(1)));
+        store.release(released, "other");
+
+        for (int i = 1; i < leases.length; i++) {
+            leases[i].close();
+        }
+    }
+
+    /**
+     * Test that the lease stops ID generation once the slot is taken over or the lease runs out.
+     * <p>
+     * 测试槽位被接管或租约过期后停止生成ID。
+     */
+    @Test
+    void testLostLeaseStopsGeneration() {
+        AtomicLong clock = new AtomicLong();
+        Map<Integer, String> slots = new ConcurrentHashMap<>();
+        MapWorkerIdStore store = new MapWorkerIdStore(slots);
+
+        WorkerIdLease taken = new WorkerIdLease(store, Duration.ofSeconds(30), clock::get);
+        taken.start();
+        assertTrue(taken.nextId() > 0);
+        slots.put(taken.getWorkerId(), "other");
+        assertFalse(taken.renew());
+        assertThrows(CacheException.class, taken::nextId);
+        taken.close();
+        assertEquals("other", slots.values().iterator().next());
+
+        slots.clear();
+        WorkerIdLease expired = new WorkerIdLease(store, Duration.ofSeconds(30), clock::get);
+        expired.start();
+        int workerId = expired.getWorkerId();
+        clock.addAndGet(Duration.ofSeconds(20).toNanos());
+        assertTrue(expired.renew());
+        clock.addAndGet(Duration.ofSeconds(29).toNanos());
+        assertTrue(expired.isValid());
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertFalse(expired.isValid());
+        assertFalse(expired.renew());
+        assertThrows(CacheException.class, expired::getWorkerId);
+        expired.close();
+        assertEquals(workerId, slots.keySet().iterator().next());
+    }
+
+    /**
+     * Test that starting fails when every worker ID is leased.
+     * <p>
+     * 测试所有工作节点ID均被租用时启动失败。
+     */
+    @Test
+    void testStartFailsWhenExhausted() {
+        Map<Integer, String> slots = new ConcurrentHashMap<>();
+        for (int i = 0; i < WorkerIdLease.WORKER_ID_COUNT; i++) {
+            slots.put(i, "other");
+        }
+        WorkerIdLease lease = new WorkerIdLease(new MapWorkerIdStore(slots), Duration.ofSeconds(30));
+
+        assertThrows(CacheException.class, lease::start);
+        assertFalse(lease.isValid());
+        assertThrows(IllegalArgumentException.class, () -> new WorkerIdLease(new MapWorkerIdStore(slots), Duration.ZERO));
+    }
+
+    private record MapWorkerIdStore(Map<Integer, String> slots) implements WorkerIdStore {
+
+        @Override
+        public boolean tryAcquire(int workerId, String owner, Duration leaseTime) {
+            return slots.putIfAbsent(workerId, owner) == null;
+        }
+
+        @Override
+        public boolean renew(int workerId, String owner, Duration leaseTime) {
+            return owner.equals(slots.get(workerId));
+        }
+
+        @Override
+        public void release(int workerId, String owner) {
+            slots.remove(workerId, owner);
+        }
+    }
+}
@@ -1,5 +1,7 @@
+@SuppressWarnings("module")
 module common4j.core {
     exports cc.ashclaw.common4j.core.exception;
+    exports cc.ashclaw.common4j.core.util to common4j.cache;
 
 
 }
\ No newline at end of file